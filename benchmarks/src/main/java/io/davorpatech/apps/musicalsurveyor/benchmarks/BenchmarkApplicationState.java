@@ -0,0 +1,93 @@
+package io.davorpatech.apps.musicalsurveyor.benchmarks;
+
+import io.davorpatech.apps.musicalsurveyor.MusicalSurveyorApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * JMH state holding the running application, shared by all the benchmarks
+ * of a trial.
+ *
+ * <p>The application starts with its own configuration, but on a random
+ * port and a uniquely named embedded database, with the SQL logging muted
+ * and the unpaged results cap disabled. Then, its database is seeded with
+ * the data volume of the trial.
+ *
+ * @see BenchmarkDataGenerator
+ */
+@State(Scope.Benchmark)
+public class BenchmarkApplicationState
+{
+    /**
+     * The data volume the database is seeded with.
+     */
+    @Param({ "SMALL" })
+    public BenchmarkDataVolume volume;
+
+    private ConfigurableApplicationContext context;
+
+    private BenchmarkDataGenerator dataGenerator;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(MusicalSurveyorApplication.class)
+            .web(WebApplicationType.SERVLET)
+            .logStartupInfo(false)
+            .run(
+                "--server.port=0",
+                "--spring.datasource.generate-unique-name=true",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.jpa.properties.hibernate.use_sql_comments=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.orm.jdbc.bind=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql=WARN",
+                "--logging.level.org.hibernate.SQL_SLOW=WARN",
+                "--fwk.data.unpaged.max-rows=0",
+                // no background job may change the surveys the benchmarks set up
+                "--app.survey.auto-close.cron=-",
+                "--app.survey.transitions.enabled=false");
+        dataGenerator = new BenchmarkDataGenerator(
+            context.getBean(JdbcTemplate.class),
+            context.getBean(PlatformTransactionManager.class));
+        dataGenerator.generate(volume);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    /**
+     * Returns the application bean of the given type.
+     *
+     * @param type the bean type, never {@code null}
+     * @param <T>  the bean type
+     * @return the application bean, never {@code null}
+     */
+    public <T> @NonNull T getBean(final @NonNull Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Returns the generator the database has been seeded with.
+     *
+     * @return the data generator, never {@code null}
+     */
+    public @NonNull BenchmarkDataGenerator getDataGenerator() {
+        return dataGenerator;
+    }
+}
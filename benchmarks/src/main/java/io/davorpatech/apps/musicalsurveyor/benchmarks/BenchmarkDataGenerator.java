@@ -0,0 +1,208 @@
+package io.davorpatech.apps.musicalsurveyor.benchmarks;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * Seeds the benchmark database with a configurable data volume.
+ *
+ * <p>Rows are generated set-based by H2 itself (through {@code SYSTEM_RANGE}),
+ * so even the largest volume is loaded in a few seconds, and deterministically,
+ * so two runs of the same volume measure the same data. All generated
+ * surveys are ended but still {@link
+ * io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyStatus#RUNNING
+ * running}, with responded participants, so any of them can be closed.
+ *
+ * <p>Once generated, the per-song like counters and the popularity rollups
+ * are reconciled from the survey responses, the same way the sample data does.
+ *
+ * @see BenchmarkDataVolume
+ */
+public class BenchmarkDataGenerator
+{
+    static final String AUDITOR = "BENCHMARK";
+
+    static final String SURVEY_TITLE_PREFIX = "Benchmark Survey ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructs a new {@link BenchmarkDataGenerator} with the given arguments.
+     *
+     * @param jdbcTemplate       the JDBC template to run the statements with
+     * @param transactionManager the transaction manager to commit the data with
+     */
+    public BenchmarkDataGenerator(
+            final @NonNull JdbcTemplate jdbcTemplate,
+            final @NonNull PlatformTransactionManager transactionManager) {
+        Assert.notNull(jdbcTemplate, "JdbcTemplate must not be null!");
+        Assert.notNull(transactionManager, "TransactionManager must not be null!");
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Generates the given data volume in a single transaction.
+     *
+     * @param volume the data volume to generate, never {@code null}
+     */
+    public void generate(final @NonNull BenchmarkDataVolume volume) {
+        Assert.notNull(volume, "Volume must not be null!");
+        transactionTemplate.executeWithoutResult(status -> {
+            generateArtists(volume);
+            generateSongs(volume);
+            generateListeners(volume);
+            generateSurveys(volume);
+            generateParticipations(volume);
+            generateResponses(volume);
+            reconcileLikes();
+        });
+    }
+
+    private void generateArtists(BenchmarkDataVolume volume) {
+        jdbcTemplate.update("""
+            INSERT INTO artist (name, biography, created_on, created_by)
+            SELECT 'Benchmark Artist ' || r.X, NULL, CURRENT_TIMESTAMP, ?
+            FROM SYSTEM_RANGE(1, ?) r
+            """, AUDITOR, volume.getArtists());
+    }
+
+    private void generateSongs(BenchmarkDataVolume volume) {
+        jdbcTemplate.update("""
+            INSERT INTO song (title, release_year, duration, genre, artist_id, created_on, created_by)
+            SELECT 'Benchmark Song ' || a.id || '-' || r.X,
+                   1960 + MOD(a.id * 7 + r.X, 64),
+                   120 + MOD(a.id * 13 + r.X * 17, 300),
+                   CASEWHEN(MOD(r.X, 3) = 0, 'Pop', CASEWHEN(MOD(r.X, 3) = 1, 'Rock', 'Jazz')),
+                   a.id, CURRENT_TIMESTAMP, ?
+            FROM artist a
+                 CROSS JOIN SYSTEM_RANGE(1, ?) r
+            WHERE a.created_by = ?
+            """, AUDITOR, volume.getSongsPerArtist(), AUDITOR);
+    }
+
+    private void generateListeners(BenchmarkDataVolume volume) {
+        jdbcTemplate.update("""
+            INSERT INTO radio_listener (name, phone, address, email, created_on, created_by)
+            SELECT 'Benchmark Listener ' || r.X,
+                   '+34' || LPAD(CAST(r.X AS VARCHAR), 9, '0'),
+                   NULL,
+                   'benchmark.listener.' || r.X || '@example.org',
+                   CURRENT_TIMESTAMP, ?
+            FROM SYSTEM_RANGE(1, ?) r
+            """, AUDITOR, volume.getListeners());
+    }
+
+    private void generateSurveys(BenchmarkDataVolume volume) {
+        jdbcTemplate.update("""
+            INSERT INTO survey (title, description, status, start_date, end_date,
+                                num_max_participants, num_survey_responses, created_on, created_by)
+            SELECT ? || r.X, NULL, 'RUNNING',
+                   DATEADD('DAY', -30, CURRENT_TIMESTAMP), DATEADD('DAY', -1, CURRENT_TIMESTAMP),
+                   ?, ?, CURRENT_TIMESTAMP, ?
+            FROM SYSTEM_RANGE(1, ?) r
+            """, SURVEY_TITLE_PREFIX, volume.getParticipantsPerSurvey(),
+            volume.getResponsesPerParticipant(), AUDITOR, volume.getSurveys());
+    }
+
+    private void generateParticipations(BenchmarkDataVolume volume) {
+        // one listener every "stride" takes part in each survey, shifted by survey.
+        // IDs are sparse (one sequence block per inserted row), so the generated
+        // ordinals are read back from the listener phone and the survey title
+        int stride = Math.max(1, volume.getListeners() / volume.getParticipantsPerSurvey());
+        jdbcTemplate.update("""
+            INSERT INTO survey_participation (survey_id, participant_id, participated_at,
+                                              created_on, created_by)
+            SELECT sv.id, l.id, DATEADD('DAY', MOD(l.id, 28), sv.start_date), CURRENT_TIMESTAMP, ?
+            FROM survey sv
+                 INNER JOIN radio_listener l
+                         ON (MOD(CAST(SUBSTRING(l.phone, 4) AS INT)
+                               + CAST(SUBSTRING(sv.title, ?) AS INT), ?) = 0)
+            WHERE sv.created_by = ? AND l.created_by = ?
+            """, AUDITOR, SURVEY_TITLE_PREFIX.length() + 1, stride, AUDITOR, AUDITOR);
+    }
+
+    private void generateResponses(BenchmarkDataVolume volume) {
+        Integer songs = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM song", Integer.class);
+        // skewed towards the lowest ranked songs, so the popularity ranking has a head.
+        // Song IDs are sparse too, so each song is picked by its ordinal from an array
+        // of all of them, instead of joining their row numbers, which is not indexed
+        jdbcTemplate.update("""
+            INSERT INTO survey_responsing (survey_id, participant_id, song_id)
+            SELECT DISTINCT p.survey_id, p.participant_id,
+                   s.ids[1 + MOD(MOD(p.participant_id * 31 + r.X * 97, ?)
+                                 * MOD(p.participant_id + r.X, 7 + r.X), ?)]
+            FROM survey_participation p
+                 CROSS JOIN SYSTEM_RANGE(1, ?) r
+                 CROSS JOIN (SELECT ARRAY_AGG(id ORDER BY id) AS ids FROM song) s
+            WHERE p.created_by = ?
+            """, songs, songs, volume.getResponsesPerParticipant(), AUDITOR);
+    }
+
+    private void reconcileLikes() {
+        jdbcTemplate.update("""
+            UPDATE song s
+            SET likes = (SELECT COUNT(*) FROM survey_responsing sr WHERE sr.song_id = s.id)
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO song_popularity_rollup (survey_id, song_id, responded_on, likes)
+            SELECT sr.survey_id, sr.song_id, CAST(p.participated_at AS DATE), COUNT(*)
+            FROM survey_responsing sr
+                 INNER JOIN survey_participation p
+                         ON (p.survey_id = sr.survey_id AND p.participant_id = sr.participant_id)
+            WHERE p.created_by = ?
+            GROUP BY sr.survey_id, sr.song_id, CAST(p.participated_at AS DATE)
+            """, AUDITOR);
+    }
+
+    /**
+     * Returns the IDs of the generated artists, in ascending order.
+     *
+     * @return the IDs of the generated artists, never {@code null}
+     */
+    public @NonNull List<Long> findArtistIds() {
+        return jdbcTemplate.queryForList(
+            "SELECT id FROM artist WHERE created_by = ? ORDER BY id", Long.class, AUDITOR);
+    }
+
+    /**
+     * Returns the IDs of the generated surveys, in ascending order.
+     *
+     * @return the IDs of the generated surveys, never {@code null}
+     */
+    public @NonNull List<Long> findSurveyIds() {
+        return jdbcTemplate.queryForList(
+            "SELECT id FROM survey WHERE created_by = ? ORDER BY id", Long.class, AUDITOR);
+    }
+
+    /**
+     * Deletes the artists whose name starts with the given prefix, as the
+     * ones inserted by a benchmark.
+     *
+     * @param namePrefix the name prefix of the artists to delete, never {@code null}
+     * @return the number of deleted artists
+     */
+    public int deleteArtistsNamedLike(final @NonNull String namePrefix) {
+        Assert.hasText(namePrefix, "Name prefix must not be empty!");
+        Integer deleted = transactionTemplate.execute(status -> jdbcTemplate.update(
+            "DELETE FROM artist WHERE name LIKE ?", namePrefix + "%"));
+        return deleted == null ? 0 : deleted;
+    }
+
+    /**
+     * Reopens the given survey, restoring it as an ended but still running survey.
+     *
+     * @param surveyId the survey ID to reopen, never {@code null}
+     */
+    public void reopenSurvey(final @NonNull Long surveyId) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+            "UPDATE survey SET status = 'RUNNING' WHERE id = ?", surveyId));
+    }
+}
@@ -0,0 +1,97 @@
+package io.davorpatech.apps.musicalsurveyor.benchmarks;
+
+/**
+ * The data volumes the benchmark database can be seeded with.
+ *
+ * <p>Each volume is added on top of the sample data loaded at startup by the
+ * application itself, and is selected with the {@code volume} JMH parameter,
+ * i.e. {@code -p volume=LARGE}.
+ *
+ * @see BenchmarkDataGenerator
+ */
+public enum BenchmarkDataVolume
+{
+    SMALL(100, 10, 1_000, 10, 50, 3),
+    MEDIUM(500, 20, 10_000, 50, 200, 3),
+    LARGE(2_000, 25, 100_000, 200, 500, 3),
+    /**
+     * A couple of surveys wherein every one of 150k listeners takes part.
+     */
+    CROWDED(100, 10, 150_000, 2, 150_000, 1);
+
+    private final int artists;
+
+    private final int songsPerArtist;
+
+    private final int listeners;
+
+    private final int surveys;
+
+    private final int participantsPerSurvey;
+
+    private final int responsesPerParticipant;
+
+    BenchmarkDataVolume(int artists, int songsPerArtist, int listeners,
+                        int surveys, int participantsPerSurvey, int responsesPerParticipant) {
+        this.artists = artists;
+        this.songsPerArtist = songsPerArtist;
+        this.listeners = listeners;
+        this.surveys = surveys;
+        this.participantsPerSurvey = participantsPerSurvey;
+        this.responsesPerParticipant = responsesPerParticipant;
+    }
+
+    /**
+     * Returns the number of artists to generate.
+     *
+     * @return the number of artists to generate
+     */
+    public int getArtists() {
+        return artists;
+    }
+
+    /**
+     * Returns the number of songs to generate for each artist.
+     *
+     * @return the number of songs to generate for each artist
+     */
+    public int getSongsPerArtist() {
+        return songsPerArtist;
+    }
+
+    /**
+     * Returns the number of radio listeners to generate.
+     *
+     * @return the number of radio listeners to generate
+     */
+    public int getListeners() {
+        return listeners;
+    }
+
+    /**
+     * Returns the number of ended, but still running, surveys to generate.
+     *
+     * @return the number of surveys to generate
+     */
+    public int getSurveys() {
+        return surveys;
+    }
+
+    /**
+     * Returns the approximate number of participants to generate for each survey.
+     *
+     * @return the number of participants to generate for each survey
+     */
+    public int getParticipantsPerSurvey() {
+        return participantsPerSurvey;
+    }
+
+    /**
+     * Returns the number of favorite songs each participant responds with.
+     *
+     * @return the number of responses to generate for each participant
+     */
+    public int getResponsesPerParticipant() {
+        return responsesPerParticipant;
+    }
+}
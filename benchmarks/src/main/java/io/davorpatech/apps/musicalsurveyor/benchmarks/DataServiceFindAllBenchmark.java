@@ -0,0 +1,71 @@
+package io.davorpatech.apps.musicalsurveyor.benchmarks;
+
+import io.davorpatech.apps.musicalsurveyor.domain.songs.FindSongsInput;
+import io.davorpatech.apps.musicalsurveyor.domain.songs.SongWithArtistDTO;
+import io.davorpatech.apps.musicalsurveyor.services.songs.SongService;
+import io.davorpatech.fwk.model.PagedResult;
+import io.davorpatech.fwk.model.commands.CountMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the generic {@code JpaBasedDataService.findAll} search through
+ * the songs data service, whose data set grows with the data volume.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataServiceFindAllBenchmark
+{
+    private static final int PAGE_SIZE = 20;
+
+    private static final Sort SORT = Sort.by("title");
+
+    private SongService songService;
+
+    private List<Long> artistIds;
+
+    private int nextArtist;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplicationState application) {
+        songService = application.getBean(SongService.class);
+        artistIds = application.getDataGenerator().findArtistIds();
+    }
+
+    @Benchmark
+    public PagedResult<SongWithArtistDTO> findAllPaged() {
+        return songService.findAll(
+            FindSongsInput.of(0, PAGE_SIZE, SORT, CountMode.EXACT));
+    }
+
+    @Benchmark
+    public PagedResult<SongWithArtistDTO> findAllUnpaged() {
+        return songService.findAll(
+            FindSongsInput.of(0, -1, SORT, null));
+    }
+
+    @Benchmark
+    public PagedResult<SongWithArtistDTO> findAllByExample() {
+        // rotate the artists, so the example filter is not always the same
+        Long artistId = artistIds.get(nextArtist++ % artistIds.size());
+        return songService.findAll(
+            FindSongsInput.ofArtist(artistId, 0, PAGE_SIZE, SORT, CountMode.EXACT));
+    }
+}
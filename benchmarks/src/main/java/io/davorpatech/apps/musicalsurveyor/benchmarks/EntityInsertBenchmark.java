@@ -0,0 +1,114 @@
+package io.davorpatech.apps.musicalsurveyor.benchmarks;
+
+import io.davorpatech.apps.musicalsurveyor.persistence.model.Artist;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the bulk creation of entities through JPA, in inserts per second.
+ *
+ * <p>Each invocation persists a block of artists in a single transaction,
+ * with the JDBC batch size of the {@code jdbcBatchSize} parameter, keyed
+ * either by the pooled sequence of the application artists or by the
+ * {@code IDENTITY} column of the {@link IdentityKeyedArtist benchmark ones},
+ * which are inserted row by row whatever the batch size. The inserted
+ * artists are deleted after each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityInsertBenchmark
+{
+    private static final int ROWS_PER_INVOCATION = 1_000;
+
+    private static final String NAME_PREFIX = "Benchmark Inserted Artist ";
+
+    /**
+     * The JDBC batch size the entities are inserted with.
+     */
+    @Param({ "1", "15", "50" })
+    public int jdbcBatchSize;
+
+    private EntityManagerFactory entityManagerFactory;
+
+    private BenchmarkDataGenerator dataGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplicationState application) {
+        entityManagerFactory = application.getBean(EntityManagerFactory.class);
+        dataGenerator = application.getDataGenerator();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInsertedArtists() {
+        dataGenerator.deleteArtistsNamedLike(NAME_PREFIX);
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            EntityTransaction transaction = entityManager.getTransaction();
+            transaction.begin();
+            entityManager.createQuery("DELETE FROM benchmarks.IdentityKeyedArtist").executeUpdate();
+            transaction.commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public void persistArtists() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            EntityTransaction transaction = entityManager.getTransaction();
+            transaction.begin();
+            for (int i = 0; i < ROWS_PER_INVOCATION; i++) {
+                Artist artist = new Artist();
+                artist.setName(NAME_PREFIX + i);
+                entityManager.persist(artist);
+            }
+            transaction.commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public void persistIdentityKeyedArtists() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            EntityTransaction transaction = entityManager.getTransaction();
+            transaction.begin();
+            for (int i = 0; i < ROWS_PER_INVOCATION; i++) {
+                IdentityKeyedArtist artist = new IdentityKeyedArtist();
+                artist.setName(NAME_PREFIX + i);
+                entityManager.persist(artist);
+            }
+            transaction.commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
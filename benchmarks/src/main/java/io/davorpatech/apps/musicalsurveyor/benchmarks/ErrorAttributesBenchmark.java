@@ -0,0 +1,86 @@
+package io.davorpatech.apps.musicalsurveyor.benchmarks;
+
+import io.davorpatech.fwk.exception.NoSuchEntityException;
+import jakarta.servlet.RequestDispatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.error.ErrorAttributeOptions;
+import org.springframework.boot.web.servlet.error.ErrorAttributes;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the error attributes pipeline rendering every error response,
+ * as configured in the application by its customizers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorAttributesBenchmark
+{
+    private static final ErrorAttributeOptions OPTIONS = ErrorAttributeOptions.of(
+        ErrorAttributeOptions.Include.EXCEPTION,
+        ErrorAttributeOptions.Include.MESSAGE,
+        ErrorAttributeOptions.Include.BINDING_ERRORS);
+
+    private ErrorAttributes errorAttributes;
+
+    private MockHttpServletRequest notFoundRequest;
+
+    private MockHttpServletRequest badRequestRequest;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplicationState application) {
+        errorAttributes = application.getBean(ErrorAttributes.class);
+        notFoundRequest = createErrorRequest("/api/songs/0", HttpStatus.NOT_FOUND,
+            new NoSuchEntityException("musicpoll.Song", 0L));
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "song");
+        bindingResult.reject("NotBlank", "must not be blank");
+        bindingResult.reject("Size", "size must be between 1 and 255");
+        badRequestRequest = createErrorRequest("/api/songs", HttpStatus.BAD_REQUEST,
+            new BindException(bindingResult));
+    }
+
+    private static MockHttpServletRequest createErrorRequest(
+            String uri, HttpStatus status, Exception exception) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/error");
+        request.setAttribute(RequestDispatcher.ERROR_REQUEST_URI, uri);
+        request.setAttribute(RequestDispatcher.ERROR_STATUS_CODE, status.value());
+        request.setAttribute(RequestDispatcher.ERROR_EXCEPTION, exception);
+        return request;
+    }
+
+    @Benchmark
+    public Map<String, Object> notFoundErrorAttributes() {
+        return getErrorAttributes(notFoundRequest);
+    }
+
+    @Benchmark
+    public Map<String, Object> bindingErrorAttributes() {
+        return getErrorAttributes(badRequestRequest);
+    }
+
+    private Map<String, Object> getErrorAttributes(MockHttpServletRequest request) {
+        WebRequest webRequest = new ServletWebRequest(request);
+        return errorAttributes.getErrorAttributes(webRequest, OPTIONS);
+    }
+}
@@ -0,0 +1,68 @@
+package io.davorpatech.apps.musicalsurveyor.benchmarks;
+
+import io.davorpatech.apps.musicalsurveyor.domain.artist.ArtistConstants;
+import io.davorpatech.fwk.auditing.jpa.Audit;
+import io.davorpatech.fwk.auditing.jpa.AuditAccessor;
+import jakarta.persistence.*;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * An artist keyed by an {@code IDENTITY} column, only known to the
+ * benchmarks.
+ *
+ * <p>It maps the same data and audit columns as the application artists,
+ * but its own table, whose IDs are generated by the database on insert. So
+ * Hibernate must insert each one as soon as it is persisted, to read its ID
+ * back, whatever the JDBC batch size.
+ *
+ * <p>Living under the application package, the application scans it as one
+ * of its entities, and the schema update creates its table.
+ *
+ * @see EntityInsertBenchmark
+ */
+@EntityListeners({
+    AuditingEntityListener.class
+})
+@Entity(name = "benchmarks.IdentityKeyedArtist")
+@Table(name = "BENCHMARK_IDENTITY_ARTIST")
+public class IdentityKeyedArtist implements AuditAccessor // NOSONAR
+{
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "name", length = ArtistConstants.NAME_MAXLEN, nullable = false)
+    private String name;
+
+    @Column(name = "biography", length = ArtistConstants.BIOGRAPHY_MAXLEN, nullable = true)
+    private String biography;
+
+    @Embedded
+    private final Audit audit = new Audit();
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getBiography() {
+        return biography;
+    }
+
+    public void setBiography(String biography) {
+        this.biography = biography;
+    }
+
+    @Override
+    public Audit getAudit() {
+        return audit;
+    }
+}
@@ -0,0 +1,42 @@
+package io.davorpatech.apps.musicalsurveyor.benchmarks;
+
+import io.davorpatech.apps.musicalsurveyor.domain.SongWithPopularityInfo;
+import io.davorpatech.apps.musicalsurveyor.persistence.dao.SongRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the global ranking of songs by popularity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SongRankingBenchmark
+{
+    private SongRepository songRepository;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplicationState application) {
+        songRepository = application.getBean(SongRepository.class);
+    }
+
+    @Benchmark
+    public List<SongWithPopularityInfo> findAllRankedPopularity() {
+        return songRepository.findAllRankedPopularityBy();
+    }
+}
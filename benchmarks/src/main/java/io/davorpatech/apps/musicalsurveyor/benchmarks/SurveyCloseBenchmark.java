@@ -0,0 +1,63 @@
+package io.davorpatech.apps.musicalsurveyor.benchmarks;
+
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyDTO;
+import io.davorpatech.apps.musicalsurveyor.services.surveys.SurveyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the closing of an ended survey with responded participants.
+ *
+ * <p>The closed survey is reopened before each invocation, outside the
+ * measurement, so every invocation runs the whole closing path. Because of
+ * that per invocation setup, it only fits paths lasting far beyond the
+ * timer granularity, as a transactional database update does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SurveyCloseBenchmark
+{
+    private SurveyService surveyService;
+
+    private BenchmarkDataGenerator dataGenerator;
+
+    private List<Long> surveyIds;
+
+    private int nextSurvey;
+
+    private Long surveyId;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplicationState application) {
+        surveyService = application.getBean(SurveyService.class);
+        dataGenerator = application.getDataGenerator();
+        surveyIds = dataGenerator.findSurveyIds();
+    }
+
+    @Setup(Level.Invocation)
+    public void reopenSurvey() {
+        surveyId = surveyIds.get(nextSurvey++ % surveyIds.size());
+        dataGenerator.reopenSurvey(surveyId);
+    }
+
+    @Benchmark
+    public SurveyDTO close() {
+        return surveyService.close(surveyId);
+    }
+}
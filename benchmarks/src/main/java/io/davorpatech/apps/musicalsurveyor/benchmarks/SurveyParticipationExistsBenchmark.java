@@ -0,0 +1,63 @@
+package io.davorpatech.apps.musicalsurveyor.benchmarks;
+
+import io.davorpatech.apps.musicalsurveyor.persistence.dao.SurveyParticipationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the existence checks of the survey participations, as run by
+ * the survey update and delete guards, against the counts they replaced.
+ *
+ * <p>It is meant to be run with the {@link BenchmarkDataVolume#CROWDED
+ * CROWDED} volume, i.e. {@code -p volume=CROWDED}, so the checked survey
+ * has 100k+ participations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SurveyParticipationExistsBenchmark
+{
+    private SurveyParticipationRepository surveyParticipationRepository;
+
+    private Long surveyId;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplicationState application) {
+        surveyParticipationRepository = application.getBean(SurveyParticipationRepository.class);
+        surveyId = application.getDataGenerator().findSurveyIds().get(0);
+    }
+
+    @Benchmark
+    public long countBySurvey() {
+        return surveyParticipationRepository.countBySurvey(surveyId);
+    }
+
+    @Benchmark
+    public boolean existsBySurvey() {
+        return surveyParticipationRepository.existsBySurvey(surveyId);
+    }
+
+    @Benchmark
+    public long countByRespondedSurvey() {
+        return surveyParticipationRepository.countByRespondedSurvey(surveyId);
+    }
+
+    @Benchmark
+    public boolean existsByRespondedSurvey() {
+        return surveyParticipationRepository.existsByRespondedSurvey(surveyId);
+    }
+}
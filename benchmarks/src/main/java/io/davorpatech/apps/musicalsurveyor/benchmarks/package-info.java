@@ -0,0 +1,9 @@
+/**
+ * JMH benchmarks of the Musical Surveyor Application hot paths.
+ *
+ * <p>Every benchmark runs against the real application context backed by
+ * an embedded H2 database, seeded by {@link
+ * io.davorpatech.apps.musicalsurveyor.benchmarks.BenchmarkDataGenerator}
+ * with the data volume selected through the {@code volume} JMH parameter.
+ */
+package io.davorpatech.apps.musicalsurveyor.benchmarks;
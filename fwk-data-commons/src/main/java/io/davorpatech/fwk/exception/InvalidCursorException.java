@@ -0,0 +1,72 @@
+package io.davorpatech.fwk.exception;
+
+import io.davorpatech.fwk.model.AdditionalArgumentsPopulator;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Exception raised when a keyset pagination cursor cannot be decoded or it
+ * does not belong to the requested sort.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException // NOSONAR
+        extends PreconditionalException // NOSONAR
+        implements AdditionalArgumentsPopulator // NOSONAR
+{
+    private static final long serialVersionUID = -1846385270929418934L;
+
+    private final String cursor;
+
+    /**
+     * Construct a {@code InvalidCursorException} with the specified cursor
+     * and reason.
+     *
+     * @param cursor the invalid cursor
+     * @param reason the reason why the cursor is invalid
+     */
+    public InvalidCursorException(final String cursor, final String reason)
+    {
+        super(format("Invalid cursor `%s`: %s", cursor, reason));
+        this.cursor = cursor;
+    }
+
+    /**
+     * Construct a {@code InvalidCursorException} with the specified cursor
+     * and reason with an optional root cause.
+     *
+     * @param cursor the invalid cursor
+     * @param reason the reason why the cursor is invalid
+     * @param cause  the root cause. It can be {@code null}
+     */
+    public InvalidCursorException(
+            final String cursor, final String reason, final @Nullable Throwable cause)
+    {
+        this(cursor, reason);
+        initCause(cause);
+    }
+
+    /**
+     * Returns the invalid cursor.
+     *
+     * @return the invalid cursor
+     */
+    public String getCursor()
+    {
+        return cursor;
+    }
+
+    @Override
+    public void populate(
+            final @NonNull Environment environment,
+            final @NonNull Map<String, Object> attributes)
+    {
+        attributes.put("cursor", cursor);
+    }
+}
@@ -0,0 +1,85 @@
+package io.davorpatech.fwk.exception;
+
+import io.davorpatech.fwk.model.AdditionalArgumentsPopulator;
+import io.davorpatech.fwk.model.ErrorDomain;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Exception raised when a paged search asks for a page whose offset is beyond
+ * the greatest offset the database can skip.
+ *
+ * <p>Clients should narrow the search, or paginate it seeking by keyset instead.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class PageOutOfRangeException // NOSONAR
+        extends PreconditionalException // NOSONAR
+        implements ErrorDomain, AdditionalArgumentsPopulator // NOSONAR
+{
+    private static final long serialVersionUID = -5216470985723309187L;
+
+    private final String domain;
+
+    private final int pageNumber;
+
+    private final int pageSize;
+
+    /**
+     * Construct a {@code PageOutOfRangeException} with the specified domain
+     * type and page.
+     *
+     * @param domain     the domain type
+     * @param pageNumber the number of the requested page (zero-index based)
+     * @param pageSize   the size of the requested page
+     */
+    public PageOutOfRangeException(
+            final String domain, final int pageNumber, final int pageSize)
+    {
+        super(format("The page %d of size %d of `%s` is out of range. "
+                + "Narrow the search or paginate it by cursor instead.", pageNumber, pageSize, domain));
+        this.domain = domain;
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public String getDomain()
+    {
+        return domain;
+    }
+
+    /**
+     * Returns the number of the requested page (zero-index based).
+     *
+     * @return the number of the requested page
+     */
+    public int getPageNumber()
+    {
+        return pageNumber;
+    }
+
+    /**
+     * Returns the size of the requested page.
+     *
+     * @return the size of the requested page
+     */
+    public int getPageSize()
+    {
+        return pageSize;
+    }
+
+    @Override
+    public void populate(
+            final @NonNull Environment environment,
+            final @NonNull Map<String, Object> attributes)
+    {
+        attributes.put("pageNumber", pageNumber);
+        attributes.put("pageSize", pageSize);
+    }
+}
@@ -0,0 +1,70 @@
+package io.davorpatech.fwk.exception;
+
+import io.davorpatech.fwk.model.AdditionalArgumentsPopulator;
+import io.davorpatech.fwk.model.ErrorDomain;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Exception raised when an unpaged search matches more records than the
+ * configured limit, so they cannot be returned at once.
+ *
+ * <p>Clients should paginate the search or use a streaming endpoint instead.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class UnpagedResultTooLargeException // NOSONAR
+        extends PreconditionalException // NOSONAR
+        implements ErrorDomain, AdditionalArgumentsPopulator // NOSONAR
+{
+    private static final long serialVersionUID = 3047521877012265183L;
+
+    private final String domain;
+
+    private final long maxRows;
+
+    /**
+     * Construct a {@code UnpagedResultTooLargeException} with the specified
+     * domain type and row limit.
+     *
+     * @param domain  the domain type
+     * @param maxRows the maximum number of records an unpaged search can return
+     */
+    public UnpagedResultTooLargeException(
+            final String domain, final long maxRows)
+    {
+        super(format("The unpaged search of `%s` matches more than %d records. "
+                + "Paginate the search or stream it instead.", domain, maxRows));
+        this.domain = domain;
+        this.maxRows = maxRows;
+    }
+
+    @Override
+    public String getDomain()
+    {
+        return domain;
+    }
+
+    /**
+     * Returns the maximum number of records an unpaged search can return.
+     *
+     * @return the maximum number of records an unpaged search can return
+     */
+    public long getMaxRows()
+    {
+        return maxRows;
+    }
+
+    @Override
+    public void populate(
+            final @NonNull Environment environment,
+            final @NonNull Map<String, Object> attributes)
+    {
+        attributes.put("maxRows", maxRows);
+    }
+}
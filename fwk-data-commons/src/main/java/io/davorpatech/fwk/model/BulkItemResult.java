@@ -0,0 +1,129 @@
+package io.davorpatech.fwk.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * The outcome of a single item of a bulk operation.
+ *
+ * <p>It is either succeeded, holding the resulting data, or failed, holding
+ * the status and the message of the error that discarded the item.
+ *
+ * @param <T> the component type of the resulting data
+ *
+ * @see BulkResult
+ */
+@Schema(
+    description = """
+        The outcome of a single item of a bulk operation.
+
+        It is either succeeded, holding the resulting data, or failed, holding the status
+        and the message of the error that discarded the item."""
+)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult<T extends Serializable> implements Serializable // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = -3207715069874511562L;
+
+    @Schema(description = "The zero-based position of the item in the bulk request.")
+    private final int index;
+
+    @Schema(description = "The resulting data of the item. Missing if it failed.")
+    private final T data;
+
+    @Schema(description = "The HTTP status code of the error. Missing if it succeeded.")
+    private final Integer status;
+
+    @Schema(description = "The message of the error. Missing if it succeeded.")
+    private final String error;
+
+    private BulkItemResult(
+            final int index, final T data,
+            final Integer status, final String error)
+    {
+        this.index = index;
+        this.data = data;
+        this.status = status;
+        this.error = error;
+    }
+
+    /**
+     * Creates the outcome of a succeeded item.
+     *
+     * @param index the zero-based position of the item in the bulk request
+     * @param data  the resulting data of the item
+     * @param <T>   the component type of the resulting data
+     * @return the succeeded item outcome, never {@code null}
+     */
+    public static <T extends Serializable> BulkItemResult<T> succeeded(
+            final int index, final T data)
+    {
+        return new BulkItemResult<>(index, data, null, null);
+    }
+
+    /**
+     * Creates the outcome of a failed item.
+     *
+     * @param index  the zero-based position of the item in the bulk request
+     * @param status the HTTP status code of the error
+     * @param error  the message of the error
+     * @param <T>    the component type of the resulting data
+     * @return the failed item outcome, never {@code null}
+     */
+    public static <T extends Serializable> BulkItemResult<T> failed(
+            final int index, final int status, final String error)
+    {
+        return new BulkItemResult<>(index, null, status, error);
+    }
+
+    /**
+     * Returns the zero-based position of the item in the bulk request.
+     *
+     * @return the item position
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the resulting data of the item.
+     *
+     * @return the resulting data, {@code null} if it failed
+     */
+    public T getData() {
+        return data;
+    }
+
+    /**
+     * Returns the HTTP status code of the error that discarded the item.
+     *
+     * @return the error status, {@code null} if it succeeded
+     */
+    public Integer getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the message of the error that discarded the item.
+     *
+     * @return the error message, {@code null} if it succeeded
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Returns whether the item succeeded.
+     *
+     * @return {@code true} if the item succeeded, {@code false} if it failed
+     */
+    @JsonProperty("isSucceeded")
+    public boolean isSucceeded() {
+        return status == null;
+    }
+}
@@ -0,0 +1,77 @@
+package io.davorpatech.fwk.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * The outcome of a bulk operation, reported item by item.
+ *
+ * <p>Items are processed independently: the failure of any of them does not
+ * discard the others, so a bulk operation can partially succeed.
+ *
+ * @param <T> the component type of the resulting data of each item
+ *
+ * @see BulkItemResult
+ */
+@Schema(
+    description = """
+        The outcome of a bulk operation, reported item by item.
+
+        Items are processed independently: the failure of any of them does not discard the others,
+        so a bulk operation can partially succeed."""
+)
+public class BulkResult<T extends Serializable> implements Serializable // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = 6716259208874413208L;
+
+    @Schema(description = "The outcome of each item, in the order of the bulk request.")
+    private final List<BulkItemResult<T>> items;
+
+    @Schema(description = "The amount of succeeded items.")
+    private final int numSucceeded;
+
+    @Schema(description = "The amount of failed items.")
+    private final int numFailed;
+
+    /**
+     * Constructs a new {@link BulkResult} with the given arguments.
+     *
+     * @param items the outcome of each item, in the order of the bulk request
+     */
+    public BulkResult(final List<BulkItemResult<T>> items) {
+        this.items = List.copyOf(items);
+        this.numSucceeded = (int) items.stream().filter(BulkItemResult::isSucceeded).count();
+        this.numFailed = items.size() - numSucceeded;
+    }
+
+    /**
+     * Returns the outcome of each item, in the order of the bulk request.
+     *
+     * @return the item outcomes, never {@code null}
+     */
+    public List<BulkItemResult<T>> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the amount of succeeded items.
+     *
+     * @return the amount of succeeded items
+     */
+    public int getNumSucceeded() {
+        return numSucceeded;
+    }
+
+    /**
+     * Returns the amount of failed items.
+     *
+     * @return the amount of failed items
+     */
+    public int getNumFailed() {
+        return numFailed;
+    }
+}
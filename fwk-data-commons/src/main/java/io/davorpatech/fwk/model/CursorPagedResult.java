@@ -0,0 +1,60 @@
+package io.davorpatech.fwk.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serializable;
+import java.util.Collection;
+
+/**
+ * A paged result obtained seeking by keyset instead of by page number.
+ *
+ * <p>As no count query is run, the total amount of elements and pages are
+ * unknown and reported as {@code -1}. The position in the entire list is
+ * given by the {@link #getNextCursor() next cursor}, an opaque token to be
+ * sent back to continue right after the last element of this page.
+ *
+ * @param <T> the component type of the paged data
+ */
+@Schema(
+    description = """
+        A paged result obtained seeking by keyset instead of by page number.
+        
+        As no count query is run, the total amount of elements and pages are unknown
+        and reported as -1. Use the next cursor to continue with the following page."""
+)
+public class CursorPagedResult<T extends Serializable> extends PagedResult<T> // NOSONAR
+{
+    private static final long serialVersionUID = -4207380869325736161L;
+
+    @Schema(description = "The opaque cursor to request the next page. Null if this is the last page.")
+    private final String nextCursor;
+
+    /**
+     * Constructs a new {@link CursorPagedResult} with the given arguments.
+     *
+     * @param data        the page content
+     * @param first       whether the current page is the first one
+     * @param hasNext     whether there is a next page
+     * @param nextCursor  the opaque cursor to request the next page, {@code null}
+     *                    if there is no next page
+     */
+    public CursorPagedResult(
+            final Collection<T> data,
+            final boolean first,
+            final boolean hasNext,
+            final String nextCursor)
+    {
+        super(data, -1L, 0, -1, first, !hasNext, hasNext, !first);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Returns the opaque cursor to request the next page.
+     *
+     * @return the cursor to request the next page, {@code null} if this
+     *         is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -26,13 +26,13 @@ public class PagedResult<T extends Serializable> implements Serializable // NOSO
     @Schema(description = "The page content as a collection of objects.")
     private final Collection<T> data;
 
-    @Schema(description = "The total amount of elements that the entire collection contains.")
+    @Schema(description = "The total amount of elements that the entire collection contains. -1 if it was not counted.")
     private final long totalElements;
 
     @Schema(description = "The number of the current page. Is always non-negative.")
     private final int pageNumber;
 
-    @Schema(description = "The amount of total pages. Is always non-negative.")
+    @Schema(description = "The amount of total pages. -1 if the elements were not counted.")
     private final int totalPages;
 
     @Schema(description = "Whether the current page is the first one.")
@@ -80,7 +80,7 @@ public class PagedResult<T extends Serializable> implements Serializable // NOSO
     }
 
     /**
-     * Returns the total amount of elements. Is always non-negative.
+     * Returns the total amount of elements, or {@code -1} if it was not counted.
      *
      * @return the total amount of elements
      */
@@ -98,7 +98,7 @@ public class PagedResult<T extends Serializable> implements Serializable // NOSO
     }
 
     /**
-     * Returns the number of total pages. Is always non-negative.
+     * Returns the number of total pages, or {@code -1} if the elements were not counted.
      *
      * @return the number of total pages
      */
@@ -1,6 +1,7 @@
 package io.davorpatech.fwk.model.commands;
 
 import io.davorpatech.fwk.model.BaseValueObject;
+import org.springframework.lang.Nullable;
 
 import java.util.Objects;
 
@@ -19,6 +20,8 @@ public class BaseFindInputCmd // NOSONAR
 
     private final int pageSize;
 
+    private final CountMode countMode;
+
     /**
      * Constructs a new {@link BaseFindInputCmd} with the given arguments.
      *
@@ -28,9 +31,24 @@ public class BaseFindInputCmd // NOSONAR
      * @param pageSize   the page size; thus is, the number of items to be returned
      */
     public BaseFindInputCmd(int pageNumber, int pageSize) {
+        this(pageNumber, pageSize, null);
+    }
+
+    /**
+     * Constructs a new {@link BaseFindInputCmd} with the given arguments.
+     *
+     * @param pageNumber the number of the current page (zero-index based)
+     *                   A size less than one is interpreted by the correspondent
+     *                   find service as a non-paged search
+     * @param pageSize   the page size; thus is, the number of items to be returned
+     * @param countMode  how the total amount of elements is computed. Defaults to
+     *                   {@link CountMode#EXACT} when {@code null}
+     */
+    public BaseFindInputCmd(int pageNumber, int pageSize, @Nullable CountMode countMode) {
         super();
         this.pageNumber = pageNumber;
         this.pageSize = pageSize;
+        this.countMode = countMode == null ? CountMode.EXACT : countMode;
     }
 
     @Override
@@ -39,17 +57,19 @@ public class BaseFindInputCmd // NOSONAR
         if (o == null || getClass() != o.getClass()) return false;
         BaseFindInputCmd other = (BaseFindInputCmd) o;
         return pageNumber == other.pageNumber &&
-                pageSize == other.pageSize;
+                pageSize == other.pageSize &&
+                countMode == other.countMode;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(pageNumber, pageSize);
+        return Objects.hash(pageNumber, pageSize, countMode);
     }
 
     @Override
     protected String defineObjAttrs() {
-        return String.format("pageNumber=%s, pageSize=%s", pageNumber, pageSize);
+        return String.format("pageNumber=%s, pageSize=%s, countMode=%s",
+                pageNumber, pageSize, countMode);
     }
 
     @Override
@@ -61,4 +81,9 @@ public class BaseFindInputCmd // NOSONAR
     public int getPageSize() {
         return pageSize;
     }
+
+    @Override
+    public CountMode getCountMode() {
+        return countMode;
+    }
 }
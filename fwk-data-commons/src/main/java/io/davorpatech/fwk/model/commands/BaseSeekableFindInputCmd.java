@@ -0,0 +1,79 @@
+package io.davorpatech.fwk.model.commands;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Basic implementation of a {@link FindInputCmd} with sorting and keyset
+ * pagination capabilities.
+ *
+ * @see FindInputCmd
+ * @see Sortable
+ * @see Seekable
+ */
+public class BaseSeekableFindInputCmd // NOSONAR
+        extends BaseSortableFindInputCmd // NOSONAR
+        implements Seekable // NOSONAR
+{
+    private static final long serialVersionUID = -3125871096245478530L;
+
+    private final boolean seekPaged;
+
+    private final String cursor;
+
+    /**
+     * Constructs a new {@link BaseSeekableFindInputCmd} with the given arguments.
+     *
+     * @param pageNumber the number of the current page (zero-index based).
+     *                   Ignored when seeking by keyset
+     * @param pageSize   the page size; thus is, the number of items to be returned
+     * @param sort       the sort to be used as part of any search query
+     * @param countMode  how the total amount of elements is computed when not
+     *                   seeking by keyset. Defaults to {@link CountMode#EXACT}
+     *                   when {@code null}
+     * @param seekPaged  whether to paginate seeking by keyset instead of by page
+     *                   number. Implied when a {@code cursor} is given
+     * @param cursor     the opaque cursor to continue from, or {@code null} to
+     *                   seek the first page
+     */
+    public BaseSeekableFindInputCmd(int pageNumber, int pageSize, @Nullable Sort sort,
+                                    @Nullable CountMode countMode,
+                                    boolean seekPaged, @Nullable String cursor) {
+        super(pageNumber, pageSize, sort, countMode);
+        this.seekPaged = seekPaged || cursor != null;
+        this.cursor = cursor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        BaseSeekableFindInputCmd other = (BaseSeekableFindInputCmd) o;
+        return seekPaged == other.seekPaged &&
+                Objects.equals(cursor, other.cursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), seekPaged, cursor);
+    }
+
+    @Override
+    protected String defineObjAttrs() {
+        return String.format("%s, seekPaged=%s, cursor=%s",
+                super.defineObjAttrs(), seekPaged, cursor);
+    }
+
+    @Override
+    public boolean isSeekPaged() {
+        return seekPaged;
+    }
+
+    @Override
+    public @Nullable String getCursor() {
+        return cursor;
+    }
+}
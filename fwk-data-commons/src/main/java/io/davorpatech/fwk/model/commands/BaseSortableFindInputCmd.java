@@ -28,7 +28,21 @@ public class BaseSortableFindInputCmd // NOSONAR
      * @param sort       the sort to be used as part of any search query
      */
     public BaseSortableFindInputCmd(int pageNumber, int pageSize, @Nullable Sort sort) {
-        super(pageNumber, pageSize);
+        this(pageNumber, pageSize, sort, null);
+    }
+
+    /**
+     * Constructs a new {@link BaseSortableFindInputCmd} with the given arguments.
+     *
+     * @param pageNumber the number of the current page (zero-index based)
+     * @param pageSize   the page size; thus is, the number of items to be returned
+     * @param sort       the sort to be used as part of any search query
+     * @param countMode  how the total amount of elements is computed. Defaults to
+     *                   {@link CountMode#EXACT} when {@code null}
+     */
+    public BaseSortableFindInputCmd(int pageNumber, int pageSize, @Nullable Sort sort,
+                                    @Nullable CountMode countMode) {
+        super(pageNumber, pageSize, countMode);
         this.sort = sort == null ? Sort.unsorted() : sort;
     }
 
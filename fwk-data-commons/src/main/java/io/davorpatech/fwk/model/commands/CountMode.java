@@ -0,0 +1,28 @@
+package io.davorpatech.fwk.model.commands;
+
+/**
+ * Enumerates how a paged search computes the total amount of elements of the
+ * entire collection.
+ *
+ * @see FindInputCmd#getCountMode()
+ */
+public enum CountMode
+{
+    /**
+     * No count query is run. The total amount of elements and pages are
+     * unknown, and whether there is a next page is found out fetching one
+     * more element than the page size.
+     */
+    NONE,
+
+    /**
+     * A count query is run on every search. This is the default mode.
+     */
+    EXACT,
+
+    /**
+     * The total amount of elements is taken from a short-lived cached count
+     * of the same search filters, so it can be slightly outdated.
+     */
+    ESTIMATED
+}
@@ -32,4 +32,14 @@ public interface FindInputCmd extends InputCmd
      * @return the page size
      */
     int getPageSize();
+
+    /**
+     * Returns how the total amount of elements is computed when the search
+     * is paged.
+     *
+     * @return the count mode, never {@code null}. Defaults to {@link CountMode#EXACT}
+     */
+    default CountMode getCountMode() {
+        return CountMode.EXACT;
+    }
 }
@@ -0,0 +1,32 @@
+package io.davorpatech.fwk.model.commands;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Marker interface to provide keyset (seek) pagination to any {@link FindInputCmd}.
+ *
+ * <p>Instead of skipping a number of rows, keyset pagination continues right after
+ * the last row of the previous page, identified by the values of its sort keys.
+ * Those values travel as an opaque continuation token, the cursor.
+ *
+ * @see FindInputCmd
+ * @see Sortable
+ */
+public interface Seekable
+{
+    /**
+     * Returns whether the search must be paginated seeking by keyset instead
+     * of by page number.
+     *
+     * @return {@code true} if the keyset pagination mode is requested,
+     *         {@code false} otherwise
+     */
+    boolean isSeekPaged();
+
+    /**
+     * Returns the opaque cursor pointing to the last row of the previous page.
+     *
+     * @return the cursor to continue from, or {@code null} to seek the first page
+     */
+    @Nullable String getCursor();
+}
@@ -1,6 +1,7 @@
 package io.davorpatech.fwk.service.data;
 
 import io.davorpatech.fwk.exception.NoSuchEntityException;
+import io.davorpatech.fwk.model.BulkResult;
 import io.davorpatech.fwk.model.Entitier;
 import io.davorpatech.fwk.model.PagedResult;
 import io.davorpatech.fwk.model.ValueObject;
@@ -18,6 +19,8 @@ import org.springframework.lang.NonNull;
 import org.springframework.validation.annotation.Validated;
 
 import java.io.Serializable;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Contract for those {@literal Service}s that work on a concrete
@@ -51,6 +54,20 @@ public interface DataService< // NOSONAR
     PagedResult<DTO> findAll(
             final @NonNull @Valid FIND_CMD query);
 
+    /**
+     * Performs the given action for each record representing this domain data
+     * that matches query parameters, ignoring paging.
+     *
+     * <p>Unlike an unpaged {@link #findAll}, records are streamed from the
+     * data store with bounded memory, so any number of them can be consumed.
+     *
+     * @param query  the find query command used to sort and filtering data
+     * @param action the action to perform on each record, never {@code null}
+     */
+    void forEach(
+            final @NonNull @Valid FIND_CMD query,
+            final @NonNull Consumer<? super DTO> action);
+
     /**
      * Finds a record by its identifier.
      *
@@ -96,4 +113,50 @@ public interface DataService< // NOSONAR
     @ValidatedGroups({ OnDelete.class })
     void deleteById(
             final @NonNull @Valid ID id);
+
+    /**
+     * Creates new records in bulk.
+     *
+     * <p>Inputs are validated one by one, as {@link #create} does, and created
+     * in chunks, each at once in its own transaction. A failed input does not
+     * discard the others, and is reported in its place of the result.
+     *
+     * @param inputs the data objects to persist, never {@code null}
+     * @return the outcome of each input, holding its persisted data object,
+     *         never {@code null}
+     */
+    @NonNull
+    BulkResult<DTO> createAll(
+            final @NonNull List<CREATE_CMD> inputs);
+
+    /**
+     * Updates existent records in bulk.
+     *
+     * <p>Inputs are validated one by one, as {@link #update} does, and updated
+     * in chunks, each at once in its own transaction. A failed input, such as
+     * one whose record is not found, does not discard the others, and is
+     * reported in its place of the result.
+     *
+     * @param inputs the data objects to merge, never {@code null}
+     * @return the outcome of each input, holding its merged data object,
+     *         never {@code null}
+     */
+    @NonNull
+    BulkResult<DTO> updateAll(
+            final @NonNull List<UPDATE_CMD> inputs);
+
+    /**
+     * Removes existent records in bulk given their identifiers.
+     *
+     * <p>Records are removed in chunks, each at once in its own transaction.
+     * A failed identifier, such as one whose record is not found, does not
+     * discard the others, and is reported in its place of the result.
+     *
+     * @param ids the identifiers of records to remove, never {@code null}
+     * @return the outcome of each identifier, holding the identifier itself,
+     *         never {@code null}
+     */
+    @NonNull
+    BulkResult<ID> deleteAllById(
+            final @NonNull List<ID> ids);
 }
@@ -0,0 +1,150 @@
+package io.davorpatech.fwk.service.data.jpa;
+
+import io.davorpatech.fwk.model.BulkItemResult;
+import io.davorpatech.fwk.model.BulkResult;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Writes the items of the bulk operations of a {@link JpaBasedDataService}
+ * in chunks, each in its own transaction, telling the failed items apart.
+ */
+final class BulkWriter
+{
+    private final TransactionTemplate transactionTemplate;
+
+    private final EntityManager entityManager;
+
+    private final ToIntFunction<RuntimeException> errorStatus;
+
+    /**
+     * Constructs a new {@link BulkWriter} with the given arguments.
+     *
+     * @param transactionTemplate the template running each chunk in its own
+     *                            transaction, never {@code null}
+     * @param entityManager       the shared entity manager, never {@code null}
+     * @param errorStatus         the HTTP status code reported for each error
+     *                            discarding an item, never {@code null}
+     */
+    BulkWriter(final @NonNull TransactionTemplate transactionTemplate,
+               final @NonNull EntityManager entityManager,
+               final @NonNull ToIntFunction<RuntimeException> errorStatus)
+    {
+        Assert.notNull(transactionTemplate, "TransactionTemplate must not be null!");
+        Assert.notNull(entityManager, "EntityManager must not be null!");
+        Assert.notNull(errorStatus, "Error status must not be null!");
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.errorStatus = errorStatus;
+    }
+
+    /**
+     * Determines the default HTTP status code reported for a failed item.
+     *
+     * @param ex the error that discarded the item
+     * @return the status given by the {@link ResponseStatus} of the error, if any.
+     *         Otherwise, {@code 400} for validation errors, {@code 409} for data
+     *         integrity violations and {@code 500} for any other error
+     */
+    static int defaultErrorStatus(final @NonNull RuntimeException ex) {
+        final ResponseStatus responseStatus = AnnotatedElementUtils
+                .findMergedAnnotation(ex.getClass(), ResponseStatus.class);
+        if (responseStatus != null) {
+            return responseStatus.code().value();
+        }
+        if (ex instanceof ConstraintViolationException || ex instanceof IllegalArgumentException) {
+            return HttpStatus.BAD_REQUEST.value();
+        }
+        if (ex instanceof DataIntegrityViolationException) {
+            return HttpStatus.CONFLICT.value();
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR.value();
+    }
+
+    /**
+     * Applies the given chunk operation to the items, in chunks.
+     *
+     * <p>Items are checked first, outside any transaction, and those failing are
+     * reported without being processed. The rest are processed in chunks, each in
+     * its own transaction, flushing and clearing the persistence context at its end.
+     * When a chunk fails, it is rolled back and retried item by item through the
+     * given item operation, each in its own transaction.
+     *
+     * @param items          the items to process, never {@code null}
+     * @param chunkSize      the number of items per chunk, greater than zero
+     * @param check          the check of each item before processing it, never {@code null}
+     * @param chunkOperation the operation to apply to the items of a chunk, returning the
+     *                       result of each one in the same order, never {@code null}
+     * @param itemOperation  the operation to apply to a single item of a failed chunk,
+     *                       never {@code null}
+     * @return the outcome of each item, in the order of the given items, never {@code null}
+     */
+    <I, R extends Serializable> @NonNull BulkResult<R> write(
+            final @NonNull List<I> items, final int chunkSize,
+            final @NonNull Consumer<I> check,
+            final @NonNull Function<List<I>, List<R>> chunkOperation,
+            final @NonNull Function<I, R> itemOperation)
+    {
+        @SuppressWarnings("unchecked")
+        final BulkItemResult<R>[] results = new BulkItemResult[items.size()];
+        final List<Integer> pending = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            try {
+                check.accept(items.get(i));
+                pending.add(i);
+            } catch (RuntimeException ex) {
+                results[i] = BulkItemResult.failed(i, errorStatus.applyAsInt(ex), ex.getMessage());
+            }
+        }
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            final List<Integer> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    final List<R> chunkResults = chunkOperation.apply(
+                            chunk.stream().map(items::get).toList());
+                    entityManager.flush();
+                    entityManager.clear();
+                    for (int i = 0; i < chunk.size(); i++) {
+                        final int index = chunk.get(i);
+                        results[index] = BulkItemResult.succeeded(index, chunkResults.get(i));
+                    }
+                });
+            } catch (RuntimeException chunkEx) {
+                for (Integer index : chunk) {
+                    results[index] = writeItem(index, items.get(index), itemOperation);
+                }
+            }
+        }
+        return new BulkResult<>(Arrays.asList(results));
+    }
+
+    private <I, R extends Serializable> @NonNull BulkItemResult<R> writeItem(
+            final int index, final I item, final @NonNull Function<I, R> operation)
+    {
+        try {
+            return transactionTemplate.execute(status -> {
+                final R result = operation.apply(item);
+                entityManager.flush();
+                entityManager.clear();
+                return BulkItemResult.succeeded(index, result);
+            });
+        } catch (RuntimeException ex) {
+            return BulkItemResult.failed(index, errorStatus.applyAsInt(ex), ex.getMessage());
+        }
+    }
+}
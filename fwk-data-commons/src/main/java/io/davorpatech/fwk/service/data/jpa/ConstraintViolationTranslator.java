@@ -0,0 +1,216 @@
+package io.davorpatech.fwk.service.data.jpa;
+
+import io.davorpatech.fwk.exception.EntityAlreadyExistsException;
+import io.davorpatech.fwk.exception.EntityUsedByForeignsException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Registry translating the violations of the database constraints into the
+ * business exceptions they mean, as {@link EntityAlreadyExistsException} for
+ * a unique key or {@link EntityUsedByForeignsException} for a foreign key.
+ *
+ * <p>The name of the violated constraint is resolved once, from the Hibernate
+ * {@link ConstraintViolationException} wrapped by the violation, and looked
+ * up in a hash table of exception factories by constraint name, prebuilt
+ * when the translator is built, instead of scanning the exception message
+ * for every known constraint.
+ *
+ * <p>Constraint names are matched whatever the case and schema the database
+ * reports them with, and the index backing them.
+ *
+ * @param <S> type of the subject of the translated exceptions, as the ID of
+ *            the entity being deleted or the unique key being written
+ */
+public final class ConstraintViolationTranslator<S extends Serializable> // NOSONAR
+{
+    private final Map<String, BiFunction<S, Throwable, ? extends RuntimeException>> factories;
+
+    private ConstraintViolationTranslator(
+            final Map<String, BiFunction<S, Throwable, ? extends RuntimeException>> factories)
+    {
+        this.factories = Map.copyOf(factories);
+    }
+
+    /**
+     * Creates a new builder of {@link ConstraintViolationTranslator}.
+     *
+     * @param <S> type of the subject of the translated exceptions
+     * @return the new builder, never {@code null}
+     */
+    public static <S extends Serializable> @NonNull Builder<S> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Translates the given violation regarding the given subject.
+     *
+     * @param subject the subject of the violation, as the ID of the entity
+     *                being deleted or the unique key being written
+     * @param ex      the violation to translate, never {@code null}
+     * @return the translated exception, or the given violation itself if its
+     *         constraint is unknown or the factory declines it, never {@code null}
+     */
+    public @NonNull RuntimeException translate(
+            final S subject, final @NonNull DataIntegrityViolationException ex)
+    {
+        Assert.notNull(ex, "Violation must not be null!");
+        final String constraintName = resolveConstraintName(ex);
+        final BiFunction<S, Throwable, ? extends RuntimeException> factory =
+            constraintName == null ? null : factories.get(constraintName);
+        final RuntimeException translated = factory == null ? null : factory.apply(subject, ex);
+        return translated == null ? ex : translated;
+    }
+
+    /**
+     * Resolves the normalized name of the constraint violated, as reported by
+     * Hibernate, if any.
+     *
+     * @param ex the data integrity violation, never {@code null}
+     * @return the normalized constraint name, or {@code null} if unknown
+     */
+    static @Nullable String resolveConstraintName(final @NonNull Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                final String constraintName = violation.getConstraintName();
+                return constraintName == null ? null : normalizeConstraintName(constraintName);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Normalizes the given constraint name, so it is found whatever the case
+     * and schema the database reports it with, and the index backing it.
+     *
+     * <p>Some dialects report the whole violated clause instead of the bare
+     * name, as H2 does with {@code "PUBLIC.UK_NAME_INDEX_3 ON PUBLIC.T(NAME)"},
+     * so only its leading identifier is kept, once unquoted, as MySQL may
+     * report it as {@code `SCHEMA`.`UK_NAME`}.
+     *
+     * @param constraintName the constraint name, never {@code null}
+     * @return the normalized constraint name, never {@code null}
+     */
+    static @NonNull String normalizeConstraintName(final @NonNull String constraintName) {
+        Assert.hasText(constraintName, "Constraint name must not be empty!");
+        final String unquoted = constraintName.replace("`", "").replace("\"", "");
+        int start = 0;
+        while (start < unquoted.length() && !isIdentifierPart(unquoted.charAt(start))) {
+            start++;
+        }
+        int end = start;
+        while (end < unquoted.length() && isIdentifierPart(unquoted.charAt(end))) {
+            end++;
+        }
+        String name = unquoted.substring(start, end).toUpperCase(Locale.ROOT);
+        name = name.substring(name.lastIndexOf('.') + 1);
+        // H2 reports the index backing the constraint, as UK_NAME_INDEX_3
+        final int index = name.lastIndexOf("_INDEX_");
+        if (index > 0 && index + 7 < name.length()
+                && name.substring(index + 7).chars().allMatch(Character::isDigit)) {
+            name = name.substring(0, index);
+        }
+        return name;
+    }
+
+    private static boolean isIdentifierPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || ch == '_' || ch == '$' || ch == '.';
+    }
+
+    /**
+     * Builder of {@link ConstraintViolationTranslator}.
+     *
+     * @param <S> type of the subject of the translated exceptions
+     */
+    public static final class Builder<S extends Serializable> // NOSONAR
+    {
+        private final Map<String, BiFunction<S, Throwable, ? extends RuntimeException>> factories = new HashMap<>();
+
+        private Builder() {
+            super();
+        }
+
+        /**
+         * Translates the violations of the given constraint through the given
+         * factory.
+         *
+         * @param constraintName the name of the constraint, never {@code null}
+         * @param factory        the factory of the exception, given the subject and
+         *                       the violation, returning {@code null} to decline it,
+         *                       never {@code null}
+         * @return this builder, never {@code null}
+         */
+        public @NonNull Builder<S> on(
+                final @NonNull String constraintName,
+                final @NonNull BiFunction<S, Throwable, ? extends RuntimeException> factory)
+        {
+            Assert.notNull(factory, "Factory must not be null!");
+            factories.put(normalizeConstraintName(constraintName), factory);
+            return this;
+        }
+
+        /**
+         * Translates the violations of the given unique constraint into an
+         * {@link EntityAlreadyExistsException} identified by the subject.
+         *
+         * @param constraintName the name of the unique constraint, never {@code null}
+         * @param domainName     the domain name of the entity, never {@code null}
+         * @return this builder, never {@code null}
+         */
+        public @NonNull Builder<S> alreadyExists(
+                final @NonNull String constraintName, final @NonNull String domainName)
+        {
+            Assert.hasText(domainName, "Domain name must not be empty!");
+            return on(constraintName, (subject, cause) ->
+                new EntityAlreadyExistsException(domainName, subject, cause));
+        }
+
+        /**
+         * Translates the violations of the given foreign key constraint into an
+         * {@link EntityUsedByForeignsException} of the entity identified by the
+         * subject, as long as it is still referenced by any foreign entity.
+         *
+         * @param constraintName    the name of the foreign key constraint, never {@code null}
+         * @param domainName        the domain name of the referenced entity, never {@code null}
+         * @param foreignDomainName the domain name of the foreign entities, never {@code null}
+         * @param foreignCounter    the counter of the foreign entities referencing the
+         *                          subject, never {@code null}
+         * @return this builder, never {@code null}
+         */
+        public @NonNull Builder<S> usedByForeigns(
+                final @NonNull String constraintName,
+                final @NonNull String domainName,
+                final @NonNull String foreignDomainName,
+                final @NonNull ToLongFunction<S> foreignCounter)
+        {
+            Assert.hasText(domainName, "Domain name must not be empty!");
+            Assert.hasText(foreignDomainName, "Foreign domain name must not be empty!");
+            Assert.notNull(foreignCounter, "Foreign counter must not be null!");
+            return on(constraintName, (subject, cause) -> {
+                final long count = foreignCounter.applyAsLong(subject);
+                return count > 0
+                    ? new EntityUsedByForeignsException(domainName, subject, foreignDomainName, count, cause)
+                    : null;
+            });
+        }
+
+        /**
+         * Builds the {@link ConstraintViolationTranslator}.
+         *
+         * @return the new translator, never {@code null}
+         */
+        public @NonNull ConstraintViolationTranslator<S> build() {
+            return new ConstraintViolationTranslator<>(factories);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.davorpatech.fwk.service.data.jpa;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.davorpatech.fwk.model.PagedResult;
+import io.davorpatech.fwk.model.commands.CountMode;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Computes the totals of the paged searches of a {@link JpaBasedDataService}
+ * that do not run an exact count, as asked by their {@link CountMode}.
+ *
+ * <p>{@link CountMode#NONE NONE} reports the totals as {@code -1}, while
+ * {@link CountMode#ESTIMATED ESTIMATED} reuses a short-lived cached count per
+ * filter key, made exact when the last page is reached.
+ */
+final class CountStrategy
+{
+    private final Cache<Object, Long> countCache;
+
+    /**
+     * Constructs a new {@link CountStrategy} backed by the given count cache.
+     *
+     * @param countCache the cache of counts, never {@code null}
+     */
+    CountStrategy(final @NonNull Cache<Object, Long> countCache) {
+        Assert.notNull(countCache, "Count cache must not be null!");
+        this.countCache = countCache;
+    }
+
+    /**
+     * Builds the count strategy of the given domain using the
+     * {@value JpaBasedDataService#COUNT_CACHE_PROPERTY_PREFIX}{@code <domainName>.*}
+     * properties.
+     *
+     * @param domainName  the domain name of the counted entities, never {@code null}
+     * @param environment the environment holding the properties, or {@code null}
+     * @return the count strategy, never {@code null}
+     */
+    static @NonNull CountStrategy configure(
+            final @NonNull String domainName, final @Nullable Environment environment)
+    {
+        final String prefix = JpaBasedDataService.COUNT_CACHE_PROPERTY_PREFIX + domainName + '.';
+        Duration timeToLive = JpaBasedDataService.COUNT_CACHE_DEFAULT_TIME_TO_LIVE;
+        long maximumSize = JpaBasedDataService.COUNT_CACHE_DEFAULT_MAXIMUM_SIZE;
+        if (environment != null) {
+            timeToLive = environment.getProperty(
+                    prefix + "time-to-live", Duration.class, timeToLive);
+            maximumSize = environment.getProperty(
+                    prefix + "maximum-size", Long.class, maximumSize);
+        }
+        return new CountStrategy(Caffeine.newBuilder()
+                .expireAfterWrite(timeToLive)
+                .maximumSize(maximumSize)
+                .build());
+    }
+
+    /**
+     * Builds the paged result of the rows fetched without running a count query.
+     *
+     * <p>One more row than the page size must have been fetched, so as to know
+     * whether there is a next page.
+     *
+     * @param rows       the fetched rows, up to one more than the page size
+     * @param pageNumber the number of the current page (zero-index based)
+     * @param pageSize   the page size, greater than zero
+     * @param countMode  the count mode, other than {@link CountMode#EXACT}
+     * @param countKey   the key of the cached count, {@code null} if it must not be cached
+     * @param counter    the exact count of the filtered rows, run when the count is needed
+     * @return the paged result, never {@code null}
+     */
+    <DTO extends Serializable> @NonNull PagedResult<DTO> page(
+            final @NonNull List<DTO> rows, final int pageNumber, final int pageSize,
+            final @NonNull CountMode countMode,
+            final @Nullable Object countKey, final @NonNull LongSupplier counter)
+    {
+        Assert.isTrue(countMode != CountMode.EXACT, "Exact counts are not estimated!");
+        final long offset = (long) pageNumber * pageSize;
+        final boolean hasNext = rows.size() > pageSize;
+        final List<DTO> content = hasNext ? rows.subList(0, pageSize) : rows;
+        long totalElements = -1L;
+        int totalPages = -1;
+        if (countMode == CountMode.ESTIMATED) {
+            if (hasNext) { // at least one more element beyond this page
+                totalElements = Math.max(estimate(countKey, counter), offset + pageSize + 1);
+            } else if (content.isEmpty()) { // out of range, at most offset elements
+                totalElements = offset == 0 ? 0 : Math.min(estimate(countKey, counter), offset);
+            } else { // last page, so the count is exact
+                totalElements = offset + content.size();
+            }
+            totalPages = (int) ((totalElements + pageSize - 1) / pageSize);
+        }
+        return new PagedResult<>(
+                content,
+                totalElements,
+                pageNumber,
+                totalPages,
+                pageNumber == 0,
+                !hasNext,
+                hasNext,
+                pageNumber > 0
+        );
+    }
+
+    private long estimate(final @Nullable Object countKey, final @NonNull LongSupplier counter) {
+        if (countKey == null) {
+            return counter.getAsLong();
+        }
+        return countCache.get(countKey, k -> counter.getAsLong());
+    }
+
+    /**
+     * Evicts all the cached counts, as any entity is added or removed.
+     */
+    void evictAll() {
+        countCache.invalidateAll();
+    }
+}
@@ -0,0 +1,315 @@
+package io.davorpatech.fwk.service.data.jpa;
+
+import io.davorpatech.fwk.model.CursorPagedResult;
+import io.davorpatech.fwk.model.Entitier;
+import io.davorpatech.fwk.model.ValueObject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.convert.QueryByExamplePredicateBuilder;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.jpa.repository.support.JpaEntityInformationSupport;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Runs the criteria queries of a {@link JpaBasedDataService} that its
+ * repository cannot express: windows without count, keyset seeks, bounded
+ * memory streams and {@link DtoProjection} fetches.
+ *
+ * <p>Every query fetches either managed entities, converted into DTOs by
+ * the given converter, or only the columns of the given projection, when
+ * declared.
+ *
+ * @param <T> component type representing the domain entity
+ * @param <DTO> component type representing the domain data transfer object
+ */
+final class CriteriaFinder<T extends Entitier<?>, DTO extends ValueObject>
+{
+    /**
+     * The JPA provider (Hibernate) hints used by {@link #forEach}, ignored
+     * by any other provider.
+     */
+    private static final String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
+    private static final String HINT_READ_ONLY = "org.hibernate.readOnly";
+
+    private final EntityManager entityManager;
+
+    private final Class<T> domainClass;
+
+    /**
+     * Constructs a new {@link CriteriaFinder} with the given arguments.
+     *
+     * @param entityManager the shared entity manager, never {@code null}
+     * @param domainClass   the entity type to query, never {@code null}
+     */
+    CriteriaFinder(final @NonNull EntityManager entityManager, final @NonNull Class<T> domainClass) {
+        Assert.notNull(entityManager, "EntityManager must not be null!");
+        Assert.notNull(domainClass, "Domain class must not be null!");
+        this.entityManager = entityManager;
+        this.domainClass = domainClass;
+    }
+
+    /**
+     * Fetches the DTO of the entity with the given ID through the given projection.
+     *
+     * @param id         the ID of the entity, never {@code null}
+     * @param projection the DTO projection, never {@code null}
+     * @return the DTO, or empty if the entity is not found
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @NonNull Optional<DTO> findById(final @NonNull Object id, final @NonNull DtoProjection<T, DTO> projection) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        final Root<T> root = cq.from(domainClass);
+        cq.select(cb.tuple(projection.select(cb, root).toArray(Selection[]::new)))
+                .where(cb.equal(root.get(resolveIdAttributeName()), id));
+        return entityManager.createQuery(cq)
+                .getResultStream()
+                .findFirst()
+                .map(projection::map);
+    }
+
+    /**
+     * Fetches a window of sorted DTOs, through the given projection if any,
+     * without running any count query.
+     *
+     * @param example    the filtering example, {@code null} if filtering is disabled
+     * @param sort       the sort properties holder, never {@code null}
+     * @param offset     the number of rows to skip
+     * @param limit      the maximum number of rows to fetch, less than one if unlimited
+     * @param projection the DTO projection, {@code null} to load full entities
+     * @param converter  the converter of the loaded entities, never {@code null}
+     * @return the fetched DTOs, never {@code null}
+     */
+    @NonNull List<DTO> findWindow(
+            final @Nullable Example<T> example, final @NonNull Sort sort,
+            final int offset, final int limit,
+            final @Nullable DtoProjection<T, DTO> projection,
+            final @NonNull Function<T, DTO> converter)
+    {
+        if (projection == null) {
+            return window(createFindQuery(example, sort, null), offset, limit)
+                    .getResultList().stream()
+                    .map(converter)
+                    .toList();
+        }
+        return window(createProjectionQuery(projection, example, sort, null, Sort.unsorted()), offset, limit)
+                .getResultList().stream()
+                .map(projection::map)
+                .toList();
+    }
+
+    /**
+     * Streams the sorted DTOs to the given action with bounded memory, through
+     * the given projection if any, fetching {@value JpaBasedDataService#STREAM_FETCH_SIZE}
+     * rows per database round trip.
+     *
+     * @param example    the filtering example, {@code null} if filtering is disabled
+     * @param sort       the sort properties holder, never {@code null}
+     * @param projection the DTO projection, {@code null} to load full entities
+     * @param converter  the converter of the loaded entities, never {@code null}
+     * @param action     the action to perform on each DTO, never {@code null}
+     */
+    void forEach(
+            final @Nullable Example<T> example, final @NonNull Sort sort,
+            final @Nullable DtoProjection<T, DTO> projection,
+            final @NonNull Function<T, DTO> converter,
+            final @NonNull Consumer<? super DTO> action)
+    {
+        if (projection != null) {
+            try (Stream<Tuple> rows = createProjectionQuery(projection, example, sort, null, Sort.unsorted())
+                    .setHint(HINT_FETCH_SIZE, JpaBasedDataService.STREAM_FETCH_SIZE)
+                    .getResultStream()) {
+                rows.forEach(tuple -> action.accept(projection.map(tuple)));
+            }
+            return;
+        }
+        try (Stream<T> rows = createFindQuery(example, sort, null)
+                .setHint(HINT_FETCH_SIZE, JpaBasedDataService.STREAM_FETCH_SIZE)
+                .setHint(HINT_READ_ONLY, true)
+                .getResultStream()) {
+            rows.forEach(entity -> {
+                action.accept(converter.apply(entity));
+                // keep the persistence context bounded while streaming
+                entityManager.detach(entity);
+            });
+        }
+    }
+
+    /**
+     * Performs a keyset paginated search, continuing after the given cursor,
+     * through the given projection if any.
+     *
+     * <p>The sort is completed with the entity ID as a unique tiebreaker. The seek
+     * condition is the expanded, portable form of the row value comparison
+     * {@code (a, b) > (?, ?)}, that is {@code a > ? OR (a = ? AND b > ?)},
+     * honouring the direction of each sort property. When projecting, the sort
+     * values are fetched after the projected ones, to compute the next cursor.
+     *
+     * @param example    the filtering example, {@code null} if filtering is disabled
+     * @param sort       the sort properties holder, never {@code null}
+     * @param pageSize   the page size, greater than zero
+     * @param cursor     the cursor to continue from, {@code null} to seek the first page
+     * @param projection the DTO projection, {@code null} to load full entities
+     * @param converter  the converter of the loaded entities, never {@code null}
+     * @return the keyset paged result, never {@code null}
+     */
+    @NonNull CursorPagedResult<DTO> findSeeking(
+            final @Nullable Example<T> example, final @NonNull Sort sort,
+            final int pageSize, final @Nullable String cursor,
+            final @Nullable DtoProjection<T, DTO> projection,
+            final @NonNull Function<T, DTO> converter)
+    {
+        final Sort seekSort = completeSeekSort(sort);
+        final List<DTO> content = new ArrayList<>(pageSize);
+        List<Object> lastValues = null;
+        // fetch one more row to know whether there is a next page
+        if (projection == null) {
+            final List<T> rows = window(createFindQuery(example, seekSort, cursor), 0, pageSize + 1)
+                    .getResultList();
+            for (T entity : rows.subList(0, Math.min(pageSize, rows.size()))) {
+                content.add(converter.apply(entity));
+            }
+            if (rows.size() > pageSize) {
+                final BeanWrapper wrapper = new BeanWrapperImpl(rows.get(pageSize - 1));
+                lastValues = new ArrayList<>();
+                for (Sort.Order order : seekSort) {
+                    lastValues.add(wrapper.getPropertyValue(order.getProperty()));
+                }
+            }
+        } else {
+            final List<Tuple> rows = window(
+                    createProjectionQuery(projection, example, seekSort, cursor, seekSort), 0, pageSize + 1)
+                    .getResultList();
+            for (Tuple tuple : rows.subList(0, Math.min(pageSize, rows.size()))) {
+                content.add(projection.map(tuple));
+            }
+            if (rows.size() > pageSize) {
+                // the sort values follow the projected ones
+                final Object[] values = rows.get(pageSize - 1).toArray();
+                lastValues = Arrays.asList(values)
+                        .subList(values.length - seekSort.toList().size(), values.length);
+            }
+        }
+        return new CursorPagedResult<>(
+                content,
+                cursor == null,
+                lastValues != null,
+                lastValues == null ? null : KeysetCursorCodec.encode(seekSort, lastValues)
+        );
+    }
+
+    private static <R> TypedQuery<R> window(
+            final TypedQuery<R> query, final int offset, final int limit)
+    {
+        query.setFirstResult(offset);
+        if (limit > 0) {
+            query.setMaxResults(limit);
+        }
+        return query;
+    }
+
+    private @NonNull TypedQuery<T> createFindQuery(
+            final @Nullable Example<T> example, final @NonNull Sort sort,
+            final @Nullable String cursor)
+    {
+        return createQuery(domainClass, (cb, root) -> root, example, sort, cursor);
+    }
+
+    /**
+     * Creates a query fetching the values selected by the given projection,
+     * followed by the values of the given extra properties.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private @NonNull TypedQuery<Tuple> createProjectionQuery(
+            final @NonNull DtoProjection<T, DTO> projection,
+            final @Nullable Example<T> example, final @NonNull Sort sort,
+            final @Nullable String cursor, final @NonNull Sort extraProperties)
+    {
+        return createQuery(Tuple.class, (cb, root) -> {
+            final List<Selection<?>> selections = new ArrayList<>(projection.select(cb, root));
+            for (Sort.Order order : extraProperties) {
+                selections.add(KeysetCursorCodec.pathOf(root, order.getProperty()));
+            }
+            return cb.tuple(selections.toArray(Selection[]::new));
+        }, example, sort, cursor);
+    }
+
+    private <R> TypedQuery<R> createQuery(
+            final @NonNull Class<R> resultClass,
+            final @NonNull BiFunction<CriteriaBuilder, Root<T>, Selection<? extends R>> selector,
+            final @Nullable Example<T> example, final @NonNull Sort sort,
+            final @Nullable String cursor)
+    {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<R> cq = cb.createQuery(resultClass);
+        final Root<T> root = cq.from(domainClass);
+        final List<Predicate> predicates = new ArrayList<>(2);
+        if (example != null) {
+            predicates.add(QueryByExamplePredicateBuilder.getPredicate(root, cb, example));
+        }
+        if (cursor != null) {
+            predicates.add(buildSeekPredicate(cb, root, sort,
+                    KeysetCursorCodec.decode(cursor, sort, root)));
+        }
+        cq.select(selector.apply(cb, root))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(cq);
+    }
+
+    private Sort completeSeekSort(final Sort sort) {
+        final String idName = resolveIdAttributeName();
+        return sort.getOrderFor(idName) == null
+                ? sort.and(Sort.by(Sort.Direction.ASC, idName))
+                : sort;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate buildSeekPredicate(
+            final CriteriaBuilder cb, final Root<?> root,
+            final Sort sort, final List<Object> values)
+    {
+        final List<Predicate> disjunction = new ArrayList<>();
+        final List<Predicate> equalities = new ArrayList<>();
+        int i = 0;
+        for (Sort.Order order : sort) {
+            Expression path = KeysetCursorCodec.pathOf(root, order.getProperty());
+            Comparable value = (Comparable) values.get(i++);
+            if (order.isIgnoreCase() && String.class.equals(path.getJavaType())) {
+                path = cb.upper(path);
+                value = ((String) value).toUpperCase();
+            }
+            final Predicate beyond = order.isAscending()
+                    ? cb.greaterThan(path, value)
+                    : cb.lessThan(path, value);
+            final List<Predicate> conjunction = new ArrayList<>(equalities);
+            conjunction.add(beyond);
+            disjunction.add(cb.and(conjunction.toArray(Predicate[]::new)));
+            equalities.add(cb.equal(path, value));
+        }
+        return cb.or(disjunction.toArray(Predicate[]::new));
+    }
+
+    private String resolveIdAttributeName() {
+        return JpaEntityInformationSupport
+                .getEntityInformation(domainClass, entityManager)
+                .getIdAttribute().getName();
+    }
+}
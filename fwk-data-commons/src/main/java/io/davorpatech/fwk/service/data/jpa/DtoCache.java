@@ -0,0 +1,121 @@
+package io.davorpatech.fwk.service.data.jpa;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * The in-memory cache of the DTOs returned by the {@code findById} of a
+ * {@link JpaBasedDataService}, if enabled for its domain.
+ *
+ * <p>When disabled, every lookup is delegated to the loader and evictions
+ * are ignored.
+ *
+ * @param <ID> component type of the field that uniquely identifies the entity
+ * @param <DTO> component type representing the domain data transfer object
+ */
+final class DtoCache<ID, DTO>
+{
+    private final @Nullable Cache<ID, DTO> cache;
+
+    /**
+     * Constructs a new {@link DtoCache} backed by the given cache.
+     *
+     * @param cache the backing cache, or {@code null} if disabled
+     */
+    DtoCache(final @Nullable Cache<ID, DTO> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Builds the DTO cache of the given domain using the
+     * {@value JpaBasedDataService#DTO_CACHE_PROPERTY_PREFIX}{@code <domainName>.*}
+     * properties, publishing its hit/miss statistics tagged with the domain name.
+     *
+     * @param domainName  the domain name of the cached DTOs, never {@code null}
+     * @param environment the environment holding the properties, or {@code null}
+     * @param weigher     the weigher of the cached DTOs, used when a maximum
+     *                    weight is configured, never {@code null}
+     * @return the DTO cache, disabled unless configured so (default behaviour)
+     */
+    static <ID, DTO> @NonNull DtoCache<ID, DTO> configure(
+            final @NonNull String domainName, final @Nullable Environment environment,
+            final @NonNull ToIntFunction<DTO> weigher)
+    {
+        final String prefix = JpaBasedDataService.DTO_CACHE_PROPERTY_PREFIX + domainName + '.';
+        if (environment == null ||
+                !environment.getProperty(prefix + "enabled", Boolean.class, false)) {
+            return new DtoCache<>(null);
+        }
+        final Long maximumWeight = environment.getProperty(prefix + "maximum-weight", Long.class);
+        final Duration timeToLive = environment.getProperty(prefix + "time-to-live", Duration.class);
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (timeToLive != null) {
+            builder = builder.expireAfterWrite(timeToLive);
+        }
+        final Cache<ID, DTO> cache;
+        if (maximumWeight != null) {
+            cache = builder.maximumWeight(maximumWeight)
+                    .<ID, DTO>weigher((id, dto) -> weigher.applyAsInt(dto))
+                    .build();
+        } else {
+            cache = builder.maximumSize(environment.getProperty(prefix + "maximum-size",
+                        Long.class, JpaBasedDataService.DTO_CACHE_DEFAULT_MAXIMUM_SIZE))
+                    .build();
+        }
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, domainName);
+        return new DtoCache<>(cache);
+    }
+
+    /**
+     * Returns whether the DTOs are cached.
+     *
+     * @return {@code true} if enabled, otherwise {@code false}
+     */
+    boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Returns the cached DTO with the given ID, loading and caching it if missing.
+     *
+     * @param id     the ID of the DTO, never {@code null}
+     * @param loader the loader of a missing DTO, never {@code null}
+     * @return the DTO, never {@code null}
+     */
+    @NonNull DTO get(final @NonNull ID id, final @NonNull Function<ID, DTO> loader) {
+        return cache == null ? loader.apply(id) : cache.get(id, loader);
+    }
+
+    /**
+     * Evicts the DTO with the given ID.
+     *
+     * <p>When a transaction is active, the DTO is evicted again once it completes,
+     * so a concurrent read cannot cache the state being replaced.
+     *
+     * @param id the ID of the DTO to evict, ignored if {@code null}
+     */
+    void evict(final @Nullable ID id) {
+        final Cache<ID, DTO> target = this.cache;
+        if (target == null || id == null) return;
+        target.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    target.invalidate(id);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.davorpatech.fwk.service.data.jpa;
+
+import io.davorpatech.fwk.model.Entitier;
+import io.davorpatech.fwk.model.ValueObject;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+
+/**
+ * Declares which columns of an entity are fetched to build its DTO representation,
+ * and how they are mapped into it, so read-only searches do not need to load the
+ * full managed entity.
+ *
+ * <p>The fetched values are not tracked by the persistence context, which reduces
+ * the row width, the memory and the flush cost of the search.
+ *
+ * @param <T> component type representing the domain entity
+ * @param <DTO> component type representing the domain data transfer object
+ *
+ * @see JpaBasedDataService#getDtoProjection()
+ */
+public interface DtoProjection<T extends Entitier<?>, DTO extends ValueObject>
+{
+    /**
+     * Selects the values to be fetched, joining the needed associations.
+     *
+     * @param cb   the criteria builder, never {@code null}
+     * @param root the query root of the entity, never {@code null}
+     * @return the selected values, in the order they are read by {@link #map(Tuple)}
+     */
+    @NonNull List<Selection<?>> select(
+            final @NonNull CriteriaBuilder cb, final @NonNull Root<T> root);
+
+    /**
+     * Maps the fetched values into the DTO representation.
+     *
+     * @param tuple the fetched values, in the order they are selected
+     * @return the DTO representation of the fetched values, never {@code null}
+     */
+    @NonNull DTO map(final @NonNull Tuple tuple);
+}
@@ -1,29 +1,129 @@
 package io.davorpatech.fwk.service.data.jpa;
 
 import io.davorpatech.fwk.exception.NoSuchEntityException;
+import io.davorpatech.fwk.exception.PageOutOfRangeException;
+import io.davorpatech.fwk.exception.UnpagedResultTooLargeException;
+import io.davorpatech.fwk.model.BulkResult;
 import io.davorpatech.fwk.model.Entitier;
 import io.davorpatech.fwk.model.PagedResult;
 import io.davorpatech.fwk.model.ValueObject;
+import io.davorpatech.fwk.model.commands.CountMode;
 import io.davorpatech.fwk.model.commands.CreateInputCmd;
 import io.davorpatech.fwk.model.commands.FindInputCmd;
+import io.davorpatech.fwk.model.commands.Seekable;
 import io.davorpatech.fwk.model.commands.Sortable;
 import io.davorpatech.fwk.model.commands.UpdateInputCmd;
 import io.davorpatech.fwk.service.ServiceCommonSupport;
 import io.davorpatech.fwk.service.data.DataService;
+import io.davorpatech.fwk.validation.groups.OnCreate;
+import io.davorpatech.fwk.validation.groups.OnUpdate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.groups.Default;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
+import org.springframework.web.bind.annotation.ResponseStatus;
 
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Implementations must delegate most of their operations to the JPA repository of duty.
  *
+ * <p>Optionally, the DTOs returned by {@link #findById(Serializable)} can be kept in
+ * an in-memory cache, configured per domain through the following properties, where
+ * {@code <domainName>} is the {@link #domainName} of the service:
+ * <ul>
+ *     <li>{@code fwk.data.dto-cache.<domainName>.enabled}: whether the cache is
+ *     enabled. Defaults to {@code false}</li>
+ *     <li>{@code fwk.data.dto-cache.<domainName>.maximum-size}: the maximum number
+ *     of cached DTOs. Defaults to {@value #DTO_CACHE_DEFAULT_MAXIMUM_SIZE}</li>
+ *     <li>{@code fwk.data.dto-cache.<domainName>.maximum-weight}: the maximum weight
+ *     of the cached DTOs, as computed by {@link #weighDto(ValueObject)}. When set,
+ *     it takes precedence over the maximum size</li>
+ *     <li>{@code fwk.data.dto-cache.<domainName>.time-to-live}: how long a DTO is
+ *     kept since cached, such as {@code 10m}. Unbounded by default</li>
+ * </ul>
+ *
+ * <p>The cache is invalidated by the {@link #create create}, {@link #update update}
+ * and {@link #deleteById deleteById} operations of this service, and its hit/miss
+ * statistics are published as {@code cache.*} metrics tagged with the domain name.
+ *
+ * <p>Paged searches run a count query unless the find query asks for another
+ * {@link CountMode}: {@link CountMode#NONE NONE} skips it, reporting the totals
+ * as {@code -1}, and {@link CountMode#ESTIMATED ESTIMATED} reuses a short-lived
+ * cached count per filter, as keyed by {@link #determineCountCacheKey}, configured
+ * through the following properties:
+ * <ul>
+ *     <li>{@code fwk.data.count-cache.<domainName>.time-to-live}: how long a count
+ *     is reused since computed. Defaults to {@code 30s}</li>
+ *     <li>{@code fwk.data.count-cache.<domainName>.maximum-size}: the maximum number
+ *     of cached counts. Defaults to {@value #COUNT_CACHE_DEFAULT_MAXIMUM_SIZE}</li>
+ * </ul>
+ *
+ * <p>Unpaged searches are rejected with an {@link UnpagedResultTooLargeException}
+ * when they match more records than {@code fwk.data.unpaged.<domainName>.max-rows},
+ * falling back to {@code fwk.data.unpaged.max-rows}. Defaults to
+ * {@value #UNPAGED_DEFAULT_MAX_ROWS}, and a value less than one disables the limit.
+ * Any number of records can be consumed instead through {@link #forEach forEach},
+ * which streams them with bounded memory.
+ *
+ * <p>Offset paged searches whose offset does not fit in an {@code int} are rejected with
+ * a {@link PageOutOfRangeException}, as no database can skip that many rows.
+ *
+ * <p>Implementations can declare a {@link DtoProjection} through {@link #getDtoProjection()},
+ * so {@link #findById findById}, {@link #forEach forEach} and the {@link #findAll findAll}
+ * searches, seeking by keyset or not, only fetch the columns their DTO needs, instead of
+ * loading full managed entities.
+ *
+ * <p>When the find query is {@link Seekable} and asks for it, {@link #findAll findAll}
+ * paginates seeking by keyset: instead of skipping rows with an offset, the query
+ * continues right after the sort values of the last row of the previous page, carried
+ * by an opaque cursor, and no count query is run. The sort is always completed with
+ * the entity ID as a unique tiebreaker, and its properties must hold non-null values.
+ *
+ * <p>The bulk operations {@link #createAll createAll}, {@link #updateAll updateAll} and
+ * {@link #deleteAllById deleteAllById} process their items in chunks of
+ * {@code fwk.data.bulk.<domainName>.chunk-size} items, falling back to
+ * {@code fwk.data.bulk.chunk-size}. Defaults to {@value #BULK_DEFAULT_CHUNK_SIZE}. Each
+ * chunk runs in its own transaction, loading its entities at once and flushing them
+ * once, so the statements are batched. A failed chunk is retried item by item through
+ * the single item counterparts, so the failed items are reported one by one. The
+ * {@link #afterEntityCreated afterEntityCreated} and {@link #afterEntityUpdated afterEntityUpdated}
+ * hooks only run once the transaction writing the entity commits, so they never see the
+ * entities of a rolled back chunk.
+ *
+ * <p>Implementations can declare a {@link ConstraintViolationTranslator} through
+ * {@link #getConstraintViolationTranslator()}, so {@link #create create}, {@link #update update}
+ * and {@link #deleteById deleteById} flush their changes, and the constraint violations they
+ * raise are translated into the business exceptions they mean, regarding the entity ID.
+ *
  * @param <R> component type of the data repository
  * @param <ID> component type of the field that uniquely identifies said entity
  * @param <T> component type representing the domain entity
@@ -43,8 +143,69 @@ public abstract class JpaBasedDataService< // NOSONAR
                 UPDATE_CMD extends UpdateInputCmd<ID> // NOSONAR
             > // NOSONAR
         extends ServiceCommonSupport // NOSONAR
-        implements DataService<ID, T, DTO, FIND_CMD, CREATE_CMD, UPDATE_CMD> // NOSONAR
+        implements DataService<ID, T, DTO, FIND_CMD, CREATE_CMD, UPDATE_CMD>, InitializingBean // NOSONAR
 {
+    /**
+     * The prefix of the properties configuring the DTO cache of each domain.
+     */
+    public static final String DTO_CACHE_PROPERTY_PREFIX = "fwk.data.dto-cache.";
+
+    /**
+     * The default maximum number of DTOs kept by the DTO cache.
+     */
+    public static final long DTO_CACHE_DEFAULT_MAXIMUM_SIZE = 1000L;
+
+    /**
+     * The prefix of the properties configuring the count cache of each domain.
+     */
+    public static final String COUNT_CACHE_PROPERTY_PREFIX = "fwk.data.count-cache.";
+
+    /**
+     * The default maximum number of counts kept by the count cache.
+     */
+    public static final long COUNT_CACHE_DEFAULT_MAXIMUM_SIZE = 100L;
+
+    /**
+     * The default time a count is kept by the count cache.
+     */
+    public static final Duration COUNT_CACHE_DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    /**
+     * The prefix of the properties limiting the unpaged searches.
+     */
+    public static final String UNPAGED_PROPERTY_PREFIX = "fwk.data.unpaged.";
+
+    /**
+     * The default maximum number of records an unpaged search can return.
+     */
+    public static final long UNPAGED_DEFAULT_MAX_ROWS = 1000L;
+
+    /**
+     * The number of rows fetched per database round trip by {@link #forEach}.
+     */
+    public static final int STREAM_FETCH_SIZE = 500;
+
+    /**
+     * The default number of statements sent per JDBC batch by the bulk operations,
+     * if the JPA provider does not configure its own.
+     */
+    public static final int JDBC_DEFAULT_BATCH_SIZE = 50;
+
+    /**
+     * The prefix of the properties configuring the bulk operations.
+     */
+    public static final String BULK_PROPERTY_PREFIX = "fwk.data.bulk.";
+
+    /**
+     * The default number of items processed per transaction by the bulk operations.
+     */
+    public static final int BULK_DEFAULT_CHUNK_SIZE = 500;
+
+    /**
+     * The JPA provider (Hibernate) property configuring the JDBC batch size.
+     */
+    private static final String PROPERTY_JDBC_BATCH_SIZE = "hibernate.jdbc.batch_size";
+
     /**
      * The domain name of any business entity is a constant value that uniquely
      * identifies it in the entire application.
@@ -56,6 +217,41 @@ public abstract class JpaBasedDataService< // NOSONAR
      */
     protected final R repository;
 
+    /**
+     * The cache of DTOs returned by {@link #findById(Serializable)}, if enabled.
+     */
+    private DtoCache<ID, DTO> dtoCache;
+
+    /**
+     * The totals of the paged searches not running an exact count.
+     */
+    private CountStrategy countStrategy;
+
+    /**
+     * The runner of the criteria queries the repository cannot express.
+     */
+    private CriteriaFinder<T, DTO> criteriaFinder;
+
+    /**
+     * The writer of the items of the bulk operations, in chunks.
+     */
+    private BulkWriter bulkWriter;
+
+    /**
+     * The entity manager used to build the criteria queries and to flush the bulk operations.
+     */
+    private EntityManager entityManager;
+
+    /**
+     * The template running each chunk of the bulk operations in its own transaction.
+     */
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * The validator of the items of the bulk operations, if any.
+     */
+    private @Nullable Validator validator;
+
     /**
      * Constructs a new {@link JpaBasedDataService} with the given arguments.
      *
@@ -73,6 +269,93 @@ public abstract class JpaBasedDataService< // NOSONAR
         this.repository = repository;
     }
 
+    /**
+     * Sets the entity manager used to build the keyset and uncounted pagination queries.
+     *
+     * @param entityManager the shared entity manager
+     */
+    @PersistenceContext
+    public void setEntityManager(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Sets the transaction manager running each chunk of the bulk operations.
+     *
+     * @param transactionManager the transaction manager
+     */
+    @Autowired
+    public void setTransactionManager(final PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Returns the template running each chunk of the bulk operations in its own transaction.
+     *
+     * @return the transaction template, never {@code null}
+     * @throws IllegalStateException if the transaction manager is not set
+     */
+    protected @NonNull TransactionTemplate getTransactionTemplate() {
+        Assert.state(transactionTemplate != null, "TransactionManager must be set!");
+        return transactionTemplate;
+    }
+
+    /**
+     * Sets the validator of the items of the bulk operations, if a unique one is available.
+     *
+     * @param validator the validator provider
+     */
+    @Autowired
+    public void setValidator(final ObjectProvider<Validator> validator) {
+        this.validator = validator.getIfUnique();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.state(entityManager != null, "EntityManager must be set!");
+        this.dtoCache = DtoCache.configure(domainName, environment, this::weighDto);
+        this.countStrategy = CountStrategy.configure(domainName, environment);
+        this.criteriaFinder = new CriteriaFinder<>(entityManager, resolveDomainClass());
+        this.bulkWriter = new BulkWriter(getTransactionTemplate(), entityManager, this::determineBulkErrorStatus);
+    }
+
+    /**
+     * Computes the weight of a cached DTO, used when a maximum weight is
+     * configured for the DTO cache.
+     *
+     * @param dto the DTO to weigh
+     * @return the weight of the DTO, never negative. Defaults to one
+     */
+    protected int weighDto(final @NonNull DTO dto) {
+        return 1;
+    }
+
+    /**
+     * Evicts the DTO with the given ID from the DTO cache, if enabled.
+     *
+     * <p>When a transaction is active, the DTO is evicted again once it completes,
+     * so a concurrent read cannot cache the state being replaced.
+     *
+     * <p>Implementations adding operations that modify the business entity must
+     * call this method. Those adding or removing entities, or changing the
+     * fields they are filtered by, must also call {@link #evictCachedCounts()}.
+     *
+     * @param id the ID of the DTO to evict
+     */
+    protected void evictCachedDto(final @Nullable ID id) {
+        dtoCache.evict(id);
+    }
+
+    /**
+     * Evicts all the counts reused by the {@link CountMode#ESTIMATED} paged searches.
+     *
+     * <p>Implementations adding operations that add or remove business entities,
+     * or change the fields they are filtered by, must call this method.
+     */
+    protected void evictCachedCounts() {
+        countStrategy.evictAll();
+    }
+
     @Override
     public @NonNull PagedResult<DTO> findAll(
             final @NonNull @Valid FIND_CMD query)
@@ -83,20 +366,53 @@ public abstract class JpaBasedDataService< // NOSONAR
         final Sort sort = determineFindSort(query);
         // compute find all query example
         final Example<T> example = determineFindFilters(query);
+        final DtoProjection<T, DTO> projection = getDtoProjection();
+        if (pageSize > 0 && query instanceof Seekable seekable && seekable.isSeekPaged()) {
+            return criteriaFinder.findSeeking(example, sort, pageSize, seekable.getCursor(),
+                    projection, this::convertEntityToDto);
+        }
+        if (pageSize > 0 && (long) pageNumber * pageSize > Integer.MAX_VALUE) {
+            throw new PageOutOfRangeException(domainName, pageNumber, pageSize);
+        }
+        final CountMode countMode = query.getCountMode();
+        if (pageSize > 0 && countMode != null && countMode != CountMode.EXACT) {
+            // fetch one more row to know whether there is a next page
+            return countStrategy.page(
+                    criteriaFinder.findWindow(example, sort, pageNumber * pageSize, pageSize + 1,
+                            projection, this::convertEntityToDto),
+                    pageNumber, pageSize, countMode,
+                    determineCountCacheKey(query, example), () -> count(example));
+        }
         // do search using resolved find all arguments
         final Page<DTO> page;
         if (pageSize > 0) { // paged search
             final Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
-            page = (example == null
-                        ? repository.findAll(pageable)
-                        : repository.findAll(example, pageable))
-                    .map(this::convertEntityToDto);
+            if (projection == null) {
+                page = (example == null
+                            ? repository.findAll(pageable)
+                            : repository.findAll(example, pageable))
+                        .map(this::convertEntityToDto);
+            } else {
+                page = new PageImpl<>(
+                        criteriaFinder.findWindow(example, sort, pageNumber * pageSize, pageSize,
+                                projection, this::convertEntityToDto),
+                        pageable,
+                        count(example));
+            }
         } else { // unpaged search
-            List<T> content = example == null
-                    ? repository.findAll(sort)
-                    : repository.findAll(example, sort);
-            page = new PageImpl<>(content)
-                    .map(this::convertEntityToDto);
+            final long maxRows = determineUnpagedMaxRows();
+            final List<DTO> content;
+            if (maxRows > 0) { // fetch one more row to know whether the limit is exceeded
+                content = criteriaFinder.findWindow(example, sort, 0, (int) Math.min(maxRows + 1, Integer.MAX_VALUE),
+                        projection, this::convertEntityToDto);
+                if (content.size() > maxRows) {
+                    throw new UnpagedResultTooLargeException(domainName, maxRows);
+                }
+            } else {
+                content = criteriaFinder.findWindow(example, sort, 0, -1,
+                        projection, this::convertEntityToDto);
+            }
+            page = new PageImpl<>(content);
         }
         // map page to paged result
         return new PagedResult<>(
@@ -111,6 +427,92 @@ public abstract class JpaBasedDataService< // NOSONAR
         );
     }
 
+    private long count(final @Nullable Example<T> example) {
+        return example == null ? repository.count() : repository.count(example);
+    }
+
+    /**
+     * Determines the maximum number of records an unpaged search can return
+     * using the {@value #UNPAGED_PROPERTY_PREFIX}{@code [<domainName>.]max-rows}
+     * properties.
+     *
+     * @return the maximum number of records, or a value less than one if unlimited
+     */
+    protected long determineUnpagedMaxRows() {
+        if (environment == null) {
+            return UNPAGED_DEFAULT_MAX_ROWS;
+        }
+        return environment.getProperty(
+                UNPAGED_PROPERTY_PREFIX + domainName + ".max-rows", Long.class,
+                environment.getProperty(
+                        UNPAGED_PROPERTY_PREFIX + "max-rows", Long.class, UNPAGED_DEFAULT_MAX_ROWS));
+    }
+
+    /**
+     * Determines the number of statements sent per JDBC batch by the bulk operations
+     * bypassing the JPA provider, aligned with the batch size configured in it
+     * ({@value #PROPERTY_JDBC_BATCH_SIZE}).
+     *
+     * @return the JDBC batch size, always greater than zero
+     */
+    protected int determineJdbcBatchSize() {
+        final Object value = entityManager.getEntityManagerFactory()
+                .getProperties().get(PROPERTY_JDBC_BATCH_SIZE);
+        final int batchSize = value == null ? 0 : Integer.parseInt(value.toString().trim());
+        return batchSize > 0 ? batchSize : JDBC_DEFAULT_BATCH_SIZE;
+    }
+
+    @Override
+    public void forEach(
+            final @NonNull @Valid FIND_CMD query,
+            final @NonNull Consumer<? super DTO> action)
+    {
+        criteriaFinder.forEach(determineFindFilters(query), determineFindSort(query),
+                getDtoProjection(), this::convertEntityToDto, action);
+    }
+
+    /**
+     * Gets the projection used to fetch only the columns needed to build the DTO
+     * representation of the business entity, instead of loading it fully.
+     *
+     * <p>Implementations whose DTO needs a small part of the entity columns, or
+     * of its associations, should override this method.
+     *
+     * @return the DTO projection, or {@code null} to load full entities and convert
+     *         them with {@link #convertEntityToDto} (default behaviour)
+     */
+    protected @Nullable DtoProjection<T, DTO> getDtoProjection() {
+        return null;
+    }
+
+    /**
+     * Determines the key of the cached count reused by {@link CountMode#ESTIMATED}
+     * paged searches, which must be equal for searches with the same filters.
+     *
+     * <p>Implementations that override {@link #determineFindFilters} should override
+     * this method too, providing a key made of the query filters.
+     *
+     * @param query   the find query DTO used make the search
+     * @param example the filtering example, {@code null} if filtering is disabled
+     * @return the count cache key, or {@code null} if the count must not be cached.
+     *         Defaults to a constant key when filtering is disabled, {@code null}
+     *         otherwise
+     */
+    protected @Nullable Object determineCountCacheKey(
+            final @NonNull FIND_CMD query, final @Nullable Example<T> example)
+    {
+        return example == null ? "*" : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<T> resolveDomainClass() {
+        final Class<?>[] typeArguments = GenericTypeResolver
+                .resolveTypeArguments(getClass(), JpaBasedDataService.class);
+        Assert.state(typeArguments != null && typeArguments[2] != null,
+                () -> "Unable to resolve the entity type of " + domainName + " service");
+        return (Class<T>) typeArguments[2];
+    }
+
     /**
      * Determines the filtering example used in any search query.
      *
@@ -164,8 +566,14 @@ public abstract class JpaBasedDataService< // NOSONAR
     public @NonNull DTO findById(
             final @NonNull @Valid ID id)
     {
-        return repository.findById(id)
-                .map(this::convertEntityToDto)
+        return dtoCache.get(id, this::loadById);
+    }
+
+    private @NonNull DTO loadById(final @NonNull ID id) {
+        final DtoProjection<T, DTO> projection = getDtoProjection();
+        return (projection == null
+                    ? repository.findById(id).map(this::convertEntityToDto)
+                    : criteriaFinder.findById(id, projection))
                 .orElseThrow(NoSuchEntityException.creater(domainName, id));
     }
 
@@ -182,12 +590,71 @@ public abstract class JpaBasedDataService< // NOSONAR
     public @NonNull DTO create(
             final @NonNull @Valid CREATE_CMD input)
     {
+        checkEntityCreation(input);
         // map create DTO to entity
         T entity = convertCreateToEntity(input);
         // save/persist
         entity = repository.save(entity);
+        flushTranslatingViolations(entity.getId());
+        evictCachedDto(entity.getId());
+        evictCachedCounts();
         // map persisted entity to dto
-        return convertEntityToDto(entity);
+        final DTO dto = convertEntityToDto(entity);
+        runAfterCommit(() -> afterEntityCreated(dto));
+        return dto;
+    }
+
+    /**
+     * Checks if an entity can be created from the given input.
+     *
+     * <p>Implementations that need to check business rules before creating
+     * any entity should override this method, as it is run by both
+     * {@link #create create} and {@link #createAll createAll}.
+     *
+     * @param input the creation DTO input to check
+     */
+    protected void checkEntityCreation(final @NonNull CREATE_CMD input) {
+        // NOOP
+    }
+
+    /**
+     * Handles the creation of an entity, once the transaction creating it commits.
+     *
+     * <p>Implementations that need to react to any creation, as publishing an
+     * event, should override this method, as it is run by both {@link #create
+     * create} and {@link #createAll createAll}. It is never run for entities
+     * whose creation is rolled back, as the failed chunks of a bulk operation.
+     *
+     * @see #runAfterCommit(Runnable)
+     * @param dto the created entity, as DTO
+     */
+    protected void afterEntityCreated(final @NonNull DTO dto) {
+        // NOOP
+    }
+
+    /**
+     * Runs the given action once the current transaction commits, or right away
+     * if there is none. It is dropped if the transaction is rolled back.
+     *
+     * <p>The action runs once the transaction synchronizations are cleared, so
+     * the events it publishes reach the transactional event listeners right
+     * away, instead of waiting for a transaction already completed.
+     *
+     * @param action the action to run, never {@code null}
+     */
+    protected void runAfterCommit(final @NonNull Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
     }
 
     /**
@@ -211,8 +678,29 @@ public abstract class JpaBasedDataService< // NOSONAR
         populateEntityToUpdate(entity, input);
         // save/merge
         entity = repository.save(entity);
+        flushTranslatingViolations(id);
+        evictCachedDto(id);
+        // the changes may move the entity in or out of a filtered count
+        evictCachedCounts();
         // map merged entity to dto
-        return convertEntityToDto(entity);
+        final DTO dto = convertEntityToDto(entity);
+        runAfterCommit(() -> afterEntityUpdated(dto));
+        return dto;
+    }
+
+    /**
+     * Handles the update of an entity, once the transaction updating it commits.
+     *
+     * <p>Implementations that need to react to any update, as publishing an
+     * event, should override this method, as it is run by both {@link #update
+     * update} and {@link #updateAll updateAll}. It is never run for entities
+     * whose update is rolled back, as the failed chunks of a bulk operation.
+     *
+     * @see #runAfterCommit(Runnable)
+     * @param dto the updated entity, as DTO
+     */
+    protected void afterEntityUpdated(final @NonNull DTO dto) {
+        // NOOP
     }
 
     /**
@@ -234,6 +722,37 @@ public abstract class JpaBasedDataService< // NOSONAR
                 .orElseThrow(NoSuchEntityException.creater(domainName, id));
         checkEntityDeletion(entity);
         repository.delete(entity);
+        flushTranslatingViolations(id);
+        evictCachedDto(id);
+        evictCachedCounts();
+    }
+
+    /**
+     * Returns the translator of the constraint violations raised by the writes
+     * of the entities, regarding the entity ID.
+     *
+     * <p>When declared, {@link #create create}, {@link #update update} and
+     * {@link #deleteById deleteById} flush their changes, so the violations are
+     * raised and translated inside them. Violations not known by the translator
+     * are raised as they are. Defaults to none, so the changes are flushed when
+     * the transaction commits.
+     *
+     * @return the constraint violation translator, or {@code null} if none
+     */
+    protected @Nullable ConstraintViolationTranslator<ID> getConstraintViolationTranslator() {
+        return null;
+    }
+
+    private void flushTranslatingViolations(final ID id) {
+        final ConstraintViolationTranslator<ID> translator = getConstraintViolationTranslator();
+        if (translator == null) {
+            return;
+        }
+        try {
+            repository.flush();
+        } catch (DataIntegrityViolationException ex) {
+            throw translator.translate(id, ex);
+        }
     }
 
     /**
@@ -247,4 +766,236 @@ public abstract class JpaBasedDataService< // NOSONAR
     protected void checkEntityDeletion(final @NonNull T entity) {
         // NOOP
     }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public @NonNull BulkResult<DTO> createAll(
+            final @NonNull List<CREATE_CMD> inputs)
+    {
+        Assert.notNull(inputs, "Inputs must not be null!");
+        return processInChunks(inputs,
+                input -> validateBulkItem(input, OnCreate.class),
+                this::createChunk,
+                this::create);
+    }
+
+    /**
+     * Creates the entities of a chunk of a {@link #createAll createAll}, saving
+     * them at once, without probing nor flushing them one by one.
+     *
+     * @param inputs the creation DTO inputs of the chunk
+     * @return the created entities, as DTOs, in the order of the given inputs
+     */
+    private @NonNull List<DTO> createChunk(final @NonNull List<CREATE_CMD> inputs) {
+        final List<T> entities = new ArrayList<>(inputs.size());
+        for (CREATE_CMD input : inputs) {
+            checkEntityCreation(input);
+            entities.add(convertCreateToEntity(input));
+        }
+        final List<T> saved = repository.saveAll(entities);
+        entityManager.flush();
+        evictCachedCounts();
+        final List<DTO> dtos = new ArrayList<>(saved.size());
+        for (T entity : saved) {
+            evictCachedDto(entity.getId());
+            final DTO dto = convertEntityToDto(entity);
+            runAfterCommit(() -> afterEntityCreated(dto));
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public @NonNull BulkResult<DTO> updateAll(
+            final @NonNull List<UPDATE_CMD> inputs)
+    {
+        Assert.notNull(inputs, "Inputs must not be null!");
+        return processInChunks(inputs,
+                input -> validateBulkItem(input, OnUpdate.class),
+                this::updateChunk,
+                this::update);
+    }
+
+    /**
+     * Updates the entities of a chunk of an {@link #updateAll updateAll},
+     * loading them at once, without probing nor flushing them one by one.
+     *
+     * @param inputs the update DTO inputs of the chunk
+     * @return the updated entities, as DTOs, in the order of the given inputs
+     * @throws NoSuchEntityException if any entity is not found, so the chunk
+     *         is retried item by item
+     */
+    private @NonNull List<DTO> updateChunk(final @NonNull List<UPDATE_CMD> inputs) {
+        final Map<ID, T> entities = findAllByIdMapped(inputs.stream().map(UPDATE_CMD::getId).toList());
+        final List<T> updated = new ArrayList<>(inputs.size());
+        for (UPDATE_CMD input : inputs) {
+            final T entity = entities.get(input.getId());
+            if (entity == null) {
+                throw NoSuchEntityException.creater(domainName, input.getId()).get();
+            }
+            populateEntityToUpdate(entity, input);
+            updated.add(entity);
+        }
+        entityManager.flush();
+        evictCachedCounts();
+        final List<DTO> dtos = new ArrayList<>(updated.size());
+        for (T entity : updated) {
+            evictCachedDto(entity.getId());
+            final DTO dto = convertEntityToDto(entity);
+            runAfterCommit(() -> afterEntityUpdated(dto));
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public @NonNull BulkResult<ID> deleteAllById(
+            final @NonNull List<ID> ids)
+    {
+        Assert.notNull(ids, "IDs must not be null!");
+        return processInChunks(ids,
+                id -> Assert.notNull(id, "ID must not be null!"),
+                this::deleteChunk,
+                id -> {
+                    deleteById(id);
+                    return id;
+                });
+    }
+
+    /**
+     * Deletes the entities of a chunk of a {@link #deleteAllById deleteAllById},
+     * loading them at once, without flushing them one by one.
+     *
+     * @param ids the IDs of the entities of the chunk
+     * @return the given IDs
+     * @throws NoSuchEntityException if any entity is not found, so the chunk
+     *         is retried item by item
+     */
+    private @NonNull List<ID> deleteChunk(final @NonNull List<ID> ids) {
+        final Map<ID, T> entities = findAllByIdMapped(ids);
+        for (ID id : ids) {
+            final T entity = entities.get(id);
+            if (entity == null) {
+                throw NoSuchEntityException.creater(domainName, id).get();
+            }
+            checkEntityDeletion(entity);
+        }
+        repository.deleteAll(entities.values());
+        entityManager.flush();
+        evictCachedCounts();
+        ids.forEach(this::evictCachedDto);
+        return ids;
+    }
+
+    private @NonNull Map<ID, T> findAllByIdMapped(final @NonNull List<ID> ids) {
+        final Map<ID, T> entities = new HashMap<>(ids.size() * 2);
+        for (T entity : repository.findAllById(new LinkedHashSet<>(ids))) {
+            entities.put(entity.getId(), entity);
+        }
+        return entities;
+    }
+
+    /**
+     * Determines the number of items processed per transaction by the bulk operations
+     * using the {@value #BULK_PROPERTY_PREFIX}{@code [<domainName>.]chunk-size} properties.
+     *
+     * @return the chunk size, always greater than zero
+     */
+    protected int determineBulkChunkSize() {
+        if (environment == null) {
+            return BULK_DEFAULT_CHUNK_SIZE;
+        }
+        final int chunkSize = environment.getProperty(
+                BULK_PROPERTY_PREFIX + domainName + ".chunk-size", Integer.class,
+                environment.getProperty(
+                        BULK_PROPERTY_PREFIX + "chunk-size", Integer.class, BULK_DEFAULT_CHUNK_SIZE));
+        return chunkSize > 0 ? chunkSize : BULK_DEFAULT_CHUNK_SIZE;
+    }
+
+    /**
+     * Determines the HTTP status code reported for a failed item of a bulk operation.
+     *
+     * @param ex the error that discarded the item
+     * @return the status given by the {@link ResponseStatus} of the error, if any.
+     *         Otherwise, {@code 400} for validation errors, {@code 409} for data
+     *         integrity violations and {@code 500} for any other error
+     */
+    protected int determineBulkErrorStatus(final @NonNull RuntimeException ex) {
+        return BulkWriter.defaultErrorStatus(ex);
+    }
+
+    /**
+     * Validates an item of a bulk operation, as the method validation of its single
+     * item counterpart would do, if a validator is available.
+     *
+     * @param input the item to validate
+     * @param group the validation group to apply, besides the {@link Default} one
+     * @throws IllegalArgumentException if the item is {@code null}
+     * @throws ConstraintViolationException if the item is not valid
+     */
+    protected void validateBulkItem(final Object input, final @NonNull Class<?> group) {
+        Assert.notNull(input, "Input must not be null!");
+        if (validator != null) {
+            final Set<ConstraintViolation<Object>> violations =
+                    validator.validate(input, Default.class, group);
+            if (!violations.isEmpty()) {
+                throw new ConstraintViolationException(violations);
+            }
+        }
+    }
+
+    /**
+     * Applies the given operation to each item, in chunks.
+     *
+     * <p>It is the same as {@link #processInChunks(List, Consumer, Function, Function)
+     * processInChunks}, applying the given operation to each item of a chunk.
+     *
+     * @param items     the items to process, never {@code null}
+     * @param check     the check of each item before processing it, never {@code null}
+     * @param operation the operation to apply to each item, never {@code null}
+     * @return the outcome of each item, in the order of the given items, never {@code null}
+     */
+    protected <I, R extends Serializable> @NonNull BulkResult<R> processInChunks(
+            final @NonNull List<I> items,
+            final @NonNull Consumer<I> check,
+            final @NonNull Function<I, R> operation)
+    {
+        return processInChunks(items, check,
+                chunk -> chunk.stream().map(operation).toList(),
+                operation);
+    }
+
+    /**
+     * Applies the given chunk operation to the items, in chunks.
+     *
+     * <p>Items are checked first, outside any transaction, and those failing are
+     * reported without being processed. The rest are processed in chunks, each in
+     * its own transaction, flushing and clearing the persistence context at its end,
+     * so memory stays bounded and the statements are batched. When a chunk fails,
+     * as when any of its items violates a constraint at the flush, the chunk is
+     * rolled back and retried item by item through the given item operation, each
+     * in its own transaction, to tell the failed items apart from the succeeded
+     * ones, and to report why they failed.
+     *
+     * <p>Implementations adding bulk operations should use it, evicting the cached
+     * DTOs and counts as their single item counterpart would do.
+     *
+     * @param items          the items to process, never {@code null}
+     * @param check          the check of each item before processing it, never {@code null}
+     * @param chunkOperation the operation to apply to the items of a chunk, returning the
+     *                       result of each one in the same order, never {@code null}
+     * @param itemOperation  the operation to apply to a single item of a failed chunk,
+     *                       never {@code null}
+     * @return the outcome of each item, in the order of the given items, never {@code null}
+     */
+    protected <I, R extends Serializable> @NonNull BulkResult<R> processInChunks(
+            final @NonNull List<I> items,
+            final @NonNull Consumer<I> check,
+            final @NonNull Function<List<I>, List<R>> chunkOperation,
+            final @NonNull Function<I, R> itemOperation)
+    {
+        return bulkWriter.write(items, determineBulkChunkSize(), check, chunkOperation, itemOperation);
+    }
 }
@@ -0,0 +1,137 @@
+package io.davorpatech.fwk.service.data.jpa;
+
+import io.davorpatech.fwk.exception.InvalidCursorException;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.NonNull;
+
+import java.io.*;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Encodes and decodes the opaque cursors used by the keyset pagination mode
+ * of {@link JpaBasedDataService}.
+ *
+ * <p>A cursor holds the signature of the sort it was computed for, followed
+ * by the values of every sort property of the last row of a page, all of them
+ * written in their string form and encoded as URL-safe Base64.
+ */
+final class KeysetCursorCodec
+{
+    private static final int VERSION = 1;
+
+    private KeysetCursorCodec() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Encodes the given sort values of a row into an opaque cursor.
+     *
+     * @param sort   the sort wherein the values are ordered, never {@code null}
+     * @param values the values of each sort property, in the sort order
+     * @return the opaque cursor, never {@code null}
+     * @throws IllegalStateException if any of the values is {@code null}
+     */
+    static @NonNull String encode(final @NonNull Sort sort, final @NonNull List<Object> values) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(signatureOf(sort));
+            out.writeShort(values.size());
+            for (Object value : values) {
+                if (value == null) {
+                    throw new IllegalStateException(
+                            "Keyset pagination requires non-null sort values! Sort: " + sort);
+                }
+                out.writeUTF(value.toString());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Decodes the given opaque cursor into the typed values of each sort property.
+     *
+     * @param cursor the opaque cursor to decode, never {@code null}
+     * @param sort   the sort wherein the values are expected, never {@code null}
+     * @param root   the query root used to resolve the type of each sort property
+     * @return the values of each sort property, in the sort order
+     * @throws InvalidCursorException if the cursor is malformed or it was not
+     *         computed for the given sort
+     */
+    static @NonNull List<Object> decode(
+            final @NonNull String cursor, final @NonNull Sort sort, final @NonNull Root<?> root)
+    {
+        final List<String> raw = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            if (in.readByte() != VERSION) {
+                throw new InvalidCursorException(cursor, "unsupported version");
+            }
+            if (!signatureOf(sort).equals(in.readUTF())) {
+                throw new InvalidCursorException(cursor, "it does not match the requested sort");
+            }
+            final int size = in.readShort();
+            for (int i = 0; i < size; i++) {
+                raw.add(in.readUTF());
+            }
+        } catch (IllegalArgumentException | IOException ex) {
+            throw new InvalidCursorException(cursor, "malformed", ex);
+        }
+        final List<Sort.Order> orders = sort.toList();
+        if (raw.size() != orders.size()) {
+            throw new InvalidCursorException(cursor, "it does not match the requested sort");
+        }
+        final List<Object> values = new ArrayList<>(raw.size());
+        for (int i = 0; i < raw.size(); i++) {
+            final Class<?> type = pathOf(root, orders.get(i).getProperty()).getJavaType();
+            try {
+                values.add(convert(raw.get(i), type));
+            } catch (ConversionException | IllegalArgumentException | ReflectiveOperationException ex) {
+                throw new InvalidCursorException(cursor, "malformed", ex);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Resolves the criteria path of a (possibly nested) sort property.
+     *
+     * @param root     the query root, never {@code null}
+     * @param property the dot-separated sort property, never {@code null}
+     * @return the criteria path of the property
+     */
+    static @NonNull Path<?> pathOf(final @NonNull Root<?> root, final @NonNull String property) {
+        Path<?> path = root;
+        for (String segment : property.split("\\.")) {
+            path = path.get(segment);
+        }
+        return path;
+    }
+
+    private static String signatureOf(final Sort sort) {
+        return sort.toString();
+    }
+
+    private static Object convert(final String value, final Class<?> type)
+            throws ReflectiveOperationException
+    {
+        if (type.getPackageName().equals("java.time")) {
+            try {
+                return type.getMethod("parse", CharSequence.class).invoke(null, value);
+            } catch (InvocationTargetException ex) {
+                throw new IllegalArgumentException(ex.getCause());
+            }
+        }
+        return DefaultConversionService.getSharedInstance().convert(value, type);
+    }
+}
@@ -0,0 +1,219 @@
+package io.davorpatech.fwk.service.data.jpa;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Guard of the writes that must keep a unique key, as a color code or an
+ * email, unique.
+ *
+ * <p>Instead of writing and translating the unique constraint violation of
+ * every duplicate, which costs a failed statement, a rollback and a stack
+ * trace, the key is first looked for by an indexed existence probe, and the
+ * conflict is reported right away if it is already taken.
+ *
+ * <p>Concurrent writes of the same key are collapsed (single-flight): only
+ * one of them goes on at a time, and the others wait until its transaction
+ * completes to probe the key, so they see it already taken instead of
+ * racing for the unique constraint. Writes of a thread already holding a
+ * key, as the bulk ones, do not wait, and no write waits longer than
+ * {@value #WAIT_TIMEOUT_MILLIS} milliseconds, so they never deadlock.
+ *
+ * <p>Violations still raised, as by writers on other nodes, are translated
+ * by a {@link ConstraintViolationTranslator}, instead of scanning the
+ * exception message.
+ *
+ * @param <K> type of the guarded unique key
+ *
+ * @see ConstraintViolationTranslator
+ */
+public final class UniquenessGuard<K extends Serializable> // NOSONAR
+{
+    /**
+     * The maximum time a write waits for a concurrent write of the same key.
+     */
+    public static final long WAIT_TIMEOUT_MILLIS = 5000L;
+
+    private static final ThreadLocal<int[]> HELD_FLIGHTS = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final BiFunction<K, Throwable, ? extends RuntimeException> conflict;
+
+    private final ConstraintViolationTranslator<K> translator;
+
+    private final long waitTimeoutNanos;
+
+    private final ConcurrentMap<K, Flight> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@link UniquenessGuard} of the key kept unique by the
+     * given constraint.
+     *
+     * @param constraintName the name of the unique constraint, never {@code null}
+     * @param conflict       the factory of the exception reporting a taken key,
+     *                       given the key and the cause, if any, never {@code null}
+     */
+    public UniquenessGuard(
+            final @NonNull String constraintName,
+            final @NonNull BiFunction<K, Throwable, ? extends RuntimeException> conflict)
+    {
+        this(conflict, ConstraintViolationTranslator.<K>builder().on(constraintName, conflict).build());
+    }
+
+    /**
+     * Constructs a new {@link UniquenessGuard} translating the violations of
+     * the key, and of any other constraint written along it, by the given
+     * translator.
+     *
+     * @param conflict   the factory of the exception reporting a taken key,
+     *                   given the key and the cause, if any, never {@code null}
+     * @param translator the translator of the violations, never {@code null}
+     */
+    public UniquenessGuard(
+            final @NonNull BiFunction<K, Throwable, ? extends RuntimeException> conflict,
+            final @NonNull ConstraintViolationTranslator<K> translator)
+    {
+        this(conflict, translator, Duration.ofMillis(WAIT_TIMEOUT_MILLIS));
+    }
+
+    private UniquenessGuard(
+            final BiFunction<K, Throwable, ? extends RuntimeException> conflict,
+            final ConstraintViolationTranslator<K> translator,
+            final Duration waitTimeout)
+    {
+        Assert.notNull(conflict, "Conflict factory must not be null!");
+        Assert.notNull(translator, "Translator must not be null!");
+        Assert.isTrue(!waitTimeout.isNegative(), "Wait timeout must not be negative!");
+        this.conflict = conflict;
+        this.translator = translator;
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+    }
+
+    /**
+     * Returns a copy of this guard waiting at most the given time for the
+     * concurrent writes of the same key.
+     *
+     * @param waitTimeout the maximum wait time, never {@code null} nor negative
+     * @return the new guard, never {@code null}
+     */
+    public @NonNull UniquenessGuard<K> waitingAtMost(final @NonNull Duration waitTimeout) {
+        Assert.notNull(waitTimeout, "Wait timeout must not be null!");
+        return new UniquenessGuard<>(conflict, translator, waitTimeout);
+    }
+
+    /**
+     * Executes the given write of the given key, unless the key is already
+     * taken.
+     *
+     * <p>The write must flush its changes, so the violations it raises are
+     * translated here, as the {@link JpaBasedDataService} writes do when they
+     * declare a {@link JpaBasedDataService#getConstraintViolationTranslator
+     * constraint violation translator}.
+     *
+     * @param key    the unique key to write, never {@code null}
+     * @param taken  the probe of whether the key is already taken by another
+     *               record, never {@code null}
+     * @param write  the write to execute, never {@code null}
+     * @param <R>    type of the write result
+     * @return the result of the write
+     * @throws RuntimeException the exception of the conflict factory, if the
+     *         key is already taken
+     */
+    public <R> R execute(
+            final @NonNull K key,
+            final @NonNull BooleanSupplier taken,
+            final @NonNull Supplier<R> write)
+    {
+        Assert.notNull(key, "Key must not be null!");
+        Assert.notNull(taken, "Probe must not be null!");
+        Assert.notNull(write, "Write must not be null!");
+        final Flight flight = board(key);
+        try {
+            if (taken.getAsBoolean()) {
+                throw conflict.apply(key, null);
+            }
+            try {
+                return write.get();
+            } catch (DataIntegrityViolationException ex) {
+                throw translator.translate(key, ex);
+            }
+        } finally {
+            if (flight != null) {
+                landOnCompletion(key, flight);
+            }
+        }
+    }
+
+    /**
+     * Takes the flight of the given key, waiting for the concurrent one, if
+     * any, to land.
+     *
+     * @param key the unique key to write
+     * @return the flight taken, or {@code null} if it goes on without it
+     */
+    private @Nullable Flight board(final K key) {
+        final int[] held = HELD_FLIGHTS.get();
+        final long deadline = System.nanoTime() + waitTimeoutNanos;
+        while (true) {
+            final Flight flight = new Flight();
+            final Flight current = flights.putIfAbsent(key, flight);
+            if (current == null) {
+                held[0]++;
+                return flight;
+            }
+            final long remaining = deadline - System.nanoTime();
+            if (held[0] > 0 || remaining <= 0L || !current.await(remaining)) {
+                // holding other keys or tired of waiting: the constraint is the last resort
+                return null;
+            }
+        }
+    }
+
+    private void landOnCompletion(final K key, final Flight flight) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    land(key, flight);
+                }
+            });
+        } else {
+            land(key, flight);
+        }
+    }
+
+    private void land(final K key, final Flight flight) {
+        flights.remove(key, flight);
+        HELD_FLIGHTS.get()[0]--;
+        flight.landed.countDown();
+    }
+
+    /**
+     * The write of a key in progress, released once its transaction completes.
+     */
+    private static final class Flight {
+        private final CountDownLatch landed = new CountDownLatch(1);
+
+        private boolean await(final long timeoutNanos) {
+            try {
+                return landed.await(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.davorpatech.fwk.service.data.jpa;
+
+import io.davorpatech.fwk.exception.EntityAlreadyExistsException;
+import io.davorpatech.fwk.exception.EntityUsedByForeignsException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+class ConstraintViolationTranslatorTests {
+
+    private static DataIntegrityViolationException violationOf(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+            new ConstraintViolationException("constraint violated", new SQLException("violated"), constraintName));
+    }
+
+    @Test
+    void normalizesCaseAndSchema() {
+        Assertions.assertEquals("UK_COLOR_CODE",
+            ConstraintViolationTranslator.normalizeConstraintName("uk_color_code"));
+        Assertions.assertEquals("UK_COLOR_CODE",
+            ConstraintViolationTranslator.normalizeConstraintName("PUBLIC.UK_COLOR_CODE"));
+        Assertions.assertEquals("UK_COLOR_CODE",
+            ConstraintViolationTranslator.normalizeConstraintName("`musicpoll`.`uk_color_code`"));
+    }
+
+    @Test
+    void normalizesTheIndexClauseReportedByH2() {
+        Assertions.assertEquals("UK_COLOR_CODE", ConstraintViolationTranslator.normalizeConstraintName(
+            "PUBLIC.UK_COLOR_CODE_INDEX_3 ON PUBLIC.COLOR(CODE NULLS FIRST) VALUES ( /* 2 */ 'salmon' )"));
+    }
+
+    @Test
+    void keepsIndexSuffixesNotEndingInDigits() {
+        Assertions.assertEquals("UK_SEARCH_INDEX_NAME",
+            ConstraintViolationTranslator.normalizeConstraintName("uk_search_index_name"));
+        Assertions.assertEquals("UK_NAME_INDEX_",
+            ConstraintViolationTranslator.normalizeConstraintName("UK_NAME_INDEX_"));
+    }
+
+    @Test
+    void resolvesConstraintNameFromWrappedHibernateViolation() {
+        Assertions.assertEquals("UK_COLOR_CODE", ConstraintViolationTranslator.resolveConstraintName(
+            violationOf("PUBLIC.UK_COLOR_CODE_INDEX_3 ON PUBLIC.COLOR(CODE)")));
+        Assertions.assertNull(ConstraintViolationTranslator.resolveConstraintName(
+            new DataIntegrityViolationException("no cause")));
+        Assertions.assertNull(ConstraintViolationTranslator.resolveConstraintName(violationOf(null)));
+    }
+
+    @Test
+    void mapsUniqueConstraintToAlreadyExists() {
+        ConstraintViolationTranslator<String> translator = ConstraintViolationTranslator.<String>builder()
+            .alreadyExists("uk_color_code", "Color")
+            .build();
+        DataIntegrityViolationException violation = violationOf("PUBLIC.UK_COLOR_CODE_INDEX_3 ON PUBLIC.COLOR(CODE)");
+
+        RuntimeException translated = translator.translate("salmon", violation);
+
+        EntityAlreadyExistsException ex = Assertions.assertInstanceOf(EntityAlreadyExistsException.class, translated);
+        Assertions.assertEquals("Color", ex.getDomain());
+        Assertions.assertEquals("salmon", ex.getId());
+        Assertions.assertSame(violation, ex.getCause());
+    }
+
+    @Test
+    void mapsForeignKeyToUsedByForeignsWhileReferenced() {
+        ConstraintViolationTranslator<Long> translator = ConstraintViolationTranslator.<Long>builder()
+            .usedByForeigns("FK_RAFFLE_TICKET_COLOR_ID", "Color", "RaffleTicket", id -> id == 1L ? 3L : 0L)
+            .build();
+        DataIntegrityViolationException violation = violationOf("fk_raffle_ticket_color_id");
+
+        EntityUsedByForeignsException ex = Assertions.assertInstanceOf(
+            EntityUsedByForeignsException.class, translator.translate(1L, violation));
+        Assertions.assertEquals("Color", ex.getDomain());
+        Assertions.assertEquals(1L, ex.getId());
+        Assertions.assertEquals("RaffleTicket", ex.getForeignType());
+        Assertions.assertEquals(3L, ex.getForeignCount());
+        // no longer referenced, so the factory declines it
+        Assertions.assertSame(violation, translator.translate(2L, violation));
+    }
+
+    @Test
+    void returnsUnknownViolationsAsIs() {
+        ConstraintViolationTranslator<String> translator = ConstraintViolationTranslator.<String>builder()
+            .alreadyExists("UK_COLOR_CODE", "Color")
+            .build();
+        DataIntegrityViolationException unknown = violationOf("UK_COLOR_HEX");
+        DataIntegrityViolationException unnamed = new DataIntegrityViolationException("no cause");
+
+        Assertions.assertSame(unknown, translator.translate("salmon", unknown));
+        Assertions.assertSame(unnamed, translator.translate("salmon", unnamed));
+    }
+}
@@ -0,0 +1,96 @@
+package io.davorpatech.fwk.service.data.jpa;
+
+import io.davorpatech.fwk.model.PagedResult;
+import io.davorpatech.fwk.model.commands.CountMode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+
+class CountStrategyTests {
+
+    private final CountStrategy countStrategy = CountStrategy.configure("test.Color", new MockEnvironment());
+
+    private final AtomicInteger counts = new AtomicInteger();
+
+    private long totalRows = 25L;
+
+    private final LongSupplier counter = () -> {
+        counts.incrementAndGet();
+        return totalRows;
+    };
+
+    /** the rows fetched for the given page, one more than its size when there is a next one */
+    private List<String> fetched(int pageNumber, int pageSize) {
+        long from = (long) pageNumber * pageSize;
+        long to = Math.min(totalRows, from + pageSize + 1);
+        return IntStream.range((int) Math.min(from, to), (int) to).mapToObj(i -> "row" + i).toList();
+    }
+
+    @Test
+    void reportsNoTotalsWithoutCounting() {
+        PagedResult<String> page = countStrategy.page(fetched(1, 10), 1, 10, CountMode.NONE, "*", counter);
+
+        Assertions.assertEquals(10, page.getData().size());
+        Assertions.assertEquals(-1L, page.getTotalElements());
+        Assertions.assertEquals(-1, page.getTotalPages());
+        Assertions.assertTrue(page.hasNext());
+        Assertions.assertEquals(0, counts.get());
+    }
+
+    @Test
+    void estimatesTotalsFromTheCachedCount() {
+        PagedResult<String> first = countStrategy.page(fetched(0, 10), 0, 10, CountMode.ESTIMATED, "*", counter);
+        totalRows = 26L;
+        PagedResult<String> second = countStrategy.page(fetched(1, 10), 1, 10, CountMode.ESTIMATED, "*", counter);
+
+        Assertions.assertEquals(25L, first.getTotalElements());
+        Assertions.assertEquals(3, first.getTotalPages());
+        Assertions.assertEquals(25L, second.getTotalElements(), "Count must be reused");
+        Assertions.assertEquals(1, counts.get());
+    }
+
+    @Test
+    void makesTotalsExactOnTheLastPage() {
+        PagedResult<String> last = countStrategy.page(fetched(2, 10), 2, 10, CountMode.ESTIMATED, "*", counter);
+
+        Assertions.assertEquals(5, last.getData().size());
+        Assertions.assertEquals(25L, last.getTotalElements());
+        Assertions.assertFalse(last.hasNext());
+        Assertions.assertEquals(0, counts.get(), "Last page needs no count");
+    }
+
+    @Test
+    void boundsStaleEstimatesByTheRowsSeen() {
+        totalRows = 40L;
+
+        // counted when there were 5 rows
+        PagedResult<String> page = countStrategy.page(fetched(1, 10), 1, 10, CountMode.ESTIMATED, "*", () -> 5L);
+
+        Assertions.assertEquals(21L, page.getTotalElements(), "At least one row beyond this page");
+    }
+
+    @Test
+    void countsAgainOnceEvicted() {
+        countStrategy.page(fetched(0, 10), 0, 10, CountMode.ESTIMATED, "*", counter);
+        totalRows = 35L;
+
+        countStrategy.evictAll();
+        PagedResult<String> page = countStrategy.page(fetched(0, 10), 0, 10, CountMode.ESTIMATED, "*", counter);
+
+        Assertions.assertEquals(35L, page.getTotalElements());
+        Assertions.assertEquals(2, counts.get());
+    }
+
+    @Test
+    void doesNotCacheCountsWithoutKey() {
+        countStrategy.page(fetched(0, 10), 0, 10, CountMode.ESTIMATED, null, counter);
+        countStrategy.page(fetched(0, 10), 0, 10, CountMode.ESTIMATED, null, counter);
+
+        Assertions.assertEquals(2, counts.get());
+    }
+}
@@ -0,0 +1,79 @@
+package io.davorpatech.fwk.service.data.jpa;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+class DtoCacheTests {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<Long, String> loader = id -> "dto" + id + "#" + loads.incrementAndGet();
+
+    private final DtoCache<Long, String> dtoCache = new DtoCache<>(Caffeine.newBuilder().<Long, String>build());
+
+    @Test
+    void loadsOnceThenHits() {
+        Assertions.assertEquals("dto1#1", dtoCache.get(1L, loader));
+        Assertions.assertEquals("dto1#1", dtoCache.get(1L, loader));
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    void reloadsOnceEvicted() {
+        dtoCache.get(1L, loader);
+        dtoCache.get(2L, loader);
+
+        dtoCache.evict(1L);
+
+        Assertions.assertEquals("dto1#3", dtoCache.get(1L, loader));
+        Assertions.assertEquals("dto2#2", dtoCache.get(2L, loader), "Other DTOs must be kept");
+    }
+
+    @Test
+    void evictsAgainOnceTheTransactionCompletes() {
+        dtoCache.get(1L, loader);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            dtoCache.evict(1L);
+            // a concurrent read caches the state being replaced before the commit
+            Assertions.assertEquals("dto1#2", dtoCache.get(1L, loader));
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertEquals("dto1#3", dtoCache.get(1L, loader));
+    }
+
+    @Test
+    void alwaysLoadsWhenDisabled() {
+        DtoCache<Long, String> disabled = DtoCache.configure("test.Color", new MockEnvironment(), dto -> 1);
+
+        disabled.get(1L, loader);
+        disabled.get(1L, loader);
+        disabled.evict(1L);
+
+        Assertions.assertFalse(disabled.isEnabled());
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    void cachesOnceEnabledForTheDomain() {
+        DtoCache<Long, String> enabled = DtoCache.configure("test.Color", new MockEnvironment()
+            .withProperty("fwk.data.dto-cache.test.Color.enabled", "true"), dto -> 1);
+
+        enabled.get(1L, loader);
+        enabled.get(1L, loader);
+
+        Assertions.assertTrue(enabled.isEnabled());
+        Assertions.assertEquals(1, loads.get());
+    }
+}
@@ -0,0 +1,81 @@
+package io.davorpatech.fwk.service.data.jpa;
+
+import io.davorpatech.fwk.exception.InvalidCursorException;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+class KeysetCursorCodecTests {
+
+    private static final Sort SORT = Sort.by(Sort.Order.desc("startDate"), Sort.Order.asc("id"));
+
+    private final Root<?> root = mockRoot();
+
+    @Test
+    void decodesTheTypedValuesEncoded() {
+        LocalDateTime startDate = LocalDateTime.of(2023, 9, 10, 12, 0, 30);
+        String cursor = KeysetCursorCodec.encode(SORT, List.of(startDate, 42L));
+
+        Assertions.assertEquals(List.of(startDate, 42L), KeysetCursorCodec.decode(cursor, SORT, root));
+    }
+
+    @Test
+    void encodesAsUrlSafeBase64WithoutPadding() {
+        String cursor = KeysetCursorCodec.encode(SORT, List.of(LocalDateTime.of(2023, 1, 1, 0, 0), 7L));
+
+        Assertions.assertTrue(cursor.matches("[A-Za-z0-9_-]+"), cursor);
+    }
+
+    @Test
+    void rejectsNullSortValues() {
+        List<Object> values = new ArrayList<>();
+        values.add(null);
+        values.add(1L);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> KeysetCursorCodec.encode(SORT, values));
+    }
+
+    @Test
+    void rejectsCursorOfAnotherSort() {
+        String cursor = KeysetCursorCodec.encode(Sort.by("id"), List.of(42L));
+
+        InvalidCursorException ex = Assertions.assertThrows(InvalidCursorException.class,
+            () -> KeysetCursorCodec.decode(cursor, SORT, root));
+        Assertions.assertEquals(cursor, ex.getCursor());
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        String truncated = KeysetCursorCodec.encode(SORT, List.of(LocalDateTime.now(), 1L)).substring(0, 6);
+        String badVersion = Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[] { 9, 0, 0 });
+        String badValue = KeysetCursorCodec.encode(SORT, List.of("yesterday", 1L));
+
+        Assertions.assertThrows(InvalidCursorException.class,
+            () -> KeysetCursorCodec.decode("not base64!", SORT, root));
+        Assertions.assertThrows(InvalidCursorException.class,
+            () -> KeysetCursorCodec.decode(truncated, SORT, root));
+        Assertions.assertThrows(InvalidCursorException.class,
+            () -> KeysetCursorCodec.decode(badVersion, SORT, root));
+        Assertions.assertThrows(InvalidCursorException.class,
+            () -> KeysetCursorCodec.decode(badValue, SORT, root));
+    }
+
+    private static Root<?> mockRoot() {
+        Root<?> root = Mockito.mock(Root.class);
+        Path<?> startDate = Mockito.mock(Path.class);
+        Path<?> id = Mockito.mock(Path.class);
+        Mockito.doReturn(LocalDateTime.class).when(startDate).getJavaType();
+        Mockito.doReturn(Long.class).when(id).getJavaType();
+        Mockito.doReturn(startDate).when(root).get("startDate");
+        Mockito.doReturn(id).when(root).get("id");
+        return root;
+    }
+}
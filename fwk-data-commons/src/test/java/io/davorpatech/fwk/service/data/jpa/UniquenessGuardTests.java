@@ -0,0 +1,181 @@
+package io.davorpatech.fwk.service.data.jpa;
+
+import io.davorpatech.fwk.exception.EntityAlreadyExistsException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class UniquenessGuardTests {
+
+    private static final String CONSTRAINT_NAME = "UK_COLOR_CODE";
+
+    private final UniquenessGuard<String> guard = new UniquenessGuard<>(CONSTRAINT_NAME,
+        (code, cause) -> new EntityAlreadyExistsException("Color", code, cause));
+
+    /** the keys written so far, as the unique index would hold them */
+    private final Set<String> takenKeys = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    private String write(String key, CountDownLatch release) {
+        await(release);
+        takenKeys.add(key);
+        return key;
+    }
+
+    private CompletableFuture<String> writeAsync(UniquenessGuard<String> guard, String key, CountDownLatch release) {
+        return CompletableFuture.supplyAsync(
+            () -> guard.execute(key, () -> takenKeys.contains(key), () -> write(key, release)), executor);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "Latch never released");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Test
+    void writesKeyNotTakenYet() {
+        String written = guard.execute("salmon", () -> takenKeys.contains("salmon"),
+            () -> write("salmon", new CountDownLatch(0)));
+
+        Assertions.assertEquals("salmon", written);
+        Assertions.assertTrue(takenKeys.contains("salmon"));
+    }
+
+    @Test
+    void reportsTakenKeyByProbeWithoutWriting() {
+        takenKeys.add("salmon");
+        AtomicInteger writes = new AtomicInteger();
+
+        EntityAlreadyExistsException ex = Assertions.assertThrows(EntityAlreadyExistsException.class,
+            () -> guard.execute("salmon", () -> takenKeys.contains("salmon"), writes::incrementAndGet));
+
+        Assertions.assertEquals("salmon", ex.getId());
+        Assertions.assertNull(ex.getCause(), "Probed conflicts have no violation to wrap");
+        Assertions.assertEquals(0, writes.get());
+    }
+
+    @Test
+    void translatesViolationRaisedByTheWrite() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("duplicate",
+            new ConstraintViolationException("duplicate", new SQLException("duplicate"),
+                "PUBLIC.UK_COLOR_CODE_INDEX_3 ON PUBLIC.COLOR(CODE)"));
+
+        EntityAlreadyExistsException ex = Assertions.assertThrows(EntityAlreadyExistsException.class,
+            () -> guard.execute("salmon", () -> false, () -> { throw violation; }));
+
+        Assertions.assertSame(violation, ex.getCause());
+    }
+
+    @Test
+    void collapsesConcurrentWritesOfSameKey() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = writeAsync(guard, "salmon", release);
+        // let the first write take the flight of the key
+        Thread.sleep(100L);
+        CompletableFuture<String> second = writeAsync(guard, "salmon", new CountDownLatch(0));
+
+        Thread.sleep(200L);
+        Assertions.assertFalse(second.isDone(), "Second write must wait for the first one to land");
+        release.countDown();
+
+        Assertions.assertEquals("salmon", first.get(5, TimeUnit.SECONDS));
+        CompletableFuture<String> outcome = second.exceptionally(ex -> ex.getCause().getClass().getSimpleName());
+        Assertions.assertEquals("EntityAlreadyExistsException", outcome.get(5, TimeUnit.SECONDS),
+            "Second write must probe the key once the first one landed");
+    }
+
+    @Test
+    void doesNotCollapseWritesOfDifferentKeys() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = writeAsync(guard, "salmon", release);
+        Thread.sleep(100L);
+
+        Assertions.assertEquals("coral",
+            writeAsync(guard, "coral", new CountDownLatch(0)).get(5, TimeUnit.SECONDS));
+        release.countDown();
+        Assertions.assertEquals("salmon", first.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void stopsWaitingAfterTimeout() throws Exception {
+        UniquenessGuard<String> impatient = guard.waitingAtMost(Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = writeAsync(impatient, "salmon", release);
+        Thread.sleep(100L);
+
+        // the unique constraint is the last resort once tired of waiting
+        Assertions.assertEquals("salmon",
+            writeAsync(impatient, "salmon", new CountDownLatch(0)).get(5, TimeUnit.SECONDS));
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void landsOnceTheTransactionCompletes() throws Exception {
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch complete = new CountDownLatch(1);
+        CompletableFuture<Void> transaction = CompletableFuture.runAsync(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                guard.execute("salmon", () -> false, () -> write("salmon", new CountDownLatch(0)));
+                written.countDown();
+                await(complete);
+                TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }, executor);
+        await(written);
+
+        CompletableFuture<String> second = writeAsync(guard, "salmon", new CountDownLatch(0));
+        Thread.sleep(200L);
+        Assertions.assertFalse(second.isDone(), "Flight must be held until the transaction completes");
+        complete.countDown();
+
+        transaction.get(5, TimeUnit.SECONDS);
+        CompletableFuture<String> outcome = second.exceptionally(ex -> ex.getCause().getClass().getSimpleName());
+        Assertions.assertEquals("EntityAlreadyExistsException", outcome.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void doesNotWaitWhileHoldingAnotherKey() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> coral = writeAsync(guard, "coral", release);
+        Thread.sleep(100L);
+
+        // a bulk write holding salmon goes on with coral, instead of risking a deadlock
+        CompletableFuture<String> bulk = CompletableFuture.supplyAsync(() ->
+            guard.execute("salmon", () -> false, () ->
+                guard.execute("coral", () -> false, () -> "salmon+coral")), executor);
+
+        Assertions.assertEquals("salmon+coral", bulk.get(5, TimeUnit.SECONDS));
+        release.countDown();
+        coral.get(5, TimeUnit.SECONDS);
+    }
+}
@@ -6,6 +6,7 @@ import io.davorpatech.fwk.web.servlet.error.attributes.config.EnableExtensibleEr
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * The Musical Surveyor application class.
@@ -20,7 +21,11 @@ import org.springframework.context.annotation.Import;
  * <p>Finally, it enables the {@link EnableValidatedGroups} and
  * {@link EnableExtensibleErrorAttributes} annotations to enable
  * validation groups and extensible error attributes on the application.
+ *
+ * <p>Scheduling is enabled by {@link EnableScheduling} to run the
+ * background maintenance jobs.
  */
+@EnableScheduling
 @EnableValidatedGroups
 @EnableExtensibleErrorAttributes
 @Import({
@@ -0,0 +1,134 @@
+package io.davorpatech.apps.musicalsurveyor.domain;
+
+import io.davorpatech.fwk.model.BaseValueObject;
+import io.davorpatech.fwk.model.commands.BaseFindInputCmd;
+import org.springframework.lang.Nullable;
+
+import java.io.Serial;
+import java.util.Objects;
+
+/**
+ * Input object for finding {@link SongWithPopularityInfo} instances ranked
+ * by popularity.
+ *
+ * <p>The ranking order is fixed (most liked first), so this input is not
+ * sortable. Optionally, it can be used to narrow the ranking by survey,
+ * artist, genre and release year range.
+ *
+ * <p>As a domain DTO, it follows the {@link BaseValueObject} contract,
+ * which means that it identifiable field is fuzzy, and it can be compared
+ * for equality to other domain DTOs using all of its fields.
+ */
+public class FindSongsPopularityInput extends BaseFindInputCmd // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = 4413250793604981726L;
+
+    private final Long surveyId;
+
+    private final Long artistId;
+
+    private final String genre;
+
+    private final Integer releaseYearFrom;
+
+    private final Integer releaseYearTo;
+
+    /**
+     * Constructs a new {@link FindSongsPopularityInput} with the given arguments.
+     *
+     * @param pageNumber      the number of the current page (zero-index based)
+     * @param pageSize        the page size; thus is, the number of items to be returned
+     * @param surveyId        the survey ID used as filter (optional). When set,
+     *                        likes are only counted for the responses of that survey
+     * @param artistId        the artist ID used as filter (optional)
+     * @param genre           the musical genre used as filter (optional)
+     * @param releaseYearFrom the minimum release year, inclusive, used as filter (optional)
+     * @param releaseYearTo   the maximum release year, inclusive, used as filter (optional)
+     */
+    public FindSongsPopularityInput(int pageNumber, int pageSize, // NOSONAR
+                                    @Nullable Long surveyId, @Nullable Long artistId,
+                                    @Nullable String genre,
+                                    @Nullable Integer releaseYearFrom,
+                                    @Nullable Integer releaseYearTo) {
+        super(pageNumber, pageSize);
+        this.surveyId = surveyId;
+        this.artistId = artistId;
+        this.genre = genre;
+        this.releaseYearFrom = releaseYearFrom;
+        this.releaseYearTo = releaseYearTo;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        FindSongsPopularityInput other = (FindSongsPopularityInput) o;
+        return Objects.equals(surveyId, other.surveyId) &&
+            Objects.equals(artistId, other.artistId) &&
+            Objects.equals(genre, other.genre) &&
+            Objects.equals(releaseYearFrom, other.releaseYearFrom) &&
+            Objects.equals(releaseYearTo, other.releaseYearTo);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(),
+            surveyId, artistId, genre, releaseYearFrom, releaseYearTo);
+    }
+
+    @Override
+    protected String defineObjAttrs() {
+        return String.format(
+            "%s, surveyId=%s, artistId=%s, genre=%s, releaseYearFrom=%s, releaseYearTo=%s",
+            super.defineObjAttrs(), surveyId, artistId,
+            genre == null ? null : '\'' + genre + '\'',
+            releaseYearFrom, releaseYearTo);
+    }
+
+    /**
+     * Returns the survey ID used as filter.
+     *
+     * @return the survey ID used as filter
+     */
+    public @Nullable Long getSurveyId() {
+        return surveyId;
+    }
+
+    /**
+     * Returns the artist ID used as filter.
+     *
+     * @return the artist ID used as filter
+     */
+    public @Nullable Long getArtistId() {
+        return artistId;
+    }
+
+    /**
+     * Returns the musical genre used as filter.
+     *
+     * @return the musical genre used as filter
+     */
+    public @Nullable String getGenre() {
+        return genre;
+    }
+
+    /**
+     * Returns the minimum release year, inclusive, used as filter.
+     *
+     * @return the minimum release year used as filter
+     */
+    public @Nullable Integer getReleaseYearFrom() {
+        return releaseYearFrom;
+    }
+
+    /**
+     * Returns the maximum release year, inclusive, used as filter.
+     *
+     * @return the maximum release year used as filter
+     */
+    public @Nullable Integer getReleaseYearTo() {
+        return releaseYearTo;
+    }
+}
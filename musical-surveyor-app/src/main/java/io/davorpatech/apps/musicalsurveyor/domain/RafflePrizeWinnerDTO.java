@@ -0,0 +1,88 @@
+package io.davorpatech.apps.musicalsurveyor.domain;
+
+import io.davorpatech.fwk.model.BaseValueObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serial;
+import java.util.Objects;
+
+/**
+ * The RafflePrizeWinner DTO class.
+ *
+ * <p>Domain DTOs are immutable objects. As a DTO, it is a simple
+ * POJO that holds data and has no behavior.
+ *
+ * <p>It is used to transfer projected data between the persistence layer
+ * and the service layer. Also, it transfers this aggregated data from the
+ * service layer to the presentation layer.
+ */
+@Schema(
+    name = "RafflePrizeWinner",
+    description = """
+        It holds the raffle ticket drawn as winner of a raffle prize.
+        """
+)
+public class RafflePrizeWinnerDTO extends BaseValueObject // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = -3350712448270839315L;
+
+    @Schema(
+        description = "The prize ID",
+        example = "1")
+    private final Long prizeId;
+
+    @Schema(
+        description = "The winner raffle ticket ID",
+        example = "1")
+    private final Long ticketId;
+
+    /**
+     * Constructs a new {@link RafflePrizeWinnerDTO} with the given arguments.
+     *
+     * @param prizeId  the prize ID
+     * @param ticketId the winner raffle ticket ID
+     */
+    public RafflePrizeWinnerDTO(Long prizeId, Long ticketId) {
+        super();
+        this.prizeId = prizeId;
+        this.ticketId = ticketId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RafflePrizeWinnerDTO other = (RafflePrizeWinnerDTO) o;
+        return Objects.equals(prizeId, other.prizeId) &&
+            Objects.equals(ticketId, other.ticketId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(prizeId, ticketId);
+    }
+
+    @Override
+    public String defineObjAttrs() {
+        return String.format("prizeId=%s, ticketId=%s", prizeId, ticketId);
+    }
+
+    /**
+     * Gets the prize ID.
+     *
+     * @return the prize ID
+     */
+    public Long getPrizeId() {
+        return prizeId;
+    }
+
+    /**
+     * Gets the winner raffle ticket ID.
+     *
+     * @return the winner raffle ticket ID
+     */
+    public Long getTicketId() {
+        return ticketId;
+    }
+}
@@ -0,0 +1,150 @@
+package io.davorpatech.apps.musicalsurveyor.domain;
+
+import io.davorpatech.fwk.model.BaseValueObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serial;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The RaffleResolution DTO class.
+ *
+ * <p>Domain DTOs are immutable objects. As a DTO, it is a simple
+ * POJO that holds data and has no behavior.
+ *
+ * <p>It is used to transfer projected data between the persistence layer
+ * and the service layer. Also, it transfers this aggregated data from the
+ * service layer to the presentation layer.
+ */
+@Schema(
+    name = "RaffleResolution",
+    description = """
+        It holds the outcome of a raffle draw: the winner ticket of each prize,
+        and the seed the draw can be replayed with to audit it.
+        """
+)
+public class RaffleResolutionDTO extends BaseValueObject // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = 6120987459322704817L;
+
+    @Schema(
+        description = "The raffle ID, the same as its survey ID",
+        example = "1")
+    private final Long raffleId;
+
+    @Schema(
+        description = "The date and time when the raffle was resolved",
+        example = "2023-07-10T12:00:00")
+    private final LocalDateTime resolutionDate;
+
+    @Schema(
+        description = "The seed of the pseudorandom generator the winners were drawn with",
+        example = "-4962768465676381896")
+    private final Long seed;
+
+    @Schema(
+        description = "The number of raffle tickets eligible in the draw",
+        example = "10")
+    private final Integer numEligibleTickets;
+
+    @Schema(
+        description = "The winner ticket of each prize, ordered by prize")
+    private final List<RafflePrizeWinnerDTO> winners;
+
+    /**
+     * Constructs a new {@link RaffleResolutionDTO} with the given arguments.
+     *
+     * @param raffleId           the raffle ID
+     * @param resolutionDate     the date and time when the raffle was resolved
+     * @param seed               the seed the winners were drawn with
+     * @param numEligibleTickets the number of raffle tickets eligible in the draw
+     * @param winners            the winner ticket of each prize
+     */
+    public RaffleResolutionDTO(Long raffleId, LocalDateTime resolutionDate, Long seed,
+                               Integer numEligibleTickets, List<RafflePrizeWinnerDTO> winners) {
+        super();
+        this.raffleId = raffleId;
+        this.resolutionDate = resolutionDate;
+        this.seed = seed;
+        this.numEligibleTickets = numEligibleTickets;
+        this.winners = winners == null ? List.of() : List.copyOf(winners);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RaffleResolutionDTO other = (RaffleResolutionDTO) o;
+        return Objects.equals(raffleId, other.raffleId) &&
+            Objects.equals(resolutionDate, other.resolutionDate) &&
+            Objects.equals(seed, other.seed) &&
+            Objects.equals(numEligibleTickets, other.numEligibleTickets) &&
+            Objects.equals(winners, other.winners);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(raffleId, resolutionDate, seed, numEligibleTickets, winners);
+    }
+
+    @Override
+    public String defineObjAttrs() {
+        return String.format(
+            "raffleId=%s, resolutionDate='%s', seed=%s, numEligibleTickets=%s, winners=%s",
+            raffleId, resolutionDate, seed, numEligibleTickets, winners);
+    }
+
+    /**
+     * Gets the raffle ID, the same as its survey ID.
+     *
+     * @return the raffle ID
+     */
+    public Long getRaffleId() {
+        return raffleId;
+    }
+
+    /**
+     * Gets the date and time when the raffle was resolved.
+     *
+     * @return the date and time when the raffle was resolved
+     */
+    public LocalDateTime getResolutionDate() {
+        return resolutionDate;
+    }
+
+    /**
+     * Gets the seed of the pseudorandom generator the winners were drawn with.
+     *
+     * <p>Drawing again with the same seed, among the same eligible tickets,
+     * draws the same winners.
+     *
+     * @return the seed the winners were drawn with
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of raffle tickets eligible in the draw.
+     *
+     * @return the number of eligible raffle tickets
+     */
+    public Integer getNumEligibleTickets() {
+        return numEligibleTickets;
+    }
+
+    /**
+     * Gets the winner ticket of each prize, ordered by prize.
+     *
+     * <p>Prizes are left without winner when there are fewer eligible
+     * tickets than prizes.
+     *
+     * @return the winner ticket of each prize, never {@code null}
+     */
+    public List<RafflePrizeWinnerDTO> getWinners() {
+        return winners;
+    }
+}
@@ -9,6 +9,11 @@ public interface RaffleTicketConstants { // NOSONAR
      */
     String DOMAIN_NAME = "musicpoll.RaffleTicket";
 
+    /**
+     * The name of the sequence the entity IDs are drawn from.
+     */
+    String ID_SEQUENCE_NAME = "SEQ_raffle_ticket_id";
+
     /**
      * The maximum length of the {@code number} field.
      */
@@ -0,0 +1,89 @@
+package io.davorpatech.apps.musicalsurveyor.domain;
+
+import io.davorpatech.fwk.model.BaseValueObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serial;
+import java.util.Objects;
+
+/**
+ * The RaffleTicketIssuance DTO class.
+ *
+ * <p>Domain DTOs are immutable objects. As a DTO, it is a simple
+ * POJO that holds data and has no behavior.
+ *
+ * <p>It is used to transfer projected data between the persistence layer
+ * and the service layer. Also, it transfers this aggregated data from the
+ * service layer to the presentation layer.
+ */
+@Schema(
+    name = "RaffleTicketIssuance",
+    description = """
+        It holds the outcome of issuing in bulk the raffle tickets of a survey.
+        """
+)
+public class RaffleTicketIssuanceDTO extends BaseValueObject // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = 7794061257513320468L;
+
+    @Schema(
+        description = "The survey ID",
+        example = "1")
+    private final Long surveyId;
+
+    @Schema(
+        description = "The number of raffle tickets issued",
+        example = "10")
+    private final Integer numIssuedTickets;
+
+    /**
+     * Constructs a new {@link RaffleTicketIssuanceDTO} with the given arguments.
+     *
+     * @param surveyId         the survey ID
+     * @param numIssuedTickets the number of raffle tickets issued
+     */
+    public RaffleTicketIssuanceDTO(Long surveyId, Integer numIssuedTickets) {
+        super();
+        this.surveyId = surveyId;
+        this.numIssuedTickets = numIssuedTickets;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RaffleTicketIssuanceDTO other = (RaffleTicketIssuanceDTO) o;
+        return Objects.equals(surveyId, other.surveyId) &&
+            Objects.equals(numIssuedTickets, other.numIssuedTickets);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(surveyId, numIssuedTickets);
+    }
+
+    @Override
+    public String defineObjAttrs() {
+        return String.format("surveyId=%s, numIssuedTickets=%s", surveyId, numIssuedTickets);
+    }
+
+    /**
+     * Gets the survey ID.
+     *
+     * @return the survey ID
+     */
+    public Long getSurveyId() {
+        return surveyId;
+    }
+
+    /**
+     * Gets the number of raffle tickets issued, one per participant that
+     * responded the survey and had no ticket yet.
+     *
+     * @return the number of raffle tickets issued
+     */
+    public Integer getNumIssuedTickets() {
+        return numIssuedTickets;
+    }
+}
@@ -0,0 +1,11 @@
+package io.davorpatech.apps.musicalsurveyor.domain;
+
+/**
+ * Constants to work with {@code SongPopularityRollup} domain entities and DTOs.
+ */
+public interface SongPopularityRollupConstants { // NOSONAR
+    /**
+     * The name of the domain entity.
+     */
+    String DOMAIN_NAME = "musicpoll.SongPopularityRollup";
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import io.davorpatech.fwk.model.Identifiable;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.io.Serializable;
+
 /**
  * Projection for {@link io.davorpatech.apps.musicalsurveyor.persistence.model.Song}
  */
@@ -20,7 +22,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
     "genre",
     "likes"
 })
-public interface SongWithPopularityInfo extends Identifiable<Long> // NOSONAR
+public interface SongWithPopularityInfo extends Identifiable<Long>, Serializable // NOSONAR
 {
 
     /**
@@ -0,0 +1,54 @@
+package io.davorpatech.apps.musicalsurveyor.domain;
+
+
+import io.davorpatech.fwk.exception.PreconditionalException;
+import io.davorpatech.fwk.model.ErrorDomain;
+import io.davorpatech.fwk.model.Identifiable;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Exception raised when we try to issue the raffle tickets of a survey but it has an
+ * internal state that prevents them from being issued.
+ *
+ * The survey ID and the reason why they cannot be issued are provided.
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class UnableToIssueRaffleTicketsException extends PreconditionalException // NOSONAR
+    implements Identifiable<Serializable>, ErrorDomain // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = -5084460128931262271L;
+
+    private final Serializable id;
+
+    /**
+     * Construct a {@code UnableToIssueRaffleTicketsException} with the specified arguments.
+     *
+     * @param id     the survey ID we tried to issue raffle tickets for
+     * @param reason the reason why they cannot be issued
+     */
+    public UnableToIssueRaffleTicketsException(Serializable id, String reason)
+    {
+        super(String.format("Unable to issue raffle tickets of survey identified by `%s`: %s", id, reason));
+        this.id = id;
+    }
+
+    @Override
+    public String getDomain() {
+        return RaffleTicketConstants.DOMAIN_NAME;
+    }
+
+    /**
+     * Returns the survey ID where the business rule has been violated.
+     *
+     * @return the identifier of the survey
+     */
+    @Override
+    public Serializable getId() {
+        return id;
+    }
+}
@@ -0,0 +1,54 @@
+package io.davorpatech.apps.musicalsurveyor.domain;
+
+
+import io.davorpatech.fwk.exception.PreconditionalException;
+import io.davorpatech.fwk.model.ErrorDomain;
+import io.davorpatech.fwk.model.Identifiable;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Exception raised when we try to resolve a raffle but it has an internal
+ * state that prevents its winners from being drawn.
+ *
+ * The raffle ID and the reason why it cannot be resolved are provided.
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class UnableToResolveRaffleException extends PreconditionalException // NOSONAR
+    implements Identifiable<Serializable>, ErrorDomain // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = 2871390046621187513L;
+
+    private final Serializable id;
+
+    /**
+     * Construct a {@code UnableToResolveRaffleException} with the specified arguments.
+     *
+     * @param id     the raffle ID we tried to resolve
+     * @param reason the reason why it cannot be resolved
+     */
+    public UnableToResolveRaffleException(Serializable id, String reason)
+    {
+        super(String.format("Unable to resolve raffle identified by `%s`: %s", id, reason));
+        this.id = id;
+    }
+
+    @Override
+    public String getDomain() {
+        return RaffleConstants.DOMAIN_NAME;
+    }
+
+    /**
+     * Returns the raffle ID where the business rule has been violated.
+     *
+     * @return the identifier of the raffle
+     */
+    @Override
+    public Serializable getId() {
+        return id;
+    }
+}
@@ -9,6 +9,11 @@ public interface ArtistConstants { // NOSONAR
      */
     String DOMAIN_NAME = "musicpoll.Artist";
 
+    /**
+     * The name of the sequence the entity IDs are drawn from.
+     */
+    String ID_SEQUENCE_NAME = "SEQ_artist_id";
+
     /**
      * The maximum length of the {@code name} field.
      */
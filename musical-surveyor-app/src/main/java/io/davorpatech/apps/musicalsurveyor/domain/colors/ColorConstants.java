@@ -9,6 +9,11 @@ public interface ColorConstants { // NOSONAR
      */
     String DOMAIN_NAME = "musicpoll.Color";
 
+    /**
+     * The name of the sequence the entity IDs are drawn from.
+     */
+    String ID_SEQUENCE_NAME = "SEQ_color_id";
+
     /**
      * The maximum length of the {@code code} field.
      */
@@ -2,7 +2,9 @@ package io.davorpatech.apps.musicalsurveyor.domain.colors;
 
 import io.davorpatech.fwk.model.BaseValueObject;
 import io.davorpatech.fwk.model.commands.BaseSortableFindInputCmd;
+import io.davorpatech.fwk.model.commands.CountMode;
 import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
 
 import java.io.Serial;
 
@@ -24,8 +26,10 @@ public class FindColorsInput extends BaseSortableFindInputCmd // NOSONAR
      * @param pageNumber the number of the current page (zero-index based)
      * @param pageSize   the page size; thus is, the number of items to be returned
      * @param sort       the sort to be used as part of any search query
+     * @param countMode  how the total amount of elements is computed (optional)
      */
-    public FindColorsInput(int pageNumber, int pageSize, Sort sort) {
-        super(pageNumber, pageSize, sort);
+    public FindColorsInput(int pageNumber, int pageSize, Sort sort,
+                           @Nullable CountMode countMode) {
+        super(pageNumber, pageSize, sort, countMode);
     }
 }
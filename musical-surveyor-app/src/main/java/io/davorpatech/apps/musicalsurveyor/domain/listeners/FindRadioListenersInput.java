@@ -1,19 +1,23 @@
 package io.davorpatech.apps.musicalsurveyor.domain.listeners;
 
 import io.davorpatech.fwk.model.BaseValueObject;
-import io.davorpatech.fwk.model.commands.BaseSortableFindInputCmd;
+import io.davorpatech.fwk.model.commands.BaseSeekableFindInputCmd;
+import io.davorpatech.fwk.model.commands.CountMode;
 import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
 
 import java.io.Serial;
 
 /**
  * Input object for finding {@code RadioListener} instances.
  *
+ * <p>Besides by page number, the search can be paginated seeking by keyset.
+ *
  * <p>As a domain DTO, it follows the {@link BaseValueObject} contract,
  * which means that it identifiable field is fuzzy, and it can be compared
  * for equality to other domain DTOs using all of its fields.
  */
-public class FindRadioListenersInput extends BaseSortableFindInputCmd // NOSONAR
+public class FindRadioListenersInput extends BaseSeekableFindInputCmd // NOSONAR
 {
     @Serial
     private static final long serialVersionUID = 5471516994682940700L;
@@ -26,6 +30,22 @@ public class FindRadioListenersInput extends BaseSortableFindInputCmd // NOSONAR
      * @param sort       the sort to be used as part of any search query
      */
     public FindRadioListenersInput(int pageNumber, int pageSize, Sort sort) {
-        super(pageNumber, pageSize, sort);
+        this(pageNumber, pageSize, sort, null, false, null);
+    }
+
+    /**
+     * Constructs a new {@link FindRadioListenersInput} with the given arguments.
+     *
+     * @param pageNumber the number of the current page (zero-index based)
+     * @param pageSize   the page size; thus is, the number of items to be returned
+     * @param sort       the sort to be used as part of any search query
+     * @param countMode  how the total amount of elements is computed (optional)
+     * @param seekPaged  whether to paginate seeking by keyset instead of by page number
+     * @param cursor     the opaque cursor to continue from (optional)
+     */
+    public FindRadioListenersInput(int pageNumber, int pageSize, Sort sort,
+                                   @Nullable CountMode countMode,
+                                   boolean seekPaged, @Nullable String cursor) {
+        super(pageNumber, pageSize, sort, countMode, seekPaged, cursor);
     }
 }
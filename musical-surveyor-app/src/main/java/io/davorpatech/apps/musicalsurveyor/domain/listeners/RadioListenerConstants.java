@@ -9,6 +9,11 @@ public interface RadioListenerConstants { // NOSONAR
      */
     String DOMAIN_NAME = "musicpoll.RadioListener";
 
+    /**
+     * The name of the sequence the entity IDs are drawn from.
+     */
+    String ID_SEQUENCE_NAME = "SEQ_radio_listener_id";
+
     /**
      * The maximum length of the {@code name} field.
      */
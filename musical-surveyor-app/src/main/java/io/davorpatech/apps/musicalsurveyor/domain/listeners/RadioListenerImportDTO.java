@@ -0,0 +1,186 @@
+package io.davorpatech.apps.musicalsurveyor.domain.listeners;
+
+import io.davorpatech.fwk.model.BaseValueObject;
+import io.davorpatech.fwk.model.BulkItemResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The RadioListenerImport DTO class.
+ *
+ * <p>Domain DTOs are immutable objects. As a DTO, it is a simple
+ * POJO that holds data and has no behavior.
+ *
+ * <p>It transfers the summary of importing radio listeners from the
+ * service layer to the presentation layer.
+ */
+@Schema(
+    name = "RadioListenerImport",
+    description = """
+        It holds the summary of importing in bulk radio listeners, merged by their email.
+        """
+)
+public class RadioListenerImportDTO extends BaseValueObject // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = 2950348127765092811L;
+
+    @Schema(
+        description = "The number of records read",
+        example = "1000")
+    private final Integer numRecords;
+
+    @Schema(
+        description = "The number of radio listeners created, as their email was not registered",
+        example = "120")
+    private final Integer numCreatedListeners;
+
+    @Schema(
+        description = "The number of radio listeners updated, as their email was registered",
+        example = "30")
+    private final Integer numUpdatedListeners;
+
+    @Schema(
+        description = "The number of records skipped, as their radio listener was up to date",
+        example = "845")
+    private final Integer numUnchangedRecords;
+
+    @Schema(
+        description = "The number of records skipped, as a later record had the same email",
+        example = "3")
+    private final Integer numDuplicatedRecords;
+
+    @Schema(
+        description = "The number of records rejected",
+        example = "2")
+    private final Integer numRejectedRecords;
+
+    @Schema(
+        description = "The first rejected records, by their zero-based position, with the reason")
+    private final List<BulkItemResult<Long>> rejections;
+
+    /**
+     * Constructs a new {@link RadioListenerImportDTO} with the given arguments.
+     *
+     * @param numRecords           the number of records read
+     * @param numCreatedListeners  the number of radio listeners created
+     * @param numUpdatedListeners  the number of radio listeners updated
+     * @param numUnchangedRecords  the number of records whose radio listener was up to date
+     * @param numDuplicatedRecords the number of records superseded by a later one with the same email
+     * @param numRejectedRecords   the number of records rejected
+     * @param rejections           the first rejected records
+     */
+    public RadioListenerImportDTO(Integer numRecords, // NOSONAR
+                                  Integer numCreatedListeners, Integer numUpdatedListeners,
+                                  Integer numUnchangedRecords, Integer numDuplicatedRecords,
+                                  Integer numRejectedRecords, List<BulkItemResult<Long>> rejections)
+    {
+        super();
+        this.numRecords = numRecords;
+        this.numCreatedListeners = numCreatedListeners;
+        this.numUpdatedListeners = numUpdatedListeners;
+        this.numUnchangedRecords = numUnchangedRecords;
+        this.numDuplicatedRecords = numDuplicatedRecords;
+        this.numRejectedRecords = numRejectedRecords;
+        this.rejections = rejections == null ? List.of() : List.copyOf(rejections);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RadioListenerImportDTO other = (RadioListenerImportDTO) o;
+        return Objects.equals(numRecords, other.numRecords) &&
+            Objects.equals(numCreatedListeners, other.numCreatedListeners) &&
+            Objects.equals(numUpdatedListeners, other.numUpdatedListeners) &&
+            Objects.equals(numUnchangedRecords, other.numUnchangedRecords) &&
+            Objects.equals(numDuplicatedRecords, other.numDuplicatedRecords) &&
+            Objects.equals(numRejectedRecords, other.numRejectedRecords) &&
+            Objects.equals(rejections, other.rejections);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(numRecords, numCreatedListeners, numUpdatedListeners,
+            numUnchangedRecords, numDuplicatedRecords, numRejectedRecords, rejections);
+    }
+
+    @Override
+    protected String defineObjAttrs() {
+        return String.format(
+            "numRecords=%s, numCreatedListeners=%s, numUpdatedListeners=%s, numUnchangedRecords=%s, "
+                + "numDuplicatedRecords=%s, numRejectedRecords=%s",
+            numRecords, numCreatedListeners, numUpdatedListeners, numUnchangedRecords,
+            numDuplicatedRecords, numRejectedRecords);
+    }
+
+    /**
+     * Gets the number of records read.
+     *
+     * @return the number of records read
+     */
+    public Integer getNumRecords() {
+        return numRecords;
+    }
+
+    /**
+     * Gets the number of radio listeners created, as their email was not registered.
+     *
+     * @return the number of radio listeners created
+     */
+    public Integer getNumCreatedListeners() {
+        return numCreatedListeners;
+    }
+
+    /**
+     * Gets the number of radio listeners updated, as their email was registered
+     * with other name, phone or address.
+     *
+     * @return the number of radio listeners updated
+     */
+    public Integer getNumUpdatedListeners() {
+        return numUpdatedListeners;
+    }
+
+    /**
+     * Gets the number of records skipped, as their radio listener was up to date.
+     *
+     * @return the number of unchanged records
+     */
+    public Integer getNumUnchangedRecords() {
+        return numUnchangedRecords;
+    }
+
+    /**
+     * Gets the number of records skipped, as a later record of the same chunk
+     * had the same email and superseded them.
+     *
+     * @return the number of duplicated records
+     */
+    public Integer getNumDuplicatedRecords() {
+        return numDuplicatedRecords;
+    }
+
+    /**
+     * Gets the number of records rejected, because they are malformed,
+     * invalid, or their radio listener could not be merged.
+     *
+     * @return the number of records rejected
+     */
+    public Integer getNumRejectedRecords() {
+        return numRejectedRecords;
+    }
+
+    /**
+     * Gets the first rejected records, by their zero-based position, with the
+     * reason of their rejection. The amount of reported records is bounded.
+     *
+     * @return the first rejected records, never {@code null}
+     */
+    public List<BulkItemResult<Long>> getRejections() {
+        return rejections;
+    }
+}
@@ -9,6 +9,11 @@ public interface PrizeConstants { // NOSONAR
      */
     String DOMAIN_NAME = "musicpoll.Prize";
 
+    /**
+     * The name of the sequence the entity IDs are drawn from.
+     */
+    String ID_SEQUENCE_NAME = "SEQ_prize_id";
+
     /**
      * The maximum length of the {@code title} field.
      */
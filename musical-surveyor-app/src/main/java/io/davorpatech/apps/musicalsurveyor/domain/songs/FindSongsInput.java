@@ -2,6 +2,7 @@ package io.davorpatech.apps.musicalsurveyor.domain.songs;
 
 import io.davorpatech.fwk.model.BaseValueObject;
 import io.davorpatech.fwk.model.commands.BaseSortableFindInputCmd;
+import io.davorpatech.fwk.model.commands.CountMode;
 import org.springframework.data.domain.Sort;
 import org.springframework.lang.Nullable;
 
@@ -29,11 +30,12 @@ public class FindSongsInput extends BaseSortableFindInputCmd // NOSONAR
      * @param pageNumber the number of the current page (zero-index based)
      * @param pageSize   the page size; thus is, the number of items to be returned
      * @param sort       the sort to be used as part of any search query
+     * @param countMode  how the total amount of elements is computed (optional)
      * @param artistId   the artist ID to be used as part of any search query
      */
     FindSongsInput(int pageNumber, int pageSize, @Nullable Sort sort,
-                   @Nullable Long artistId) {
-        super(pageNumber, pageSize, sort);
+                   @Nullable CountMode countMode, @Nullable Long artistId) {
+        super(pageNumber, pageSize, sort, countMode);
         this.artistId = artistId;
     }
 
@@ -52,11 +54,12 @@ public class FindSongsInput extends BaseSortableFindInputCmd // NOSONAR
      * @param pageNumber the number of the current page (zero-index based)
      * @param pageSize   the page size; thus is, the number of items to be returned
      * @param sort       the sort to be used as part of any search query
+     * @param countMode  how the total amount of elements is computed (optional)
      * @return a new {@link FindSongsInput} with the given arguments
      */
     public static FindSongsInput of(
-            int pageNumber, int pageSize, Sort sort) {
-        return new FindSongsInput(pageNumber, pageSize, sort, null);
+            int pageNumber, int pageSize, Sort sort, @Nullable CountMode countMode) {
+        return new FindSongsInput(pageNumber, pageSize, sort, countMode, null);
     }
 
     /**
@@ -66,10 +69,12 @@ public class FindSongsInput extends BaseSortableFindInputCmd // NOSONAR
      * @param pageNumber the number of the current page (zero-index based)
      * @param pageSize   the page size; thus is, the number of items to be returned
      * @param sort       the sort to be used as part of any search query
+     * @param countMode  how the total amount of elements is computed (optional)
      * @return a new {@link FindSongsInput} with the given arguments
      */
     public static FindSongsInput ofArtist(
-            Long artistId, int pageNumber, int pageSize, Sort sort) {
-        return new FindSongsInput(pageNumber, pageSize, sort, artistId);
+            Long artistId, int pageNumber, int pageSize, Sort sort,
+            @Nullable CountMode countMode) {
+        return new FindSongsInput(pageNumber, pageSize, sort, countMode, artistId);
     }
 }
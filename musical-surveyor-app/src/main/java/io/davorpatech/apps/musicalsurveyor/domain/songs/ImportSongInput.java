@@ -0,0 +1,139 @@
+package io.davorpatech.apps.musicalsurveyor.domain.songs;
+
+import io.davorpatech.apps.musicalsurveyor.domain.artist.ArtistConstants;
+import io.davorpatech.fwk.model.BaseValueObject;
+import io.davorpatech.fwk.model.commands.CreateInputCmd;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.io.Serial;
+import java.util.Objects;
+
+/**
+ * Input object for importing a new {@code Song} as part of a catalogue.
+ *
+ * <p>Domain DTOs are immutable objects. As a DTO, it is a simple
+ * POJO that holds data and has no behavior. It is used to transfer
+ * data between the presentation layer and the services layer. It is
+ * also used to validate the data sent to the services layer.
+ *
+ * <p>Unlike the {@link CreateSongInput}, the song {@code Artist} is
+ * given by its name rather than by its {@code id}, so catalogues can
+ * be imported without knowing the artists registered beforehand. The
+ * artist is resolved by its name, or created if none is found.
+ *
+ * <p>As a domain DTO, it follows the {@link BaseValueObject} contract,
+ * which means that it identifiable field is fuzzy, and it can be compared
+ * for equality to other domain DTOs using all of its fields.
+ */
+public class ImportSongInput extends BaseValueObject implements CreateInputCmd // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = -2287043761305817493L;
+
+    @NotBlank
+    @Size(max = ArtistConstants.NAME_MAXLEN)
+    private final String artistName;
+
+    @NotBlank
+    @Size(max = SongConstants.TITLE_MAXLEN)
+    private final String title;
+
+    @Min(SongConstants.RELEASE_YEAR_MIN)
+    private final Integer releaseYear;
+
+    @Min(SongConstants.DURATION_MIN)
+    private final Integer duration;
+
+    @Size(max = SongConstants.GENRE_MAXLEN)
+    private final String genre;
+
+    /**
+     * Constructs a new {@link ImportSongInput} with the given arguments.
+     *
+     * @param artistName  the name of the artist owning the song
+     * @param title       the song title
+     * @param releaseYear the song release year
+     * @param duration    the song duration in seconds
+     * @param genre       the musical genre of the song
+     */
+    public ImportSongInput(String artistName, String title, Integer releaseYear, Integer duration, String genre) {
+        super();
+        this.artistName = artistName;
+        this.title = title;
+        this.releaseYear = releaseYear;
+        this.duration = duration;
+        this.genre = genre;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ImportSongInput other = (ImportSongInput) o;
+        return Objects.equals(artistName, other.artistName) &&
+            Objects.equals(title, other.title) &&
+            Objects.equals(releaseYear, other.releaseYear) &&
+            Objects.equals(duration, other.duration) &&
+            Objects.equals(genre, other.genre);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(artistName, title, releaseYear, duration, genre);
+    }
+
+    @Override
+    protected String defineObjAttrs() {
+        return String.format(
+            "artistName='%s', title='%s', releaseYear=%s, duration=%s, genre=%s",
+            artistName, title, releaseYear, duration,
+            genre == null ? null : '\'' + genre + '\'');
+    }
+
+    /**
+     * Returns the name of the artist owning the song.
+     *
+     * @return the artist name
+     */
+    public String getArtistName() {
+        return artistName;
+    }
+
+    /**
+     * Returns the song title.
+     *
+     * @return the song title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Returns the song release year.
+     *
+     * @return the song release year
+     */
+    public Integer getReleaseYear() {
+        return releaseYear;
+    }
+
+    /**
+     * Returns the song duration in seconds.
+     *
+     * @return the song duration in seconds
+     */
+    public Integer getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns the musical genre of the song.
+     *
+     * @return the musical genre of the song
+     */
+    public String getGenre() {
+        return genre;
+    }
+}
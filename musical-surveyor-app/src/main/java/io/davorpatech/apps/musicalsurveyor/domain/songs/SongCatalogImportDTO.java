@@ -0,0 +1,145 @@
+package io.davorpatech.apps.musicalsurveyor.domain.songs;
+
+import io.davorpatech.fwk.model.BaseValueObject;
+import io.davorpatech.fwk.model.BulkItemResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The SongCatalogImport DTO class.
+ *
+ * <p>Domain DTOs are immutable objects. As a DTO, it is a simple
+ * POJO that holds data and has no behavior.
+ *
+ * <p>It transfers the summary of importing a songs catalogue from the
+ * service layer to the presentation layer.
+ */
+@Schema(
+    name = "SongCatalogImport",
+    description = """
+        It holds the summary of importing in bulk a catalogue of songs and their artists.
+        """
+)
+public class SongCatalogImportDTO extends BaseValueObject // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = -4619418740658531772L;
+
+    @Schema(
+        description = "The number of records read",
+        example = "1000")
+    private final Integer numRecords;
+
+    @Schema(
+        description = "The number of songs created",
+        example = "998")
+    private final Integer numImportedSongs;
+
+    @Schema(
+        description = "The number of records rejected",
+        example = "2")
+    private final Integer numRejectedRecords;
+
+    @Schema(
+        description = "The number of artists created, as no artist was found by their name",
+        example = "25")
+    private final Integer numCreatedArtists;
+
+    @Schema(
+        description = "The first rejected records, by their zero-based position, with the reason")
+    private final List<BulkItemResult<Long>> rejections;
+
+    /**
+     * Constructs a new {@link SongCatalogImportDTO} with the given arguments.
+     *
+     * @param numRecords         the number of records read
+     * @param numImportedSongs   the number of songs created
+     * @param numRejectedRecords the number of records rejected
+     * @param numCreatedArtists  the number of artists created
+     * @param rejections         the first rejected records
+     */
+    public SongCatalogImportDTO(Integer numRecords, Integer numImportedSongs, Integer numRejectedRecords,
+                                Integer numCreatedArtists, List<BulkItemResult<Long>> rejections)
+    {
+        super();
+        this.numRecords = numRecords;
+        this.numImportedSongs = numImportedSongs;
+        this.numRejectedRecords = numRejectedRecords;
+        this.numCreatedArtists = numCreatedArtists;
+        this.rejections = rejections == null ? List.of() : List.copyOf(rejections);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SongCatalogImportDTO other = (SongCatalogImportDTO) o;
+        return Objects.equals(numRecords, other.numRecords) &&
+            Objects.equals(numImportedSongs, other.numImportedSongs) &&
+            Objects.equals(numRejectedRecords, other.numRejectedRecords) &&
+            Objects.equals(numCreatedArtists, other.numCreatedArtists) &&
+            Objects.equals(rejections, other.rejections);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(numRecords, numImportedSongs, numRejectedRecords, numCreatedArtists, rejections);
+    }
+
+    @Override
+    protected String defineObjAttrs() {
+        return String.format(
+            "numRecords=%s, numImportedSongs=%s, numRejectedRecords=%s, numCreatedArtists=%s",
+            numRecords, numImportedSongs, numRejectedRecords, numCreatedArtists);
+    }
+
+    /**
+     * Gets the number of records read.
+     *
+     * @return the number of records read
+     */
+    public Integer getNumRecords() {
+        return numRecords;
+    }
+
+    /**
+     * Gets the number of songs created, one per accepted record.
+     *
+     * @return the number of songs created
+     */
+    public Integer getNumImportedSongs() {
+        return numImportedSongs;
+    }
+
+    /**
+     * Gets the number of records rejected, because they are malformed,
+     * invalid, or their song could not be created.
+     *
+     * @return the number of records rejected
+     */
+    public Integer getNumRejectedRecords() {
+        return numRejectedRecords;
+    }
+
+    /**
+     * Gets the number of artists created, as no artist was found by their name.
+     *
+     * @return the number of artists created
+     */
+    public Integer getNumCreatedArtists() {
+        return numCreatedArtists;
+    }
+
+    /**
+     * Gets the first rejected records, by their zero-based position, with the
+     * reason of their rejection. The amount of reported records is bounded.
+     *
+     * @return the first rejected records, never {@code null}
+     */
+    public List<BulkItemResult<Long>> getRejections() {
+        return rejections;
+    }
+}
@@ -9,6 +9,11 @@ public interface SongConstants { // NOSONAR
      */
     String DOMAIN_NAME = "musicpoll.Song";
 
+    /**
+     * The name of the sequence the entity IDs are drawn from.
+     */
+    String ID_SEQUENCE_NAME = "SEQ_song_id";
+
     /**
      * The maximum length of the {@code title} field.
      */
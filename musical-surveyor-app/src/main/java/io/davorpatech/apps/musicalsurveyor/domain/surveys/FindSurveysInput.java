@@ -2,6 +2,7 @@ package io.davorpatech.apps.musicalsurveyor.domain.surveys;
 
 import io.davorpatech.fwk.model.BaseValueObject;
 import io.davorpatech.fwk.model.commands.BaseSortableFindInputCmd;
+import io.davorpatech.fwk.model.commands.CountMode;
 import org.springframework.data.domain.Sort;
 import org.springframework.lang.Nullable;
 
@@ -27,11 +28,13 @@ public class FindSurveysInput extends BaseSortableFindInputCmd // NOSONAR
      * @param pageNumber the number of the current page (zero-index based)
      * @param pageSize   the page size; thus is, the number of items to be returned
      * @param sort       the sort to be used as part of any search query
+     * @param countMode  how the total amount of elements is computed (optional)
      * @param status     the status of the surveys used as filter (optional)
      */
     public FindSurveysInput(int pageNumber, int pageSize, @Nullable Sort sort,
+                            @Nullable CountMode countMode,
                             @Nullable SurveyStatus status) {
-        super(pageNumber, pageSize, sort);
+        super(pageNumber, pageSize, sort, countMode);
         this.status = status;
     }
 
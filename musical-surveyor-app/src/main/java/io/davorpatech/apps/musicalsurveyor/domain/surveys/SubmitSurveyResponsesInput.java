@@ -0,0 +1,99 @@
+package io.davorpatech.apps.musicalsurveyor.domain.surveys;
+
+import io.davorpatech.fwk.model.BaseValueObject;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Input object for submitting the favorite songs of a participant as
+ * responses of a {@code Survey}.
+ *
+ * <p>Domain DTOs are immutable objects. As a DTO, it is a simple
+ * POJO that holds data and has no behavior. It is used to transfer
+ * data between the presentation layer and the services layer. It is
+ * also used to validate the data sent to the services layer.
+ *
+ * <p>As a domain DTO, it follows the {@link BaseValueObject} contract,
+ * which means that it identifiable field is fuzzy, and it can be compared
+ * for equality to other domain DTOs using all of its fields.
+ */
+public class SubmitSurveyResponsesInput extends BaseValueObject // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = 5532317307437930285L;
+
+    @NotNull
+    private final Long surveyId;
+
+    @NotNull
+    private final Long participantId;
+
+    @NotEmpty
+    private final List<@NotNull Long> songIds;
+
+    /**
+     * Constructs a new {@link SubmitSurveyResponsesInput} with the given arguments.
+     *
+     * @param surveyId      the survey ID
+     * @param participantId the participant ID
+     * @param songIds       the IDs of the favorite songs
+     */
+    public SubmitSurveyResponsesInput(Long surveyId, Long participantId, List<Long> songIds) {
+        super();
+        this.surveyId = surveyId;
+        this.participantId = participantId;
+        this.songIds = songIds;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SubmitSurveyResponsesInput other = (SubmitSurveyResponsesInput) o;
+        return Objects.equals(surveyId, other.surveyId) &&
+            Objects.equals(participantId, other.participantId) &&
+            Objects.equals(songIds, other.songIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(surveyId, participantId, songIds);
+    }
+
+    @Override
+    protected String defineObjAttrs() {
+        return String.format("surveyId=%s, participantId=%s, songIds=%s",
+            surveyId, participantId, songIds);
+    }
+
+    /**
+     * Returns the survey ID.
+     *
+     * @return the survey ID
+     */
+    public Long getSurveyId() {
+        return surveyId;
+    }
+
+    /**
+     * Returns the participant ID.
+     *
+     * @return the participant ID
+     */
+    public Long getParticipantId() {
+        return participantId;
+    }
+
+    /**
+     * Returns the IDs of the favorite songs.
+     *
+     * @return the IDs of the favorite songs
+     */
+    public List<Long> getSongIds() {
+        return songIds;
+    }
+}
@@ -0,0 +1,77 @@
+package io.davorpatech.apps.musicalsurveyor.domain.surveys;
+
+import io.davorpatech.fwk.model.BaseValueObject;
+
+import java.io.Serial;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Domain event published when a survey has been closed, either manually or
+ * automatically once it has ended.
+ *
+ * <p>It carries the ID of the closed survey, joint with the date and time
+ * wherein it was closed.
+ *
+ * <p>As a domain DTO, it follows the {@link BaseValueObject} contract,
+ * which means that it identifiable field is fuzzy, and it can be compared
+ * for equality to other domain DTOs using all of its fields.
+ */
+public class SurveyClosedEvent extends BaseValueObject // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = 3390826137486622504L;
+
+    private final Long surveyId;
+
+    private final LocalDateTime closedOn;
+
+    /**
+     * Constructs a new {@link SurveyClosedEvent} with the given arguments.
+     *
+     * @param surveyId the survey ID
+     * @param closedOn the date and time wherein the survey was closed
+     */
+    public SurveyClosedEvent(Long surveyId, LocalDateTime closedOn) {
+        super();
+        this.surveyId = surveyId;
+        this.closedOn = closedOn;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SurveyClosedEvent other = (SurveyClosedEvent) o;
+        return Objects.equals(surveyId, other.surveyId) &&
+            Objects.equals(closedOn, other.closedOn);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(surveyId, closedOn);
+    }
+
+    @Override
+    protected String defineObjAttrs() {
+        return String.format("surveyId=%s, closedOn=%s", surveyId, closedOn);
+    }
+
+    /**
+     * Returns the survey ID.
+     *
+     * @return the survey ID
+     */
+    public Long getSurveyId() {
+        return surveyId;
+    }
+
+    /**
+     * Returns the date and time wherein the survey was closed.
+     *
+     * @return the date and time wherein the survey was closed
+     */
+    public LocalDateTime getClosedOn() {
+        return closedOn;
+    }
+}
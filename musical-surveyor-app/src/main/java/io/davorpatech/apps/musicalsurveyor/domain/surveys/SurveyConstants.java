@@ -9,6 +9,11 @@ public interface SurveyConstants { // NOSONAR
      */
     String DOMAIN_NAME = "musicpoll.Survey";
 
+    /**
+     * The name of the sequence the entity IDs are drawn from.
+     */
+    String ID_SEQUENCE_NAME = "SEQ_survey_id";
+
     /**
      * The maximum length of the {@code title} field.
      */
@@ -0,0 +1,89 @@
+package io.davorpatech.apps.musicalsurveyor.domain.surveys;
+
+import io.davorpatech.fwk.model.BaseValueObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serial;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The SurveyLiveLikes DTO class.
+ *
+ * <p>Domain DTOs are immutable objects. As a DTO, it is a simple
+ * POJO that holds data and has no behavior.
+ *
+ * <p>It transfers the likes per song of a running survey, as tallied live,
+ * from the service layer to the presentation layer.
+ */
+@Schema(
+    name = "SurveyLiveLikes",
+    description = """
+        It holds the current number of likes per song of a running survey, either
+        of all its songs or only of those whose likes have changed.
+        """
+)
+public class SurveyLiveLikesDTO extends BaseValueObject // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = 6318054297746413925L;
+
+    @Schema(
+        description = "The survey ID",
+        example = "1")
+    private final Long surveyId;
+
+    @Schema(
+        description = "The current number of likes per song ID",
+        example = "{\"1\": 25, \"7\": 12}")
+    private final Map<Long, Long> likes;
+
+    /**
+     * Constructs a new {@link SurveyLiveLikesDTO} with the given arguments.
+     *
+     * @param surveyId the survey ID
+     * @param likes    the current number of likes per song ID
+     */
+    public SurveyLiveLikesDTO(Long surveyId, Map<Long, Long> likes) {
+        super();
+        this.surveyId = surveyId;
+        this.likes = likes == null ? Map.of() : Map.copyOf(likes);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SurveyLiveLikesDTO other = (SurveyLiveLikesDTO) o;
+        return Objects.equals(surveyId, other.surveyId) &&
+            Objects.equals(likes, other.likes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(surveyId, likes);
+    }
+
+    @Override
+    protected String defineObjAttrs() {
+        return String.format("surveyId=%s, likes=%s", surveyId, likes);
+    }
+
+    /**
+     * Gets the survey ID.
+     *
+     * @return the survey ID
+     */
+    public Long getSurveyId() {
+        return surveyId;
+    }
+
+    /**
+     * Gets the current number of likes per song ID.
+     *
+     * @return the current number of likes per song ID, never {@code null}
+     */
+    public Map<Long, Long> getLikes() {
+        return likes;
+    }
+}
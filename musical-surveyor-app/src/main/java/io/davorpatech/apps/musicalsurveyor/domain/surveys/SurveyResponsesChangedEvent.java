@@ -0,0 +1,110 @@
+package io.davorpatech.apps.musicalsurveyor.domain.surveys;
+
+import io.davorpatech.fwk.model.BaseValueObject;
+
+import java.io.Serial;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Domain event published when the favorite songs submitted as responses of a
+ * survey participation have changed.
+ *
+ * <p>It carries, for each affected song, the net number of likes added (positive)
+ * or removed (negative) by the participant, joint with the day wherein those
+ * responses count. The responses of many participants submitted in bulk are
+ * coalesced into a single event per survey, without participant.
+ *
+ * <p>As a domain DTO, it follows the {@link BaseValueObject} contract,
+ * which means that it identifiable field is fuzzy, and it can be compared
+ * for equality to other domain DTOs using all of its fields.
+ */
+public class SurveyResponsesChangedEvent extends BaseValueObject // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = -2185069573010941647L;
+
+    private final Long surveyId;
+
+    private final Long participantId;
+
+    private final LocalDate respondedOn;
+
+    private final Map<Long, Integer> likeDeltas;
+
+    /**
+     * Constructs a new {@link SurveyResponsesChangedEvent} with the given arguments.
+     *
+     * @param surveyId      the survey ID
+     * @param participantId the participant ID, or {@code null} if coalescing many
+     * @param respondedOn   the day wherein the responses count
+     * @param likeDeltas    the net number of likes changed per song ID
+     */
+    public SurveyResponsesChangedEvent(Long surveyId, Long participantId,
+                                       LocalDate respondedOn, Map<Long, Integer> likeDeltas) {
+        super();
+        this.surveyId = surveyId;
+        this.participantId = participantId;
+        this.respondedOn = respondedOn;
+        this.likeDeltas = Map.copyOf(likeDeltas);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SurveyResponsesChangedEvent other = (SurveyResponsesChangedEvent) o;
+        return Objects.equals(surveyId, other.surveyId) &&
+            Objects.equals(participantId, other.participantId) &&
+            Objects.equals(respondedOn, other.respondedOn) &&
+            Objects.equals(likeDeltas, other.likeDeltas);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(surveyId, participantId, respondedOn, likeDeltas);
+    }
+
+    @Override
+    protected String defineObjAttrs() {
+        return String.format("surveyId=%s, participantId=%s, respondedOn=%s, likeDeltas=%s",
+            surveyId, participantId, respondedOn, likeDeltas);
+    }
+
+    /**
+     * Returns the survey ID.
+     *
+     * @return the survey ID
+     */
+    public Long getSurveyId() {
+        return surveyId;
+    }
+
+    /**
+     * Returns the participant ID.
+     *
+     * @return the participant ID, or {@code null} if coalescing many participants
+     */
+    public Long getParticipantId() {
+        return participantId;
+    }
+
+    /**
+     * Returns the day wherein the responses count.
+     *
+     * @return the day wherein the responses count
+     */
+    public LocalDate getRespondedOn() {
+        return respondedOn;
+    }
+
+    /**
+     * Returns the net number of likes changed per song ID.
+     *
+     * @return the net number of likes changed per song ID, never {@code null}
+     */
+    public Map<Long, Integer> getLikeDeltas() {
+        return likeDeltas;
+    }
+}
@@ -0,0 +1,60 @@
+package io.davorpatech.apps.musicalsurveyor.domain.surveys;
+
+import io.davorpatech.fwk.exception.BusinessException;
+import io.davorpatech.fwk.model.AdditionalArgumentsPopulator;
+import io.davorpatech.fwk.model.ErrorDomain;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.io.Serial;
+import java.util.Map;
+
+/**
+ * Exception raised when the queue ingesting the survey responses is full, so
+ * the submitted responses are dropped and must be submitted again later.
+ *
+ * <p>The capacity of the queue is provided.
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class SurveyResponsesQueueFullException extends BusinessException // NOSONAR
+        implements ErrorDomain, AdditionalArgumentsPopulator // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = -4718220943460583175L;
+
+    private final int capacity;
+
+    /**
+     * Construct a {@code SurveyResponsesQueueFullException} with the specified
+     * arguments.
+     *
+     * @param capacity the capacity of the full queue
+     */
+    public SurveyResponsesQueueFullException(int capacity) {
+        super(String.format("The survey responses queue is full (%d). Try again later.", capacity));
+        this.capacity = capacity;
+    }
+
+    @Override
+    public String getDomain() {
+        return SurveyParticipationConstants.DOMAIN_NAME;
+    }
+
+    /**
+     * Returns the capacity of the full queue.
+     *
+     * @return the capacity of the full queue
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void populate(
+        final Environment environment,
+        final Map<String, Object> attributes)
+    {
+        attributes.put("capacity", capacity);
+    }
+}
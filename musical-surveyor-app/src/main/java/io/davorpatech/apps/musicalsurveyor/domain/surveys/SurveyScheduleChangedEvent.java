@@ -0,0 +1,107 @@
+package io.davorpatech.apps.musicalsurveyor.domain.surveys;
+
+import io.davorpatech.fwk.model.BaseValueObject;
+
+import java.io.Serial;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Domain event published when a survey that may change its status over time
+ * has been created, updated or started.
+ *
+ * <p>It carries the current status of the survey, joint with its start and
+ * end dates, which determine when its next status transition is due.
+ *
+ * <p>As a domain DTO, it follows the {@link BaseValueObject} contract,
+ * which means that it identifiable field is fuzzy, and it can be compared
+ * for equality to other domain DTOs using all of its fields.
+ */
+public class SurveyScheduleChangedEvent extends BaseValueObject // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = -8177436720641509563L;
+
+    private final Long surveyId;
+
+    private final SurveyStatus status;
+
+    private final LocalDateTime startDate;
+
+    private final LocalDateTime endDate;
+
+    /**
+     * Constructs a new {@link SurveyScheduleChangedEvent} with the given arguments.
+     *
+     * @param surveyId  the survey ID
+     * @param status    the current survey status
+     * @param startDate the survey start date
+     * @param endDate   the survey end date
+     */
+    public SurveyScheduleChangedEvent(Long surveyId, SurveyStatus status,
+                                      LocalDateTime startDate, LocalDateTime endDate) {
+        super();
+        this.surveyId = surveyId;
+        this.status = status;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SurveyScheduleChangedEvent other = (SurveyScheduleChangedEvent) o;
+        return Objects.equals(surveyId, other.surveyId) &&
+            Objects.equals(status, other.status) &&
+            Objects.equals(startDate, other.startDate) &&
+            Objects.equals(endDate, other.endDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(surveyId, status, startDate, endDate);
+    }
+
+    @Override
+    protected String defineObjAttrs() {
+        return String.format("surveyId=%s, status=%s, startDate=%s, endDate=%s",
+            surveyId, status, startDate, endDate);
+    }
+
+    /**
+     * Returns the survey ID.
+     *
+     * @return the survey ID
+     */
+    public Long getSurveyId() {
+        return surveyId;
+    }
+
+    /**
+     * Returns the current survey status.
+     *
+     * @return the current survey status
+     */
+    public SurveyStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the survey start date.
+     *
+     * @return the survey start date
+     */
+    public LocalDateTime getStartDate() {
+        return startDate;
+    }
+
+    /**
+     * Returns the survey end date.
+     *
+     * @return the survey end date
+     */
+    public LocalDateTime getEndDate() {
+        return endDate;
+    }
+}
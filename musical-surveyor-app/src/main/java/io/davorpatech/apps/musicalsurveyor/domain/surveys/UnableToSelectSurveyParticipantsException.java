@@ -0,0 +1,54 @@
+package io.davorpatech.apps.musicalsurveyor.domain.surveys;
+
+
+import io.davorpatech.fwk.exception.PreconditionalException;
+import io.davorpatech.fwk.model.ErrorDomain;
+import io.davorpatech.fwk.model.Identifiable;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Exception raised when we try to select the participants of a survey but it has an internal
+ * state that prevents them from being selected.
+ *
+ * The survey ID and the reason why they cannot be selected are provided.
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class UnableToSelectSurveyParticipantsException extends PreconditionalException // NOSONAR
+    implements Identifiable<Serializable>, ErrorDomain // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = -6830117519385632190L;
+
+    private final Serializable id;
+
+    /**
+     * Construct a {@code UnableToSelectSurveyParticipantsException} with the specified arguments.
+     *
+     * @param id     the survey ID we tried to select participants for
+     * @param reason the reason why they cannot be selected
+     */
+    public UnableToSelectSurveyParticipantsException(Serializable id, String reason)
+    {
+        super(String.format("Unable to select participants of survey identified by `%s`: %s", id, reason));
+        this.id = id;
+    }
+
+    @Override
+    public String getDomain() {
+        return SurveyConstants.DOMAIN_NAME;
+    }
+
+    /**
+     * Returns the survey ID where the business rule has been violated.
+     *
+     * @return the identifier of the survey
+     */
+    @Override
+    public Serializable getId() {
+        return id;
+    }
+}
@@ -0,0 +1,54 @@
+package io.davorpatech.apps.musicalsurveyor.domain.surveys;
+
+
+import io.davorpatech.fwk.exception.PreconditionalException;
+import io.davorpatech.fwk.model.ErrorDomain;
+import io.davorpatech.fwk.model.Identifiable;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Exception raised when we try to submit the responses of a survey participant, but they or the
+ * survey have an internal state that prevents them from being accepted.
+ *
+ * The survey ID and the reason why they cannot be accepted are provided.
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class UnableToSubmitSurveyResponsesException extends PreconditionalException // NOSONAR
+    implements Identifiable<Serializable>, ErrorDomain // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = 8093456021771460392L;
+
+    private final Serializable id;
+
+    /**
+     * Construct a {@code UnableToSubmitSurveyResponsesException} with the specified arguments.
+     *
+     * @param id     the survey ID we tried to submit responses to
+     * @param reason the reason why they cannot be accepted
+     */
+    public UnableToSubmitSurveyResponsesException(Serializable id, String reason)
+    {
+        super(String.format("Unable to submit responses to survey identified by `%s`: %s", id, reason));
+        this.id = id;
+    }
+
+    @Override
+    public String getDomain() {
+        return SurveyConstants.DOMAIN_NAME;
+    }
+
+    /**
+     * Returns the survey ID where the business rule has been violated.
+     *
+     * @return the identifier of the survey
+     */
+    @Override
+    public Serializable getId() {
+        return id;
+    }
+}
@@ -0,0 +1,54 @@
+package io.davorpatech.apps.musicalsurveyor.domain.surveys;
+
+
+import io.davorpatech.fwk.exception.PreconditionalException;
+import io.davorpatech.fwk.model.ErrorDomain;
+import io.davorpatech.fwk.model.Identifiable;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Exception raised when we try to watch a survey live, but it has an internal state
+ * that prevents it from being watched.
+ *
+ * The survey ID and the reason why it cannot be watched are provided.
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class UnableToWatchSurveyException extends PreconditionalException // NOSONAR
+    implements Identifiable<Serializable>, ErrorDomain // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = -5530214918227165482L;
+
+    private final Serializable id;
+
+    /**
+     * Construct a {@code UnableToWatchSurveyException} with the specified arguments.
+     *
+     * @param id     the survey ID we tried to watch
+     * @param reason the reason why it cannot be watched
+     */
+    public UnableToWatchSurveyException(Serializable id, String reason)
+    {
+        super(String.format("Unable to watch survey identified by `%s`: %s", id, reason));
+        this.id = id;
+    }
+
+    @Override
+    public String getDomain() {
+        return SurveyConstants.DOMAIN_NAME;
+    }
+
+    /**
+     * Returns the survey ID where the business rule has been violated.
+     *
+     * @return the identifier of the survey
+     */
+    @Override
+    public Serializable getId() {
+        return id;
+    }
+}
@@ -0,0 +1,13 @@
+package io.davorpatech.apps.musicalsurveyor.persistence;
+
+/**
+ * Constants shared by every persisted domain entity.
+ */
+public interface PersistenceConstants { // NOSONAR
+    /**
+     * The number of entity IDs allocated at once from the sequence of each
+     * entity. It must match the {@code INCREMENT BY} of the sequences declared
+     * by the schema, or the application does not start.
+     */
+    int ID_ALLOCATION_SIZE = 50;
+}
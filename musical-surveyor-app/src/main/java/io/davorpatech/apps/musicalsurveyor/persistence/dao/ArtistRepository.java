@@ -2,9 +2,14 @@ package io.davorpatech.apps.musicalsurveyor.persistence.dao;
 
 import io.davorpatech.apps.musicalsurveyor.persistence.model.Artist;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * The {@code Artist} repository interface.
  *
@@ -26,5 +31,16 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public interface ArtistRepository extends JpaRepository<Artist, Long>
 {
-
+    /**
+     * Returns the IDs of the artists with any of the given names, without
+     * loading the artists.
+     *
+     * <p>Each row holds the artist ID and name, in this order. Rows are
+     * sorted by ID, so the oldest artist comes first among namesakes.
+     *
+     * @param names the artist names to look for, never {@code null}
+     * @return the ID and name of each artist found
+     */
+    @Query("SELECT a.id, a.name FROM #{#entityName} a WHERE a.name IN :names ORDER BY a.id")
+    List<Object[]> findIdAndNameByNameIn(@Param("names") Collection<String> names);
 }
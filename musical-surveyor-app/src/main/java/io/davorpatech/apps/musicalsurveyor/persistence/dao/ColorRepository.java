@@ -38,4 +38,26 @@ public interface ColorRepository extends JpaRepository<Color, Long>
     default boolean isEmpty() {
         return count() == 0L;
     }
+
+    /**
+     * Returns whether there is a {@code Color} entity with the given code.
+     *
+     * <p>It is looked for through the unique index of the code, stopping at
+     * the first match.
+     *
+     * @param code the color code to look for
+     * @return {@code true} if the code is taken, {@code false} otherwise
+     */
+    boolean existsByCode(String code);
+
+    /**
+     * Returns whether there is a {@code Color} entity, other than the given
+     * one, with the given code.
+     *
+     * @param code the color code to look for
+     * @param id   the color ID to leave out
+     * @return {@code true} if the code is taken by another color,
+     *         {@code false} otherwise
+     */
+    boolean existsByCodeAndIdNot(String code, Long id);
 }
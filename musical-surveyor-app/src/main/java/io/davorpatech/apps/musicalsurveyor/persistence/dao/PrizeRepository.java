@@ -26,5 +26,25 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public interface PrizeRepository extends JpaRepository<Prize, Long>
 {
+    /**
+     * Returns whether there is a {@code Prize} entity with the given title.
+     *
+     * <p>It is looked for through the unique index of the title, stopping at
+     * the first match.
+     *
+     * @param title the prize title to look for
+     * @return {@code true} if the title is taken, {@code false} otherwise
+     */
+    boolean existsByTitle(String title);
 
+    /**
+     * Returns whether there is a {@code Prize} entity, other than the given
+     * one, with the given title.
+     *
+     * @param title the prize title to look for
+     * @param id    the prize ID to leave out
+     * @return {@code true} if the title is taken by another prize,
+     *         {@code false} otherwise
+     */
+    boolean existsByTitleAndIdNot(String title, Long id);
 }
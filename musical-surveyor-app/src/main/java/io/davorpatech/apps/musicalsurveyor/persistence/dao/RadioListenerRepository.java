@@ -1,10 +1,19 @@
 package io.davorpatech.apps.musicalsurveyor.persistence.dao;
 
 import io.davorpatech.apps.musicalsurveyor.persistence.model.RadioListener;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * The {@code RadioListener} repository interface.
  *
@@ -26,6 +35,12 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public interface RadioListenerRepository extends JpaRepository<RadioListener, Long>
 {
+    /**
+     * The number of rows fetched per database round trip when streaming the
+     * listener IDs.
+     */
+    int IDS_FETCH_SIZE = 1000;
+
     /**
      * Returns whether there are any {@code RadioListener} entities stored in
      * the repository.
@@ -38,4 +53,61 @@ public interface RadioListenerRepository extends JpaRepository<RadioListener, Lo
     default boolean isEmpty() {
         return count() == 0L;
     }
+
+    /**
+     * Streams the IDs of all {@code RadioListener} entities as a forward-only cursor.
+     *
+     * <p>Rows are fetched from the database in chunks of {@value #IDS_FETCH_SIZE}
+     * as the stream is consumed, so the whole table is read in a single pass
+     * without holding it in memory. The returned stream must be consumed inside
+     * a transaction and closed after use.
+     *
+     * @return the stream containing the listener IDs
+     */
+    @Query("SELECT rl.id FROM #{#entityName} rl")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + IDS_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Long> streamAllIdsBy();
+
+    /**
+     * Returns the radio listeners registered with any of the given emails,
+     * without loading them as entities.
+     *
+     * <p>Each row holds the radio listener ID, email, name, phone and address,
+     * in this order. The IN clause parameters are padded by Hibernate, so chunks
+     * of varying size share a few query plans.
+     *
+     * @param emails the emails to look for, never {@code null}
+     * @return the mergeable columns of each radio listener found
+     */
+    @Query("""
+        SELECT rl.id, rl.email, rl.name, rl.phone, rl.address
+        FROM #{#entityName} rl
+        WHERE rl.email IN :emails""")
+    List<Object[]> findMergeableByEmailIn(@Param("emails") Collection<String> emails);
+
+    /**
+     * Returns whether there is a {@code RadioListener} entity with the given
+     * email.
+     *
+     * <p>It is looked for through the unique index of the email, stopping at
+     * the first match.
+     *
+     * @param email the email to look for
+     * @return {@code true} if the email is taken, {@code false} otherwise
+     */
+    boolean existsByEmail(String email);
+
+    /**
+     * Returns whether there is a {@code RadioListener} entity, other than the
+     * given one, with the given email.
+     *
+     * @param email the email to look for
+     * @param id    the radio listener ID to leave out
+     * @return {@code true} if the email is taken by another radio listener,
+     *         {@code false} otherwise
+     */
+    boolean existsByEmailAndIdNot(String email, Long id);
 }
@@ -32,13 +32,18 @@ public interface RafflePrizeRepository extends JpaRepository<RafflePrize, Raffle
     /**
      * Returns whether there are any raffle prizes associated with the given {@code prizeId}.
      *
+     * <p>It stops at the first match, instead of counting all of them.
+     *
      * @param prizeId the prize ID to check, never {@code null}
      * @return {@code true} if there are any raffle prizes associated with the given
      *         {@code prizeId}, {@code false} otherwise
      */
-    default boolean existsByPrize(Long prizeId) {
-        return countByPrize(prizeId) > 0;
-    }
+    @Query("""
+        SELECT CASE WHEN EXISTS (
+            SELECT 1 FROM #{#entityName} rp WHERE rp.prize.id = ?1
+        ) THEN TRUE ELSE FALSE END
+        """)
+    boolean existsByPrize(Long prizeId);
 
     /**
      * Returns the number of raffle prizes associated with the given {@code prizeId}.
@@ -57,13 +62,18 @@ public interface RafflePrizeRepository extends JpaRepository<RafflePrize, Raffle
      * Returns whether there are any prizes associated with the given {@code prizeId}
      * that have been awarded to some winner.
      *
+     * <p>It stops at the first match, instead of counting all of them.
+     *
      * @param prizeId the prize ID to check, never {@code null}
      * @return {@code true} if there are any prizes associated with the given
      *         {@code prizeId} that have been awarded to a winner, {@code false} otherwise
      */
-    default boolean existsAwardedTicketsByPrize(Long prizeId) {
-        return countAwardedTicketsByPrize(prizeId) > 0;
-    }
+    @Query("""
+        SELECT CASE WHEN EXISTS (
+            SELECT 1 FROM #{#entityName} rp WHERE rp.prize.id = ?1 AND rp.winnerTicket IS NOT NULL
+        ) THEN TRUE ELSE FALSE END
+        """)
+    boolean existsAwardedTicketsByPrize(Long prizeId);
 
     /**
      * Returns the number of prizes associated with the given {@code prizeId}
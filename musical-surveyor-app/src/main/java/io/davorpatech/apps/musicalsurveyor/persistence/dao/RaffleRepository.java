@@ -2,10 +2,14 @@ package io.davorpatech.apps.musicalsurveyor.persistence.dao;
 
 import io.davorpatech.apps.musicalsurveyor.persistence.model.Raffle;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 /**
  * The {@code Raffle} repository interface.
  *
@@ -30,13 +34,18 @@ public interface RaffleRepository extends JpaRepository<Raffle, Long>
     /**
      * Returns whether there are any raffles associated with the given {@code surveyId}.
      *
+     * <p>It stops at the first match, instead of counting all of them.
+     *
      * @param surveyId the survey ID to check, never {@code null}
      * @return {@code true} if there are any raffles associated with the given
      *         {@code surveyId}, {@code false} otherwise
      */
-    default boolean existsBySurvey(Long surveyId) {
-        return countBySurvey(surveyId) > 0L;
-    }
+    @Query("""
+        SELECT CASE WHEN EXISTS (
+            SELECT 1 FROM #{#entityName} r WHERE r.survey.id = ?1
+        ) THEN TRUE ELSE FALSE END
+        """)
+    boolean existsBySurvey(Long surveyId);
 
     /**
      * Returns the number of raffles associated with the given {@code surveyId}.
@@ -50,4 +59,33 @@ public interface RaffleRepository extends JpaRepository<Raffle, Long>
      */
     @Query("SELECT COUNT(sp) FROM #{#entityName} sp WHERE sp.survey.id = ?1")
     long countBySurvey(Long surveyId);
+
+    /**
+     * Resolves the raffle with the given {@code id}, unless it is already
+     * resolved, without loading it.
+     *
+     * <p>As a single conditional update, it claims the resolution against
+     * concurrent ones of the same raffle: only one of them succeeds, so the
+     * winners are drawn once.
+     *
+     * @param id             the ID of the raffle to resolve, never {@code null}
+     * @param resolutionDate the date and time of the resolution, never {@code null}
+     * @param seed           the seed the winners are drawn with
+     * @param modifiedBy     the auditor of the resolution, never {@code null}
+     * @return {@code 1} if the raffle was resolved, {@code 0} if it does not
+     *         exist or it is already resolved
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE raffle r
+        SET status = 'RESOLVED', resolution_date = :resolutionDate, resolution_seed = :seed,
+            last_modified_on = :resolutionDate, last_modified_by = :modifiedBy
+        WHERE r.id = :id AND r.status <> 'RESOLVED'
+        """, nativeQuery = true)
+    int resolveIfUnresolved(
+        @Param("id") Long id,
+        @Param("resolutionDate") LocalDateTime resolutionDate,
+        @Param("seed") long seed,
+        @Param("modifiedBy") String modifiedBy);
 }
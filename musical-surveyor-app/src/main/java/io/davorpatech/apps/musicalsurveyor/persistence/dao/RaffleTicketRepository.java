@@ -30,14 +30,16 @@ public interface RaffleTicketRepository extends JpaRepository<RaffleTicket, Long
     /**
      * Returns whether there are any raffle tickets associated with the given {@code colorId}.
      *
+     * <p>It stops at the first match, instead of counting all of them.
+     *
      * @param colorId the color ID to check, never {@code null}
      * @return {@code true} if there are any raffle tickets associated with the given
      *         {@code colorId}, {@code false} otherwise
      */
     @Query("""
-        SELECT CASE WHEN COUNT(rt) > 0 THEN TRUE ELSE FALSE END
-        FROM #{#entityName} rt
-        WHERE rt.color.id = ?1
+        SELECT CASE WHEN EXISTS (
+            SELECT 1 FROM #{#entityName} rt WHERE rt.color.id = ?1
+        ) THEN TRUE ELSE FALSE END
         """)
     boolean existsByColor(Long colorId);
 
@@ -0,0 +1,206 @@
+package io.davorpatech.apps.musicalsurveyor.persistence.dao;
+
+import io.davorpatech.apps.musicalsurveyor.domain.SongWithPopularityInfo;
+import io.davorpatech.apps.musicalsurveyor.persistence.model.SongPopularityRollup;
+import io.davorpatech.apps.musicalsurveyor.persistence.model.SongPopularityRollupId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The {@code SongPopularityRollup} repository interface.
+ *
+ * <p>As a repository, it provides access to the {@code SongPopularityRollup}
+ * entities in the database, including operations for saving, deleting,
+ * and finding {@code SongPopularityRollup} entities.
+ *
+ * <p>It extends the {@link JpaRepository} interface, which provides
+ * access to the basic CRUD operations, plus JPA-specific operations.
+ *
+ * <p>It is annotated with {@link Repository}, which is a Spring
+ * stereotype annotation that indicates that the decorated class
+ * is a repository.
+ *
+ * @see JpaRepository
+ * @see SongPopularityRollup
+ * @see SongPopularityRollupId
+ */
+@Repository
+@Transactional(readOnly = true)
+public interface SongPopularityRollupRepository extends JpaRepository<SongPopularityRollup, SongPopularityRollupId>
+{
+    /**
+     * Adds the given number of likes to the rollup of the given survey, song
+     * and day, creating it when missing.
+     *
+     * @param surveyId    the survey ID, never {@code null}
+     * @param songId      the song ID, never {@code null}
+     * @param respondedOn the day wherein the likes count, never {@code null}
+     * @param delta       the number of likes to add, negative to remove them
+     * @return the number of rollup rows affected
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        MERGE INTO song_popularity_rollup r
+        USING (VALUES (CAST(:surveyId AS BIGINT), CAST(:songId AS BIGINT), CAST(:respondedOn AS DATE)))
+              AS v(survey_id, song_id, responded_on)
+        ON (r.survey_id = v.survey_id AND r.song_id = v.song_id AND r.responded_on = v.responded_on)
+        WHEN MATCHED THEN
+            UPDATE SET likes = r.likes + :delta
+        WHEN NOT MATCHED THEN
+            INSERT (survey_id, song_id, responded_on, likes)
+            VALUES (v.survey_id, v.song_id, v.responded_on, :delta)
+        """, nativeQuery = true)
+    int addLikes(
+        @Param("surveyId") Long surveyId,
+        @Param("songId") Long songId,
+        @Param("respondedOn") LocalDate respondedOn,
+        @Param("delta") int delta);
+
+    /**
+     * Returns the likes of each song inside the given survey, summed over all
+     * the days, without loading the rollups.
+     *
+     * <p>Each row holds the song ID and its likes, in this order.
+     *
+     * @param surveyId the survey ID whose likes are summed, never {@code null}
+     * @return the song ID and likes of each song with rollups in the survey
+     */
+    @Query("SELECT r.id.songId, SUM(r.likes) FROM #{#entityName} r WHERE r.id.surveyId = :surveyId GROUP BY r.id.songId")
+    List<Object[]> sumLikesPerSongInSurvey(@Param("surveyId") Long surveyId);
+
+    /**
+     * Returns the songs ranked by popularity inside the given survey.
+     *
+     * <p>The rank is based on the pre-aggregated likes of the survey, so only
+     * songs with at least one like in it are returned.
+     *
+     * @param surveyId the survey ID whose likes are ranked, never {@code null}
+     * @param pageable the page parameters limiting the ranking, never {@code null}
+     * @return the collection containing the ranked songs by popularity in the survey
+     */
+    @Query(value = """
+        SELECT s.id AS id,
+               s.title AS title,
+               s.release_year AS releaseYear,
+               s.duration AS duration,
+               s.genre AS genre,
+               a.id AS artistId,
+               a.name AS artistName,
+               SUM(r.likes) AS likes
+        FROM song_popularity_rollup r
+             INNER JOIN song s ON (r.song_id = s.id)
+             INNER JOIN artist a ON (s.artist_id = a.id)
+        WHERE r.survey_id = :surveyId
+        GROUP BY s.id, s.title, s.release_year, s.duration, s.genre, a.id, a.name
+        HAVING SUM(r.likes) > 0
+        ORDER BY likes DESC, s.id ASC
+        """, nativeQuery = true)
+    List<SongWithPopularityInfo> findRankedPopularityInSurveyBy(
+        @Param("surveyId") Long surveyId,
+        Pageable pageable);
+
+    /**
+     * Returns a page of songs ranked by popularity inside the given survey,
+     * narrowed by the given optional filters.
+     *
+     * <p>The rank is based on the pre-aggregated likes of the survey, so only
+     * songs with at least one like in it are returned. Ranking order is fixed,
+     * so any sort given through the {@code pageable} argument must be unsorted.
+     *
+     * @param surveyId        the survey ID whose likes are ranked, never {@code null}
+     * @param artistId        the artist ID to filter by, or {@code null} to ignore it
+     * @param genre           the genre to filter by (case-insensitive), or {@code null}
+     *                        to ignore it
+     * @param releaseYearFrom the minimum release year (inclusive), or {@code null}
+     *                        to ignore it
+     * @param releaseYearTo   the maximum release year (inclusive), or {@code null}
+     *                        to ignore it
+     * @param pageable        the page parameters to be applied, never {@code null}
+     * @return the page containing the ranked songs by popularity in the survey
+     */
+    @Query(value = """
+        SELECT s.id AS id,
+               s.title AS title,
+               s.release_year AS releaseYear,
+               s.duration AS duration,
+               s.genre AS genre,
+               a.id AS artistId,
+               a.name AS artistName,
+               SUM(r.likes) AS likes
+        FROM song_popularity_rollup r
+             INNER JOIN song s ON (r.song_id = s.id)
+             INNER JOIN artist a ON (s.artist_id = a.id)
+        WHERE r.survey_id = :surveyId
+          AND (CAST(:artistId AS BIGINT) IS NULL OR s.artist_id = :artistId)
+          AND (CAST(:genre AS VARCHAR) IS NULL OR LOWER(s.genre) = LOWER(:genre))
+          AND (CAST(:releaseYearFrom AS INT) IS NULL OR s.release_year >= :releaseYearFrom)
+          AND (CAST(:releaseYearTo AS INT) IS NULL OR s.release_year <= :releaseYearTo)
+        GROUP BY s.id, s.title, s.release_year, s.duration, s.genre, a.id, a.name
+        HAVING SUM(r.likes) > 0
+        ORDER BY likes DESC, s.id ASC
+        """,
+        countQuery = """
+        SELECT COUNT(*)
+        FROM (SELECT r.song_id
+              FROM song_popularity_rollup r
+                   INNER JOIN song s ON (r.song_id = s.id)
+              WHERE r.survey_id = :surveyId
+                AND (CAST(:artistId AS BIGINT) IS NULL OR s.artist_id = :artistId)
+                AND (CAST(:genre AS VARCHAR) IS NULL OR LOWER(s.genre) = LOWER(:genre))
+                AND (CAST(:releaseYearFrom AS INT) IS NULL OR s.release_year >= :releaseYearFrom)
+                AND (CAST(:releaseYearTo AS INT) IS NULL OR s.release_year <= :releaseYearTo)
+              GROUP BY r.song_id
+              HAVING SUM(r.likes) > 0) ranked
+        """,
+        nativeQuery = true)
+    Page<SongWithPopularityInfo> findRankedPopularityInSurveyBy(
+        @Param("surveyId") Long surveyId,
+        @Param("artistId") Long artistId,
+        @Param("genre") String genre,
+        @Param("releaseYearFrom") Integer releaseYearFrom,
+        @Param("releaseYearTo") Integer releaseYearTo,
+        Pageable pageable);
+
+    /**
+     * Returns the songs ranked by popularity inside the given window of days.
+     *
+     * <p>The rank is based on the pre-aggregated likes of all surveys responded
+     * during the window, so only songs with at least one like in it are returned.
+     *
+     * @param from     the first day of the window (inclusive), never {@code null}
+     * @param to       the last day of the window (inclusive), never {@code null}
+     * @param pageable the page parameters limiting the ranking, never {@code null}
+     * @return the collection containing the ranked songs by popularity in the window
+     */
+    @Query(value = """
+        SELECT s.id AS id,
+               s.title AS title,
+               s.release_year AS releaseYear,
+               s.duration AS duration,
+               s.genre AS genre,
+               a.id AS artistId,
+               a.name AS artistName,
+               SUM(r.likes) AS likes
+        FROM song_popularity_rollup r
+             INNER JOIN song s ON (r.song_id = s.id)
+             INNER JOIN artist a ON (s.artist_id = a.id)
+        WHERE r.responded_on BETWEEN :from AND :to
+        GROUP BY s.id, s.title, s.release_year, s.duration, s.genre, a.id, a.name
+        HAVING SUM(r.likes) > 0
+        ORDER BY likes DESC, s.id ASC
+        """, nativeQuery = true)
+    List<SongWithPopularityInfo> findRankedPopularityBetweenBy(
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to,
+        Pageable pageable);
+}
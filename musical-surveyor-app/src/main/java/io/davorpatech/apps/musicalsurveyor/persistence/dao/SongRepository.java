@@ -2,16 +2,23 @@ package io.davorpatech.apps.musicalsurveyor.persistence.dao;
 
 import io.davorpatech.apps.musicalsurveyor.domain.SongWithPopularityInfo;
 import io.davorpatech.apps.musicalsurveyor.persistence.model.Song;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * The {@code Song} repository interface.
@@ -34,6 +41,18 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public interface SongRepository extends JpaRepository<Song, Long>
 {
+    /**
+     * The number of rows fetched per database round trip when streaming the
+     * popularity ranking.
+     */
+    int RANKED_POPULARITY_FETCH_SIZE = 500;
+
+    /**
+     * The number of rows fetched per database round trip when streaming the
+     * song IDs.
+     */
+    int IDS_FETCH_SIZE = 1000;
+
     /**
      * Returns whether there are any {@code Song} entities stored in
      * the repository.
@@ -88,14 +107,16 @@ public interface SongRepository extends JpaRepository<Song, Long>
     /**
      * Returns whether there are any song associated with the given {@code artistId}.
      *
+     * <p>It stops at the first match, instead of counting all of them.
+     *
      * @param artistId the artist ID to check, never {@code null}
      * @return {@code true} if there are any song associated with the given
      *         {@code artistId}, {@code false} otherwise
      */
     @Query("""
-        SELECT CASE WHEN COUNT(s) > 0 THEN TRUE ELSE FALSE END
-        FROM #{#entityName} s
-        WHERE s.artist.id = ?1
+        SELECT CASE WHEN EXISTS (
+            SELECT 1 FROM #{#entityName} s WHERE s.artist.id = ?1
+        ) THEN TRUE ELSE FALSE END
         """)
     boolean existsByArtist(Long artistId);
 
@@ -155,6 +176,9 @@ public interface SongRepository extends JpaRepository<Song, Long>
      * <p>The rank is based on the number of times the song was selected as a favorite
      * in the successive surveys made by the radio station.
      *
+     * <p>Instead of aggregating the survey responses, the persisted like counter
+     * of each song is read walking the {@code IDX_song_likes} index.
+     *
      * @return the collection containing the ranked songs by popularity
      */
     @Query(value = """
@@ -165,12 +189,174 @@ public interface SongRepository extends JpaRepository<Song, Long>
                s.genre AS genre,
                a.id AS artistId,
                a.name AS artistName,
-               COUNT(sr.song_id) AS likes
+               s.likes AS likes
         FROM song s
              INNER JOIN artist a ON (s.artist_id = a.id)
-             LEFT JOIN survey_responsing sr ON (s.id = sr.song_id)
-        GROUP BY s.id, s.title, s.release_year, s.duration, s.genre, a.id, a.name
-        ORDER BY likes DESC
+        ORDER BY s.likes DESC, s.id ASC
         """, nativeQuery = true)
     List<SongWithPopularityInfo> findAllRankedPopularityBy();
+
+    /**
+     * Streams all songs ranked by popularity as a forward-only cursor.
+     *
+     * <p>Rows are fetched from the database in chunks of
+     * {@value #RANKED_POPULARITY_FETCH_SIZE} as the stream is consumed, so the
+     * whole ranking is never held in memory. The returned stream must be consumed
+     * inside a transaction and closed after use.
+     *
+     * @return the stream containing the ranked songs by popularity
+     *
+     * @see #findAllRankedPopularityBy()
+     */
+    @Query(value = """
+        SELECT s.id AS id,
+               s.title AS title,
+               s.release_year AS releaseYear,
+               s.duration AS duration,
+               s.genre AS genre,
+               a.id AS artistId,
+               a.name AS artistName,
+               s.likes AS likes
+        FROM song s
+             INNER JOIN artist a ON (s.artist_id = a.id)
+        ORDER BY s.likes DESC, s.id ASC
+        """, nativeQuery = true)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + RANKED_POPULARITY_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<SongWithPopularityInfo> streamAllRankedPopularityBy();
+
+    /**
+     * Returns the top-N songs ranked by popularity.
+     *
+     * <p>The rank is based on the number of times the song was selected as a favorite
+     * in the successive surveys made by the radio station.
+     *
+     * @param limit the maximum number of songs to return, always greater than zero
+     * @return the collection containing the top-N ranked songs by popularity
+     *
+     * @see #findAllRankedPopularityBy()
+     */
+    @Query(value = """
+        SELECT s.id AS id,
+               s.title AS title,
+               s.release_year AS releaseYear,
+               s.duration AS duration,
+               s.genre AS genre,
+               a.id AS artistId,
+               a.name AS artistName,
+               s.likes AS likes
+        FROM song s
+             INNER JOIN artist a ON (s.artist_id = a.id)
+        ORDER BY s.likes DESC, s.id ASC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<SongWithPopularityInfo> findTopRankedPopularityBy(@Param("limit") int limit);
+
+    /**
+     * Returns a page of songs ranked by popularity, narrowed by the given
+     * optional filters.
+     *
+     * <p>The rank is based on the persisted like counter of each song, thus is,
+     * the number of times the song was selected as a favorite in the successive
+     * surveys made by the radio station. Ranking order is fixed, so any sort
+     * given through the {@code pageable} argument must be unsorted.
+     *
+     * @param artistId        the artist ID to filter by, or {@code null} to ignore it
+     * @param genre           the genre to filter by (case-insensitive), or {@code null}
+     *                        to ignore it
+     * @param releaseYearFrom the minimum release year (inclusive), or {@code null}
+     *                        to ignore it
+     * @param releaseYearTo   the maximum release year (inclusive), or {@code null}
+     *                        to ignore it
+     * @param pageable        the page parameters to be applied, never {@code null}
+     * @return the page containing the ranked songs by popularity
+     */
+    @Query(value = """
+        SELECT s.id AS id,
+               s.title AS title,
+               s.release_year AS releaseYear,
+               s.duration AS duration,
+               s.genre AS genre,
+               a.id AS artistId,
+               a.name AS artistName,
+               s.likes AS likes
+        FROM song s
+             INNER JOIN artist a ON (s.artist_id = a.id)
+        WHERE (CAST(:artistId AS BIGINT) IS NULL OR s.artist_id = :artistId)
+          AND (CAST(:genre AS VARCHAR) IS NULL OR LOWER(s.genre) = LOWER(:genre))
+          AND (CAST(:releaseYearFrom AS INT) IS NULL OR s.release_year >= :releaseYearFrom)
+          AND (CAST(:releaseYearTo AS INT) IS NULL OR s.release_year <= :releaseYearTo)
+        ORDER BY s.likes DESC, s.id ASC
+        """,
+        countQuery = """
+        SELECT COUNT(*)
+        FROM song s
+        WHERE (CAST(:artistId AS BIGINT) IS NULL OR s.artist_id = :artistId)
+          AND (CAST(:genre AS VARCHAR) IS NULL OR LOWER(s.genre) = LOWER(:genre))
+          AND (CAST(:releaseYearFrom AS INT) IS NULL OR s.release_year >= :releaseYearFrom)
+          AND (CAST(:releaseYearTo AS INT) IS NULL OR s.release_year <= :releaseYearTo)
+        """,
+        nativeQuery = true)
+    Page<SongWithPopularityInfo> findRankedPopularityBy(
+        @Param("artistId") Long artistId,
+        @Param("genre") String genre,
+        @Param("releaseYearFrom") Integer releaseYearFrom,
+        @Param("releaseYearTo") Integer releaseYearTo,
+        Pageable pageable);
+
+    /**
+     * Rebuilds the persisted like counter of all songs from the survey responses,
+     * fixing those that have drifted.
+     *
+     * @return the number of songs whose like counter was fixed, always greater
+     *         than or equal to zero, where zero indicates that no drift was found
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query(value = """
+        UPDATE song s
+        SET likes = (SELECT COUNT(*) FROM survey_responsing sr WHERE sr.song_id = s.id)
+        WHERE s.likes <> (SELECT COUNT(*) FROM survey_responsing sr WHERE sr.song_id = s.id)
+        """, nativeQuery = true)
+    int reconcileLikes();
+
+    /**
+     * Streams the IDs of all {@code Song} entities as a forward-only cursor.
+     *
+     * <p>Rows are fetched from the database in chunks of {@value #IDS_FETCH_SIZE}
+     * as the stream is consumed. The returned stream must be consumed inside
+     * a transaction and closed after use.
+     *
+     * @return the stream containing the song IDs
+     */
+    @Query("SELECT s.id FROM #{#entityName} s")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + IDS_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Long> streamAllIdsBy();
+
+    /**
+     * Returns which of the given song IDs exist, without loading the songs.
+     *
+     * @param ids the song IDs to check, never {@code null}
+     * @return the existing song IDs among the given ones
+     */
+    @Query("SELECT s.id FROM #{#entityName} s WHERE s.id IN :ids")
+    List<Long> findExistingIdsIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Adds the given number of likes to the persisted like counter of the given
+     * songs, without loading them.
+     *
+     * @param ids   the song IDs, never {@code null}
+     * @param delta the number of likes to add, negative to remove them
+     * @return the number of songs whose like counter was changed
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE #{#entityName} s SET s.likes = s.likes + :delta WHERE s.id IN :ids")
+    int addLikes(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
 }
@@ -3,10 +3,14 @@ package io.davorpatech.apps.musicalsurveyor.persistence.dao;
 import io.davorpatech.apps.musicalsurveyor.persistence.model.SurveyParticipation;
 import io.davorpatech.apps.musicalsurveyor.persistence.model.SurveyParticipationId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 /**
  * The {@code SurveyParticipation} repository interface.
  *
@@ -33,13 +37,18 @@ public interface SurveyParticipationRepository extends JpaRepository<SurveyParti
      * Returns whether there are any survey participations associated with the given
      * {@code participantId}.
      *
+     * <p>It stops at the first match, instead of counting all of them.
+     *
      * @param participantId the participant ID to check, never {@code null}
      * @return {@code true} if there are any survey participations associated with the
      *         given {@code participantId}, {@code false} otherwise
      */
-    default boolean existsByParticipant(Long participantId) {
-        return countByParticipant(participantId) > 0L;
-    }
+    @Query("""
+        SELECT CASE WHEN EXISTS (
+            SELECT 1 FROM #{#entityName} sp WHERE sp.participant.id = ?1
+        ) THEN TRUE ELSE FALSE END
+        """)
+    boolean existsByParticipant(Long participantId);
 
     /**
      * Returns the number of survey participations associated with the given
@@ -60,13 +69,18 @@ public interface SurveyParticipationRepository extends JpaRepository<SurveyParti
      * Returns whether there are any survey participations associated with the given
      * {@code surveyId}.
      *
+     * <p>It stops at the first match, instead of counting all of them.
+     *
      * @param surveyId the survey ID to check, never {@code null}
      * @return {@code true} if there are any survey participations associated with the
      *         given {@code surveyId}, {@code false} otherwise
      */
-    default boolean existsBySurvey(Long surveyId) {
-        return countBySurvey(surveyId) > 0L;
-    }
+    @Query("""
+        SELECT CASE WHEN EXISTS (
+            SELECT 1 FROM #{#entityName} sp WHERE sp.survey.id = ?1
+        ) THEN TRUE ELSE FALSE END
+        """)
+    boolean existsBySurvey(Long surveyId);
 
     /**
      * Returns the number of survey participations associated with the given
@@ -86,14 +100,21 @@ public interface SurveyParticipationRepository extends JpaRepository<SurveyParti
      * Returns whether there are some participants that have completed the survey
      * associated with the given {@code surveyId}.
      *
+     * <p>It stops at the first match, instead of counting all of them. Completed
+     * participations are told by their participation date, set along their
+     * responses, so the responses are not joined.
+     *
      * @param surveyId the survey ID to check, never {@code null}
      * @return {@code true} if there are some participants that have completed the
      *         survey associated with the given {@code surveyId}, {@code false}
      *         otherwise
      */
-    default boolean existsByRespondedSurvey(Long surveyId) {
-        return countByRespondedSurvey(surveyId) > 0L;
-    }
+    @Query("""
+        SELECT CASE WHEN EXISTS (
+            SELECT 1 FROM #{#entityName} sp WHERE sp.survey.id = ?1 AND sp.participatedAt IS NOT NULL
+        ) THEN TRUE ELSE FALSE END
+        """)
+    boolean existsByRespondedSurvey(Long surveyId);
 
     /**
      * Returns the number of participants that have completed the survey associated
@@ -107,6 +128,36 @@ public interface SurveyParticipationRepository extends JpaRepository<SurveyParti
      *         with the given {@code surveyId}, never {@code null}, always greater
      *         than or equal to 0
      */
-    @Query("SELECT COUNT(sp) FROM #{#entityName} sp WHERE sp.survey.id = ?1 AND sp.responses IS NOT EMPTY")
+    @Query("SELECT COUNT(sp) FROM #{#entityName} sp WHERE sp.survey.id = ?1 AND sp.participatedAt IS NOT NULL")
     long countByRespondedSurvey(Long surveyId);
+
+    /**
+     * Marks the participation of the given participant in the given survey as
+     * responded, only if it has not been responded yet.
+     *
+     * <p>As a single conditional update, it also guards against concurrent
+     * submissions of the same participant: only one of them succeeds.
+     *
+     * @param surveyId       the survey ID, never {@code null}
+     * @param participantId  the participant ID, never {@code null}
+     * @param participatedAt the date and time of the responses, never {@code null}
+     * @param modifiedBy     the auditor of the responses, never {@code null}
+     * @return {@code 1} if the participation was marked, {@code 0} if it does
+     *         not exist or was already responded
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE #{#entityName} sp
+        SET sp.participatedAt = :participatedAt,
+            sp.audit.lastModifiedOn = :participatedAt,
+            sp.audit.lastModifiedBy = :modifiedBy
+        WHERE sp.id.surveyId = :surveyId AND sp.id.participantId = :participantId
+          AND sp.participatedAt IS NULL
+        """)
+    int markResponded(
+        @Param("surveyId") Long surveyId,
+        @Param("participantId") Long participantId,
+        @Param("participatedAt") LocalDateTime participatedAt,
+        @Param("modifiedBy") String modifiedBy);
 }
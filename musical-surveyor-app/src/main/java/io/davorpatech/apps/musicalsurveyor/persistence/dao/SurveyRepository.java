@@ -1,10 +1,18 @@
 package io.davorpatech.apps.musicalsurveyor.persistence.dao;
 
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyStatus;
 import io.davorpatech.apps.musicalsurveyor.persistence.model.Survey;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * The {@code Survey} repository interface.
  *
@@ -26,5 +34,99 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public interface SurveyRepository extends JpaRepository<Survey, Long> // NOSONAR
 {
+    /**
+     * Returns the status, start date and end date of the surveys in any of
+     * the given statuses, without loading the surveys.
+     *
+     * <p>Each row holds the survey ID, status, start date and end date, in
+     * this order.
+     *
+     * @param statuses the survey statuses to look for, never {@code null}
+     * @return the schedule of each survey found
+     */
+    @Query("SELECT s.id, s.status, s.startDate, s.endDate FROM #{#entityName} s WHERE s.status IN :statuses")
+    List<Object[]> findScheduleByStatusIn(@Param("statuses") Collection<SurveyStatus> statuses);
+
+    /**
+     * Returns the status, start date and end date of the given survey, as
+     * currently stored, without loading the survey.
+     *
+     * <p>The row holds the survey ID, status, start date and end date, in
+     * this order.
+     *
+     * @param id the survey ID to look for, never {@code null}
+     * @return the schedule of the survey, empty if it does not exist
+     */
+    @Query("SELECT s.id, s.status, s.startDate, s.endDate FROM #{#entityName} s WHERE s.id = :id")
+    List<Object[]> findScheduleById(@Param("id") Long id);
+
+    /**
+     * Returns the IDs of up to the given number of running surveys ended
+     * before the given date and time, with some participant who has responded,
+     * locking them until the end of the current transaction.
+     *
+     * <p>The surveys are not loaded, so neither are their raffles.
+     *
+     * @param now   the current date and time, never {@code null}
+     * @param limit the maximum number of IDs to return, greater than zero
+     * @return the IDs of the surveys ready to be closed, sorted by ID
+     */
+    @Query(value = """
+        SELECT s.id FROM survey s
+        WHERE s.status = 'RUNNING' AND s.end_date < :now
+          AND EXISTS (SELECT 1 FROM survey_participation sp
+                      WHERE sp.survey_id = s.id AND sp.participated_at IS NOT NULL)
+        ORDER BY s.id
+        LIMIT :limit
+        FOR UPDATE
+        """, nativeQuery = true)
+    List<Long> lockClosableIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Closes the given surveys all at once, without loading them.
+     *
+     * @param ids        the IDs of the surveys to close, never {@code null} nor empty
+     * @param now        the current date and time, never {@code null}
+     * @param modifiedBy the auditor of the closing, never {@code null}
+     * @return the number of surveys closed
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE survey
+        SET status = 'CLOSED', last_modified_on = :now, last_modified_by = :modifiedBy
+        WHERE id IN (:ids)
+        """, nativeQuery = true)
+    int closeAllById(
+        @Param("ids") Collection<Long> ids,
+        @Param("now") LocalDateTime now,
+        @Param("modifiedBy") String modifiedBy);
 
+    /**
+     * Closes the given survey only if it is running, it ended before the given
+     * date and time, and some participant has responded, without loading it.
+     *
+     * <p>As a single conditional update, it also guards against concurrent
+     * closings of the same survey: only one of them succeeds. The persistence
+     * context is cleared afterward, so the survey is read back as updated.
+     *
+     * @param id         the ID of the survey to close, never {@code null}
+     * @param now        the current date and time, never {@code null}
+     * @param modifiedBy the auditor of the closing, never {@code null}
+     * @return {@code 1} if the survey was closed, {@code 0} if it does not
+     *         exist or cannot be closed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query(value = """
+        UPDATE survey s
+        SET status = 'CLOSED', last_modified_on = :now, last_modified_by = :modifiedBy
+        WHERE s.id = :id AND s.status = 'RUNNING' AND s.end_date < :now
+          AND EXISTS (SELECT 1 FROM survey_participation sp
+                      WHERE sp.survey_id = s.id AND sp.participated_at IS NOT NULL)
+        """, nativeQuery = true)
+    int closeIfClosable(
+        @Param("id") Long id,
+        @Param("now") LocalDateTime now,
+        @Param("modifiedBy") String modifiedBy);
 }
@@ -1,6 +1,7 @@
 package io.davorpatech.apps.musicalsurveyor.persistence.model;
 
 import io.davorpatech.apps.musicalsurveyor.domain.artist.ArtistConstants;
+import io.davorpatech.apps.musicalsurveyor.persistence.PersistenceConstants;
 import io.davorpatech.fwk.auditing.jpa.Audit;
 import io.davorpatech.fwk.auditing.jpa.AuditAccessor;
 import io.davorpatech.fwk.model.BaseEntity;
@@ -42,8 +43,12 @@ public class Artist extends BaseEntity<Long> implements AuditAccessor // NOSONAR
     private static final long serialVersionUID = 6983478586962494353L;
 
     @Id
-    @GeneratedValue(strategy =  GenerationType.IDENTITY)
-    @Column(name = "id", nullable = false, insertable = false, updatable = false)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ArtistConstants.ID_SEQUENCE_NAME)
+    @SequenceGenerator(
+        name = ArtistConstants.ID_SEQUENCE_NAME,
+        sequenceName = ArtistConstants.ID_SEQUENCE_NAME,
+        allocationSize = PersistenceConstants.ID_ALLOCATION_SIZE)
+    @Column(name = "id", nullable = false, updatable = false)
     @Null(groups = { OnCreate.class })
     @NotNull(groups = { OnUpdate.class })
     private Long id;
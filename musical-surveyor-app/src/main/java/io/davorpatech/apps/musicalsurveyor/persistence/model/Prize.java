@@ -1,6 +1,7 @@
 package io.davorpatech.apps.musicalsurveyor.persistence.model;
 
 import io.davorpatech.apps.musicalsurveyor.domain.prizes.PrizeConstants;
+import io.davorpatech.apps.musicalsurveyor.persistence.PersistenceConstants;
 import io.davorpatech.fwk.auditing.jpa.Audit;
 import io.davorpatech.fwk.auditing.jpa.AuditAccessor;
 import io.davorpatech.fwk.model.BaseEntity;
@@ -40,8 +41,12 @@ public class Prize extends BaseEntity<Long> implements AuditAccessor // NOSONAR
     private static final long serialVersionUID = 7324518886994447461L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "id", nullable = false, insertable = false, updatable = false)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = PrizeConstants.ID_SEQUENCE_NAME)
+    @SequenceGenerator(
+        name = PrizeConstants.ID_SEQUENCE_NAME,
+        sequenceName = PrizeConstants.ID_SEQUENCE_NAME,
+        allocationSize = PersistenceConstants.ID_ALLOCATION_SIZE)
+    @Column(name = "id", nullable = false, updatable = false)
     @Null(groups = { OnCreate.class })
     @NotNull(groups = { OnUpdate.class })
     private Long id;
@@ -51,6 +51,9 @@ public class Raffle extends BaseEntity<Long> implements AuditAccessor // NOSONAR
     @Column(name = "resolution_date", nullable = true)
     private LocalDateTime resolutionDate;
 
+    @Column(name = "resolution_seed", nullable = true)
+    private Long resolutionSeed;
+
     @OneToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(
         name = "id",
@@ -68,8 +71,8 @@ public class Raffle extends BaseEntity<Long> implements AuditAccessor // NOSONAR
     @Override
     protected String defineObjAttrs() {
         return String.format(
-            "%s, surveyId=%s, status=%s, resolution_date='%s', prizes=%s",
-            super.defineObjAttrs(), getSurveyId(), status, resolutionDate, prizes.size());
+            "%s, surveyId=%s, status=%s, resolution_date='%s', resolution_seed=%s, prizes=%s",
+            super.defineObjAttrs(), getSurveyId(), status, resolutionDate, resolutionSeed, prizes.size());
     }
 
     @Override
@@ -127,6 +130,26 @@ public class Raffle extends BaseEntity<Long> implements AuditAccessor // NOSONAR
         this.resolutionDate = resolutionDate;
     }
 
+    /**
+     * Gets the seed of the pseudorandom generator the winners were drawn
+     * with, so the draw can be audited by replaying it.
+     *
+     * @return the seed the raffle was resolved with, or {@code null} if it
+     *         has not been resolved yet
+     */
+    public Long getResolutionSeed() {
+        return resolutionSeed;
+    }
+
+    /**
+     * Sets the seed of the pseudorandom generator the winners were drawn with.
+     *
+     * @param resolutionSeed the seed the raffle was resolved with
+     */
+    public void setResolutionSeed(Long resolutionSeed) {
+        this.resolutionSeed = resolutionSeed;
+    }
+
     /**
      * Gets the survey that originated the raffle.
      *
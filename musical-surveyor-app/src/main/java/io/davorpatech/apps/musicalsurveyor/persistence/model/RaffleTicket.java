@@ -1,6 +1,7 @@
 package io.davorpatech.apps.musicalsurveyor.persistence.model;
 
 import io.davorpatech.apps.musicalsurveyor.domain.RaffleTicketConstants;
+import io.davorpatech.apps.musicalsurveyor.persistence.PersistenceConstants;
 import io.davorpatech.fwk.model.BaseEntity;
 import io.davorpatech.fwk.validation.groups.OnCreate;
 import io.davorpatech.fwk.validation.groups.OnUpdate;
@@ -42,13 +43,17 @@ public class RaffleTicket extends BaseEntity<Long> // NOSONAR
     private static final long serialVersionUID = 5222976463579443925L;
 
     @Id
-    @GeneratedValue(strategy =  GenerationType.IDENTITY)
-    @Column(name = "id", nullable = false, insertable = false, updatable = false)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = RaffleTicketConstants.ID_SEQUENCE_NAME)
+    @SequenceGenerator(
+        name = RaffleTicketConstants.ID_SEQUENCE_NAME,
+        sequenceName = RaffleTicketConstants.ID_SEQUENCE_NAME,
+        allocationSize = PersistenceConstants.ID_ALLOCATION_SIZE)
+    @Column(name = "id", nullable = false, updatable = false)
     @Null(groups = { OnCreate.class })
     @NotNull(groups = { OnUpdate.class })
     private Long id;
 
-    @Column(name = "`number`", length = RaffleTicketConstants.NUMBER_MAXLEN, nullable = false)
+    @Column(name = "number", length = RaffleTicketConstants.NUMBER_MAXLEN, nullable = false)
     @NotBlank
     @Size(max = RaffleTicketConstants.NUMBER_MAXLEN)
     @Pattern(regexp = RaffleTicketConstants.NUMBER_REGEX)
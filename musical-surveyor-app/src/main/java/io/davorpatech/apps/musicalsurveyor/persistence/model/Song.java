@@ -1,6 +1,7 @@
 package io.davorpatech.apps.musicalsurveyor.persistence.model;
 
 import io.davorpatech.apps.musicalsurveyor.domain.songs.SongConstants;
+import io.davorpatech.apps.musicalsurveyor.persistence.PersistenceConstants;
 import io.davorpatech.fwk.auditing.jpa.Audit;
 import io.davorpatech.fwk.auditing.jpa.AuditAccessor;
 import io.davorpatech.fwk.model.BaseEntity;
@@ -37,15 +38,27 @@ import java.util.Set;
     AuditingEntityListener.class
 })
 @Entity(name = SongConstants.DOMAIN_NAME)
-@Table(name = "SONG")
+@Table(
+    name = "SONG",
+    indexes = {
+        @Index(
+            name = "IDX_song_likes",
+            columnList = "likes DESC, id ASC"
+        )
+    }
+)
 public class Song extends BaseEntity<Long> implements AuditAccessor // NOSONAR
 {
     @Serial
     private static final long serialVersionUID = -8577673241957398795L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "id", nullable = false, insertable = false, updatable = false)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SongConstants.ID_SEQUENCE_NAME)
+    @SequenceGenerator(
+        name = SongConstants.ID_SEQUENCE_NAME,
+        sequenceName = SongConstants.ID_SEQUENCE_NAME,
+        allocationSize = PersistenceConstants.ID_ALLOCATION_SIZE)
+    @Column(name = "id", nullable = false, updatable = false)
     @Null(groups = { OnCreate.class })
     @NotNull(groups = { OnUpdate.class })
     private Long id;
@@ -67,6 +80,10 @@ public class Song extends BaseEntity<Long> implements AuditAccessor // NOSONAR
     @Size(max = SongConstants.GENRE_MAXLEN)
     private String genre;
 
+    @Column(name = "likes", nullable = false, insertable = false, updatable = false)
+    @PositiveOrZero
+    private long likes;
+
     @Embedded
     private final Audit audit = new Audit();
 
@@ -86,10 +103,10 @@ public class Song extends BaseEntity<Long> implements AuditAccessor // NOSONAR
     @Override
     protected String defineObjAttrs() {
         return String.format(
-            "%s, artist_id=%s, title='%s', releaseYear=%s, duration=%s, genre=%s, participations=%s",
+            "%s, artist_id=%s, title='%s', releaseYear=%s, duration=%s, genre=%s, likes=%s, participations=%s",
             super.defineObjAttrs(), getArtistId(), title, releaseYear, duration,
             genre == null ? null : '\'' + genre + '\'',
-            participations.size());
+            likes, participations.size());
     }
 
     @Override
@@ -189,6 +206,20 @@ public class Song extends BaseEntity<Long> implements AuditAccessor // NOSONAR
         this.genre = genre;
     }
 
+    /**
+     * Gets the persisted like counter of the song.
+     *
+     * <p>It is the number of times the song was selected as a favorite in the
+     * successive surveys. It is never written through the entity, but by
+     * atomic updates of the stored counter as responses are added or removed,
+     * so concurrent votes are never lost, and the value read may lag behind.
+     *
+     * @return the number of likes of the song, always greater than or equal to zero
+     */
+    public long getLikes() {
+        return likes;
+    }
+
     /**
      * Gets the artist of the song.
      *
@@ -256,7 +287,9 @@ public class Song extends BaseEntity<Long> implements AuditAccessor // NOSONAR
     public void addParticipation(SurveyParticipation participation) {
         Objects.requireNonNull(participation, "participation to add must not be null!");
         participations.add(participation); // register in this side
-        participation.responses.add(this); // register in the other side
+        if (participation.responses.add(this)) { // register in the other side
+            participation.trackLikeDelta(this, +1);
+        }
     }
 
     /**
@@ -269,7 +302,9 @@ public class Song extends BaseEntity<Long> implements AuditAccessor // NOSONAR
     public void removeParticipation(SurveyParticipation participation) {
         Objects.requireNonNull(participation, "participation to remove must not be null!");
         participations.remove(participation); // unregister in this side
-        participation.responses.remove(this); // unregister in the other side
+        if (participation.responses.remove(this)) { // unregister in the other side
+            participation.trackLikeDelta(this, -1);
+        }
     }
 
     @Override
@@ -0,0 +1,88 @@
+package io.davorpatech.apps.musicalsurveyor.persistence.model;
+
+import io.davorpatech.apps.musicalsurveyor.domain.SongPopularityRollupConstants;
+import io.davorpatech.fwk.model.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serial;
+import java.time.LocalDate;
+
+/**
+ * The SongPopularityRollup entity class.
+ *
+ * <p>A song popularity rollup is a pre-aggregated read model holding how many
+ * times a song was selected as a favorite in a given survey during a given day.
+ *
+ * <p>It is kept up to date each time the responses of a {@link SurveyParticipation}
+ * change, so per-survey and time-windowed popularity rankings can be answered
+ * without scanning all the survey responses.
+ *
+ * <p>As an entity, follows the {@link BaseEntity} contract, which means
+ * that it has an ID, and it can be compared for equality to other entities
+ * using that identifiable field.
+ */
+@Entity(name = SongPopularityRollupConstants.DOMAIN_NAME)
+@Table(
+    name = "SONG_POPULARITY_ROLLUP",
+    indexes = {
+        @Index(
+            name = "IDX_song_popularity_rollup_responded_on",
+            columnList = "responded_on, song_id"
+        )
+    }
+)
+public class SongPopularityRollup extends BaseEntity<SongPopularityRollupId> // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = 2969306176870539420L;
+
+    @EmbeddedId
+    @NotNull
+    @Valid
+    private SongPopularityRollupId id;
+
+    @Column(name = "likes", nullable = false)
+    private long likes;
+
+    /**
+     * Constructs a new {@code SongPopularityRollup} instance without set
+     * any properties.
+     */
+    SongPopularityRollup() {
+        super();
+    }
+
+    /**
+     * Constructs a new {@code SongPopularityRollup} instance with the given
+     * properties set.
+     *
+     * @param surveyId    the survey ID, part of the composite primary key
+     * @param songId      the song ID, part of the composite primary key
+     * @param respondedOn the day of the responses, part of the composite primary key
+     */
+    public SongPopularityRollup(Long surveyId, Long songId, LocalDate respondedOn) {
+        super();
+        this.id = new SongPopularityRollupId(surveyId, songId, respondedOn);
+    }
+
+    @Override
+    protected String defineObjAttrs() {
+        return String.format("%s, likes=%s", super.defineObjAttrs(), likes);
+    }
+
+    @Override
+    public SongPopularityRollupId getId() {
+        return id;
+    }
+
+    /**
+     * Gets the number of likes of the song in the survey and day of this rollup.
+     *
+     * @return the number of likes
+     */
+    public long getLikes() {
+        return likes;
+    }
+}
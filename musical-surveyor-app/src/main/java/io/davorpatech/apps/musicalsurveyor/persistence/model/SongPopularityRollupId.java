@@ -0,0 +1,112 @@
+package io.davorpatech.apps.musicalsurveyor.persistence.model;
+
+import io.davorpatech.fwk.model.BaseValueObject;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serial;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * The SongPopularityRollupId entity class.
+ *
+ * <p>It represents the composite primary key of the {@link SongPopularityRollup}
+ * entity.
+ *
+ * <p>As a value object, follows the {@link BaseValueObject} contract, which
+ * means that it has no ID, and it can be compared for equality to other value
+ * objects using its attributes.
+ *
+ * @see SongPopularityRollup
+ */
+@Embeddable
+public class SongPopularityRollupId extends BaseValueObject // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = -6145232906630879416L;
+
+    @Column(name = "survey_id", nullable = false)
+    @NotNull
+    private Long surveyId;
+
+    @Column(name = "song_id", nullable = false)
+    @NotNull
+    private Long songId;
+
+    @Column(name = "responded_on", nullable = false)
+    @NotNull
+    private LocalDate respondedOn;
+
+    /**
+     * Constructs a new {@link SongPopularityRollupId} instance with no values.
+     */
+    SongPopularityRollupId() {
+        super();
+    }
+
+    /**
+     * Constructs a new {@link SongPopularityRollupId} instance with the given values
+     * that forms the composite primary key of the {@link SongPopularityRollup} entity
+     *
+     * @param surveyId    the survey ID to set
+     * @param songId      the song ID to set
+     * @param respondedOn the day when the responses were submitted to set
+     */
+    public SongPopularityRollupId(Long surveyId, Long songId, LocalDate respondedOn) {
+        super();
+        this.surveyId = surveyId;
+        this.songId = songId;
+        this.respondedOn = respondedOn;
+    }
+
+    @Override
+    protected String defineObjAttrs() {
+        return String.format("surveyId=%s, songId=%s, respondedOn=%s",
+                getSurveyId(), getSongId(), getRespondedOn());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SongPopularityRollupId other = (SongPopularityRollupId) o;
+        return Objects.equals(getSurveyId(), other.getSurveyId()) &&
+                Objects.equals(getSongId(), other.getSongId()) &&
+                Objects.equals(getRespondedOn(), other.getRespondedOn());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getSurveyId(), getSongId(), getRespondedOn());
+    }
+
+    /**
+     * Gets the survey ID part of the composite primary key.
+     *
+     * @return the survey ID
+     */
+    public Long getSurveyId() {
+        return surveyId;
+    }
+
+    /**
+     * Gets the song ID part of the composite primary key.
+     *
+     * @return the song ID
+     */
+    public Long getSongId() {
+        return songId;
+    }
+
+    /**
+     * Gets the day when the responses were submitted, part of the composite
+     * primary key.
+     *
+     * @return the day when the responses were submitted
+     */
+    public LocalDate getRespondedOn() {
+        return respondedOn;
+    }
+}
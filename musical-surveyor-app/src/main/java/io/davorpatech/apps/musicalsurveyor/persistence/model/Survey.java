@@ -2,6 +2,7 @@ package io.davorpatech.apps.musicalsurveyor.persistence.model;
 
 import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyConstants;
 import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyStatus;
+import io.davorpatech.apps.musicalsurveyor.persistence.PersistenceConstants;
 import io.davorpatech.fwk.auditing.jpa.Audit;
 import io.davorpatech.fwk.auditing.jpa.AuditAccessor;
 import io.davorpatech.fwk.model.BaseEntity;
@@ -44,8 +45,12 @@ public class Survey extends BaseEntity<Long> implements AuditAccessor // NOSONAR
     private static final long serialVersionUID = -6363601101197972405L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "id", nullable = false, insertable = false, updatable = false)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SurveyConstants.ID_SEQUENCE_NAME)
+    @SequenceGenerator(
+        name = SurveyConstants.ID_SEQUENCE_NAME,
+        sequenceName = SurveyConstants.ID_SEQUENCE_NAME,
+        allocationSize = PersistenceConstants.ID_ALLOCATION_SIZE)
+    @Column(name = "id", nullable = false, updatable = false)
     @Null(groups = {OnCreate.class})
     @NotNull(groups = {OnUpdate.class})
     private Long id;
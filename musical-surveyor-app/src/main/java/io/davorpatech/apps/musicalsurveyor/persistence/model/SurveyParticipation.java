@@ -1,19 +1,21 @@
 package io.davorpatech.apps.musicalsurveyor.persistence.model;
 
 import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyParticipationConstants;
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyResponsesChangedEvent;
 import io.davorpatech.fwk.auditing.jpa.Audit;
 import io.davorpatech.fwk.auditing.jpa.AuditAccessor;
 import io.davorpatech.fwk.model.BaseEntity;
 import jakarta.persistence.*;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.io.Serial;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.LinkedHashSet;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
 
 /**
  * The SurveyParticipation entity class.
@@ -100,6 +102,13 @@ public class SurveyParticipation extends BaseEntity<SurveyParticipationId> imple
     @Embedded
     private final Audit audit = new Audit();
 
+    /**
+     * Net number of likes added or removed per song ID since the last time
+     * the domain events of this participation were published.
+     */
+    @Transient
+    private final transient Map<Long, Integer> pendingLikeDeltas = new LinkedHashMap<>();
+
     /**
      * Constructs a new {@code SurveyParticipation} instance without set
      * any properties.
@@ -312,25 +321,76 @@ public class SurveyParticipation extends BaseEntity<SurveyParticipationId> imple
     /**
      * Adds a song to the responses of the participant.
      *
+     * <p>When the song was not already a response, a like is tracked to be
+     * added to its persisted like counter once this participation is saved.
+     *
      * @param song the song to add, must not be {@code null}
      */
     public void addResponse(Song song) {
         Objects.requireNonNull(song, "song to add must not be null!");
-        responses.add(song); // register in this side
+        if (responses.add(song)) { // register in this side
+            trackLikeDelta(song, +1);
+        }
         song.participations.add(this); // register in the other side
     }
 
     /**
      * Removes a song from the responses of the participant.
      *
+     * <p>When the song was a response, a like is tracked to be removed from
+     * its persisted like counter once this participation is saved.
+     *
      * @param song the song to remove, must not be {@code null}
      */
     public void removeResponse(Song song) {
         Objects.requireNonNull(song, "song to remove must not be null!");
-        responses.remove(song); // unregister in this side
+        if (responses.remove(song)) { // unregister in this side
+            trackLikeDelta(song, -1);
+        }
         song.participations.remove(this); // unregister in the other side
     }
 
+    /**
+     * Tracks a like change of the given song, to be published as part of a
+     * {@link SurveyResponsesChangedEvent}.
+     *
+     * @param song  the song whose likes changed, never {@code null}
+     * @param delta the number of likes added (positive) or removed (negative)
+     */
+    void trackLikeDelta(Song song, int delta) {
+        Long songId = song.getId();
+        if (songId != null) { // transient songs cannot be rolled up
+            pendingLikeDeltas.merge(songId, delta, Integer::sum);
+        }
+    }
+
+    /**
+     * Returns the domain events to be published when this participation is
+     * saved through its repository.
+     *
+     * @return the domain events, never {@code null}
+     */
+    @DomainEvents
+    Collection<SurveyResponsesChangedEvent> domainEvents() {
+        pendingLikeDeltas.values().removeIf(delta -> delta == 0);
+        if (pendingLikeDeltas.isEmpty()) {
+            return List.of();
+        }
+        LocalDate respondedOn = participatedAt == null
+            ? LocalDate.now()
+            : participatedAt.toLocalDate();
+        return List.of(new SurveyResponsesChangedEvent(
+            getSurveyId(), getParticipantId(), respondedOn, pendingLikeDeltas));
+    }
+
+    /**
+     * Clears the domain events once they have been published.
+     */
+    @AfterDomainEventPublication
+    void clearDomainEvents() {
+        pendingLikeDeltas.clear();
+    }
+
     @Override
     public Audit getAudit() {
         return audit;
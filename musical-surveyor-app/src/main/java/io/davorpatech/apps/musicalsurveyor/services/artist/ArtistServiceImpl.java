@@ -77,10 +77,10 @@ public class ArtistServiceImpl extends JpaBasedDataService<
     @Override
     protected void checkEntityDeletion(@NonNull Artist entity) {
         Long id = entity.getId();
-        long count = songRepository.countByArtist(id);
-        if (count > 0) {
+        // counted only once known to be in use, as they may be a lot
+        if (songRepository.existsByArtist(id)) {
             throw new EntityUsedByForeignsException(
-                ArtistConstants.DOMAIN_NAME, id, SongConstants.DOMAIN_NAME, count);
+                ArtistConstants.DOMAIN_NAME, id, SongConstants.DOMAIN_NAME, songRepository.countByArtist(id));
         }
     }
 }
@@ -5,10 +5,10 @@ import io.davorpatech.apps.musicalsurveyor.domain.colors.*;
 import io.davorpatech.apps.musicalsurveyor.persistence.dao.ColorRepository;
 import io.davorpatech.apps.musicalsurveyor.persistence.dao.RaffleTicketRepository;
 import io.davorpatech.apps.musicalsurveyor.persistence.model.Color;
-import io.davorpatech.fwk.exception.EntityUsedByForeignsException;
+import io.davorpatech.fwk.service.data.jpa.ConstraintViolationTranslator;
 import io.davorpatech.fwk.service.data.jpa.JpaBasedDataService;
+import io.davorpatech.fwk.service.data.jpa.UniquenessGuard;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Sort;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
@@ -34,7 +34,17 @@ public class ColorServiceImpl extends JpaBasedDataService<
     implements ColorService // NOSONAR
 {
 
-    private final RaffleTicketRepository raffleTicketRepository;
+    /**
+     * The guard keeping the color codes unique.
+     */
+    private final UniquenessGuard<String> codeGuard =
+        new UniquenessGuard<>("UK_color_code", ColorCodeAlreadyExistsException::new);
+
+    /**
+     * The translator of the constraint violations raised writing colors, as
+     * deleting the ones still referenced.
+     */
+    private final ConstraintViolationTranslator<Long> violationTranslator;
 
     /**
      * Constructs a new {@link ColorServiceImpl} with the given arguments.
@@ -46,7 +56,10 @@ public class ColorServiceImpl extends JpaBasedDataService<
     {
         super(colorRepository, ColorConstants.DOMAIN_NAME);
         Assert.notNull(raffleTicketRepository, "RaffleTicketRepository must not be null!");
-        this.raffleTicketRepository = raffleTicketRepository;
+        this.violationTranslator = ConstraintViolationTranslator.<Long>builder()
+            .usedByForeigns("FK_raffle_ticket_color_id", domainName,
+                RaffleTicketConstants.DOMAIN_NAME, raffleTicketRepository::countByColor)
+            .build();
     }
 
     @Override
@@ -61,18 +74,16 @@ public class ColorServiceImpl extends JpaBasedDataService<
                 entity.getCode());
     }
 
+    @Override
+    protected ConstraintViolationTranslator<Long> getConstraintViolationTranslator() {
+        return violationTranslator;
+    }
+
     @Transactional
     @Override
     public @NonNull ColorDTO create(@NonNull CreateColorInput input) {
-        try {
-            return super.create(input);
-        } catch (DataIntegrityViolationException ex) {
-            // translate the exception to a more meaningful one
-            if (StringUtils.containsIgnoreCase(ex.getMessage(), "UK_COLOR_CODE")) {
-                throw new ColorCodeAlreadyExistsException(input.getCode(), ex);
-            }
-            throw ex;
-        }
+        final String code = input.getCode();
+        return codeGuard.execute(code, () -> repository.existsByCode(code), () -> super.create(input));
     }
 
     @Override
@@ -85,18 +96,9 @@ public class ColorServiceImpl extends JpaBasedDataService<
     @Transactional
     @Override
     public @NonNull ColorDTO update(@NonNull UpdateColorInput input) {
-        try {
-            ColorDTO dto = super.update(input);
-            // To be able to capture exceptions like DataIntegrityViolationException
-            repository.flush();
-            return dto;
-        } catch (DataIntegrityViolationException ex) {
-            // translate the exception to a more meaningful one
-            if (StringUtils.containsIgnoreCase(ex.getMessage(), "UK_COLOR_CODE")) {
-                throw new ColorCodeAlreadyExistsException(input.getCode(), ex);
-            }
-            throw ex;
-        }
+        final String code = input.getCode();
+        return codeGuard.execute(code, () -> repository.existsByCodeAndIdNot(code, input.getId()),
+            () -> super.update(input));
     }
 
     @Override
@@ -110,23 +112,4 @@ public class ColorServiceImpl extends JpaBasedDataService<
         }
         entity.setCode(updatedCode);
     }
-
-    @Transactional
-    @Override
-    public void deleteById(@NonNull Long id) {
-        try {
-            super.deleteById(id);
-            // To be able to capture exceptions like DataIntegrityViolationException
-            repository.flush();
-        } catch (DataIntegrityViolationException ex) {
-            // translate the exception to a more meaningful one
-            long count = -1;
-            if (StringUtils.containsIgnoreCase(ex.getMessage(), "FK_RAFFLE_TICKET_COLOR_ID")
-                    && (count = raffleTicketRepository.countByColor(id)) > 0) {
-                throw new EntityUsedByForeignsException(domainName, id,
-                    RaffleTicketConstants.DOMAIN_NAME, count, ex);
-            }
-            throw ex;
-        }
-    }
 }
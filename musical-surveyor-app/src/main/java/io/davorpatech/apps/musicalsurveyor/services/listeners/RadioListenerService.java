@@ -3,9 +3,13 @@ package io.davorpatech.apps.musicalsurveyor.services.listeners;
 import io.davorpatech.apps.musicalsurveyor.domain.listeners.CreateRadioListenerInput;
 import io.davorpatech.apps.musicalsurveyor.domain.listeners.FindRadioListenersInput;
 import io.davorpatech.apps.musicalsurveyor.domain.listeners.RadioListenerDTO;
+import io.davorpatech.apps.musicalsurveyor.domain.listeners.RadioListenerImportDTO;
 import io.davorpatech.apps.musicalsurveyor.domain.listeners.UpdateRadioListenerInput;
 import io.davorpatech.apps.musicalsurveyor.persistence.model.RadioListener;
 import io.davorpatech.fwk.service.data.DataService;
+import org.springframework.lang.NonNull;
+
+import java.util.Iterator;
 
 /**
  * Service for managing {@link RadioListener} data domain.
@@ -14,4 +18,24 @@ public interface RadioListenerService extends DataService<
         Long, RadioListener, RadioListenerDTO,
         FindRadioListenersInput, CreateRadioListenerInput,UpdateRadioListenerInput>  // NOSONAR
 {
+    /**
+     * Imports radio listeners, merging them by email.
+     *
+     * <p>Records are consumed from the given iterator as they are needed, in
+     * chunks, so the import is never held in memory as a whole. Each chunk looks
+     * for the registered emails of its records at once, skips the radio listeners
+     * already up to date, and then creates or updates the rest with batched merge
+     * statements within its own transaction. Duplicated emails are thus resolved
+     * without failed inserts.
+     *
+     * <p>A record is rejected, without discarding the others, when it cannot be
+     * read, as the iterator throws an {@link IllegalArgumentException} for it, or
+     * when it is invalid.
+     *
+     * @param inputs the records to import, never {@code null}
+     * @return the summary of the import, never {@code null}
+     */
+    @NonNull
+    RadioListenerImportDTO importListeners(
+        final @NonNull Iterator<CreateRadioListenerInput> inputs);
 }
@@ -5,16 +5,35 @@ import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyParticipationCon
 import io.davorpatech.apps.musicalsurveyor.persistence.dao.RadioListenerRepository;
 import io.davorpatech.apps.musicalsurveyor.persistence.dao.SurveyParticipationRepository;
 import io.davorpatech.apps.musicalsurveyor.persistence.model.RadioListener;
-import io.davorpatech.fwk.exception.EntityUsedByForeignsException;
+import io.davorpatech.fwk.model.BulkItemResult;
+import io.davorpatech.fwk.service.data.jpa.ConstraintViolationTranslator;
 import io.davorpatech.fwk.service.data.jpa.JpaBasedDataService;
-import org.apache.commons.lang3.StringUtils;
-import org.springframework.dao.DataIntegrityViolationException;
+import io.davorpatech.fwk.service.data.jpa.UniquenessGuard;
+import io.davorpatech.fwk.validation.groups.OnCreate;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 /**
  * Implementation of {@link RadioListenerService}.
  *
@@ -33,19 +52,49 @@ public class RadioListenerServiceImpl extends JpaBasedDataService<
         FindRadioListenersInput, CreateRadioListenerInput, UpdateRadioListenerInput>
     implements RadioListenerService // NOSONAR
 {
-    private final SurveyParticipationRepository surveyParticipationRepository;
+    /**
+     * The maximum number of rejected records reported by an import.
+     */
+    static final int IMPORT_MAX_REPORTED_REJECTIONS = 100;
+
+    /**
+     * The guard keeping the radio listener emails unique.
+     */
+    private final UniquenessGuard<String> emailGuard =
+        new UniquenessGuard<>("UK_radio_listener_email", EmailAlreadyExistException::new);
+
+    /**
+     * The translator of the constraint violations raised writing radio listeners, as
+     * deleting the ones still referenced.
+     */
+    private final ConstraintViolationTranslator<Long> violationTranslator;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AuditorAware<String> auditorAware;
 
     /**
      * Constructs a new {@link JpaBasedDataService} with the given arguments.
      *
      * @param radioListenerRepository       the radio listener repository, never {@code null}
      * @param surveyParticipationRepository the survey participation repository, never {@code null}
+     * @param jdbcTemplate                  the JDBC template, never {@code null}
+     * @param auditorAware                  the auditor of the bulk operations, never {@code null}
      */
     RadioListenerServiceImpl(RadioListenerRepository radioListenerRepository,
-                             SurveyParticipationRepository surveyParticipationRepository) {
+                             SurveyParticipationRepository surveyParticipationRepository,
+                             JdbcTemplate jdbcTemplate,
+                             AuditorAware<String> auditorAware) {
         super(radioListenerRepository, RadioListenerConstants.DOMAIN_NAME);
         Assert.notNull(surveyParticipationRepository, "SurveyParticipationRepository must not be null!");
-        this.surveyParticipationRepository = surveyParticipationRepository;
+        this.violationTranslator = ConstraintViolationTranslator.<Long>builder()
+            .usedByForeigns("FK_survey_participation_participant_id", domainName,
+                SurveyParticipationConstants.DOMAIN_NAME, surveyParticipationRepository::countByParticipant)
+            .build();
+        Assert.notNull(jdbcTemplate, "JdbcTemplate must not be null!");
+        this.jdbcTemplate = jdbcTemplate;
+        Assert.notNull(auditorAware, "AuditorAware must not be null!");
+        this.auditorAware = auditorAware;
     }
 
     @Override
@@ -65,18 +114,16 @@ public class RadioListenerServiceImpl extends JpaBasedDataService<
             entity.getEmail());
     }
 
+    @Override
+    protected ConstraintViolationTranslator<Long> getConstraintViolationTranslator() {
+        return violationTranslator;
+    }
+
     @Transactional
     @Override
     public @NonNull RadioListenerDTO create(@NonNull CreateRadioListenerInput input) {
-        try {
-            return super.create(input);
-        } catch (DataIntegrityViolationException e) {
-            // translate the exception to a more meaningful one
-            if (StringUtils.containsIgnoreCase(e.getMessage(), "UK_radio_listener_email")) {
-                throw new EmailAlreadyExistException(input.getEmail(), e);
-            }
-            throw e;
-        }
+        final String email = input.getEmail();
+        return emailGuard.execute(email, () -> repository.existsByEmail(email), () -> super.create(input));
     }
 
     @Override
@@ -92,18 +139,9 @@ public class RadioListenerServiceImpl extends JpaBasedDataService<
     @Transactional
     @Override
     public @NonNull RadioListenerDTO update(@NonNull UpdateRadioListenerInput input) {
-        try {
-            RadioListenerDTO dto = super.update(input);
-            // To be able to capture exceptions like DataIntegrityViolationException
-            repository.flush();
-            return dto;
-        } catch (DataIntegrityViolationException e) {
-            // translate the exception to a more meaningful one
-            if (StringUtils.containsIgnoreCase(e.getMessage(), "UK_radio_listener_email")) {
-                throw new EmailAlreadyExistException(input.getEmail(), e);
-            }
-            throw e;
-        }
+        final String email = input.getEmail();
+        return emailGuard.execute(email, () -> repository.existsByEmailAndIdNot(email, input.getId()),
+            () -> super.update(input));
     }
 
     @Override
@@ -115,22 +153,165 @@ public class RadioListenerServiceImpl extends JpaBasedDataService<
         entity.setEmail(input.getEmail());
     }
 
-    @Transactional
     @Override
-    public void deleteById(@NonNull Long id) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public @NonNull RadioListenerImportDTO importListeners(
+            @NonNull Iterator<CreateRadioListenerInput> inputs) {
+        Assert.notNull(inputs, "Inputs must not be null!");
+        final int chunkSize = determineBulkChunkSize();
+        final ImportTally tally = new ImportTally();
+        // email -> record position, keeping the last record of each email
+        final Map<String, Integer> positions = new LinkedHashMap<>();
+        final Map<String, CreateRadioListenerInput> chunk = new LinkedHashMap<>();
+        while (inputs.hasNext()) {
+            final int position = tally.numRecords++;
+            final CreateRadioListenerInput input = readImportRecord(inputs, position, tally);
+            if (input != null) {
+                if (chunk.put(input.getEmail(), input) != null) {
+                    tally.numDuplicatedRecords++;
+                }
+                positions.put(input.getEmail(), position);
+            }
+            if (chunk.size() == chunkSize || (!chunk.isEmpty() && !inputs.hasNext())) {
+                mergeImportedListeners(chunk, positions, tally);
+                chunk.clear();
+                positions.clear();
+            }
+        }
+        return new RadioListenerImportDTO(
+            tally.numRecords, tally.numCreatedListeners, tally.numUpdatedListeners,
+            tally.numUnchangedRecords, tally.numDuplicatedRecords,
+            tally.numRejectedRecords, tally.rejections);
+    }
+
+    private @Nullable CreateRadioListenerInput readImportRecord(
+            Iterator<CreateRadioListenerInput> inputs, int position, ImportTally tally) {
+        try {
+            final CreateRadioListenerInput input = inputs.next();
+            validateBulkItem(input, OnCreate.class);
+            return input;
+        } catch (IllegalArgumentException | ConstraintViolationException ex) { // malformed or invalid
+            tally.reject(position, determineBulkErrorStatus(ex), ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Merges the given radio listeners by email, in its own transaction.
+     *
+     * <p>The registered emails are looked for at once, so the radio listeners
+     * already up to date are skipped, and the rest are created or updated by a
+     * batch of merge statements, whatever they exist or not, with no failed
+     * insert. If the chunk cannot be merged, all its records are rejected.
+     *
+     * @param chunk     the radio listeners to merge by email
+     * @param positions the record position of each radio listener by email
+     * @param tally     the tally of the import, to be updated
+     */
+    private void mergeImportedListeners(Map<String, CreateRadioListenerInput> chunk,
+                                        Map<String, Integer> positions, ImportTally tally) {
+        final List<CreateRadioListenerInput> toMerge = new ArrayList<>(chunk.size());
+        final List<Long> updatedIds = new ArrayList<>();
         try {
-            super.deleteById(id);
-            // To be able to capture exceptions like DataIntegrityViolationException
-            repository.flush();
-        } catch (DataIntegrityViolationException ex) {
-            // translate the exception to a more meaningful one
-            long count = -1;
-            if (StringUtils.containsIgnoreCase(ex.getMessage(), "FK_SURVEY_PARTICIPATION_PARTICIPANT_ID")
-                && (count = surveyParticipationRepository.countByParticipant(id)) > 0) {
-                throw new EntityUsedByForeignsException(domainName, id,
-                    SurveyParticipationConstants.DOMAIN_NAME, count, ex);
+            getTransactionTemplate().executeWithoutResult(status -> {
+                final Map<String, Object[]> registered = new HashMap<>();
+                for (Object[] row : repository.findMergeableByEmailIn(chunk.keySet())) {
+                    registered.put((String) row[1], row);
+                }
+                for (CreateRadioListenerInput input : chunk.values()) {
+                    final Object[] row = registered.get(input.getEmail());
+                    if (row == null) {
+                        toMerge.add(input);
+                    } else if (!Objects.equals(row[2], input.getName())
+                            || !Objects.equals(row[3], input.getPhone())
+                            || !Objects.equals(row[4], input.getAddress())) {
+                        toMerge.add(input);
+                        updatedIds.add((Long) row[0]);
+                    }
+                }
+                mergeListeners(toMerge);
+            });
+        } catch (RuntimeException ex) {
+            final int status = determineBulkErrorStatus(ex);
+            positions.values().forEach(position -> tally.reject(position, status, ex.getMessage()));
+            return;
+        }
+        final int numCreated = toMerge.size() - updatedIds.size();
+        tally.numCreatedListeners += numCreated;
+        tally.numUpdatedListeners += updatedIds.size();
+        tally.numUnchangedRecords += chunk.size() - toMerge.size();
+        updatedIds.forEach(this::evictCachedDto);
+        if (numCreated > 0) {
+            evictCachedCounts();
+        }
+    }
+
+    private void mergeListeners(List<CreateRadioListenerInput> inputs) {
+        if (inputs.isEmpty()) {
+            return;
+        }
+        final Timestamp modifiedOn = Timestamp.valueOf(LocalDateTime.now());
+        final String modifiedBy = resolveCurrentAuditor();
+        // the ID of new radio listeners is drawn by its column default
+        jdbcTemplate.batchUpdate("""
+            MERGE INTO radio_listener rl
+            USING (VALUES (CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(255)),
+                           CAST(? AS VARCHAR(15)), CAST(? AS VARCHAR(500))))
+                AS r(email, name, phone, address)
+               ON (rl.email = r.email)
+            WHEN MATCHED THEN
+                UPDATE SET name = r.name, phone = r.phone, address = r.address,
+                           last_modified_on = ?, last_modified_by = ?
+            WHEN NOT MATCHED THEN
+                INSERT (email, name, phone, address,
+                        created_on, created_by, last_modified_on, last_modified_by)
+                VALUES (r.email, r.name, r.phone, r.address, ?, ?, ?, ?)
+            """, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    final CreateRadioListenerInput input = inputs.get(i);
+                    ps.setString(1, input.getEmail());
+                    ps.setString(2, input.getName());
+                    ps.setString(3, input.getPhone());
+                    ps.setString(4, input.getAddress());
+                    ps.setTimestamp(5, modifiedOn);
+                    ps.setString(6, modifiedBy);
+                    ps.setTimestamp(7, modifiedOn);
+                    ps.setString(8, modifiedBy);
+                    ps.setTimestamp(9, modifiedOn);
+                    ps.setString(10, modifiedBy);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return inputs.size();
+                }
+            });
+    }
+
+    private @NonNull String resolveCurrentAuditor() {
+        return auditorAware.getCurrentAuditor()
+            .orElseThrow(() -> new IllegalStateException("Unable to resolve the current auditor"));
+    }
+
+    /**
+     * The running tally of a radio listeners import.
+     */
+    private static final class ImportTally // NOSONAR
+    {
+        int numRecords;
+        int numCreatedListeners;
+        int numUpdatedListeners;
+        int numUnchangedRecords;
+        int numDuplicatedRecords;
+        int numRejectedRecords;
+        final List<BulkItemResult<Long>> rejections = new ArrayList<>();
+
+        void reject(int position, int status, String error) {
+            numRejectedRecords++;
+            if (rejections.size() < IMPORT_MAX_REPORTED_REJECTIONS) {
+                rejections.add(BulkItemResult.failed(position, status, error));
             }
-            throw ex;
         }
     }
 }
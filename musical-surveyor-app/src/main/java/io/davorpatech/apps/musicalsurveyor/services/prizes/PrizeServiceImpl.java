@@ -5,11 +5,10 @@ import io.davorpatech.apps.musicalsurveyor.domain.prizes.*;
 import io.davorpatech.apps.musicalsurveyor.persistence.dao.PrizeRepository;
 import io.davorpatech.apps.musicalsurveyor.persistence.dao.RafflePrizeRepository;
 import io.davorpatech.apps.musicalsurveyor.persistence.model.Prize;
-import io.davorpatech.fwk.exception.EntityUsedByForeignsException;
+import io.davorpatech.fwk.service.data.jpa.ConstraintViolationTranslator;
 import io.davorpatech.fwk.service.data.jpa.JpaBasedDataService;
+import io.davorpatech.fwk.service.data.jpa.UniquenessGuard;
 import io.micrometer.common.lang.NonNull;
-import org.apache.commons.lang3.StringUtils;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,6 +35,18 @@ public class PrizeServiceImpl extends JpaBasedDataService<
 
     private final RafflePrizeRepository rafflePrizeRepository;
 
+    /**
+     * The guard keeping the prize titles unique.
+     */
+    private final UniquenessGuard<String> titleGuard =
+        new UniquenessGuard<>("UK_prize_title", PrizeTitleAlreadyExistsException::new);
+
+    /**
+     * The translator of the constraint violations raised writing prizes, as
+     * deleting the ones still referenced.
+     */
+    private final ConstraintViolationTranslator<Long> violationTranslator;
+
     /**
      * Constructs a new {@link PrizeServiceImpl} with the given arguments.
      *
@@ -46,6 +57,10 @@ public class PrizeServiceImpl extends JpaBasedDataService<
         super(prizeRepository, PrizeConstants.DOMAIN_NAME);
         Assert.notNull(rafflePrizeRepository, "RafflePrizeRepository must not be null!");
         this.rafflePrizeRepository = rafflePrizeRepository;
+        this.violationTranslator = ConstraintViolationTranslator.<Long>builder()
+            .usedByForeigns("FK_raffle_prize_prize_id", domainName,
+                RafflePrizeConstants.DOMAIN_NAME, rafflePrizeRepository::countByPrize)
+            .build();
     }
 
     @Override
@@ -64,18 +79,16 @@ public class PrizeServiceImpl extends JpaBasedDataService<
             prize.getMonetaryValue());
     }
 
+    @Override
+    protected ConstraintViolationTranslator<Long> getConstraintViolationTranslator() {
+        return violationTranslator;
+    }
+
     @Transactional
     @Override
     public @NonNull PrizeDTO create(@NonNull CreatePrizeInput input) {
-        try {
-            return super.create(input);
-        } catch (DataIntegrityViolationException ex) {
-            // translate the exception to a more meaningful one
-            if (StringUtils.containsIgnoreCase(ex.getMessage(), "UK_prize_title")) {
-                throw new PrizeTitleAlreadyExistsException(input.getTitle(), ex);
-            }
-            throw ex;
-        }
+        final String title = input.getTitle();
+        return titleGuard.execute(title, () -> repository.existsByTitle(title), () -> super.create(input));
     }
 
     @Override
@@ -90,18 +103,9 @@ public class PrizeServiceImpl extends JpaBasedDataService<
     @Transactional
     @Override
     public @NonNull PrizeDTO update(@NonNull UpdatePrizeInput input) {
-        try {
-            PrizeDTO dto = super.update(input);
-            // To be able to capture exceptions like DataIntegrityViolationException
-            repository.flush();
-            return dto;
-        } catch (DataIntegrityViolationException ex) {
-            // translate the exception to a more meaningful one
-            if (StringUtils.containsIgnoreCase(ex.getMessage(), "UK_prize_title")) {
-                throw new PrizeTitleAlreadyExistsException(input.getTitle(), ex);
-            }
-            throw ex;
-        }
+        final String title = input.getTitle();
+        return titleGuard.execute(title, () -> repository.existsByTitleAndIdNot(title, input.getId()),
+            () -> super.update(input));
     }
 
     @Override
@@ -118,23 +122,4 @@ public class PrizeServiceImpl extends JpaBasedDataService<
         entity.setDescription(input.getDescription());
         entity.setMonetaryValue(input.getMonetaryValue());
     }
-
-    @Transactional
-    @Override
-    public void deleteById(@NonNull Long id) {
-        try {
-            super.deleteById(id);
-            // To be able to capture exceptions like DataIntegrityViolationException
-            repository.flush();
-        } catch (DataIntegrityViolationException ex) {
-            // translate the exception to a more meaningful one
-            long count = -1;
-            if (StringUtils.containsIgnoreCase(ex.getMessage(), "FK_raffle_prize_prize_id")
-                && (count = rafflePrizeRepository.countByPrize(id)) > 0) {
-                throw new EntityUsedByForeignsException(domainName, id,
-                    RafflePrizeConstants.DOMAIN_NAME, count, ex);
-            }
-            throw ex;
-        }
-    }
 }
@@ -0,0 +1,49 @@
+package io.davorpatech.apps.musicalsurveyor.services.raffles;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Uniform random draw of a fixed number of winners among a set of raffle
+ * tickets, held as a primitive array of ticket IDs.
+ *
+ * <p>It runs a partial Fisher-Yates shuffle: only the first positions, as
+ * many as winners, are shuffled in place. So, drawing a few prizes among
+ * hundreds of thousands of tickets costs as many random numbers as prizes,
+ * not as tickets, and allocates nothing.
+ *
+ * <p>Given the same tickets, in the same order, and a generator with the
+ * same algorithm and seed, the same winners are drawn, so any draw can be
+ * audited by replaying it.
+ */
+final class RaffleDraw // NOSONAR
+{
+    private RaffleDraw() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Draws uniformly at random the given number of winners, moving them
+     * to the first positions of the given tickets, in draw order.
+     *
+     * @param ticketIds  the IDs of the eligible tickets, never {@code null}.
+     *                   It is reordered in place
+     * @param numWinners the number of winners to draw, from zero up to the
+     *                   number of tickets
+     * @param random     the source of randomness, never {@code null}
+     */
+    static void drawWinners(@NonNull long[] ticketIds, int numWinners, @NonNull RandomGenerator random) {
+        Assert.notNull(ticketIds, "Ticket IDs must not be null!");
+        Assert.isTrue(numWinners >= 0 && numWinners <= ticketIds.length,
+            "Number of winners must be between zero and the number of tickets!");
+        Assert.notNull(random, "RandomGenerator must not be null!");
+        for (int i = 0; i < numWinners; i++) {
+            int j = i + random.nextInt(ticketIds.length - i);
+            long winner = ticketIds[j];
+            ticketIds[j] = ticketIds[i];
+            ticketIds[i] = winner;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.davorpatech.apps.musicalsurveyor.services.raffles;
+
+import io.davorpatech.apps.musicalsurveyor.domain.RaffleResolutionDTO;
+import io.davorpatech.apps.musicalsurveyor.domain.RaffleTicketIssuanceDTO;
+import io.davorpatech.fwk.service.Service;
+import org.springframework.lang.NonNull;
+
+/**
+ * The {@code RaffleService} interface.
+ *
+ * <p>As a service, it is a stateless class that provides operations
+ * to manage raffle data domain.
+ *
+ * <p>Services are the entry point to the business logic. They are
+ * responsible for handling the data flow between the presentation
+ * layer and the persistence layer, and vice versa.
+ */
+public interface RaffleService extends Service // NOSONAR
+{
+    /**
+     * Resolves the raffle of the given survey, drawing the winners of all its
+     * prizes with a seed freshly generated by a secure random source.
+     *
+     * <p>The eligible tickets are the ones of the participants that responded
+     * the survey, and that have not won yet. Each prize is awarded to a distinct
+     * ticket, drawn uniformly at random by a pseudorandom generator of a fixed
+     * algorithm. So, drawing again with the same seed among the same tickets
+     * draws the same winners. When there are fewer tickets than prizes, the
+     * last prizes are left without winner. The seed is kept with the raffle,
+     * so the draw can be audited and replayed, but it is never chosen by the
+     * caller, who could otherwise search for a seed drawing the winners of
+     * their choice.
+     *
+     * <p>Raffles are resolved once, after its survey is closed.
+     *
+     * @param surveyId the survey ID, the same as its raffle ID, never {@code null}
+     * @return the outcome of the draw, including the seed to audit it with
+     */
+    @NonNull RaffleResolutionDTO resolve(@NonNull Long surveyId);
+
+    /**
+     * Issues a raffle ticket to every participant that responded the given
+     * survey and has no ticket yet.
+     *
+     * <p>Participants are spread evenly among all the colors. A contiguous block
+     * of numbers is reserved at once for each color, so tickets are numbered in
+     * memory, then inserted and linked to their participations in JDBC batches.
+     * Issuing again only tickets the participants that responded since then.
+     *
+     * @param surveyId the survey ID, never {@code null}
+     * @return the outcome of the issuance
+     */
+    @NonNull RaffleTicketIssuanceDTO issueTickets(@NonNull Long surveyId);
+}
@@ -0,0 +1,475 @@
+package io.davorpatech.apps.musicalsurveyor.services.raffles;
+
+import io.davorpatech.apps.musicalsurveyor.domain.RaffleConstants;
+import io.davorpatech.apps.musicalsurveyor.domain.RafflePrizeWinnerDTO;
+import io.davorpatech.apps.musicalsurveyor.domain.RaffleResolutionDTO;
+import io.davorpatech.apps.musicalsurveyor.domain.RaffleStatus;
+import io.davorpatech.apps.musicalsurveyor.domain.RaffleTicketConstants;
+import io.davorpatech.apps.musicalsurveyor.domain.RaffleTicketIssuanceDTO;
+import io.davorpatech.apps.musicalsurveyor.domain.UnableToIssueRaffleTicketsException;
+import io.davorpatech.apps.musicalsurveyor.domain.UnableToResolveRaffleException;
+import io.davorpatech.apps.musicalsurveyor.domain.colors.EmptyColorsException;
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyConstants;
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyStatus;
+import io.davorpatech.apps.musicalsurveyor.persistence.PersistenceConstants;
+import io.davorpatech.apps.musicalsurveyor.persistence.dao.RaffleRepository;
+import io.davorpatech.apps.musicalsurveyor.persistence.dao.SurveyRepository;
+import io.davorpatech.apps.musicalsurveyor.persistence.model.Raffle;
+import io.davorpatech.apps.musicalsurveyor.persistence.model.Survey;
+import io.davorpatech.fwk.exception.NoSuchEntityException;
+import io.davorpatech.fwk.service.ServiceCommonSupport;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import java.security.SecureRandom;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * The {@code RaffleService} implementation.
+ *
+ * <p>Services are the entry point to the business logic. They are
+ * responsible for handling the data flow between the presentation
+ * layer and the persistence layer, and vice versa.
+ */
+@Service
+@Transactional(readOnly = true)
+public class RaffleServiceImpl extends ServiceCommonSupport implements RaffleService // NOSONAR
+{
+    /**
+     * The algorithm of the pseudorandom generator the winners are drawn with.
+     * It must never change, or past draws could not be replayed.
+     */
+    static final String DRAW_ALGORITHM = "L64X128MixRandom";
+
+    private static final RandomGenerator SEED_GENERATOR = new SecureRandom();
+
+    /**
+     * The width of the issued ticket numbers, wide enough for any {@code long}
+     * number in base 36.
+     */
+    static final int TICKET_NUMBER_WIDTH = 13;
+
+    private static final int TICKETS_BATCH_SIZE = 500;
+
+    private final RaffleRepository raffleRepository;
+
+    private final SurveyRepository surveyRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AuditorAware<String> auditorAware;
+
+    /**
+     * Constructs a new {@link RaffleServiceImpl} with the given arguments.
+     *
+     * @param raffleRepository the raffle repository, never {@code null}
+     * @param surveyRepository the survey repository, never {@code null}
+     * @param jdbcTemplate     the JDBC template, never {@code null}
+     * @param auditorAware     the current auditor provider, never {@code null}
+     */
+    RaffleServiceImpl(RaffleRepository raffleRepository,
+                      SurveyRepository surveyRepository,
+                      JdbcTemplate jdbcTemplate,
+                      AuditorAware<String> auditorAware) {
+        Assert.notNull(raffleRepository, "RaffleRepository must not be null!");
+        Assert.notNull(surveyRepository, "SurveyRepository must not be null!");
+        Assert.notNull(jdbcTemplate, "JdbcTemplate must not be null!");
+        Assert.notNull(auditorAware, "AuditorAware must not be null!");
+        this.raffleRepository = raffleRepository;
+        this.surveyRepository = surveyRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditorAware = auditorAware;
+    }
+
+    @Transactional
+    @Override
+    public @NonNull RaffleResolutionDTO resolve(@NonNull Long surveyId) {
+        return resolve(surveyId, SEED_GENERATOR.nextLong());
+    }
+
+    /**
+     * Resolves the raffle of the given survey, drawing the winners of all its
+     * prizes with the given seed, as {@link #resolve(Long)} does with a fresh
+     * one.
+     *
+     * <p>It is not exposed by the service, so the seed is never chosen by its
+     * callers. It is meant to replay a draw, or to pin it in tests.
+     *
+     * @param surveyId the survey ID, the same as its raffle ID, never {@code null}
+     * @param seed     the seed of the pseudorandom generator
+     * @return the outcome of the draw
+     */
+    @Transactional
+    protected @NonNull RaffleResolutionDTO resolve(@NonNull Long surveyId, long seed) {
+        Assert.notNull(surveyId, "Survey ID must not be null!");
+        // 1. find the raffle
+        Raffle raffle = raffleRepository.findById(surveyId)
+            .orElseThrow(NoSuchEntityException.creater(RaffleConstants.DOMAIN_NAME, surveyId));
+        // 2. business rules: raffles are resolved once, after closing its survey
+        if (RaffleStatus.RESOLVED.equals(raffle.getStatus())) {
+            throw new UnableToResolveRaffleException(surveyId, "Already resolved");
+        }
+        if (!SurveyStatus.CLOSED.equals(raffle.getSurvey().getStatus())) {
+            throw new UnableToResolveRaffleException(surveyId, "Survey not yet closed");
+        }
+        // 3. claim the resolution with a conditional update, before reading the prizes,
+        //    so a concurrent resolution of the same raffle never draws winners again
+        final LocalDateTime resolutionDate = LocalDateTime.now();
+        if (raffleRepository.resolveIfUnresolved(surveyId, resolutionDate, seed, resolveCurrentAuditor()) == 0) {
+            throw new UnableToResolveRaffleException(surveyId, "Already resolved");
+        }
+        final List<Long> prizeIds = findUnawardedPrizeIds(surveyId);
+        if (prizeIds.isEmpty()) {
+            throw new UnableToResolveRaffleException(surveyId, "Missing prizes");
+        }
+        // 4. draw the winners among the ticket IDs, without loading any ticket
+        final long[] ticketIds = findEligibleTicketIds(surveyId);
+        final int numWinners = Math.min(prizeIds.size(), ticketIds.length);
+        RaffleDraw.drawWinners(ticketIds, numWinners,
+            RandomGeneratorFactory.of(DRAW_ALGORITHM).create(seed));
+        // 5. award them all at once
+        updateWinnerTickets(surveyId, prizeIds, ticketIds, numWinners, resolutionDate);
+        final List<RafflePrizeWinnerDTO> winners = new ArrayList<>(prizeIds.size());
+        for (int i = 0; i < prizeIds.size(); i++) {
+            winners.add(new RafflePrizeWinnerDTO(prizeIds.get(i), i < numWinners ? ticketIds[i] : null));
+        }
+        return new RaffleResolutionDTO(surveyId, resolutionDate, seed, ticketIds.length, winners);
+    }
+
+    /**
+     * Returns the IDs of the prizes of the given raffle without winner, in
+     * ascending order.
+     *
+     * @param raffleId the raffle ID, never {@code null}
+     * @return the IDs of the unawarded prizes, never {@code null}
+     */
+    protected @NonNull List<Long> findUnawardedPrizeIds(@NonNull Long raffleId) {
+        return jdbcTemplate.queryForList("""
+            SELECT rp.prize_id
+            FROM raffle_prize rp
+            WHERE rp.raffle_id = ? AND rp.winner_ticket_id IS NULL
+            ORDER BY rp.prize_id
+            """, Long.class, raffleId);
+    }
+
+    /**
+     * Returns the IDs of the tickets eligible in the raffle of the given survey,
+     * in ascending order, as a primitive array.
+     *
+     * <p>The eligible tickets are the ones of the participants that responded
+     * the survey, and that have not won any prize yet. They are read row by row
+     * into the array, so neither entities nor boxed IDs are ever built.
+     *
+     * @param surveyId the survey ID, never {@code null}
+     * @return the IDs of the eligible tickets, never {@code null}
+     */
+    protected @NonNull long[] findEligibleTicketIds(@NonNull Long surveyId) {
+        final LongArrayCollector collector = new LongArrayCollector();
+        // ordered, so the same seed always draws the same winners
+        jdbcTemplate.query("""
+            SELECT sp.raffle_ticket_id
+            FROM survey_participation sp
+            WHERE sp.survey_id = ?
+              AND sp.participated_at IS NOT NULL
+              AND sp.raffle_ticket_id IS NOT NULL
+              AND NOT EXISTS (
+                  SELECT 1 FROM raffle_prize rp WHERE rp.winner_ticket_id = sp.raffle_ticket_id)
+            ORDER BY sp.raffle_ticket_id
+            """, collector, surveyId);
+        return collector.toArray();
+    }
+
+    /**
+     * Awards the first prizes of the given raffle to the first tickets, in a
+     * single JDBC batch.
+     *
+     * <p>It bypasses the persistence context, so the raffle prizes must not be
+     * managed entities.
+     *
+     * @param raffleId       the raffle ID, never {@code null}
+     * @param prizeIds       the prize IDs, never {@code null}
+     * @param ticketIds      the ticket IDs, the winners first, never {@code null}
+     * @param numWinners     the number of prizes to award
+     * @param resolutionDate the date and time when the raffle is resolved, never {@code null}
+     */
+    protected void updateWinnerTickets(@NonNull Long raffleId, @NonNull List<Long> prizeIds,
+                                       @NonNull long[] ticketIds, int numWinners,
+                                       @NonNull LocalDateTime resolutionDate) {
+        if (numWinners == 0) {
+            return;
+        }
+        final Timestamp lastModifiedOn = Timestamp.valueOf(resolutionDate);
+        final String lastModifiedBy = resolveCurrentAuditor();
+        jdbcTemplate.batchUpdate("""
+            UPDATE raffle_prize
+            SET winner_ticket_id = ?, last_modified_on = ?, last_modified_by = ?
+            WHERE raffle_id = ? AND prize_id = ?
+            """, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ps.setLong(1, ticketIds[i]);
+                    ps.setTimestamp(2, lastModifiedOn);
+                    ps.setString(3, lastModifiedBy);
+                    ps.setLong(4, raffleId);
+                    ps.setLong(5, prizeIds.get(i));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return numWinners;
+                }
+            });
+    }
+
+    @Transactional
+    @Override
+    public @NonNull RaffleTicketIssuanceDTO issueTickets(@NonNull Long surveyId) {
+        Assert.notNull(surveyId, "Survey ID must not be null!");
+        // 1. find the survey
+        Survey survey = surveyRepository.findById(surveyId)
+            .orElseThrow(NoSuchEntityException.creater(SurveyConstants.DOMAIN_NAME, surveyId));
+        // 2. business rules: tickets are issued to responding participants, so once started
+        if (SurveyStatus.PENDING.equals(survey.getStatus())) {
+            throw new UnableToIssueRaffleTicketsException(surveyId, "Not yet started");
+        }
+        final List<Long> colorIds = jdbcTemplate.queryForList(
+            "SELECT id FROM color ORDER BY id", Long.class);
+        if (colorIds.isEmpty()) {
+            throw new EmptyColorsException(
+                "At least one color must be present before issue raffle tickets");
+        }
+        final long[] participantIds = findUnticketedParticipantIds(surveyId);
+        final int numTickets = participantIds.length;
+        if (numTickets == 0) {
+            return new RaffleTicketIssuanceDTO(surveyId, 0);
+        }
+        // 3. spread the participants among the colors, reserving a number block per color
+        final int numColors = Math.min(colorIds.size(), numTickets);
+        final long[] firstNumbers = reserveNumberBlocks(colorIds.subList(0, numColors), numTickets);
+        // 4. build the tickets in memory, then insert and link them batch by batch
+        int numIssuedTickets = 0;
+        for (int offset = 0; offset < numTickets; offset += TICKETS_BATCH_SIZE) {
+            final int size = Math.min(TICKETS_BATCH_SIZE, numTickets - offset);
+            final long[] ticketIds = reserveTicketIds(size);
+            final long[] ticketColorIds = new long[size];
+            final String[] ticketNumbers = new String[size];
+            for (int i = 0; i < size; i++) {
+                int color = (offset + i) % numColors;
+                ticketColorIds[i] = colorIds.get(color);
+                ticketNumbers[i] = formatTicketNumber(firstNumbers[color] + (offset + i) / numColors);
+            }
+            insertTickets(ticketIds, ticketColorIds, ticketNumbers);
+            numIssuedTickets += linkTickets(surveyId,
+                Arrays.copyOfRange(participantIds, offset, offset + size), ticketIds);
+        }
+        return new RaffleTicketIssuanceDTO(surveyId, numIssuedTickets);
+    }
+
+    /**
+     * Returns the IDs of the participants that responded the given survey but
+     * have no raffle ticket yet, in ascending order, as a primitive array.
+     *
+     * @param surveyId the survey ID, never {@code null}
+     * @return the IDs of the participants to issue a ticket to, never {@code null}
+     */
+    protected @NonNull long[] findUnticketedParticipantIds(@NonNull Long surveyId) {
+        final LongArrayCollector collector = new LongArrayCollector();
+        jdbcTemplate.query("""
+            SELECT sp.participant_id
+            FROM survey_participation sp
+            WHERE sp.survey_id = ?
+              AND sp.participated_at IS NOT NULL
+              AND sp.raffle_ticket_id IS NULL
+            ORDER BY sp.participant_id
+            """, collector, surveyId);
+        return collector.toArray();
+    }
+
+    /**
+     * Reserves a block of contiguous ticket numbers for each of the given colors,
+     * sized to spread evenly the given number of tickets among them.
+     *
+     * <p>The counters of all the colors are advanced in a single JDBC batch, and
+     * stay locked until the transaction ends, so concurrent issuances never
+     * reserve overlapping blocks.
+     *
+     * @param colorIds   the color IDs, never {@code null}
+     * @param numTickets the total number of tickets, at least one per color
+     * @return the first number of the block of each color, in the same order
+     */
+    protected @NonNull long[] reserveNumberBlocks(@NonNull List<Long> colorIds, int numTickets) {
+        final int numColors = colorIds.size();
+        jdbcTemplate.batchUpdate("""
+            MERGE INTO raffle_ticket_number_block nb
+            USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT))) AS rb(color_id, block_size)
+               ON (nb.color_id = rb.color_id)
+            WHEN MATCHED THEN
+                UPDATE SET next_number = nb.next_number + rb.block_size
+            WHEN NOT MATCHED THEN
+                INSERT (color_id, next_number) VALUES (rb.color_id, 1 + rb.block_size)
+            """, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ps.setLong(1, colorIds.get(i));
+                    ps.setLong(2, blockSize(numTickets, numColors, i));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return numColors;
+                }
+            });
+        final long[] firstNumbers = new long[numColors];
+        for (int i = 0; i < numColors; i++) {
+            Long nextNumber = jdbcTemplate.queryForObject(
+                "SELECT next_number FROM raffle_ticket_number_block WHERE color_id = ?",
+                Long.class, colorIds.get(i));
+            firstNumbers[i] = Objects.requireNonNull(nextNumber) - blockSize(numTickets, numColors, i);
+        }
+        return firstNumbers;
+    }
+
+    private static int blockSize(int numTickets, int numColors, int color) {
+        // round-robin: the first colors take the remainder
+        return (numTickets - color + numColors - 1) / numColors;
+    }
+
+    private static @NonNull String formatTicketNumber(long number) {
+        // fixed width and lowercase, so it never collides with the legacy random numbers
+        String digits = Long.toString(number, Character.MAX_RADIX);
+        return "0".repeat(TICKET_NUMBER_WIDTH - digits.length()) + digits;
+    }
+
+    /**
+     * Reserves the given number of raffle ticket IDs from their sequence, in
+     * blocks as large as its increment.
+     *
+     * <p>Each sequence value reserves the block of IDs starting on it, as the
+     * {@code pooled-lo} optimizer Hibernate allocates the entity IDs with, so
+     * these IDs never collide with the ones of the tickets issued one by one,
+     * and a single query reserves the IDs of a whole batch of tickets.
+     *
+     * @param numTickets the number of ticket IDs to reserve
+     * @return the reserved ticket IDs, never {@code null}
+     */
+    protected @NonNull long[] reserveTicketIds(int numTickets) {
+        final int blockSize = PersistenceConstants.ID_ALLOCATION_SIZE;
+        final long[] ticketIds = new long[numTickets];
+        int numReserved = 0;
+        while (numReserved < numTickets) {
+            final List<Long> firstIds = jdbcTemplate.queryForList(
+                "SELECT NEXT VALUE FOR " + RaffleTicketConstants.ID_SEQUENCE_NAME + " FROM SYSTEM_RANGE(1, ?)",
+                Long.class, (numTickets - numReserved + blockSize - 1) / blockSize);
+            for (Long firstId : firstIds) {
+                for (long id = firstId; id < firstId + blockSize && numReserved < numTickets; id++) {
+                    ticketIds[numReserved++] = id;
+                }
+            }
+        }
+        return ticketIds;
+    }
+
+    /**
+     * Inserts the given raffle tickets, in a single JDBC batch.
+     *
+     * @param ids      the reserved ID of each ticket, never {@code null}
+     * @param colorIds the color ID of each ticket, never {@code null}
+     * @param numbers  the number of each ticket, never {@code null}
+     */
+    protected void insertTickets(@NonNull long[] ids, @NonNull long[] colorIds, @NonNull String[] numbers) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO raffle_ticket (id, `number`, color_id) VALUES (?, ?, ?)",
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ps.setLong(1, ids[i]);
+                    ps.setString(2, numbers[i]);
+                    ps.setLong(3, colorIds[i]);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return numbers.length;
+                }
+            });
+    }
+
+    /**
+     * Links the given raffle tickets to the participations of the given survey,
+     * in a single JDBC batch.
+     *
+     * <p>Participations linked meanwhile are kept as they are.
+     *
+     * @param surveyId       the survey ID, never {@code null}
+     * @param participantIds the participant ID of each ticket, never {@code null}
+     * @param ticketIds      the ID of each ticket, never {@code null}
+     * @return the number of participations linked
+     */
+    protected int linkTickets(@NonNull Long surveyId, @NonNull long[] participantIds, @NonNull long[] ticketIds) {
+        final Timestamp lastModifiedOn = Timestamp.valueOf(LocalDateTime.now());
+        final String lastModifiedBy = resolveCurrentAuditor();
+        int[] counts = jdbcTemplate.batchUpdate("""
+            UPDATE survey_participation
+            SET raffle_ticket_id = ?, last_modified_on = ?, last_modified_by = ?
+            WHERE survey_id = ? AND participant_id = ? AND raffle_ticket_id IS NULL
+            """, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ps.setLong(1, ticketIds[i]);
+                    ps.setTimestamp(2, lastModifiedOn);
+                    ps.setString(3, lastModifiedBy);
+                    ps.setLong(4, surveyId);
+                    ps.setLong(5, participantIds[i]);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return participantIds.length;
+                }
+            });
+        return Arrays.stream(counts).sum();
+    }
+
+    private @NonNull String resolveCurrentAuditor() {
+        return auditorAware.getCurrentAuditor()
+            .orElseThrow(() -> new IllegalStateException("Unable to resolve the current auditor"));
+    }
+
+    /**
+     * Collects the first column of each row as a growing primitive array.
+     */
+    private static final class LongArrayCollector implements RowCallbackHandler
+    {
+        private long[] values = new long[1024];
+
+        private int size;
+
+        @Override
+        public void processRow(@NonNull ResultSet rs) throws SQLException {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = rs.getLong(1);
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
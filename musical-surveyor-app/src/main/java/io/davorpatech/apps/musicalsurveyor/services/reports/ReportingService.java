@@ -1,9 +1,13 @@
 package io.davorpatech.apps.musicalsurveyor.services.reports;
 
+import io.davorpatech.apps.musicalsurveyor.domain.FindSongsPopularityInput;
 import io.davorpatech.apps.musicalsurveyor.domain.SongWithPopularityInfo;
+import io.davorpatech.fwk.model.PagedResult;
 import io.davorpatech.fwk.service.Service;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * The {@code ReportingService} interface.
@@ -26,4 +30,94 @@ public interface ReportingService extends Service // NOSONAR
      * @return the most popular songs
      */
     List<SongWithPopularityInfo> findAllMostPopularSongs();
+
+    /**
+     * Walks all songs ranked by popularity, handing each one to the given consumer
+     * as soon as it is read from the database.
+     *
+     * <p>The ranking is read as a forward-only cursor, so memory usage remains
+     * flat whatever the number of songs. It is intended for exports, where
+     * the consumer writes each song straight to an output.
+     *
+     * @param consumer the consumer of each ranked song, never {@code null}
+     */
+    void forEachMostPopularSong(Consumer<SongWithPopularityInfo> consumer);
+
+    /**
+     * Returns the top-N songs ranked by popularity.
+     *
+     * <p>The rank is based on the number of times the song was selected as a favorite
+     * in the successive surveys made by the radio station.
+     *
+     * @param top the maximum number of songs to return, must be greater than zero
+     * @return the top-N most popular songs
+     */
+    List<SongWithPopularityInfo> findTopMostPopularSongs(int top);
+
+    /**
+     * Returns a page of songs ranked by popularity, narrowed by the filters
+     * of the given query.
+     *
+     * <p>The rank is based on the number of times the song was selected as a favorite
+     * in the successive surveys made by the radio station or, when the query filters
+     * by survey, only in that survey.
+     *
+     * <p>Paging and filtering are resolved by the database. A page size less than
+     * one is interpreted as a non-paged search, rejected with an
+     * {@link io.davorpatech.fwk.exception.UnpagedResultTooLargeException} when it
+     * ranks more songs than {@code fwk.data.unpaged.max-rows}.
+     *
+     * @param query the query holding the page and filter arguments, never {@code null}
+     * @return the page of most popular songs
+     */
+    PagedResult<SongWithPopularityInfo> findMostPopularSongs(FindSongsPopularityInput query);
+
+    /**
+     * Returns the top-N songs ranked by popularity inside the given survey.
+     *
+     * <p>The rank is answered from the pre-aggregated popularity rollup, so only
+     * songs liked at least once in the survey are returned.
+     *
+     * @param surveyId the survey ID, never {@code null}
+     * @param top      the maximum number of songs to return, must be greater than zero
+     * @return the top-N most popular songs in the survey
+     */
+    List<SongWithPopularityInfo> findMostPopularSongsInSurvey(Long surveyId, int top);
+
+    /**
+     * Returns the top-N songs ranked by popularity inside the given window of days.
+     *
+     * <p>The rank is answered from the pre-aggregated popularity rollup, adding
+     * the likes of all surveys responded during the window, so only songs liked
+     * at least once in it are returned.
+     *
+     * @param from the first day of the window (inclusive), never {@code null}
+     * @param to   the last day of the window (inclusive), never {@code null}
+     * @param top  the maximum number of songs to return, must be greater than zero
+     * @return the top-N most popular songs in the window
+     */
+    List<SongWithPopularityInfo> findMostPopularSongsBetween(LocalDate from, LocalDate to, int top);
+
+    /**
+     * Returns the top-N songs ranked by popularity during the last given days,
+     * today included.
+     *
+     * @param days the number of days of the window, must be greater than zero
+     * @param top  the maximum number of songs to return, must be greater than zero
+     * @return the top-N most popular songs of the last days
+     *
+     * @see #findMostPopularSongsBetween(LocalDate, LocalDate, int)
+     */
+    List<SongWithPopularityInfo> findMostPopularSongsOfLastDays(int days, int top);
+
+    /**
+     * Rebuilds the persisted like counter of every song from its survey responses.
+     *
+     * <p>Like counters are kept up to date as the responses are added or removed,
+     * so this is a safety net that fixes any drift caused by concurrent updates
+     * or by responses written bypassing the domain model.
+     *
+     * @return the number of songs whose like counter was fixed
+     */
+    int reconcileSongPopularity();
 }
@@ -1,13 +1,26 @@
 package io.davorpatech.apps.musicalsurveyor.services.reports;
 
+import io.davorpatech.apps.musicalsurveyor.domain.FindSongsPopularityInput;
 import io.davorpatech.apps.musicalsurveyor.domain.SongWithPopularityInfo;
+import io.davorpatech.apps.musicalsurveyor.domain.songs.SongConstants;
+import io.davorpatech.apps.musicalsurveyor.persistence.dao.SongPopularityRollupRepository;
 import io.davorpatech.apps.musicalsurveyor.persistence.dao.SongRepository;
+import io.davorpatech.fwk.exception.UnpagedResultTooLargeException;
+import io.davorpatech.fwk.model.PagedResult;
 import io.davorpatech.fwk.service.ServiceCommonSupport;
+import io.davorpatech.fwk.service.data.jpa.JpaBasedDataService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * The {@code ReportingService} implementation.
@@ -23,18 +36,130 @@ public class ReportingServiceImpl extends ServiceCommonSupport implements Report
 
     private final SongRepository songRepository;
 
+    private final SongPopularityRollupRepository rollupRepository;
+
     /**
      * Constructs a new {@link ReportingServiceImpl} with the given arguments.
      *
-     * @param songRepository the song repository, never {@code null}
+     * @param songRepository   the song repository, never {@code null}
+     * @param rollupRepository the song popularity rollup repository, never {@code null}
      */
-    ReportingServiceImpl(SongRepository songRepository) {
+    ReportingServiceImpl(SongRepository songRepository,
+                         SongPopularityRollupRepository rollupRepository) {
         Assert.notNull(songRepository, "SongRepository must not be null!");
+        Assert.notNull(rollupRepository, "SongPopularityRollupRepository must not be null!");
         this.songRepository = songRepository;
+        this.rollupRepository = rollupRepository;
     }
 
     @Override
     public List<SongWithPopularityInfo> findAllMostPopularSongs() {
         return songRepository.findAllRankedPopularityBy();
     }
+
+    @Override
+    public void forEachMostPopularSong(Consumer<SongWithPopularityInfo> consumer) {
+        Assert.notNull(consumer, "Consumer must not be null!");
+        try (Stream<SongWithPopularityInfo> stream = songRepository.streamAllRankedPopularityBy()) {
+            stream.forEach(consumer);
+        }
+    }
+
+    @Override
+    public List<SongWithPopularityInfo> findTopMostPopularSongs(int top) {
+        Assert.isTrue(top > 0, "top must be greater than zero!");
+        return songRepository.findTopRankedPopularityBy(top);
+    }
+
+    @Override
+    public PagedResult<SongWithPopularityInfo> findMostPopularSongs(FindSongsPopularityInput query) {
+        Assert.notNull(query, "FindSongsPopularityInput must not be null!");
+        if (query.getPageSize() > 0) { // paged search
+            return toPagedResult(findRankedPopularity(query,
+                PageRequest.of(query.getPageNumber(), query.getPageSize())));
+        }
+        // unpaged search, fetching one more row to know whether the limit is exceeded
+        final long maxRows = determineUnpagedMaxRows();
+        if (maxRows <= 0) {
+            return toPagedResult(findRankedPopularity(query, Pageable.unpaged()));
+        }
+        final List<SongWithPopularityInfo> content = findRankedPopularity(query,
+            PageRequest.ofSize((int) Math.min(maxRows + 1, Integer.MAX_VALUE))).getContent();
+        if (content.size() > maxRows) {
+            throw new UnpagedResultTooLargeException(SongConstants.DOMAIN_NAME, maxRows);
+        }
+        return toPagedResult(new PageImpl<>(content));
+    }
+
+    private Page<SongWithPopularityInfo> findRankedPopularity(FindSongsPopularityInput query, Pageable pageable) {
+        return query.getSurveyId() == null
+            ? songRepository.findRankedPopularityBy(
+                query.getArtistId(), query.getGenre(),
+                query.getReleaseYearFrom(), query.getReleaseYearTo(),
+                pageable)
+            : rollupRepository.findRankedPopularityInSurveyBy(
+                query.getSurveyId(), query.getArtistId(), query.getGenre(),
+                query.getReleaseYearFrom(), query.getReleaseYearTo(),
+                pageable);
+    }
+
+    private static PagedResult<SongWithPopularityInfo> toPagedResult(Page<SongWithPopularityInfo> page) {
+        return new PagedResult<>(
+            page.getContent(),
+            page.getTotalElements(),
+            page.getNumber(),
+            page.getTotalPages(),
+            page.isFirst(),
+            page.isLast(),
+            page.hasNext(),
+            page.hasPrevious()
+        );
+    }
+
+    /**
+     * Determines the maximum number of songs an unpaged ranking can return, as
+     * the data services do for the unpaged searches of the song domain, using
+     * the {@code fwk.data.unpaged.[<domainName>.]max-rows} properties.
+     *
+     * @return the maximum number of songs, or a value less than one if unlimited
+     */
+    protected long determineUnpagedMaxRows() {
+        if (environment == null) {
+            return JpaBasedDataService.UNPAGED_DEFAULT_MAX_ROWS;
+        }
+        return environment.getProperty(
+            JpaBasedDataService.UNPAGED_PROPERTY_PREFIX + SongConstants.DOMAIN_NAME + ".max-rows", Long.class,
+            environment.getProperty(
+                JpaBasedDataService.UNPAGED_PROPERTY_PREFIX + "max-rows", Long.class,
+                JpaBasedDataService.UNPAGED_DEFAULT_MAX_ROWS));
+    }
+
+    @Override
+    public List<SongWithPopularityInfo> findMostPopularSongsInSurvey(Long surveyId, int top) {
+        Assert.notNull(surveyId, "surveyId must not be null!");
+        Assert.isTrue(top > 0, "top must be greater than zero!");
+        return rollupRepository.findRankedPopularityInSurveyBy(surveyId, PageRequest.ofSize(top));
+    }
+
+    @Override
+    public List<SongWithPopularityInfo> findMostPopularSongsBetween(LocalDate from, LocalDate to, int top) {
+        Assert.notNull(from, "from must not be null!");
+        Assert.notNull(to, "to must not be null!");
+        Assert.isTrue(!from.isAfter(to), "from must not be after to!");
+        Assert.isTrue(top > 0, "top must be greater than zero!");
+        return rollupRepository.findRankedPopularityBetweenBy(from, to, PageRequest.ofSize(top));
+    }
+
+    @Override
+    public List<SongWithPopularityInfo> findMostPopularSongsOfLastDays(int days, int top) {
+        Assert.isTrue(days > 0, "days must be greater than zero!");
+        LocalDate today = LocalDate.now();
+        return findMostPopularSongsBetween(today.minusDays(days - 1L), today, top);
+    }
+
+    @Override
+    @Transactional
+    public int reconcileSongPopularity() {
+        return songRepository.reconcileLikes();
+    }
 }
@@ -0,0 +1,51 @@
+package io.davorpatech.apps.musicalsurveyor.services.reports;
+
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyResponsesChangedEvent;
+import io.davorpatech.apps.musicalsurveyor.persistence.dao.SongRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Listener that keeps the persisted like counter of the songs up to date.
+ *
+ * <p>It is the single writer of the counter: each time the responses of a
+ * survey participation change, the net likes per song are added to the stored
+ * counters by atomic updates, one per distinct delta, instead of incrementing
+ * the loaded songs, so concurrent votes are never lost. It runs synchronously,
+ * joining the transaction that saved the responses.
+ */
+@Component
+public class SongLikesCounterListener // NOSONAR
+{
+    private final SongRepository songRepository;
+
+    /**
+     * Constructs a new {@link SongLikesCounterListener} with the given arguments.
+     *
+     * @param songRepository the song repository, never {@code null}
+     */
+    SongLikesCounterListener(SongRepository songRepository) {
+        Assert.notNull(songRepository, "SongRepository must not be null!");
+        this.songRepository = songRepository;
+    }
+
+    /**
+     * Adds the like changes of the given event to the song counters.
+     *
+     * @param event the survey responses changed event, never {@code null}
+     */
+    @EventListener
+    @Transactional
+    public void onSurveyResponsesChanged(SurveyResponsesChangedEvent event) {
+        event.getLikeDeltas().entrySet().stream()
+            .filter(entry -> entry.getValue() != 0)
+            .collect(Collectors.groupingBy(Map.Entry::getValue,
+                Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+            .forEach((delta, songIds) -> songRepository.addLikes(songIds, delta));
+    }
+}
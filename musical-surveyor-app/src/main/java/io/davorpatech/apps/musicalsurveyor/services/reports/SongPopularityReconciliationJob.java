@@ -0,0 +1,49 @@
+package io.davorpatech.apps.musicalsurveyor.services.reports;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * Scheduled job that reconciles the persisted per-song like counters.
+ *
+ * <p>Like counters are maintained incrementally each time a survey response
+ * is added or removed. This job periodically rebuilds them from the
+ * {@code survey_responsing} table, so any drift is eventually fixed.
+ *
+ * <p>The schedule is configured through the
+ * {@code app.reports.song-popularity.reconciliation-cron} property,
+ * defaulting to every day at 04:00.
+ */
+@Component
+public class SongPopularityReconciliationJob // NOSONAR
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(SongPopularityReconciliationJob.class);
+
+    private final ReportingService reportingService;
+
+    /**
+     * Constructs a new {@link SongPopularityReconciliationJob} with the given arguments.
+     *
+     * @param reportingService the reporting service, never {@code null}
+     */
+    SongPopularityReconciliationJob(ReportingService reportingService) {
+        Assert.notNull(reportingService, "ReportingService must not be null!");
+        this.reportingService = reportingService;
+    }
+
+    /**
+     * Rebuilds the like counter of every song from its survey responses.
+     */
+    @Scheduled(cron = "${app.reports.song-popularity.reconciliation-cron:0 0 4 * * *}")
+    public void reconcile() {
+        int fixed = reportingService.reconcileSongPopularity();
+        if (fixed > 0) {
+            LOGGER.warn("Song popularity reconciliation fixed {} drifted like counter(s)", fixed);
+        } else {
+            LOGGER.debug("Song popularity reconciliation found no drifted like counters");
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.davorpatech.apps.musicalsurveyor.services.reports;
+
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyResponsesChangedEvent;
+import io.davorpatech.apps.musicalsurveyor.persistence.dao.SongPopularityRollupRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+
+/**
+ * Listener that keeps the song popularity rollup up to date.
+ *
+ * <p>Each time the responses of a survey participation change, the net likes
+ * per song are merged into the rollup row of the survey, song and day wherein
+ * they count. It runs synchronously, joining the transaction that saved the
+ * participation, so the rollup never diverges from the responses.
+ */
+@Component
+public class SongPopularityRollupListener // NOSONAR
+{
+    private final SongPopularityRollupRepository rollupRepository;
+
+    /**
+     * Constructs a new {@link SongPopularityRollupListener} with the given arguments.
+     *
+     * @param rollupRepository the song popularity rollup repository, never {@code null}
+     */
+    SongPopularityRollupListener(SongPopularityRollupRepository rollupRepository) {
+        Assert.notNull(rollupRepository, "SongPopularityRollupRepository must not be null!");
+        this.rollupRepository = rollupRepository;
+    }
+
+    /**
+     * Merges the like changes of the given event into the rollup.
+     *
+     * @param event the survey responses changed event, never {@code null}
+     */
+    @EventListener
+    @Transactional
+    public void onSurveyResponsesChanged(SurveyResponsesChangedEvent event) {
+        for (Map.Entry<Long, Integer> entry : event.getLikeDeltas().entrySet()) {
+            rollupRepository.addLikes(
+                event.getSurveyId(), entry.getKey(), event.getRespondedOn(), entry.getValue());
+        }
+    }
+}
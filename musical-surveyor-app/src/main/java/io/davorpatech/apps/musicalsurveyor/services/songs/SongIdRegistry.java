@@ -0,0 +1,91 @@
+package io.davorpatech.apps.musicalsurveyor.services.songs;
+
+import io.davorpatech.apps.musicalsurveyor.persistence.dao.SongRepository;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory registry of the existing song IDs, to validate song references
+ * without a database round trip.
+ *
+ * <p>It is loaded lazily with all the song IDs at first use. Afterward, it
+ * is kept up to date on demand: IDs not registered are checked against the
+ * database once and registered when found, so new songs are eventually
+ * known, while deleted songs must be {@link #unregister unregistered}.
+ */
+@Component
+@Transactional(readOnly = true)
+public class SongIdRegistry // NOSONAR
+{
+    private final SongRepository songRepository;
+
+    private final Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean loaded;
+
+    /**
+     * Constructs a new {@link SongIdRegistry} with the given arguments.
+     *
+     * @param songRepository the song repository, never {@code null}
+     */
+    SongIdRegistry(SongRepository songRepository) {
+        Assert.notNull(songRepository, "SongRepository must not be null!");
+        this.songRepository = songRepository;
+    }
+
+    /**
+     * Returns which of the given song IDs do not exist.
+     *
+     * @param songIds the song IDs to check, never {@code null}
+     * @return the unknown song IDs, in encounter order, never {@code null}
+     */
+    public @NonNull Set<Long> findUnknown(@NonNull Iterable<Long> songIds) {
+        Assert.notNull(songIds, "Song IDs must not be null!");
+        ensureLoaded();
+        Set<Long> unknown = new LinkedHashSet<>();
+        for (Long songId : songIds) {
+            if (!ids.contains(songId)) {
+                unknown.add(songId);
+            }
+        }
+        if (!unknown.isEmpty()) { // maybe created after loaded
+            List<Long> found = songRepository.findExistingIdsIn(unknown);
+            ids.addAll(found);
+            found.forEach(unknown::remove);
+        }
+        return unknown;
+    }
+
+    /**
+     * Unregisters the given song ID, because it is being deleted.
+     *
+     * <p>Unregistering a song that is finally not deleted is harmless: it
+     * is registered again the next time it is checked.
+     *
+     * @param songId the song ID, never {@code null}
+     */
+    public void unregister(@NonNull Long songId) {
+        ids.remove(songId);
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (ids) {
+                if (!loaded) {
+                    try (Stream<Long> songIds = songRepository.streamAllIdsBy()) {
+                        songIds.forEach(ids::add);
+                    }
+                    loaded = true;
+                }
+            }
+        }
+    }
+}
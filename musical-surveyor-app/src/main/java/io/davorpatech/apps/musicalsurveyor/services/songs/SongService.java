@@ -2,6 +2,8 @@ package io.davorpatech.apps.musicalsurveyor.services.songs;
 
 import io.davorpatech.apps.musicalsurveyor.domain.songs.CreateSongInput;
 import io.davorpatech.apps.musicalsurveyor.domain.songs.FindSongsInput;
+import io.davorpatech.apps.musicalsurveyor.domain.songs.ImportSongInput;
+import io.davorpatech.apps.musicalsurveyor.domain.songs.SongCatalogImportDTO;
 import io.davorpatech.apps.musicalsurveyor.domain.songs.SongWithArtistDTO;
 import io.davorpatech.apps.musicalsurveyor.domain.songs.UpdateSongInput;
 import io.davorpatech.apps.musicalsurveyor.persistence.model.Song;
@@ -9,6 +11,8 @@ import io.davorpatech.fwk.exception.NoSuchEntityException;
 import io.davorpatech.fwk.service.data.DataService;
 import org.springframework.lang.NonNull;
 
+import java.util.Iterator;
+
 /**
  * Service for managing {@link Song} data domain.
  */
@@ -41,4 +45,23 @@ public interface SongService extends DataService<
      */
     void deleteFromArtistRepertoire(
         final @NonNull Long artistId, final @NonNull Long songId);
+
+    /**
+     * Imports a catalogue of songs, resolving their artists by name.
+     *
+     * <p>Records are consumed from the given iterator as they are needed, in
+     * chunks, so the catalogue is never held in memory as a whole. Each chunk
+     * resolves the artists of its records by name, creating those not found,
+     * and then inserts its songs in batches within its own transaction.
+     *
+     * <p>A record is rejected, without discarding the others, when it cannot be
+     * read, as the iterator throws an {@link IllegalArgumentException} for it, when
+     * it is invalid or when its song cannot be created.
+     *
+     * @param inputs the records to import, never {@code null}
+     * @return the summary of the import, never {@code null}
+     */
+    @NonNull
+    SongCatalogImportDTO importCatalog(
+        final @NonNull Iterator<ImportSongInput> inputs);
 }
@@ -1,26 +1,49 @@
 package io.davorpatech.apps.musicalsurveyor.services.songs;
 
 import io.davorpatech.apps.musicalsurveyor.domain.artist.ArtistConstants;
+import io.davorpatech.apps.musicalsurveyor.domain.artist.ArtistDTO;
+import io.davorpatech.apps.musicalsurveyor.domain.artist.CreateArtistInput;
 import io.davorpatech.apps.musicalsurveyor.domain.songs.*;
 import io.davorpatech.apps.musicalsurveyor.persistence.dao.ArtistRepository;
 import io.davorpatech.apps.musicalsurveyor.persistence.dao.SongRepository;
 import io.davorpatech.apps.musicalsurveyor.persistence.model.Artist;
 import io.davorpatech.apps.musicalsurveyor.persistence.model.Song;
+import io.davorpatech.apps.musicalsurveyor.services.artist.ArtistService;
 import io.davorpatech.fwk.exception.EntityUsedByForeignsException;
 import io.davorpatech.fwk.exception.NoSuchEntityException;
 import io.davorpatech.fwk.exception.NoSuchForeignalEntityException;
+import io.davorpatech.fwk.model.BulkItemResult;
+import io.davorpatech.fwk.model.BulkResult;
+import io.davorpatech.fwk.service.data.jpa.DtoProjection;
 import io.davorpatech.fwk.service.data.jpa.JpaBasedDataService;
+import io.davorpatech.fwk.validation.groups.OnCreate;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Implementation of {@link SongService}.
@@ -40,20 +63,72 @@ public class SongServiceImpl extends JpaBasedDataService<
         FindSongsInput, CreateSongInput, UpdateSongInput>
     implements SongService // NOSONAR
 {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SongServiceImpl.class);
+
+    /**
+     * The maximum number of rejected records reported by a catalogue import.
+     */
+    static final int IMPORT_MAX_REPORTED_REJECTIONS = 100;
+
+    /**
+     * Fetches only the song and artist columns needed by {@link SongWithArtistDTO},
+     * leaving out the audit and popularity ones.
+     */
+    private static final DtoProjection<Song, SongWithArtistDTO> SONG_WITH_ARTIST_PROJECTION =
+        new DtoProjection<>() {
+            @Override
+            public @NonNull List<Selection<?>> select(
+                    @NonNull CriteriaBuilder cb, @NonNull Root<Song> root) {
+                final Join<Song, Artist> artist = root.join("artist");
+                return List.of(
+                    root.get("id"),
+                    artist.get("id"),
+                    artist.get("name"),
+                    root.get("title"),
+                    root.get("releaseYear"),
+                    root.get("duration"),
+                    root.get("genre"));
+            }
+
+            @Override
+            public @NonNull SongWithArtistDTO map(@NonNull Tuple tuple) {
+                return new SongWithArtistDTO(
+                    tuple.get(0, Long.class),
+                    new SongWithArtistDTO.SongArtistDTO(
+                        tuple.get(1, Long.class), tuple.get(2, String.class)),
+                    tuple.get(3, String.class),
+                    tuple.get(4, Integer.class),
+                    tuple.get(5, Integer.class),
+                    tuple.get(6, String.class));
+            }
+        };
+
     private final ArtistRepository artistRepository;
 
+    private final ArtistService artistService;
+
+    private final SongIdRegistry songIdRegistry;
+
     /**
      * Constructs a new {@link SongServiceImpl} with the given arguments.
      *
      * @param songRepository     the song repository, never {@code null}
      * @param artistRepository   the artist repository, never {@code null}
+     * @param artistService      the artist service, never {@code null}
+     * @param songIdRegistry     the registry of existing song IDs, never {@code null}
      */
     SongServiceImpl(SongRepository songRepository,
-                    ArtistRepository artistRepository)
+                    ArtistRepository artistRepository,
+                    ArtistService artistService,
+                    SongIdRegistry songIdRegistry)
     {
         super(songRepository, SongConstants.DOMAIN_NAME);
         Assert.notNull(artistRepository, "ArtistRepository must not be null!");
         this.artistRepository = artistRepository;
+        Assert.notNull(artistService, "ArtistService must not be null!");
+        this.artistService = artistService;
+        Assert.notNull(songIdRegistry, "SongIdRegistry must not be null!");
+        this.songIdRegistry = songIdRegistry;
     }
 
     @Override
@@ -75,6 +150,17 @@ public class SongServiceImpl extends JpaBasedDataService<
         return Example.of(song);
     }
 
+    @Override
+    protected @Nullable Object determineCountCacheKey(
+            @NonNull FindSongsInput query, @Nullable Example<Song> example) {
+        return example == null ? super.determineCountCacheKey(query, null) : query.getArtistId();
+    }
+
+    @Override
+    protected @NonNull DtoProjection<Song, SongWithArtistDTO> getDtoProjection() {
+        return SONG_WITH_ARTIST_PROJECTION;
+    }
+
     @Override
     protected @NonNull SongWithArtistDTO convertEntityToDto(@NonNull Song entity) {
         final SongWithArtistDTO.SongArtistDTO artist = Optional
@@ -149,6 +235,7 @@ public class SongServiceImpl extends JpaBasedDataService<
     @Override
     protected void checkEntityDeletion(Song entity) {
         ensureEmptyParticipationResponses(null, entity.getId());
+        songIdRegistry.unregister(entity.getId());
     }
 
     @Transactional
@@ -157,6 +244,7 @@ public class SongServiceImpl extends JpaBasedDataService<
             @NonNull Long artistId, @NonNull Long songId) {
         // business rule: prevent remove song if it has participation responses
         ensureEmptyParticipationResponses(artistId, songId);
+        songIdRegistry.unregister(songId);
         // remove counting the number of deleted entities
         int affectedRows = repository.deleteFromArtistRepertoire(artistId, songId);
         if (affectedRows == 0) { // no deletion performed
@@ -169,6 +257,8 @@ public class SongServiceImpl extends JpaBasedDataService<
         if (affectedRows > 1) { // more than one deletion performed
             throw new IncorrectResultSizeDataAccessException(1, affectedRows);
         }
+        evictCachedDto(songId);
+        evictCachedCounts();
     }
 
     protected void ensureEmptyParticipationResponses(@Nullable Long artistId, @NonNull Long songId) {
@@ -180,4 +270,120 @@ public class SongServiceImpl extends JpaBasedDataService<
                 domainName, songId, "musicpoll.SurveyParticipationResponse", count);
         }
     }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public @NonNull SongCatalogImportDTO importCatalog(
+            @NonNull Iterator<ImportSongInput> inputs) {
+        Assert.notNull(inputs, "Inputs must not be null!");
+        final int chunkSize = determineBulkChunkSize();
+        // artist name -> id, growing with the distinct artists of the catalogue
+        final Map<String, Long> artistIds = new HashMap<>();
+        final List<BulkItemResult<Long>> rejections = new ArrayList<>();
+        final List<ImportSongInput> chunk = new ArrayList<>(chunkSize);
+        final List<Integer> positions = new ArrayList<>(chunkSize);
+        int numRecords = 0;
+        int numImportedSongs = 0;
+        int numRejectedRecords = 0;
+        int numCreatedArtists = 0;
+        while (inputs.hasNext()) {
+            final int position = numRecords++;
+            try {
+                chunk.add(inputs.next());
+                positions.add(position);
+            } catch (IllegalArgumentException ex) { // a malformed record
+                numRejectedRecords++;
+                reportImportRejection(rejections, BulkItemResult.failed(
+                    position, HttpStatus.BAD_REQUEST.value(), ex.getMessage()));
+            }
+            if (chunk.size() == chunkSize || !inputs.hasNext()) {
+                numCreatedArtists += resolveImportArtists(chunk, artistIds);
+                final BulkResult<Long> result = processInChunks(chunk,
+                    input -> validateBulkItem(input, OnCreate.class),
+                    input -> persistImportedSong(input, artistIds));
+                numImportedSongs += result.getNumSucceeded();
+                numRejectedRecords += result.getNumFailed();
+                for (BulkItemResult<Long> item : result.getItems()) {
+                    if (!item.isSucceeded()) {
+                        reportImportRejection(rejections, BulkItemResult.failed(
+                            positions.get(item.getIndex()), item.getStatus(), item.getError()));
+                    }
+                }
+                chunk.clear();
+                positions.clear();
+                LOGGER.info("Importing songs catalogue: {} records read, {} songs imported, {} records rejected",
+                    numRecords, numImportedSongs, numRejectedRecords);
+            }
+        }
+        if (numImportedSongs > 0) {
+            evictCachedCounts();
+        }
+        return new SongCatalogImportDTO(
+            numRecords, numImportedSongs, numRejectedRecords, numCreatedArtists, rejections);
+    }
+
+    /**
+     * Resolves the IDs of the artists of the given records by name, creating
+     * those not found in bulk through the {@link ArtistService}, so its cached
+     * artist counts are evicted.
+     *
+     * <p>Names already resolved by previous chunks are not looked for again.
+     * Records without a valid artist name are left to be rejected by validation,
+     * and those whose artist could not be created, by the import itself.
+     *
+     * @param inputs    the records to resolve the artists of
+     * @param artistIds the resolved artist IDs by name, to be completed
+     * @return the number of artists created
+     */
+    private int resolveImportArtists(List<ImportSongInput> inputs, Map<String, Long> artistIds) {
+        final Set<String> names = new LinkedHashSet<>();
+        for (ImportSongInput input : inputs) {
+            final String name = input == null ? null : input.getArtistName();
+            if (name != null && !name.isBlank() && name.length() <= ArtistConstants.NAME_MAXLEN
+                    && !artistIds.containsKey(name)) {
+                names.add(name);
+            }
+        }
+        if (names.isEmpty()) return 0;
+        getTransactionTemplate().executeWithoutResult(status -> {
+            for (Object[] row : artistRepository.findIdAndNameByNameIn(names)) {
+                final String name = (String) row[1];
+                artistIds.putIfAbsent(name, (Long) row[0]);
+                names.remove(name);
+            }
+        });
+        if (names.isEmpty()) return 0;
+        final BulkResult<ArtistDTO> created = artistService.createAll(names.stream()
+            .map(name -> new CreateArtistInput(name, null))
+            .toList());
+        for (BulkItemResult<ArtistDTO> item : created.getItems()) {
+            if (item.isSucceeded()) {
+                artistIds.put(item.getData().getName(), item.getData().getId());
+            }
+        }
+        return created.getNumSucceeded();
+    }
+
+    private Long persistImportedSong(ImportSongInput input, Map<String, Long> artistIds) {
+        final Long artistId = artistIds.get(input.getArtistName());
+        if (artistId == null) { // its artist was not created
+            throw new NoSuchForeignalEntityException(
+                ArtistConstants.DOMAIN_NAME, input.getArtistName());
+        }
+        Song entity = new Song();
+        entity.setTitle(input.getTitle());
+        entity.setReleaseYear(input.getReleaseYear());
+        entity.setDuration(input.getDuration());
+        entity.setGenre(input.getGenre());
+        // a reference is enough to link the song, so no artist is fetched
+        entity.setArtist(artistRepository.getReferenceById(artistId));
+        return repository.save(entity).getId();
+    }
+
+    private static void reportImportRejection(
+            List<BulkItemResult<Long>> rejections, BulkItemResult<Long> rejection) {
+        if (rejections.size() < IMPORT_MAX_REPORTED_REJECTIONS) {
+            rejections.add(rejection);
+        }
+    }
 }
@@ -0,0 +1,197 @@
+package io.davorpatech.apps.musicalsurveyor.services.surveys;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timer running each task once its deadline is due, at a tick granularity.
+ *
+ * <p>It implements a hashed timing wheel (Varghese and Lauck, 1987): a ring of
+ * buckets, each one holding the tasks due in a tick of the ring, plus the
+ * number of whole rounds still to wait. A single worker thread sleeps until
+ * each tick, and visits only the bucket of that tick. So, scheduling and
+ * cancelling take constant time, and waiting for far deadlines costs nothing
+ * but a round counter, regardless of the number of scheduled tasks.
+ *
+ * <p>Tasks run on the worker thread, one after the other, so they must be
+ * short. Ticks missed meanwhile are caught up afterward. Cancelled tasks are
+ * dropped the next time their bucket is visited.
+ */
+final class HashedTimingWheel implements AutoCloseable // NOSONAR
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+    private final long tickNanos;
+
+    private final List<List<Timeout>> wheel;
+
+    private final int mask;
+
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+
+    private final long startNanos;
+
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    /** only accessed by the worker thread */
+    private long tick;
+
+    /**
+     * Constructs and starts a new {@link HashedTimingWheel} with the given arguments.
+     *
+     * @param tickDuration  the duration of each tick, positive
+     * @param ticksPerWheel the number of ticks of each round, rounded up to a power of two
+     * @param threadName    the name of the worker thread, never {@code null}
+     */
+    HashedTimingWheel(@NonNull Duration tickDuration, int ticksPerWheel, @NonNull String threadName) {
+        Assert.notNull(tickDuration, "Tick duration must not be null!");
+        Assert.isTrue(!tickDuration.isNegative() && !tickDuration.isZero(), "Tick duration must be positive!");
+        Assert.isTrue(ticksPerWheel > 0 && ticksPerWheel <= 1 << 30,
+            "Ticks per wheel must be between 1 and 2^30!");
+        Assert.notNull(threadName, "Thread name must not be null!");
+        this.tickNanos = tickDuration.toNanos();
+        int size = 1;
+        while (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        this.wheel = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            wheel.add(new ArrayList<>());
+        }
+        this.mask = size - 1;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::work, threadName);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Schedules the given task to run once the given instant is due. Past
+     * instants are due at the next tick.
+     *
+     * @param task     the task to run, never {@code null}
+     * @param deadline the instant wherein the task is due, never {@code null}
+     * @return the handle to cancel the task, never {@code null}
+     * @throws IllegalStateException if the timer is closed
+     */
+    @NonNull Timeout schedule(@NonNull Runnable task, @NonNull Instant deadline) {
+        Assert.notNull(task, "Task must not be null!");
+        Assert.notNull(deadline, "Deadline must not be null!");
+        Assert.state(running, "The timing wheel is closed");
+        final long delayNanos = saturatedNanos(Duration.between(Instant.now(), deadline));
+        final long elapsedNanos = System.nanoTime() - startNanos;
+        final long deadlineNanos = delayNanos > Long.MAX_VALUE - elapsedNanos
+            ? Long.MAX_VALUE : elapsedNanos + Math.max(0L, delayNanos);
+        final Timeout timeout = new Timeout(task, deadlineNanos);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join();
+    }
+
+    private void work() {
+        while (running) {
+            final long tickDeadline = tickNanos * (tick + 1);
+            final long sleepNanos = startNanos + tickDeadline - System.nanoTime();
+            if (sleepNanos > 0L) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            transferPendingTimeouts();
+            expireTimeouts(wheel.get((int) (tick & mask)), tickDeadline);
+            tick++;
+        }
+    }
+
+    private void transferPendingTimeouts() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.cancelled) continue;
+            final long calculatedTick = timeout.deadlineNanos / tickNanos;
+            timeout.remainingRounds = (calculatedTick - tick) / wheel.size();
+            // past deadlines go to the current tick, so they are not missed
+            final long dueTick = Math.max(calculatedTick, tick);
+            wheel.get((int) (dueTick & mask)).add(timeout);
+        }
+    }
+
+    private void expireTimeouts(List<Timeout> bucket, long tickDeadline) {
+        final Iterator<Timeout> iterator = bucket.iterator();
+        final List<Timeout> expired = new ArrayList<>();
+        while (iterator.hasNext()) {
+            final Timeout timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+            } else if (timeout.remainingRounds <= 0L && timeout.deadlineNanos <= tickDeadline) {
+                iterator.remove();
+                expired.add(timeout);
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+        // run them once the bucket is left, so tasks may schedule new ones
+        for (Timeout timeout : expired) {
+            try {
+                timeout.task.run();
+            } catch (RuntimeException ex) {
+                LOGGER.error("Unable to run a task of the timing wheel", ex);
+            }
+        }
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException ex) {
+            return duration.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * The handle of a task scheduled in a {@link HashedTimingWheel}.
+     */
+    static final class Timeout {
+        private final Runnable task;
+
+        private final long deadlineNanos;
+
+        /** only accessed by the worker thread */
+        private long remainingRounds;
+
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * Cancels the task, so it does not run if it has not run yet.
+         */
+        void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.davorpatech.apps.musicalsurveyor.services.surveys;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Uniform random sampler of a fixed number of elements from a sequence of
+ * unknown length, read in a single pass.
+ *
+ * <p>It implements the reservoir sampling "Algorithm L" (Li, 1994), which keeps
+ * only the sample in memory, and draws random numbers just for the elements
+ * that enter the reservoir instead of for every element read, so it scales
+ * to sequences far larger than the sample, such as a whole database table
+ * streamed row by row.
+ *
+ * @param <E> the type of the sampled elements
+ */
+final class ReservoirSampler<E> // NOSONAR
+{
+    private final int sampleSize;
+
+    private final RandomGenerator random;
+
+    /**
+     * Constructs a new {@link ReservoirSampler} with the given arguments.
+     *
+     * @param sampleSize the maximum number of elements to sample, greater than zero
+     * @param random     the source of randomness, never {@code null}
+     */
+    ReservoirSampler(int sampleSize, @NonNull RandomGenerator random) {
+        Assert.isTrue(sampleSize > 0, "Sample size must be greater than zero!");
+        Assert.notNull(random, "RandomGenerator must not be null!");
+        this.sampleSize = sampleSize;
+        this.random = random;
+    }
+
+    /**
+     * Samples uniformly at random the elements of the given sequence.
+     *
+     * <p>Every element has the same probability of being sampled. When the
+     * sequence is shorter than the sample size, all of its elements are returned.
+     *
+     * @param elements the sequence of elements to sample, never {@code null}
+     * @return the sampled elements, in no particular order, never {@code null}
+     */
+    @NonNull List<E> sample(@NonNull Iterator<? extends E> elements) {
+        Assert.notNull(elements, "Elements must not be null!");
+        final List<E> reservoir = new ArrayList<>(sampleSize);
+        while (reservoir.size() < sampleSize && elements.hasNext()) {
+            reservoir.add(elements.next());
+        }
+        double w = Math.exp(Math.log(nextOpenUnit()) / sampleSize);
+        long skip = nextSkip(w);
+        while (elements.hasNext()) {
+            E element = elements.next();
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            reservoir.set(random.nextInt(sampleSize), element);
+            w *= Math.exp(Math.log(nextOpenUnit()) / sampleSize);
+            skip = nextSkip(w);
+        }
+        return reservoir;
+    }
+
+    private long nextSkip(double w) {
+        return (long) Math.floor(Math.log(nextOpenUnit()) / Math.log1p(-w));
+    }
+
+    private double nextOpenUnit() {
+        // the logarithms above are undefined for zero
+        double value;
+        do {
+            value = random.nextDouble();
+        } while (value == 0.0D);
+        return value;
+    }
+}
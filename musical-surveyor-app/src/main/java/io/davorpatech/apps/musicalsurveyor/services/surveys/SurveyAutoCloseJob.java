@@ -0,0 +1,84 @@
+package io.davorpatech.apps.musicalsurveyor.services.surveys;
+
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyClosedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * Scheduled job that closes the surveys once they have ended.
+ *
+ * <p>Each sweep {@link SurveyService#closeEnded closes}, one batch at a time,
+ * the running surveys whose end date has been reached and that have some
+ * participant who has completed them, publishing a {@link SurveyClosedEvent}
+ * for each of them.
+ * Surveys without responses are left running, to be closed manually.
+ *
+ * <p>The schedule is configured through the {@code app.survey.auto-close.cron}
+ * property, defaulting to every minute, and publishes the following metrics:
+ * <ul>
+ *     <li>{@code survey.auto-close.sweep}: the duration of each sweep</li>
+ *     <li>{@code survey.auto-close.closed}: the surveys closed</li>
+ * </ul>
+ */
+@Component
+public class SurveyAutoCloseJob // NOSONAR
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(SurveyAutoCloseJob.class);
+
+    private static final String METRIC_PREFIX = "survey.auto-close.";
+
+    private final SurveyService surveyService;
+
+    private final Timer sweepTimer;
+
+    private final Counter closedCounter;
+
+    /**
+     * Constructs a new {@link SurveyAutoCloseJob} with the given arguments.
+     *
+     * @param surveyService the survey service, never {@code null}
+     * @param meterRegistry the registry of the metrics, never {@code null}
+     */
+    SurveyAutoCloseJob(SurveyService surveyService, MeterRegistry meterRegistry) {
+        Assert.notNull(surveyService, "SurveyService must not be null!");
+        Assert.notNull(meterRegistry, "MeterRegistry must not be null!");
+        this.surveyService = surveyService;
+        this.sweepTimer = Timer.builder(METRIC_PREFIX + "sweep")
+            .description("The duration of the sweeps closing the ended surveys")
+            .register(meterRegistry);
+        this.closedCounter = Counter.builder(METRIC_PREFIX + "closed")
+            .description("The surveys closed once ended")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Closes all the running surveys already ended with some responses.
+     */
+    @Scheduled(cron = "${app.survey.auto-close.cron:0 * * * * *}")
+    public void closeEnded() {
+        final Timer.Sample sample = Timer.start();
+        try {
+            int numClosed = 0;
+            List<Long> closedIds;
+            while (!(closedIds = surveyService.closeEnded()).isEmpty()) {
+                closedCounter.increment(closedIds.size());
+                numClosed += closedIds.size();
+                LOGGER.info("Survey auto-close sweep closed {} ended survey(s): {}", closedIds.size(), closedIds);
+            }
+            if (numClosed == 0) {
+                LOGGER.debug("Survey auto-close sweep found no ended surveys to close");
+            }
+        } finally {
+            long elapsed = sample.stop(sweepTimer);
+            LOGGER.debug("Survey auto-close sweep took {} ms", elapsed / 1_000_000L);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package io.davorpatech.apps.musicalsurveyor.services.surveys;
+
+import io.davorpatech.apps.musicalsurveyor.persistence.dao.SongPopularityRollupRepository;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory tally of the likes per song of the surveys being watched live.
+ *
+ * <p>Only watched surveys are tallied. When a survey gets its first watcher,
+ * its tally is seeded once from the song popularity rollup; afterward, it is
+ * fed with the likes {@link #addLikes added} by the responses submitted, once
+ * they are committed. So, watchers take {@link #snapshot snapshots} of the
+ * tally without issuing any SQL. The tally is dropped with its last watcher.
+ *
+ * <p>Each song likes are counted by its own {@link LongAdder}, so concurrent
+ * submissions do not contend for a single counter.
+ *
+ * <p>Seeding is exclusive with the commits of the submitted responses: each
+ * commit holds a shared lock, and the rollup is read holding it exclusively.
+ * So, the likes committed before the seed are read from the rollup, and only
+ * those committed after it are added to the tally, each counted once.
+ */
+@Component
+public class SurveyLiveTally // NOSONAR
+{
+    private final SongPopularityRollupRepository rollupRepository;
+
+    private final ConcurrentMap<Long, Tally> tallies = new ConcurrentHashMap<>();
+
+    /** shared by the commits adding likes, exclusive to the seeds */
+    private final ReadWriteLock seedLock = new ReentrantReadWriteLock();
+
+    /**
+     * Constructs a new {@link SurveyLiveTally} with the given arguments.
+     *
+     * @param rollupRepository the song popularity rollup repository, never {@code null}
+     */
+    SurveyLiveTally(SongPopularityRollupRepository rollupRepository) {
+        Assert.notNull(rollupRepository, "SongPopularityRollupRepository must not be null!");
+        this.rollupRepository = rollupRepository;
+    }
+
+    /**
+     * Registers a watcher of the given survey, seeding its tally from the
+     * song popularity rollup if it is its first watcher.
+     *
+     * @param surveyId the survey ID to watch, never {@code null}
+     */
+    public void watch(@NonNull Long surveyId) {
+        final Tally tally = tallies.compute(surveyId, (key, current) -> {
+            final Tally value = current == null ? new Tally() : current;
+            value.watchers++;
+            return value;
+        });
+        if (tally.seeded) return;
+        seedLock.writeLock().lock();
+        try {
+            if (!tally.seeded) {
+                for (Object[] row : rollupRepository.sumLikesPerSongInSurvey(surveyId)) {
+                    tally.add((Long) row[0], ((Number) row[1]).longValue());
+                }
+                tally.seeded = true;
+            }
+        } finally {
+            seedLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Unregisters a watcher of the given survey, dropping its tally if it was
+     * its last watcher.
+     *
+     * @param surveyId the survey ID to stop watching, never {@code null}
+     */
+    public void unwatch(@NonNull Long surveyId) {
+        tallies.computeIfPresent(surveyId, (key, current) -> --current.watchers > 0 ? current : null);
+    }
+
+    /**
+     * Returns the IDs of the surveys being watched.
+     *
+     * @return the IDs of the watched surveys, never {@code null}
+     */
+    public @NonNull Set<Long> getWatchedSurveyIds() {
+        return Set.copyOf(tallies.keySet());
+    }
+
+    /**
+     * Adds the given likes per song to the tally of the given survey, if it is
+     * watched. Inside a transaction, they are added only once it is committed,
+     * if the survey is watched by then, since it may start being watched while
+     * the transaction is in progress.
+     *
+     * @param surveyId     the survey ID, never {@code null}
+     * @param likesPerSong the number of likes to add per song ID, never {@code null}
+     */
+    public void addLikes(@NonNull Long surveyId, @NonNull Map<Long, Integer> likesPerSong) {
+        if (likesPerSong.isEmpty()) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            final Map<Long, Integer> pending = Map.copyOf(likesPerSong);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private boolean locked;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    // no seed may read the rollup between the commit and the likes added
+                    seedLock.readLock().lock();
+                    locked = true;
+                }
+
+                @Override
+                public void afterCommit() {
+                    doAddLikes(surveyId, pending);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (locked) {
+                        seedLock.readLock().unlock();
+                    }
+                }
+            });
+        } else {
+            seedLock.readLock().lock();
+            try {
+                doAddLikes(surveyId, likesPerSong);
+            } finally {
+                seedLock.readLock().unlock();
+            }
+        }
+    }
+
+    private void doAddLikes(Long surveyId, Map<Long, Integer> likesPerSong) {
+        final Tally tally = tallies.get(surveyId);
+        // an unseeded tally reads these likes from the rollup once seeded
+        if (tally == null || !tally.seeded) return;
+        likesPerSong.forEach(tally::add);
+    }
+
+    /**
+     * Returns the current likes per song of the given survey.
+     *
+     * @param surveyId the survey ID, never {@code null}
+     * @return the number of likes per song ID, empty if the survey is not watched
+     */
+    public @NonNull Map<Long, Long> snapshot(@NonNull Long surveyId) {
+        final Tally tally = tallies.get(surveyId);
+        if (tally == null) return Map.of();
+        final Map<Long, Long> likes = new HashMap<>(tally.likes.size());
+        tally.likes.forEach((songId, counter) -> likes.put(songId, counter.sum()));
+        return likes;
+    }
+
+    private static final class Tally {
+        private final ConcurrentMap<Long, LongAdder> likes = new ConcurrentHashMap<>();
+
+        /** guarded by the {@link #tallies} map bin of the survey */
+        private int watchers;
+
+        private volatile boolean seeded;
+
+        private void add(Long songId, long delta) {
+            likes.computeIfAbsent(songId, key -> new LongAdder()).add(delta);
+        }
+    }
+}
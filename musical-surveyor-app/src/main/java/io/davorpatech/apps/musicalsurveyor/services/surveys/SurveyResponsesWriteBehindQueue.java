@@ -0,0 +1,264 @@
+package io.davorpatech.apps.musicalsurveyor.services.surveys;
+
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SubmitSurveyResponsesInput;
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyResponsesQueueFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bounded in-process queue ingesting survey responses in front of their
+ * persistence, for on-air voting bursts.
+ *
+ * <p>When enabled, request threads only {@link SurveyService#checkResponses check}
+ * the submitted responses and enqueue them, answering without waiting for
+ * their persistence. A full queue applies backpressure rejecting further
+ * submissions with a {@link SurveyResponsesQueueFullException}.
+ *
+ * <p>A single background writer drains the queue, coalescing the queued
+ * responses into a single {@link SurveyService#submitResponsesInBulk bulk
+ * submission} every {@code flush-interval} or {@code flush-size} responses,
+ * whichever comes first. So, the whole burst holds one pooled connection
+ * at a time, instead of one per vote. If a bulk submission fails, as when a
+ * song was deleted after its responses were checked, its responses are
+ * retried one by one, so only the failing ones are discarded. On shutdown,
+ * further submissions are rejected, and the queue is fully drained before
+ * the application context closes.
+ *
+ * <p>It is configured through the {@value #PROPERTY_PREFIX}{@code *}
+ * properties, and publishes the following metrics:
+ * <ul>
+ *     <li>{@code survey.responses.queue.depth}: the number of queued responses</li>
+ *     <li>{@code survey.responses.queue.flush}: the latency of each flush</li>
+ *     <li>{@code survey.responses.queue.dropped}: the responses rejected by a full queue</li>
+ *     <li>{@code survey.responses.queue.written}: the responses persisted</li>
+ *     <li>{@code survey.responses.queue.discarded}: the responses discarded by the
+ *     bulk submission, or failing to be persisted on their own</li>
+ * </ul>
+ */
+@Component
+public class SurveyResponsesWriteBehindQueue implements InitializingBean, DisposableBean // NOSONAR
+{
+    /**
+     * The prefix of the properties configuring the queue.
+     */
+    public static final String PROPERTY_PREFIX = "app.survey.responses.write-behind.";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SurveyResponsesWriteBehindQueue.class);
+
+    private static final String METRIC_PREFIX = "survey.responses.queue.";
+
+    private final SurveyService surveyService;
+
+    private final boolean enabled;
+
+    private final int capacity;
+
+    private final int flushSize;
+
+    private final Duration flushInterval;
+
+    private final BlockingQueue<SubmitSurveyResponsesInput> queue;
+
+    private final Timer flushTimer;
+
+    private final Counter droppedCounter;
+
+    private final Counter writtenCounter;
+
+    private final Counter discardedCounter;
+
+    private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+
+    private volatile boolean running;
+
+    private Thread writer;
+
+    /**
+     * Constructs a new {@link SurveyResponsesWriteBehindQueue} with the given arguments.
+     *
+     * @param surveyService the survey service, never {@code null}
+     * @param environment   the environment holding the configuration, never {@code null}
+     * @param meterRegistry the registry of the metrics, never {@code null}
+     */
+    SurveyResponsesWriteBehindQueue(SurveyService surveyService,
+                                    Environment environment,
+                                    MeterRegistry meterRegistry)
+    {
+        Assert.notNull(surveyService, "SurveyService must not be null!");
+        Assert.notNull(environment, "Environment must not be null!");
+        Assert.notNull(meterRegistry, "MeterRegistry must not be null!");
+        this.surveyService = surveyService;
+        this.enabled = environment.getProperty(PROPERTY_PREFIX + "enabled", Boolean.class, false);
+        this.capacity = environment.getProperty(PROPERTY_PREFIX + "capacity", Integer.class, 10_000);
+        this.flushSize = environment.getProperty(PROPERTY_PREFIX + "flush-size", Integer.class, 500);
+        this.flushInterval = environment.getProperty(
+            PROPERTY_PREFIX + "flush-interval", Duration.class, Duration.ofMillis(200));
+        Assert.isTrue(capacity > 0, "Capacity must be greater than zero!");
+        Assert.isTrue(flushSize > 0, "Flush size must be greater than zero!");
+        Assert.isTrue(!flushInterval.isNegative() && !flushInterval.isZero(),
+            "Flush interval must be positive!");
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        Gauge.builder(METRIC_PREFIX + "depth", queue, Collection::size)
+            .description("The number of queued survey responses")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder(METRIC_PREFIX + "flush")
+            .description("The latency of the survey responses flushes")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder(METRIC_PREFIX + "dropped")
+            .description("The survey responses rejected by a full queue")
+            .register(meterRegistry);
+        this.writtenCounter = Counter.builder(METRIC_PREFIX + "written")
+            .description("The survey responses persisted")
+            .register(meterRegistry);
+        this.discardedCounter = Counter.builder(METRIC_PREFIX + "discarded")
+            .description("The survey responses discarded or failing to be persisted")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns whether the write-behind ingestion is enabled. Otherwise, the
+     * responses must be submitted synchronously.
+     *
+     * @return {@code true} if the write-behind ingestion is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the number of queued responses, waiting to be persisted.
+     *
+     * @return the number of queued responses
+     */
+    public int getDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Checks and enqueues the given responses, to be persisted afterward.
+     *
+     * @param input the responses to submit, never {@code null}
+     * @throws SurveyResponsesQueueFullException if the queue is full
+     * @throws IllegalStateException if the write-behind ingestion is not running
+     */
+    public void submit(@NonNull SubmitSurveyResponsesInput input) {
+        surveyService.checkResponses(input);
+        // no response is enqueued once the shutdown has drained the queue
+        runningLock.readLock().lock();
+        try {
+            Assert.state(running, "The survey responses write-behind queue is not running");
+            if (!queue.offer(input)) {
+                droppedCounter.increment();
+                throw new SurveyResponsesQueueFullException(capacity);
+            }
+        } finally {
+            runningLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (enabled) {
+            running = true;
+            writer = new Thread(this::drain, "survey-responses-writer");
+            writer.setDaemon(true);
+            writer.start();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (writer != null) {
+            runningLock.writeLock().lock();
+            try {
+                running = false;
+            } finally {
+                runningLock.writeLock().unlock();
+            }
+            // every queued response was acknowledged, so it is waited for
+            writer.join();
+        }
+    }
+
+    private void drain() {
+        final List<SubmitSurveyResponsesInput> batch = new ArrayList<>(flushSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                SubmitSurveyResponsesInput first = queue.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // coalesce until the flush size or interval is reached
+                final long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (batch.size() < flushSize) {
+                    queue.drainTo(batch, flushSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= flushSize || remaining <= 0L || !running) {
+                        break;
+                    }
+                    SubmitSurveyResponsesInput next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                running = false;
+                queue.drainTo(batch);
+            }
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<SubmitSurveyResponsesInput> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        final Timer.Sample sample = Timer.start();
+        try {
+            int accepted = surveyService.submitResponsesInBulk(batch);
+            writtenCounter.increment(accepted);
+            discardedCounter.increment((double) batch.size() - accepted);
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Unable to flush {} queued survey response(s) at once, retrying them one by one",
+                batch.size(), ex);
+            batch.forEach(this::flushAlone);
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    private void flushAlone(SubmitSurveyResponsesInput input) {
+        try {
+            int accepted = surveyService.submitResponsesInBulk(List.of(input));
+            writtenCounter.increment(accepted);
+            discardedCounter.increment(1.0D - accepted);
+        } catch (RuntimeException ex) {
+            discardedCounter.increment();
+            LOGGER.error("Unable to flush the queued responses of participant `{}` to survey `{}`",
+                input.getParticipantId(), input.getSurveyId(), ex);
+        }
+    }
+}
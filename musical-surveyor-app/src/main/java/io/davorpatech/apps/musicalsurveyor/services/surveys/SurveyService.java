@@ -2,12 +2,17 @@ package io.davorpatech.apps.musicalsurveyor.services.surveys;
 
 import io.davorpatech.apps.musicalsurveyor.domain.surveys.CreateSurveyInput;
 import io.davorpatech.apps.musicalsurveyor.domain.surveys.FindSurveysInput;
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SubmitSurveyResponsesInput;
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyClosedEvent;
 import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyDTO;
 import io.davorpatech.apps.musicalsurveyor.domain.surveys.UpdateSurveyInput;
 import io.davorpatech.apps.musicalsurveyor.persistence.model.Survey;
 import io.davorpatech.fwk.service.data.DataService;
+import jakarta.validation.Valid;
 import org.springframework.lang.NonNull;
 
+import java.util.List;
+
 /**
  * Service for managing {@link Survey} data domain.
  */
@@ -31,4 +36,72 @@ public interface SurveyService extends DataService<
      * @return the closed survey
      */
     @NonNull SurveyDTO close(@NonNull Long id);
+
+    /**
+     * Closes the running surveys whose end date has been reached and that have
+     * some participant who has completed them, up to a batch of them at once.
+     * It is called again until it returns no IDs to close them all.
+     *
+     * <p>A {@link SurveyClosedEvent} is published for each closed survey.
+     *
+     * @return the IDs of the closed surveys, empty if none is left to close,
+     *         never {@code null}
+     */
+    @NonNull List<Long> closeEnded();
+
+    /**
+     * Selects at random the participants of the survey with the given {@code id},
+     * and starts it.
+     *
+     * <p>Up to {@code numMaxParticipants} radio listeners are sampled uniformly
+     * in a single pass over all of them, and enrolled as participants of the
+     * survey in bulk. If there are fewer listeners, all of them participate.
+     *
+     * <p>Participants can be selected only once, and only for pending surveys
+     * whose start date has been reached, which become running afterward. It is
+     * how a survey is started, so it is never started before its start date.
+     *
+     * @param id the id of the survey to select participants for
+     * @return the running survey
+     */
+    @NonNull SurveyDTO selectParticipants(@NonNull Long id);
+
+    /**
+     * Submits the favorite songs of a participant as responses of a survey.
+     *
+     * <p>Responses are accepted only while the survey is running, once per
+     * participant, and must contain as many distinct songs as responses are
+     * needed by the survey. Liked songs are counted in their popularity.
+     *
+     * <p>It is tailored for high-throughput voting bursts: songs are validated
+     * against a cached set of IDs, and responses are written in bulk without
+     * loading neither the participation nor the songs.
+     *
+     * @param input the responses to submit
+     */
+    void submitResponses(@NonNull @Valid SubmitSurveyResponsesInput input);
+
+    /**
+     * Checks the business rules of the survey and the songs that the given
+     * responses must satisfy to be submitted, without submitting them.
+     *
+     * <p>The participant is not checked, so responses accepted by this check
+     * could still be discarded by {@link #submitResponsesInBulk}.
+     *
+     * @param input the responses to check
+     */
+    void checkResponses(@NonNull @Valid SubmitSurveyResponsesInput input);
+
+    /**
+     * Submits, in a single transaction, the already {@link #checkResponses
+     * checked} responses of many participants.
+     *
+     * <p>Unlike {@link #submitResponses}, responses of those who are not
+     * participants of their survey, or have already responded, are silently
+     * discarded, and the writes of all the accepted ones are coalesced.
+     *
+     * @param inputs the responses to submit
+     * @return the number of accepted responses, always greater than or equal to zero
+     */
+    int submitResponsesInBulk(@NonNull List<SubmitSurveyResponsesInput> inputs);
 }
@@ -3,24 +3,44 @@ package io.davorpatech.apps.musicalsurveyor.services.surveys;
 import io.davorpatech.apps.musicalsurveyor.domain.RaffleConstants;
 import io.davorpatech.apps.musicalsurveyor.domain.colors.EmptyColorsException;
 import io.davorpatech.apps.musicalsurveyor.domain.listeners.EmptyRadioListenersException;
+import io.davorpatech.apps.musicalsurveyor.domain.songs.SongConstants;
 import io.davorpatech.apps.musicalsurveyor.domain.surveys.*;
 import io.davorpatech.apps.musicalsurveyor.persistence.dao.*;
 import io.davorpatech.apps.musicalsurveyor.persistence.model.Survey;
 import io.davorpatech.apps.musicalsurveyor.persistence.model.SurveyConfig;
+import io.davorpatech.apps.musicalsurveyor.persistence.model.SurveyParticipationId;
+import io.davorpatech.apps.musicalsurveyor.services.songs.SongIdRegistry;
 import io.davorpatech.fwk.exception.EntityUsedByForeignsException;
 import io.davorpatech.fwk.exception.NoSuchEntityException;
+import io.davorpatech.fwk.exception.NoSuchForeignalEntityException;
 import io.davorpatech.fwk.service.data.jpa.JpaBasedDataService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of {@link SurveyService}.
@@ -48,6 +68,16 @@ public class SurveyServiceImpl extends JpaBasedDataService<
 
     private final SurveyParticipationRepository surveyParticipationRepository;
 
+    private final SongIdRegistry songIdRegistry;
+
+    private final SurveyLiveTally liveTally;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AuditorAware<String> auditorAware;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * Constructs a new {@link SurveyServiceImpl} with the given arguments.
      *
@@ -56,12 +86,22 @@ public class SurveyServiceImpl extends JpaBasedDataService<
      * @param colorRepository               the color repository, never {@code null}
      * @param raffleRepository              the raffle repository, never {@code null}
      * @param surveyParticipationRepository the survey participation repository, never {@code null}
+     * @param songIdRegistry                the registry of existing song IDs, never {@code null}
+     * @param liveTally                     the live tally of the watched surveys, never {@code null}
+     * @param jdbcTemplate                  the JDBC template for bulk operations, never {@code null}
+     * @param auditorAware                  the auditor of the bulk operations, never {@code null}
+     * @param eventPublisher                the domain events publisher, never {@code null}
      */
     SurveyServiceImpl(SurveyRepository surveyRepository,
                       RadioListenerRepository radioListenerRepository,
                       ColorRepository colorRepository,
                       RaffleRepository raffleRepository,
-                      SurveyParticipationRepository surveyParticipationRepository)
+                      SurveyParticipationRepository surveyParticipationRepository,
+                      SongIdRegistry songIdRegistry,
+                      SurveyLiveTally liveTally,
+                      JdbcTemplate jdbcTemplate,
+                      AuditorAware<String> auditorAware,
+                      ApplicationEventPublisher eventPublisher)
     {
         super(surveyRepository, SurveyConstants.DOMAIN_NAME);
         Assert.notNull(radioListenerRepository, "RadioListenerRepository must not be null!");
@@ -72,6 +112,16 @@ public class SurveyServiceImpl extends JpaBasedDataService<
         this.raffleRepository = raffleRepository;
         Assert.notNull(surveyParticipationRepository, "SurveyParticipationRepository must not be null!");
         this.surveyParticipationRepository = surveyParticipationRepository;
+        Assert.notNull(songIdRegistry, "SongIdRegistry must not be null!");
+        this.songIdRegistry = songIdRegistry;
+        Assert.notNull(liveTally, "SurveyLiveTally must not be null!");
+        this.liveTally = liveTally;
+        Assert.notNull(jdbcTemplate, "JdbcTemplate must not be null!");
+        this.jdbcTemplate = jdbcTemplate;
+        Assert.notNull(auditorAware, "AuditorAware must not be null!");
+        this.auditorAware = auditorAware;
+        Assert.notNull(eventPublisher, "ApplicationEventPublisher must not be null!");
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -91,9 +141,14 @@ public class SurveyServiceImpl extends JpaBasedDataService<
         return Example.of(probe);
     }
 
-    @Transactional
     @Override
-    public @NonNull SurveyDTO create(@NonNull CreateSurveyInput input) {
+    protected @Nullable Object determineCountCacheKey(
+            @NonNull FindSurveysInput query, @Nullable Example<Survey> example) {
+        return example == null ? super.determineCountCacheKey(query, null) : query.getStatus();
+    }
+
+    @Override
+    protected void checkEntityCreation(@NonNull CreateSurveyInput input) {
         // business rules: there must be at least one radio listener and one color
         if (radioListenerRepository.isEmpty()) {
             throw new EmptyRadioListenersException(
@@ -103,7 +158,27 @@ public class SurveyServiceImpl extends JpaBasedDataService<
             throw new EmptyColorsException(
                 "At least one color must be present before create a survey");
         }
-        return super.create(input);
+    }
+
+    @Override
+    protected void afterEntityCreated(@NonNull SurveyDTO dto) {
+        publishScheduleChanged(dto);
+    }
+
+    @Override
+    protected void afterEntityUpdated(@NonNull SurveyDTO dto) {
+        publishScheduleChanged(dto);
+    }
+
+    /**
+     * Publishes the schedule of the given survey, so its next status transition
+     * is re-armed when its dates or its status have changed.
+     *
+     * @param survey the created, updated or started survey, never {@code null}
+     */
+    protected void publishScheduleChanged(@NonNull SurveyDTO survey) {
+        eventPublisher.publishEvent(new SurveyScheduleChangedEvent(
+            survey.getId(), survey.getStatus(), survey.getStartDate(), survey.getEndDate()));
     }
 
     @Override
@@ -185,38 +260,264 @@ public class SurveyServiceImpl extends JpaBasedDataService<
     @Override
     protected void checkEntityDeletion(Survey entity) {
         Long id = entity.getId();
-        long count = -1;
-        if ((count = raffleRepository.countBySurvey(id)) > 0) {
+        // counted only once known to be in use, as they may be a lot
+        if (raffleRepository.existsBySurvey(id)) {
             throw new EntityUsedByForeignsException(domainName, id,
-                RaffleConstants.DOMAIN_NAME, count);
+                RaffleConstants.DOMAIN_NAME, raffleRepository.countBySurvey(id));
         }
-        if ((count = surveyParticipationRepository.countBySurvey(id)) > 0) {
+        if (surveyParticipationRepository.existsBySurvey(id)) {
             throw new EntityUsedByForeignsException(domainName, id,
-                SurveyParticipationConstants.DOMAIN_NAME, count);
+                SurveyParticipationConstants.DOMAIN_NAME, surveyParticipationRepository.countBySurvey(id));
         }
     }
 
     @Transactional
     @Override
     public @NonNull SurveyDTO close(@NonNull Long id) {
-        // 1. find the survey
-        Survey entity = repository.findById(id)
+        // 1. close it with a single conditional update, checking the business rules
+        final LocalDateTime now = LocalDateTime.now();
+        final boolean closed = repository.closeIfClosable(id, now, resolveCurrentAuditor()) > 0;
+        // 2. read the survey row as it is now, never the cached DTO
+        final Survey entity = repository.findById(id)
             .orElseThrow(NoSuchEntityException.creater(domainName, id));
-        // 2. check if it is already closed
-        if (SurveyStatus.CLOSED.equals(entity.getStatus())) {
-            // already closed, so nothing to do
-            return convertEntityToDto(entity);
-        }
-        // 3a. business rule: cannot close a survey that has not yet ended
-        if (LocalDateTime.now().isAfter(entity.getEndDate())) {
-            // 3b. check if there are some participants that have completed the survey
-            if (surveyParticipationRepository.existsByRespondedSurvey(id)) {
-                entity.setStatus(SurveyStatus.CLOSED);
-                repository.save(entity);
+        if (!closed) {
+            if (SurveyStatus.CLOSED.equals(entity.getStatus())) {
+                // already closed, so nothing to do
                 return convertEntityToDto(entity);
             }
+            // 3. business rules: cannot close a survey not yet ended, or without responses
+            if (!now.isAfter(entity.getEndDate())) {
+                throw new UnableToCloseSurveyException(id, "Not yet ended");
+            }
             throw new UnableToCloseSurveyException(id, "Missing participant responses");
         }
-        throw new UnableToCloseSurveyException(id, "Not yet ended");
+        evictCachedDto(id);
+        evictCachedCounts();
+        eventPublisher.publishEvent(new SurveyClosedEvent(id, now));
+        return convertEntityToDto(entity);
+    }
+
+    @Transactional
+    @Override
+    public @NonNull List<Long> closeEnded() {
+        // 1. lock a batch of the running surveys already ended with some responses,
+        //    without loading them, so the update below is bounded
+        final LocalDateTime now = LocalDateTime.now();
+        final List<Long> ids = repository.lockClosableIds(now, determineJdbcBatchSize());
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        // 2. close them all at once
+        repository.closeAllById(ids, now, resolveCurrentAuditor());
+        for (Long id : ids) {
+            evictCachedDto(id);
+            eventPublisher.publishEvent(new SurveyClosedEvent(id, now));
+        }
+        evictCachedCounts();
+        return ids;
+    }
+
+    @Transactional
+    @Override
+    public @NonNull SurveyDTO selectParticipants(@NonNull Long id) {
+        // 1. find the survey
+        Survey entity = repository.findById(id)
+            .orElseThrow(NoSuchEntityException.creater(domainName, id));
+        // 2. business rules: participants are selected once, when starting the survey
+        if (!SurveyStatus.PENDING.equals(entity.getStatus())) {
+            throw new UnableToSelectSurveyParticipantsException(id, "Not pending");
+        }
+        if (LocalDateTime.now().isBefore(entity.getStartDate())) {
+            throw new UnableToSelectSurveyParticipantsException(id, "Not yet started");
+        }
+        if (surveyParticipationRepository.existsBySurvey(id)) {
+            throw new UnableToSelectSurveyParticipantsException(id, "Already selected participants");
+        }
+        // 3. sample the listeners in a single pass, without loading them
+        final int numMaxParticipants = entity.getConfig().getNumMaxParticipants();
+        final List<Long> participantIds;
+        if (numMaxParticipants > 0) {
+            try (Stream<Long> listenerIds = radioListenerRepository.streamAllIdsBy()) {
+                participantIds = new ReservoirSampler<Long>(numMaxParticipants, ThreadLocalRandom.current())
+                    .sample(listenerIds.iterator());
+            }
+        } else {
+            participantIds = List.of();
+        }
+        // 4. enroll them in bulk, and start the survey
+        insertParticipations(id, participantIds);
+        entity.setStatus(SurveyStatus.RUNNING);
+        repository.save(entity);
+        evictCachedDto(id);
+        evictCachedCounts();
+        final SurveyDTO dto = convertEntityToDto(entity);
+        publishScheduleChanged(dto);
+        return dto;
+    }
+
+    /**
+     * Inserts the participations of the given listeners in the given survey,
+     * with JDBC batches as big as the JPA provider ones.
+     *
+     * <p>It bypasses the persistence context, so the inserted participations
+     * are not managed entities.
+     *
+     * @param surveyId       the survey ID, never {@code null}
+     * @param participantIds the participant IDs, never {@code null}
+     */
+    protected void insertParticipations(@NonNull Long surveyId, @NonNull List<Long> participantIds) {
+        final Timestamp createdOn = Timestamp.valueOf(LocalDateTime.now());
+        final String createdBy = resolveCurrentAuditor();
+        // in key order, so the primary key index is appended to instead of scattered
+        final List<Long> sortedParticipantIds = participantIds.stream().sorted().toList();
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO survey_participation (survey_id, participant_id, created_on, created_by)
+            VALUES (?, ?, ?, ?)
+            """, sortedParticipantIds, determineJdbcBatchSize(), (ps, participantId) -> {
+                ps.setLong(1, surveyId);
+                ps.setLong(2, participantId);
+                ps.setTimestamp(3, createdOn);
+                ps.setString(4, createdBy);
+            });
+    }
+
+    @Override
+    public void checkResponses(@NonNull SubmitSurveyResponsesInput input) {
+        final Long id = input.getSurveyId();
+        // 1. find the survey, cached when the DTO cache is enabled
+        final SurveyDTO survey = findById(id);
+        // 2. business rule: responses are accepted while the survey is running
+        if (!SurveyStatus.RUNNING.equals(survey.getStatus())
+            || LocalDateTime.now().isAfter(survey.getEndDate())) {
+            throw new UnableToSubmitSurveyResponsesException(id, "Not running");
+        }
+        // 3. business rule: as many distinct existing songs as needed responses
+        final Set<Long> songIds = new LinkedHashSet<>(input.getSongIds());
+        final int numSurveyResponses = survey.getConfig().getNumNeededResponses();
+        if (songIds.size() != input.getSongIds().size() || songIds.size() != numSurveyResponses) {
+            throw new UnableToSubmitSurveyResponsesException(id,
+                String.format("Expected %d distinct songs", numSurveyResponses));
+        }
+        final Set<Long> unknownSongIds = songIdRegistry.findUnknown(songIds);
+        if (!unknownSongIds.isEmpty()) {
+            throw new NoSuchForeignalEntityException(
+                SongConstants.DOMAIN_NAME, unknownSongIds.iterator().next());
+        }
+    }
+
+    @Transactional
+    @Override
+    public void submitResponses(@NonNull SubmitSurveyResponsesInput input) {
+        final Long id = input.getSurveyId();
+        final Long participantId = input.getParticipantId();
+        // 1. business rules of the survey and the songs
+        checkResponses(input);
+        // 2. mark the participation as responded, only once
+        final LocalDateTime now = LocalDateTime.now();
+        if (surveyParticipationRepository.markResponded(id, participantId, now, resolveCurrentAuditor()) == 0) {
+            final SurveyParticipationId participationId = new SurveyParticipationId(id, participantId);
+            if (surveyParticipationRepository.existsById(participationId)) {
+                throw new UnableToSubmitSurveyResponsesException(id, "Already responded");
+            }
+            throw new NoSuchEntityException(SurveyParticipationConstants.DOMAIN_NAME, participationId);
+        }
+        // 3. write the responses in bulk, and count their likes
+        final Set<Long> songIds = new LinkedHashSet<>(input.getSongIds());
+        insertResponses(List.of(input));
+        final Map<Long, Integer> likesPerSong = songIds.stream()
+            .collect(Collectors.toMap(Function.identity(), songId -> +1));
+        // the song counters and the rollup are updated by the listeners of the event
+        eventPublisher.publishEvent(new SurveyResponsesChangedEvent(
+            id, participantId, now.toLocalDate(), likesPerSong));
+        liveTally.addLikes(id, likesPerSong);
+    }
+
+    @Transactional
+    @Override
+    public int submitResponsesInBulk(@NonNull List<SubmitSurveyResponsesInput> inputs) {
+        if (inputs.isEmpty()) {
+            return 0;
+        }
+        // 1. mark the participations as responded, only once each
+        final LocalDateTime now = LocalDateTime.now();
+        final Timestamp participatedAt = Timestamp.valueOf(now);
+        final String modifiedBy = resolveCurrentAuditor();
+        final int[][] marked = jdbcTemplate.batchUpdate("""
+            UPDATE survey_participation
+            SET participated_at = ?, last_modified_on = ?, last_modified_by = ?
+            WHERE survey_id = ? AND participant_id = ? AND participated_at IS NULL
+            """, inputs, determineJdbcBatchSize(), (ps, input) -> {
+                ps.setTimestamp(1, participatedAt);
+                ps.setTimestamp(2, participatedAt);
+                ps.setString(3, modifiedBy);
+                ps.setLong(4, input.getSurveyId());
+                ps.setLong(5, input.getParticipantId());
+            });
+        final List<SubmitSurveyResponsesInput> accepted = new ArrayList<>(inputs.size());
+        int index = 0;
+        for (int[] batch : marked) {
+            for (int affectedRows : batch) {
+                if (affectedRows > 0) { // others are not participants or already responded
+                    accepted.add(inputs.get(index));
+                }
+                index++;
+            }
+        }
+        if (accepted.isEmpty()) {
+            return 0;
+        }
+        // 2. write the responses with multi-row inserts
+        insertResponses(accepted);
+        // 3. count their likes, coalesced per survey song
+        final Map<Long, Map<Long, Integer>> surveySongLikes = new HashMap<>();
+        for (SubmitSurveyResponsesInput input : accepted) {
+            for (Long songId : new LinkedHashSet<>(input.getSongIds())) {
+                surveySongLikes.computeIfAbsent(input.getSurveyId(), key -> new HashMap<>())
+                    .merge(songId, 1, Integer::sum);
+            }
+        }
+        // the song counters and the rollup are updated by the listeners of the events,
+        // as for the responses submitted one by one, but with one event per survey
+        final LocalDate respondedOn = now.toLocalDate();
+        surveySongLikes.forEach((surveyId, likesPerSong) -> {
+            eventPublisher.publishEvent(new SurveyResponsesChangedEvent(
+                surveyId, null, respondedOn, likesPerSong));
+            liveTally.addLikes(surveyId, likesPerSong);
+        });
+        return accepted.size();
+    }
+
+    /**
+     * Inserts the songs of the given submissions as responses of their survey
+     * participations, coalesced into multi-row inserts of up to the JDBC batch
+     * size rows each.
+     *
+     * <p>It bypasses the persistence context, so neither the participations nor
+     * the songs are loaded.
+     *
+     * @param inputs the submissions whose responses are inserted, never {@code null}
+     */
+    protected void insertResponses(@NonNull List<SubmitSurveyResponsesInput> inputs) {
+        final List<Object> args = new ArrayList<>();
+        for (SubmitSurveyResponsesInput input : inputs) {
+            for (Long songId : new LinkedHashSet<>(input.getSongIds())) {
+                args.add(input.getSurveyId());
+                args.add(input.getParticipantId());
+                args.add(songId);
+            }
+        }
+        final int maxArgs = determineJdbcBatchSize() * 3;
+        for (int from = 0; from < args.size(); from += maxArgs) {
+            final List<Object> chunk = args.subList(from, Math.min(args.size(), from + maxArgs));
+            jdbcTemplate.update(
+                "INSERT INTO survey_responsing (survey_id, participant_id, song_id) VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size() / 3, "(?, ?, ?)")),
+                chunk.toArray());
+        }
+    }
+
+    private @NonNull String resolveCurrentAuditor() {
+        return auditorAware.getCurrentAuditor()
+            .orElseThrow(() -> new IllegalStateException("Unable to resolve the current auditor"));
     }
 }
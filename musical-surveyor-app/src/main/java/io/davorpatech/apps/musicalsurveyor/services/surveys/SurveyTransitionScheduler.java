@@ -0,0 +1,327 @@
+package io.davorpatech.apps.musicalsurveyor.services.surveys;
+
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyClosedEvent;
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyScheduleChangedEvent;
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyStatus;
+import io.davorpatech.apps.musicalsurveyor.persistence.dao.SurveyRepository;
+import io.davorpatech.fwk.exception.BusinessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Scheduler moving the surveys along their status transitions, exactly when
+ * they are due, instead of polling the surveys.
+ *
+ * <p>Pending surveys are started, selecting their participants, at their start
+ * date; running surveys are closed at their end date. On startup, the upcoming
+ * transitions of all the pending and running surveys are loaded once, and armed
+ * in a {@link HashedTimingWheel}. Afterward, they are re-armed each time the
+ * schedule of a survey changes, and disarmed once it is closed. Due timers
+ * only hand their transitions to dedicated transition threads, which check
+ * them against the survey as stored and execute them, so the timing wheel
+ * never waits for the database.
+ *
+ * <p>When several nodes share the database, each of them arms its own timers,
+ * but only the node holding the lease of a transition executes it. The lease
+ * is taken in the {@code survey_transition_lease} table for {@code lease-duration},
+ * after checking that the transition is still due, as the survey may have been
+ * changed by another node. Nodes not taking the lease check the transition again
+ * once it expires, in case its holder failed.
+ *
+ * <p>It is configured through the {@value #PROPERTY_PREFIX}{@code *} properties.
+ */
+@Component
+public class SurveyTransitionScheduler implements DisposableBean // NOSONAR
+{
+    /**
+     * The prefix of the properties configuring the scheduler.
+     */
+    public static final String PROPERTY_PREFIX = "app.survey.transitions.";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SurveyTransitionScheduler.class);
+
+    private final SurveyService surveyService;
+
+    private final SurveyRepository surveyRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+
+    private final Duration leaseDuration;
+
+    private final String nodeId;
+
+    private final HashedTimingWheel timingWheel;
+
+    private final ExecutorService transitionExecutor;
+
+    private final ConcurrentMap<Long, Transition> armedTransitions = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@link SurveyTransitionScheduler} with the given arguments.
+     *
+     * @param surveyService      the survey service, never {@code null}
+     * @param surveyRepository   the survey repository, never {@code null}
+     * @param jdbcTemplate       the JDBC template for the leases, never {@code null}
+     * @param transactionManager the transaction manager of the leases, never {@code null}
+     * @param environment        the environment holding the configuration, never {@code null}
+     */
+    SurveyTransitionScheduler(SurveyService surveyService,
+                              SurveyRepository surveyRepository,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              Environment environment)
+    {
+        Assert.notNull(surveyService, "SurveyService must not be null!");
+        Assert.notNull(surveyRepository, "SurveyRepository must not be null!");
+        Assert.notNull(jdbcTemplate, "JdbcTemplate must not be null!");
+        Assert.notNull(transactionManager, "PlatformTransactionManager must not be null!");
+        Assert.notNull(environment, "Environment must not be null!");
+        this.surveyService = surveyService;
+        this.surveyRepository = surveyRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = environment.getProperty(PROPERTY_PREFIX + "enabled", Boolean.class, true);
+        this.leaseDuration = environment.getProperty(
+            PROPERTY_PREFIX + "lease-duration", Duration.class, Duration.ofMinutes(5));
+        this.nodeId = environment.getProperty(
+            PROPERTY_PREFIX + "node-id", String.class, UUID.randomUUID().toString());
+        final Duration tickDuration = environment.getProperty(
+            PROPERTY_PREFIX + "tick-duration", Duration.class, Duration.ofSeconds(1));
+        final int ticksPerWheel = environment.getProperty(
+            PROPERTY_PREFIX + "ticks-per-wheel", Integer.class, 512);
+        Assert.isTrue(!leaseDuration.isNegative() && !leaseDuration.isZero(),
+            "Lease duration must be positive!");
+        final int transitionThreads = environment.getProperty(
+            PROPERTY_PREFIX + "transition-threads", Integer.class, 2);
+        Assert.isTrue(transitionThreads > 0, "Transition threads must be positive!");
+        this.timingWheel = enabled
+            ? new HashedTimingWheel(tickDuration, ticksPerWheel, "survey-transitions") : null;
+        this.transitionExecutor = enabled
+            ? Executors.newFixedThreadPool(transitionThreads, new CustomizableThreadFactory("survey-transition-"))
+            : null;
+    }
+
+    /**
+     * Arms the upcoming transitions of all the pending and running surveys,
+     * once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void armUpcomingTransitions() {
+        if (!enabled) return;
+        final List<Object[]> schedules = surveyRepository.findScheduleByStatusIn(
+            List.of(SurveyStatus.PENDING, SurveyStatus.RUNNING));
+        for (Object[] row : schedules) {
+            arm((Long) row[0], (SurveyStatus) row[1], (LocalDateTime) row[2], (LocalDateTime) row[3]);
+        }
+        LOGGER.info("Armed {} upcoming survey status transition(s)", armedTransitions.size());
+    }
+
+    /**
+     * Re-arms the next transition of the survey whose schedule has changed,
+     * once the change is committed.
+     *
+     * @param event the survey schedule changed event, never {@code null}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSurveyScheduleChanged(SurveyScheduleChangedEvent event) {
+        if (!enabled) return;
+        arm(event.getSurveyId(), event.getStatus(), event.getStartDate(), event.getEndDate());
+    }
+
+    /**
+     * Disarms the transitions of the closed survey, once it is committed.
+     *
+     * @param event the survey closed event, never {@code null}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSurveyClosed(SurveyClosedEvent event) {
+        if (!enabled) return;
+        disarm(event.getSurveyId());
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (timingWheel != null) {
+            timingWheel.close();
+        }
+        if (transitionExecutor != null) {
+            transitionExecutor.shutdownNow();
+        }
+    }
+
+    private void arm(Long surveyId, SurveyStatus status, LocalDateTime startDate, LocalDateTime endDate) {
+        final Transition next = Transition.next(surveyId, status, startDate, endDate);
+        if (next == null) {
+            disarm(surveyId);
+        } else {
+            arm(next, next.dueDate);
+        }
+    }
+
+    private void arm(Transition transition, LocalDateTime checkDate) {
+        armedTransitions.compute(transition.surveyId, (key, current) -> {
+            if (current != null) {
+                if (current.isSameAs(transition) && checkDate.equals(current.checkDate)) {
+                    return current; // already armed, nothing changed
+                }
+                current.timeout.cancel();
+            }
+            final Instant deadline = checkDate.atZone(ZoneId.systemDefault()).toInstant();
+            transition.checkDate = checkDate;
+            transition.timeout = timingWheel.schedule(() -> fire(transition), deadline);
+            return transition;
+        });
+    }
+
+    private void disarm(Long surveyId) {
+        final Transition current = armedTransitions.remove(surveyId);
+        if (current != null) {
+            current.timeout.cancel();
+        }
+    }
+
+    private void fire(Transition transition) {
+        if (!armedTransitions.remove(transition.surveyId, transition)) {
+            return; // disarmed or re-armed meanwhile
+        }
+        try {
+            transitionExecutor.execute(() -> execute(transition));
+        } catch (RejectedExecutionException ex) {
+            LOGGER.debug("Survey `{}` transition dropped on shutdown", transition.surveyId);
+        }
+    }
+
+    private void execute(Transition transition) {
+        final Long surveyId = transition.surveyId;
+        try {
+            // the survey may have been changed by another node meanwhile,
+            // so it is read as stored, never from the cached DTOs
+            final List<Object[]> schedule = surveyRepository.findScheduleById(surveyId);
+            if (schedule.isEmpty()) {
+                return; // deleted meanwhile
+            }
+            final Object[] row = schedule.get(0);
+            final Transition due = Transition.next(
+                surveyId, (SurveyStatus) row[1], (LocalDateTime) row[2], (LocalDateTime) row[3]);
+            if (due == null) {
+                return;
+            }
+            if (due.dueDate.isAfter(LocalDateTime.now())) {
+                arm(due, due.dueDate);
+                return;
+            }
+            if (!acquireLease(due)) {
+                LOGGER.debug("Survey `{}` transition to {} is leased by another node", surveyId, due.targetStatus);
+                arm(due, LocalDateTime.now().plus(leaseDuration));
+                return;
+            }
+            if (SurveyStatus.RUNNING.equals(due.targetStatus)) {
+                surveyService.selectParticipants(surveyId);
+            } else {
+                surveyService.close(surveyId);
+            }
+            LOGGER.info("Survey `{}` transitioned to {}", surveyId, due.targetStatus);
+        } catch (BusinessException ex) {
+            LOGGER.info("Survey `{}` cannot transition: {}", surveyId, ex.getMessage());
+        } catch (RuntimeException ex) {
+            LOGGER.error("Unable to transition survey `{}`", surveyId, ex);
+        }
+    }
+
+    /**
+     * Takes the lease of the given transition, unless another node holds it.
+     *
+     * @param transition the transition to lease, never {@code null}
+     * @return {@code true} if the lease was taken, {@code false} otherwise
+     */
+    private boolean acquireLease(Transition transition) {
+        final LocalDateTime now = LocalDateTime.now();
+        final Timestamp leasedUntil = Timestamp.valueOf(now.plus(leaseDuration));
+        try {
+            final Integer leased = transactionTemplate.execute(status -> jdbcTemplate.update("""
+                MERGE INTO survey_transition_lease l
+                USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR(50)))) AS v(survey_id, target_status)
+                   ON (l.survey_id = v.survey_id AND l.target_status = v.target_status)
+                WHEN MATCHED AND l.leased_until < ? THEN
+                    UPDATE SET owner = ?, leased_until = ?
+                WHEN NOT MATCHED THEN
+                    INSERT (survey_id, target_status, owner, leased_until)
+                    VALUES (v.survey_id, v.target_status, ?, ?)
+                """,
+                transition.surveyId, transition.targetStatus.name(), Timestamp.valueOf(now),
+                nodeId, leasedUntil, nodeId, leasedUntil));
+            return leased != null && leased > 0;
+        } catch (DataIntegrityViolationException ex) {
+            // another node inserted the lease meanwhile
+            return false;
+        }
+    }
+
+    /**
+     * The next status transition of a survey, the date wherein it is due, and
+     * the date wherein it is armed to be checked.
+     */
+    private static final class Transition {
+        private final Long surveyId;
+
+        private final SurveyStatus targetStatus;
+
+        private final LocalDateTime dueDate;
+
+        private LocalDateTime checkDate;
+
+        private HashedTimingWheel.Timeout timeout;
+
+        private Transition(Long surveyId, SurveyStatus targetStatus, LocalDateTime dueDate) {
+            this.surveyId = surveyId;
+            this.targetStatus = targetStatus;
+            this.dueDate = dueDate;
+        }
+
+        private static @Nullable Transition next(
+                Long surveyId, SurveyStatus status, LocalDateTime startDate, LocalDateTime endDate) {
+            if (SurveyStatus.PENDING.equals(status)) {
+                return new Transition(surveyId, SurveyStatus.RUNNING, startDate);
+            }
+            if (SurveyStatus.RUNNING.equals(status)) {
+                return new Transition(surveyId, SurveyStatus.CLOSED, endDate);
+            }
+            return null;
+        }
+
+        private boolean isSameAs(Transition other) {
+            return Objects.equals(targetStatus, other.targetStatus) && Objects.equals(dueDate, other.dueDate);
+        }
+    }
+}
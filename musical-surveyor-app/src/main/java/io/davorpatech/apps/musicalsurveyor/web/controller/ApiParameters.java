@@ -0,0 +1,20 @@
+package io.davorpatech.apps.musicalsurveyor.web.controller;
+
+/**
+ * Descriptions of the API request parameters shared by several controllers,
+ * so they are documented once.
+ */
+final class ApiParameters // NOSONAR
+{
+    /**
+     * The description of the {@code count} request parameter of the paged searches.
+     */
+    static final String COUNT_MODE_DESCRIPTION = """
+        How the total amount of elements is computed: `EXACT` runs a count query,
+        `NONE` skips it (totals reported as -1) and `ESTIMATED` reuses a short-lived
+        cached count.""";
+
+    private ApiParameters() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+}
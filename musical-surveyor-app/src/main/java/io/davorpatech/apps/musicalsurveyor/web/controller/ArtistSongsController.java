@@ -1,6 +1,7 @@
 package io.davorpatech.apps.musicalsurveyor.web.controller;
 
 import io.davorpatech.apps.musicalsurveyor.domain.songs.CreateSongInput;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.davorpatech.apps.musicalsurveyor.domain.songs.FindSongsInput;
 import io.davorpatech.apps.musicalsurveyor.domain.songs.SongWithArtistDTO;
 import io.davorpatech.apps.musicalsurveyor.domain.songs.UpdateSongInput;
@@ -9,18 +10,22 @@ import io.davorpatech.apps.musicalsurveyor.web.model.songs.CreateSongRequest;
 import io.davorpatech.apps.musicalsurveyor.web.model.songs.UpdateSongRequest;
 import io.davorpatech.fwk.exception.NoMatchingRelatedFieldsException;
 import io.davorpatech.fwk.model.PagedResult;
+import io.davorpatech.fwk.model.commands.CountMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springdoc.core.annotations.ParameterObject;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.Objects;
 
@@ -48,14 +53,18 @@ public class ArtistSongsController // NOSONAR
 {
     private final SongService songService;
 
+    private final NdjsonResponseWriter ndjsonWriter;
+
     /**
      * Constructs a new {@link SongController} with the given arguments.
      *
-     * @param songService the song service, never {@code null}
+     * @param songService  the song service, never {@code null}
+     * @param objectMapper the JSON object mapper, never {@code null}
      */
-    ArtistSongsController(SongService songService) {
+    ArtistSongsController(SongService songService, ObjectMapper objectMapper) {
         Assert.notNull(songService, "SongService must not be null!");
         this.songService = songService;
+        this.ndjsonWriter = new NdjsonResponseWriter(objectMapper);
     }
 
     /**
@@ -89,17 +98,55 @@ public class ArtistSongsController // NOSONAR
         @PathVariable("artistId") Long artistId,
         @ParameterObject
         Pageable pageable,
-        @RequestParam(value = "unpaged", defaultValue = "false") boolean forceUnpaged)
+        @RequestParam(value = "unpaged", defaultValue = "false") boolean forceUnpaged,
+        @Parameter(description = ApiParameters.COUNT_MODE_DESCRIPTION)
+        @RequestParam(value = "count", defaultValue = "EXACT") CountMode countMode)
     {
         FindSongsInput query = FindSongsInput.ofArtist(
             artistId,
             forceUnpaged || pageable.isUnpaged() ?  0 : pageable.getPageNumber(),
             forceUnpaged || pageable.isUnpaged() ? -1 : pageable.getPageSize(),
-            pageable.getSort()
+            pageable.getSort(),
+            countMode
         );
         return songService.findAll(query);
     }
 
+    /**
+     * Streams all {@code Song} resources part of repertoire of the given
+     * {@code Artist}, one per line.
+     *
+     * @param artistId the identifier of the artist to stream its song repertoire
+     * @param sort     the sorting parameters to be applied
+     * @param response the HTTP response to write the resources to
+     * @throws IOException if an I/O error occurs writing the response
+     */
+    @Operation(
+        summary = "Streams the song repertoire of an artist",
+        description = """
+            Streams the song repertoire of an artist as newline delimited JSON (NDJSON),
+            with bounded memory.
+            
+            Unlike the unpaged search, it is not limited in the number of results.""",
+        tags = { "artist", "song" }
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successful operation",
+        content = @Content(mediaType = NdjsonResponseWriter.MEDIA_TYPE_VALUE))
+    @GetMapping(produces = NdjsonResponseWriter.MEDIA_TYPE_VALUE)
+    void streamAll(
+        @Parameter(example = "1")
+        @PathVariable("artistId") Long artistId,
+        @ParameterObject
+        Sort sort,
+        HttpServletResponse response) throws IOException
+    {
+        FindSongsInput query = FindSongsInput.ofArtist(artistId, 0, -1, sort, null);
+        ndjsonWriter.<SongWithArtistDTO>write(response,
+            action -> songService.forEach(query, action));
+    }
+
     /**
      * Finds a {@code Song} resource inside the repertoire of a given
      * {@code Artist}.
@@ -0,0 +1,270 @@
+package io.davorpatech.apps.musicalsurveyor.web.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Reads the records of a bulk import line by line, as they are needed,
+ * so large imports can be processed with bounded memory.
+ *
+ * <p>Each line holds a record, either as a JSON object (NDJSON) or as comma
+ * separated values (CSV) after a header line naming the columns. Blank lines
+ * are skipped. As RFC 4180 allows, a quoted CSV value may hold line breaks,
+ * so its record goes on in the next lines until the quote is closed. Each
+ * record is mapped from its named {@link Fields fields}.
+ *
+ * <p>A malformed record fails with an {@link IllegalArgumentException} when
+ * read, without preventing reading the next ones.
+ *
+ * @param <T> the type of the records
+ */
+final class ImportRecordReader<T> implements Iterator<T> // NOSONAR
+{
+    /**
+     * The media type of comma separated values.
+     */
+    static final String CSV_MEDIA_TYPE_VALUE = "text/csv";
+
+    /**
+     * The named fields of a record.
+     */
+    @FunctionalInterface
+    interface Fields {
+        /**
+         * Returns the text of the given field.
+         *
+         * @param name the field name
+         * @return the field text, or {@code null} if it is missing or empty
+         * @throws IllegalArgumentException if the field is not a scalar value
+         */
+        @Nullable String text(String name);
+
+        /**
+         * Returns the integer number of the given field.
+         *
+         * @param name the field name
+         * @return the field number, or {@code null} if it is missing or empty
+         * @throws IllegalArgumentException if the field is not an integer number
+         */
+        default @Nullable Integer integer(String name) {
+            final String value = text(name);
+            if (value == null || value.isBlank()) return null;
+            try {
+                return Integer.valueOf(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(
+                    String.format("`%s` must be an integer number, but was `%s`", name, value), e);
+            }
+        }
+    }
+
+    private final BufferedReader reader;
+
+    private final Function<String, T> lineParser;
+
+    private final boolean multilineQuotes;
+
+    private int lineNumber;
+
+    private int nextLineNumber;
+
+    private String nextLine;
+
+    private ImportRecordReader(
+            BufferedReader reader, int lineNumber,
+            Function<String, T> lineParser, boolean multilineQuotes)
+    {
+        this.reader = reader;
+        this.lineNumber = lineNumber;
+        this.lineParser = lineParser;
+        this.multilineQuotes = multilineQuotes;
+    }
+
+    /**
+     * Creates a reader of records given as JSON objects, one per line.
+     *
+     * @param reader       the source of the lines, never {@code null}
+     * @param objectMapper the JSON object mapper, never {@code null}
+     * @param mapper       the mapper of the fields of each record, never {@code null}
+     * @param <T>          the type of the records
+     * @return the records reader, never {@code null}
+     */
+    static <T> ImportRecordReader<T> ofNdjson(
+            BufferedReader reader, ObjectMapper objectMapper, Function<Fields, T> mapper)
+    {
+        Assert.notNull(reader, "Reader must not be null!");
+        Assert.notNull(objectMapper, "ObjectMapper must not be null!");
+        Assert.notNull(mapper, "Mapper must not be null!");
+        return new ImportRecordReader<>(reader, 0,
+            line -> mapper.apply(parseJson(line, objectMapper)), false);
+    }
+
+    /**
+     * Creates a reader of records given as comma separated values, one per line,
+     * after a header line naming the columns. Quoted values can span lines, and
+     * a record whose quote is never closed is rejected.
+     *
+     * @param reader          the source of the lines, never {@code null}
+     * @param requiredColumns the columns the header line must name, never {@code null}
+     * @param mapper          the mapper of the fields of each record, never {@code null}
+     * @param <T>             the type of the records
+     * @return the records reader, never {@code null}
+     * @throws IllegalArgumentException if the header line is missing or lacks
+     *         any of the required columns
+     * @throws UncheckedIOException if an I/O error occurs reading the header line
+     */
+    static <T> ImportRecordReader<T> ofCsv(
+            BufferedReader reader, List<String> requiredColumns, Function<Fields, T> mapper)
+    {
+        Assert.notNull(reader, "Reader must not be null!");
+        Assert.notNull(requiredColumns, "Required columns must not be null!");
+        Assert.notNull(mapper, "Mapper must not be null!");
+        final String header = readLine(reader);
+        Assert.isTrue(header != null, "CSV header line must not be missing!");
+        final Map<String, Integer> columns = new HashMap<>();
+        final List<String> names = splitCsv(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.putIfAbsent(names.get(i).trim(), i);
+        }
+        Assert.isTrue(columns.keySet().containsAll(requiredColumns), () -> String.format(
+            "CSV header line must name the %s columns!", requiredColumns));
+        return new ImportRecordReader<>(reader, 1,
+            line -> mapper.apply(parseCsv(line, columns)), true);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (nextLine == null) {
+            final String line = readLine(reader);
+            if (line == null) return false;
+            lineNumber++;
+            if (!line.isBlank()) {
+                nextLineNumber = lineNumber;
+                nextLine = multilineQuotes ? joinQuotedLines(line) : line;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Joins the given line with the next ones while it holds an open quoted
+     * value, keeping their line breaks, up to the end of the input.
+     */
+    private String joinQuotedLines(String line) {
+        if (!isQuoteOpen(line)) return line;
+        final StringBuilder record = new StringBuilder(line);
+        String next;
+        while (isQuoteOpen(record) && (next = readLine(reader)) != null) {
+            lineNumber++;
+            record.append('\n').append(next);
+        }
+        return record.toString();
+    }
+
+    private static boolean isQuoteOpen(CharSequence text) {
+        // escaped quotes come in pairs, so an odd count leaves a quoted value open
+        int quotes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '"') quotes++;
+        }
+        return quotes % 2 != 0;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final String line = nextLine;
+        nextLine = null;
+        try {
+            return lineParser.apply(line);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException(
+                String.format("Line %d: %s", nextLineNumber, ex.getMessage()), ex);
+        }
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Fields parseJson(String line, ObjectMapper objectMapper) {
+        final JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("malformed JSON record: " + e.getOriginalMessage(), e);
+        }
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("record must be a JSON object");
+        }
+        return name -> {
+            final JsonNode value = node.get(name);
+            if (value == null || value.isNull()) return null;
+            if (value.isContainerNode()) {
+                throw new IllegalArgumentException(String.format("`%s` must be a scalar value", name));
+            }
+            return value.asText();
+        };
+    }
+
+    private static Fields parseCsv(String line, Map<String, Integer> columns) {
+        final List<String> values = splitCsv(line);
+        return name -> {
+            final Integer index = columns.get(name);
+            if (index == null || index >= values.size()) return null;
+            final String value = values.get(index);
+            return value.isEmpty() ? null : value;
+        };
+    }
+
+    private static List<String> splitCsv(String line) {
+        final List<String> values = new ArrayList<>();
+        final StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"'); // escaped quote
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted value");
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
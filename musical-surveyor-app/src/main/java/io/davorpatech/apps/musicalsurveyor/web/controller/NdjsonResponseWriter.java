@@ -0,0 +1,89 @@
+package io.davorpatech.apps.musicalsurveyor.web.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Writes a sequence of values as newline delimited JSON (NDJSON), thus is,
+ * one JSON document per line, as they are produced.
+ *
+ * <p>It allows controllers to stream large results with bounded memory.
+ */
+final class NdjsonResponseWriter // NOSONAR
+{
+    /**
+     * The media type of newline delimited JSON.
+     */
+    static final String MEDIA_TYPE_VALUE = "application/x-ndjson";
+
+    private final ObjectWriter objectWriter;
+
+    /**
+     * Constructs a new {@link NdjsonResponseWriter} with the given arguments.
+     *
+     * @param objectMapper the JSON object mapper, never {@code null}
+     */
+    NdjsonResponseWriter(ObjectMapper objectMapper) {
+        Assert.notNull(objectMapper, "ObjectMapper must not be null!");
+        // one JSON document per line, leaving flushing to the response buffer,
+        // and the target writer open, as it is owned by the caller
+        this.objectWriter = objectMapper.writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .withRootValueSeparator("\n");
+    }
+
+    /**
+     * Writes the values produced by the given producer into the HTTP response,
+     * setting its content type.
+     *
+     * @param response the HTTP response to write to, never {@code null}
+     * @param producer the producer that feeds each value to the given consumer
+     * @param <T>      the type of the values
+     * @throws IOException if an I/O error occurs writing the response
+     */
+    <T> void write(HttpServletResponse response, Consumer<Consumer<T>> producer) throws IOException {
+        response.setContentType(MEDIA_TYPE_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        final Writer writer = response.getWriter();
+        write(writer, producer);
+        writer.flush();
+    }
+
+    /**
+     * Writes the values produced by the given producer into the given writer.
+     *
+     * @param writer   the writer to write to, never {@code null}
+     * @param producer the producer that feeds each value to the given consumer
+     * @param <T>      the type of the values
+     * @throws IOException if an I/O error occurs writing the values
+     */
+    <T> void write(Writer writer, Consumer<Consumer<T>> producer) throws IOException {
+        try (SequenceWriter lines = objectWriter.writeValues(writer)) {
+            producer.accept(value -> writeLine(lines, value));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.write('\n');
+    }
+
+    private static void writeLine(SequenceWriter lines, Object value) {
+        try {
+            lines.write(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
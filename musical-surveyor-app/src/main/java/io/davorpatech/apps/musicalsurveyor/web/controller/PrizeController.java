@@ -9,6 +9,7 @@ import io.davorpatech.apps.musicalsurveyor.web.model.prizes.CreatePrizeRequest;
 import io.davorpatech.apps.musicalsurveyor.web.model.prizes.UpdatePrizeRequest;
 import io.davorpatech.fwk.exception.NoMatchingRelatedFieldsException;
 import io.davorpatech.fwk.model.PagedResult;
+import io.davorpatech.fwk.model.commands.CountMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -97,12 +98,15 @@ public class PrizeController // NOSONAR
         @SortDefault(sort = "monetaryValue", direction = Sort.Direction.DESC)
         @SortDefault(sort = "title", direction = Sort.Direction.ASC)
         Pageable pageable,
-        @RequestParam(value = "unpaged", defaultValue = "false") boolean forceUnpaged)
+        @RequestParam(value = "unpaged", defaultValue = "false") boolean forceUnpaged,
+        @Parameter(description = ApiParameters.COUNT_MODE_DESCRIPTION)
+        @RequestParam(value = "count", defaultValue = "EXACT") CountMode countMode)
     {
         FindPrizesInput query = new FindPrizesInput(
             forceUnpaged || pageable.isUnpaged() ?  0 : pageable.getPageNumber(),
             forceUnpaged || pageable.isUnpaged() ? -1 : pageable.getPageSize(),
-            pageable.getSort()
+            pageable.getSort(),
+            countMode
         );
         return prizeService.findAll(query);
     }
@@ -1,31 +1,42 @@
 package io.davorpatech.apps.musicalsurveyor.web.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.davorpatech.apps.musicalsurveyor.domain.listeners.CreateRadioListenerInput;
 import io.davorpatech.apps.musicalsurveyor.domain.listeners.FindRadioListenersInput;
 import io.davorpatech.apps.musicalsurveyor.domain.listeners.RadioListenerDTO;
+import io.davorpatech.apps.musicalsurveyor.domain.listeners.RadioListenerImportDTO;
 import io.davorpatech.apps.musicalsurveyor.domain.listeners.UpdateRadioListenerInput;
 import io.davorpatech.apps.musicalsurveyor.services.listeners.RadioListenerService;
 import io.davorpatech.apps.musicalsurveyor.web.model.listeners.CreateRadioListenerRequest;
 import io.davorpatech.apps.musicalsurveyor.web.model.listeners.UpdateRadioListenerRequest;
 import io.davorpatech.fwk.exception.NoMatchingRelatedFieldsException;
 import io.davorpatech.fwk.model.PagedResult;
+import io.davorpatech.fwk.model.commands.CountMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.SortDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * REST controller for managing {@code RadioListener} resources.
@@ -56,17 +67,24 @@ import java.util.Objects;
 @RequestMapping("/api/radio-listeners")
 public class RadioListenerController // NOSONAR
 {
+    private static final List<String> IMPORT_REQUIRED_COLUMNS = List.of("name", "phone", "email");
+
     private final RadioListenerService radioListenerService;
 
+    private final ObjectMapper objectMapper;
+
     /**
      * Constructs a new {@code RadioListenerController} with the given arguments.
      *
      * @param radioListenerService the {@code RadioListenerService} instance
      *                             to be injected, never {@code null}
+     * @param objectMapper         the JSON object mapper, never {@code null}
      */
-    RadioListenerController(RadioListenerService radioListenerService) {
+    RadioListenerController(RadioListenerService radioListenerService, ObjectMapper objectMapper) {
         Assert.notNull(radioListenerService, "RadioListenerService must not be null!");
         this.radioListenerService = radioListenerService;
+        Assert.notNull(objectMapper, "ObjectMapper must not be null!");
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -80,7 +98,11 @@ public class RadioListenerController // NOSONAR
         description = """
             Finds all radio listener.
                         
-            The results can be paginated and sorted.""",
+            The results can be paginated and sorted.
+            
+            Instead of by page number, the results can be paginated seeking by keyset,
+            which keeps steady response times on deep pages. The response then carries
+            an opaque `nextCursor` to be sent back as `cursor` to get the next page.""",
         tags = {"radio-listener"}
     )
     @ApiResponse(
@@ -97,12 +119,19 @@ public class RadioListenerController // NOSONAR
         @SortDefault.SortDefaults(
             @SortDefault(sort = "id", direction = Sort.Direction.ASC)
         ) Pageable pageable,
-        @RequestParam(value = "unpaged", defaultValue = "false") boolean forceUnpaged)
+        @RequestParam(value = "unpaged", defaultValue = "false") boolean forceUnpaged,
+        @Parameter(description = ApiParameters.COUNT_MODE_DESCRIPTION)
+        @RequestParam(value = "count", defaultValue = "EXACT") CountMode countMode,
+        @RequestParam(value = "seek", defaultValue = "false") boolean seek,
+        @RequestParam(value = "cursor", required = false) String cursor)
     {
         FindRadioListenersInput query = new FindRadioListenersInput(
             forceUnpaged || pageable.isUnpaged() ? 0 : pageable.getPageNumber(),
             forceUnpaged || pageable.isUnpaged() ? -1 : pageable.getPageSize(),
-            pageable.getSort()
+            pageable.getSort(),
+            countMode,
+            seek,
+            cursor
         );
         return radioListenerService.findAll(query);
     }
@@ -273,4 +302,96 @@ public class RadioListenerController // NOSONAR
         radioListenerService.deleteById(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Imports {@code RadioListener} resources, merged by email, given as
+     * newline delimited JSON.
+     *
+     * @param request the HTTP request whose body holds the radio listeners
+     * @return the summary of the import
+     * @throws IOException if an I/O error occurs reading the request body
+     */
+    @Operation(
+        summary = "Imports radio listeners from NDJSON",
+        description = """
+            Imports radio listeners, one JSON object per line, with bounded memory.
+            
+            Each record holds the `name`, `phone`, `address` and `email` of a radio
+            listener. Records are merged by email: the registered radio listeners are
+            updated, unless they are up to date, and the others are created. Records
+            are imported in chunks, each in its own transaction, and those invalid are
+            rejected without discarding the others.""",
+        tags = { "radio-listener" }
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successful operation",
+        useReturnTypeSchema = true)
+    @PostMapping(value = "/import", consumes = NdjsonResponseWriter.MEDIA_TYPE_VALUE)
+    ResponseEntity<RadioListenerImportDTO> importNdjson(HttpServletRequest request) throws IOException
+    {
+        final BufferedReader reader = request.getReader();
+        return importListeners(() -> ImportRecordReader.ofNdjson(
+            reader, objectMapper, RadioListenerController::toCreateRadioListenerInput));
+    }
+
+    /**
+     * Imports {@code RadioListener} resources, merged by email, given as
+     * comma separated values.
+     *
+     * @param request the HTTP request whose body holds the radio listeners
+     * @return the summary of the import
+     * @throws IOException if an I/O error occurs reading the request body
+     */
+    @Operation(
+        summary = "Imports radio listeners from CSV",
+        description = """
+            Imports radio listeners, as comma separated values, with bounded memory.
+            
+            The header line names the columns, among `name`, `phone`, `address` and
+            `email`. Records are merged by email: the registered radio listeners are
+            updated, unless they are up to date, and the others are created. Records
+            are imported in chunks, each in its own transaction, and those invalid are
+            rejected without discarding the others.""",
+        tags = { "radio-listener" }
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successful operation",
+        useReturnTypeSchema = true)
+    @ApiResponse(
+        responseCode = "400",
+        description = "The header line is missing or invalid",
+        content = @Content)
+    @PostMapping(value = "/import", consumes = ImportRecordReader.CSV_MEDIA_TYPE_VALUE)
+    ResponseEntity<RadioListenerImportDTO> importCsv(HttpServletRequest request) throws IOException
+    {
+        final BufferedReader reader = request.getReader();
+        return importListeners(() -> ImportRecordReader.ofCsv(
+            reader, IMPORT_REQUIRED_COLUMNS, RadioListenerController::toCreateRadioListenerInput));
+    }
+
+    private ResponseEntity<RadioListenerImportDTO> importListeners(
+            Supplier<ImportRecordReader<CreateRadioListenerInput>> recordsFactory) throws IOException
+    {
+        try {
+            final ImportRecordReader<CreateRadioListenerInput> records;
+            try {
+                records = recordsFactory.get();
+            } catch (IllegalArgumentException ex) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+            }
+            return ResponseEntity.ok(radioListenerService.importListeners(records));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static CreateRadioListenerInput toCreateRadioListenerInput(ImportRecordReader.Fields fields) {
+        return new CreateRadioListenerInput(
+            fields.text("name"),
+            fields.text("phone"),
+            fields.text("address"),
+            fields.text("email"));
+    }
 }
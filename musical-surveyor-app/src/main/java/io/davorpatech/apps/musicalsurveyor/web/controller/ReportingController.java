@@ -1,19 +1,34 @@
 package io.davorpatech.apps.musicalsurveyor.web.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.davorpatech.apps.musicalsurveyor.domain.FindSongsPopularityInput;
 import io.davorpatech.apps.musicalsurveyor.domain.SongWithPopularityInfo;
 import io.davorpatech.apps.musicalsurveyor.services.reports.ReportingService;
+import io.davorpatech.apps.musicalsurveyor.web.model.reports.ReportExportFormat;
+import io.davorpatech.fwk.model.PagedResult;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
-import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.util.Assert;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * REST controller for reporting.
@@ -29,49 +44,187 @@ import java.util.List;
 @RequestMapping("/api/reports")
 public class ReportingController // NOSONAR
 {
+    private static final String CSV_HEADER =
+        "id,artistId,artistName,title,releaseYear,duration,genre,likes";
+
     private final ReportingService reportingService;
 
+    private final NdjsonResponseWriter ndjsonWriter;
+
     /**
      * Constructs a new {@link ReportingController} with the given arguments.
      *
      * @param reportingService the reporting service, never {@code null}
+     * @param objectMapper     the JSON object mapper, never {@code null}
      */
-    ReportingController(ReportingService reportingService) {
+    ReportingController(ReportingService reportingService, ObjectMapper objectMapper) {
         Assert.notNull(reportingService, "ReportingService must not be null!");
         this.reportingService = reportingService;
+        this.ndjsonWriter = new NdjsonResponseWriter(objectMapper);
     }
 
     /**
-     * Returns a collection of songs ranked by popularity.
+     * Returns a page of songs ranked by popularity.
      *
      * <p>The rank is based on the number of times the song was selected as a favorite
      * in the successive surveys made by the radio station.
      *
+     * <p>The ranking can be paginated or limited to its first {@code top} songs,
+     * and narrowed by survey, artist, genre and release year range. All of them
+     * are resolved by the database.
+     *
+     * @param pageable        the page request, never {@code null}. Sorting is ignored
+     * @param forceUnpaged    whether to force an unpaged result
+     * @param top             the number of top ranked songs to return (optional).
+     *                        When set, it takes precedence over the page request
+     * @param surveyId        the survey ID used as filter (optional)
+     * @param artistId        the artist ID used as filter (optional)
+     * @param genre           the musical genre used as filter (optional)
+     * @param releaseYearFrom the minimum release year, inclusive, used as filter (optional)
+     * @param releaseYearTo   the maximum release year, inclusive, used as filter (optional)
      * @return the most popular songs
      */
     @Operation(
         summary = "List the songs ranking by its popularity",
         description = """
             The rank is based on the number of times the song was selected as a favorite
-            in the successive surveys made by the radio station.""",
+            in the successive surveys made by the radio station.
+            
+            The results can be paginated, limited to the top N songs and filtered
+            by survey, artist, genre and release year range. When filtered by survey,
+            only the responses of that survey are counted.""",
         tags = { "reports" }
     )
     @ApiResponse(
         responseCode = "200",
         description = "Successful operation",
-        content = @Content(
-            mediaType = "application/json",
-            schema = @Schema(
-                implementation = SongWithPopularityInfo.class
-            )
-        )
-    )
+        useReturnTypeSchema = true)
     @ApiResponse(
         responseCode = "400",
         description = "Request parameters are invalid",
         content = @Content)
     @GetMapping(value = "/songs-popularity", produces = MediaType.APPLICATION_JSON_VALUE)
-    List<SongWithPopularityInfo> songsPopularity() {
-        return reportingService.findAllMostPopularSongs();
+    PagedResult<SongWithPopularityInfo> songsPopularity( // NOSONAR
+        @ParameterObject
+        Pageable pageable,
+        @RequestParam(value = "unpaged", defaultValue = "false") boolean forceUnpaged,
+        @Parameter(example = "20")
+        @RequestParam(required = false) Integer top,
+        @Parameter(example = "1")
+        @RequestParam(required = false) Long surveyId,
+        @Parameter(example = "1")
+        @RequestParam(required = false) Long artistId,
+        @Parameter(example = "Rock")
+        @RequestParam(required = false) String genre,
+        @Parameter(example = "1960")
+        @RequestParam(required = false) Integer releaseYearFrom,
+        @Parameter(example = "1979")
+        @RequestParam(required = false) Integer releaseYearTo)
+    {
+        final int pageNumber;
+        final int pageSize;
+        if (top != null) {
+            if (top < 1) {
+                throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "top must be greater than zero");
+            }
+            pageNumber = 0;
+            pageSize = top;
+        } else {
+            pageNumber = forceUnpaged || pageable.isUnpaged() ?  0 : pageable.getPageNumber();
+            pageSize   = forceUnpaged || pageable.isUnpaged() ? -1 : pageable.getPageSize();
+        }
+        FindSongsPopularityInput query = new FindSongsPopularityInput(
+            pageNumber, pageSize,
+            surveyId, artistId, genre,
+            releaseYearFrom, releaseYearTo);
+        return reportingService.findMostPopularSongs(query);
+    }
+
+    /**
+     * Exports the whole songs popularity ranking.
+     *
+     * <p>Songs are written to the response as soon as they are read from the
+     * database, so memory usage remains flat whatever the ranking size.
+     *
+     * @param format   the format of the export
+     * @param response the HTTP response to write the export to
+     * @throws IOException if an I/O error occurs writing the response
+     */
+    @Operation(
+        summary = "Exports the songs ranking by its popularity",
+        description = """
+            Exports the whole ranking of songs by popularity, streamed as
+            newline delimited JSON (NDJSON) or comma separated values (CSV).""",
+        tags = { "reports" }
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successful operation",
+        content = {
+            @Content(mediaType = "application/x-ndjson"),
+            @Content(mediaType = "text/csv")
+        })
+    @ApiResponse(
+        responseCode = "400",
+        description = "Request parameters are invalid",
+        content = @Content)
+    @GetMapping("/songs-popularity/export")
+    void exportSongsPopularity(
+        @Parameter(example = "NDJSON")
+        @RequestParam(defaultValue = "NDJSON") ReportExportFormat format,
+        HttpServletResponse response) throws IOException
+    {
+        response.setContentType(format.getMediaType().toString());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename("songs-popularity." + format.getFileExtension())
+            .build().toString());
+        final Writer writer = response.getWriter();
+        try {
+            if (format == ReportExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+                reportingService.forEachMostPopularSong(song -> writeCsvLine(writer, song));
+            } else {
+                ndjsonWriter.<SongWithPopularityInfo>write(writer,
+                    reportingService::forEachMostPopularSong);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvLine(Writer writer, SongWithPopularityInfo song) {
+        try {
+            writer.write(String.valueOf(song.getId()));
+            writer.write(',');
+            writer.write(String.valueOf(song.getArtistId()));
+            writer.write(',');
+            writer.write(escapeCsv(song.getArtistName()));
+            writer.write(',');
+            writer.write(escapeCsv(song.getTitle()));
+            writer.write(',');
+            writer.write(song.getReleaseYear() == null ? "" : song.getReleaseYear().toString());
+            writer.write(',');
+            writer.write(song.getDuration() == null ? "" : song.getDuration().toString());
+            writer.write(',');
+            writer.write(escapeCsv(song.getGenre()));
+            writer.write(',');
+            writer.write(Long.toString(song.getLikes()));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String escapeCsv(String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
     }
 }
@@ -1,19 +1,34 @@
 package io.davorpatech.apps.musicalsurveyor.web.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.davorpatech.apps.musicalsurveyor.domain.songs.FindSongsInput;
+import io.davorpatech.apps.musicalsurveyor.domain.songs.ImportSongInput;
+import io.davorpatech.apps.musicalsurveyor.domain.songs.SongCatalogImportDTO;
 import io.davorpatech.apps.musicalsurveyor.domain.songs.SongWithArtistDTO;
 import io.davorpatech.apps.musicalsurveyor.services.songs.SongService;
 import io.davorpatech.fwk.model.PagedResult;
+import io.davorpatech.fwk.model.commands.CountMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springdoc.core.annotations.ParameterObject;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * REST controller for managing {@code Song} resources.
@@ -44,16 +59,25 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/songs")
 public class SongController // NOSONAR
 {
+    private static final List<String> IMPORT_REQUIRED_COLUMNS = List.of("artistName", "title");
+
     private final SongService songService;
 
+    private final ObjectMapper objectMapper;
+
+    private final NdjsonResponseWriter ndjsonWriter;
+
     /**
      * Constructs a new {@link SongController} with the given arguments.
-     * 
-     * @param songService the song service, never {@code null}
+     *
+     * @param songService  the song service, never {@code null}
+     * @param objectMapper the JSON object mapper, never {@code null}
      */
-    SongController(SongService songService) {
+    SongController(SongService songService, ObjectMapper objectMapper) {
         Assert.notNull(songService, "SongService must not be null!");
         this.songService = songService;
+        this.objectMapper = objectMapper;
+        this.ndjsonWriter = new NdjsonResponseWriter(objectMapper);
     }
 
     /**
@@ -83,16 +107,49 @@ public class SongController // NOSONAR
     PagedResult<SongWithArtistDTO> findAll(
         @ParameterObject
         Pageable pageable,
-        @RequestParam(value = "unpaged", defaultValue = "false") boolean forceUnpaged)
+        @RequestParam(value = "unpaged", defaultValue = "false") boolean forceUnpaged,
+        @Parameter(description = ApiParameters.COUNT_MODE_DESCRIPTION)
+        @RequestParam(value = "count", defaultValue = "EXACT") CountMode countMode)
     {
         FindSongsInput query = FindSongsInput.of(
             forceUnpaged || pageable.isUnpaged() ?  0 : pageable.getPageNumber(),
             forceUnpaged || pageable.isUnpaged() ? -1 : pageable.getPageSize(),
-            pageable.getSort()
+            pageable.getSort(),
+            countMode
         );
         return songService.findAll(query);
     }
 
+    /**
+     * Streams all {@code Song} resources, one per line.
+     *
+     * @param sort     the sorting parameters to be applied
+     * @param response the HTTP response to write the resources to
+     * @throws IOException if an I/O error occurs writing the response
+     */
+    @Operation(
+        summary = "Streams all songs",
+        description = """
+            Streams all songs as newline delimited JSON (NDJSON), with bounded memory.
+            
+            Unlike the unpaged search, it is not limited in the number of results.""",
+        tags = { "song" }
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successful operation",
+        content = @Content(mediaType = NdjsonResponseWriter.MEDIA_TYPE_VALUE))
+    @GetMapping(produces = NdjsonResponseWriter.MEDIA_TYPE_VALUE)
+    void streamAll(
+        @ParameterObject
+        Sort sort,
+        HttpServletResponse response) throws IOException
+    {
+        FindSongsInput query = FindSongsInput.of(0, -1, sort, null);
+        ndjsonWriter.<SongWithArtistDTO>write(response,
+            action -> songService.forEach(query, action));
+    }
+
     /**
      * Retrieves the detail of a {@code Song} resource given its ID.
      *
@@ -127,4 +184,95 @@ public class SongController // NOSONAR
         SongWithArtistDTO dto = songService.findById(id);
         return ResponseEntity.ok(dto);
     }
+
+    /**
+     * Imports a catalogue of {@code Song} resources, creating their
+     * {@code Artist} resources as needed, given as newline delimited JSON.
+     *
+     * @param request the HTTP request whose body holds the catalogue
+     * @return the summary of the import
+     * @throws IOException if an I/O error occurs reading the request body
+     */
+    @Operation(
+        summary = "Imports a catalogue of songs from NDJSON",
+        description = """
+            Imports a catalogue of songs, one JSON object per line, with bounded memory.
+            
+            Each record holds the `artistName`, `title`, `releaseYear`, `duration` and
+            `genre` of a song. Artists are resolved by name, or created if not found.
+            Records are imported in chunks, each in its own transaction, and those
+            invalid are rejected without discarding the others.""",
+        tags = { "song" }
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successful operation",
+        useReturnTypeSchema = true)
+    @PostMapping(value = "/import", consumes = NdjsonResponseWriter.MEDIA_TYPE_VALUE)
+    ResponseEntity<SongCatalogImportDTO> importNdjson(HttpServletRequest request) throws IOException
+    {
+        final BufferedReader reader = request.getReader();
+        return importCatalog(() -> ImportRecordReader.ofNdjson(
+            reader, objectMapper, SongController::toImportSongInput));
+    }
+
+    /**
+     * Imports a catalogue of {@code Song} resources, creating their
+     * {@code Artist} resources as needed, given as comma separated values.
+     *
+     * @param request the HTTP request whose body holds the catalogue
+     * @return the summary of the import
+     * @throws IOException if an I/O error occurs reading the request body
+     */
+    @Operation(
+        summary = "Imports a catalogue of songs from CSV",
+        description = """
+            Imports a catalogue of songs, as comma separated values, with bounded memory.
+            
+            The header line names the columns, among `artistName`, `title`, `releaseYear`,
+            `duration` and `genre`. Artists are resolved by name, or created if not found.
+            Records are imported in chunks, each in its own transaction, and those
+            invalid are rejected without discarding the others.""",
+        tags = { "song" }
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successful operation",
+        useReturnTypeSchema = true)
+    @ApiResponse(
+        responseCode = "400",
+        description = "The header line is missing or invalid",
+        content = @Content)
+    @PostMapping(value = "/import", consumes = ImportRecordReader.CSV_MEDIA_TYPE_VALUE)
+    ResponseEntity<SongCatalogImportDTO> importCsv(HttpServletRequest request) throws IOException
+    {
+        final BufferedReader reader = request.getReader();
+        return importCatalog(() -> ImportRecordReader.ofCsv(
+            reader, IMPORT_REQUIRED_COLUMNS, SongController::toImportSongInput));
+    }
+
+    private ResponseEntity<SongCatalogImportDTO> importCatalog(
+            Supplier<ImportRecordReader<ImportSongInput>> recordsFactory) throws IOException
+    {
+        try {
+            final ImportRecordReader<ImportSongInput> records;
+            try {
+                records = recordsFactory.get();
+            } catch (IllegalArgumentException ex) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+            }
+            return ResponseEntity.ok(songService.importCatalog(records));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static ImportSongInput toImportSongInput(ImportRecordReader.Fields fields) {
+        return new ImportSongInput(
+            fields.text("artistName"),
+            fields.text("title"),
+            fields.integer("releaseYear"),
+            fields.integer("duration"),
+            fields.text("genre"));
+    }
 }
@@ -1,11 +1,14 @@
 package io.davorpatech.apps.musicalsurveyor.web.controller;
 
 import io.davorpatech.apps.musicalsurveyor.domain.surveys.*;
+import io.davorpatech.apps.musicalsurveyor.services.surveys.SurveyResponsesWriteBehindQueue;
 import io.davorpatech.apps.musicalsurveyor.services.surveys.SurveyService;
 import io.davorpatech.apps.musicalsurveyor.web.model.surveys.CreateSurveyRequest;
+import io.davorpatech.apps.musicalsurveyor.web.model.surveys.SubmitSurveyResponsesRequest;
 import io.davorpatech.apps.musicalsurveyor.web.model.surveys.UpdateSurveyRequest;
 import io.davorpatech.fwk.exception.NoMatchingRelatedFieldsException;
 import io.davorpatech.fwk.model.PagedResult;
+import io.davorpatech.fwk.model.commands.CountMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,13 +18,16 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.SortDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 /**
@@ -54,14 +60,26 @@ public class SurveyController // NOSONAR
 {
     private final SurveyService surveyService;
 
+    private final SurveyResponsesWriteBehindQueue responsesQueue;
+
+    private final SurveyLiveBroadcaster liveBroadcaster;
+
     /**
      * Constructs a new {@link SurveyController} with the given arguments.
      *
-     * @param surveyService the survey service, never {@code null}
+     * @param surveyService   the survey service, never {@code null}
+     * @param responsesQueue  the survey responses write-behind queue, never {@code null}
+     * @param liveBroadcaster the broadcaster of the live survey likes, never {@code null}
      */
-    SurveyController(SurveyService surveyService) {
+    SurveyController(SurveyService surveyService,
+                     SurveyResponsesWriteBehindQueue responsesQueue,
+                     SurveyLiveBroadcaster liveBroadcaster) {
         Assert.notNull(surveyService, "SurveyService must not be null!");
+        Assert.notNull(responsesQueue, "SurveyResponsesWriteBehindQueue must not be null!");
+        Assert.notNull(liveBroadcaster, "SurveyLiveBroadcaster must not be null!");
         this.surveyService = surveyService;
+        this.responsesQueue = responsesQueue;
+        this.liveBroadcaster = liveBroadcaster;
     }
 
     /**
@@ -97,12 +115,15 @@ public class SurveyController // NOSONAR
         @SortDefault(sort = "endDate", direction = Sort.Direction.ASC)
         Pageable pageable,
         @RequestParam(value = "unpaged", defaultValue = "false") boolean forceUnpaged,
+        @Parameter(description = ApiParameters.COUNT_MODE_DESCRIPTION)
+        @RequestParam(value = "count", defaultValue = "EXACT") CountMode countMode,
         @RequestParam(required = false) SurveyStatus status)
     {
         FindSurveysInput input = new FindSurveysInput(
             forceUnpaged || pageable.isUnpaged() ?  0 : pageable.getPageNumber(),
             forceUnpaged || pageable.isUnpaged() ? -1 : pageable.getPageSize(),
             pageable.getSort(),
+            countMode,
             status
         );
         return surveyService.findAll(input);
@@ -290,7 +311,8 @@ public class SurveyController // NOSONAR
             
             Surveys can be manually closed only if its end date has been reached and there are
             some participant who have completed the survey sending their favourite songs.
-            Closing surveys already closed has no effect.
+            Closing surveys already closed has no effect. Running surveys meeting these rules
+            are also closed automatically shortly after their end date.
             
             Only surveys in this final state are eligible for raffles or prize draws.""",
         tags = { "survey" }
@@ -318,4 +340,161 @@ public class SurveyController // NOSONAR
         SurveyDTO dto = surveyService.close(id);
         return ResponseEntity.ok(dto);
     }
+
+    /**
+     * Select the participants of the {@code Survey} resource with the given ID.
+     *
+     * @param id the identifier of the survey to select participants for
+     */
+    @Operation(
+        summary = "Selects the participants of a survey by ID",
+        description = """
+            Selects at random the participants of a survey by its identifier, and starts it.
+            
+            The identifier is a numeric value.
+
+            Up to the maximum number of participants configured in the survey are sampled
+            uniformly among all the radio listeners. If there are fewer, all of them participate.
+            
+            Participants can be selected only once, and only for pending surveys whose start
+            date has been reached, which become running afterward.""",
+        tags = { "survey" }
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successful operation")
+    @ApiResponse(
+        responseCode = "400",
+        description = "Request parameters are invalid",
+        content = @Content)
+    @ApiResponse(
+        responseCode = "404",
+        description = "Survey not found",
+        content = @Content)
+    @ApiResponse(
+        responseCode = "412",
+        description = "Survey participants cannot be selected due to business rules",
+        content = @Content)
+    @PostMapping("/{id}/participants")
+    ResponseEntity<SurveyDTO> selectParticipants(
+        @Parameter(description = "The identifier of the survey to select participants for", example = "1")
+        @PathVariable("id") Long id)
+    {
+        SurveyDTO dto = surveyService.selectParticipants(id);
+        return ResponseEntity.ok(dto);
+    }
+
+    /**
+     * Submits the favorite songs of a participant as responses of the {@code Survey}
+     * resource with the given ID.
+     *
+     * @param id            the identifier of the survey to respond
+     * @param participantId the identifier of the participant responding
+     * @param request       the request body, containing the favorite songs
+     */
+    @Operation(
+        summary = "Submits the responses of a survey participant",
+        description = """
+            Submits the favorite songs of a participant as responses of a survey by its identifier.
+            
+            The identifiers are numeric values.
+            
+            Responses are accepted only while the survey is running, once per participant, and
+            must contain as many distinct songs as responses are needed by the survey.
+            
+            When the write-behind ingestion is enabled, the checked responses are queued and
+            persisted shortly afterward; queued responses of a participant that has already
+            responded by then are discarded.""",
+        tags = { "survey" }
+    )
+    @ApiResponse(
+        responseCode = "202",
+        description = "Successful operation, responses queued to be persisted")
+    @ApiResponse(
+        responseCode = "204",
+        description = "Successful operation")
+    @ApiResponse(
+        responseCode = "400",
+        description = "Request parameters are invalid",
+        content = @Content)
+    @ApiResponse(
+        responseCode = "404",
+        description = "Survey, participant or song not found",
+        content = @Content)
+    @ApiResponse(
+        responseCode = "412",
+        description = "Responses cannot be submitted due to business rules",
+        content = @Content)
+    @ApiResponse(
+        responseCode = "429",
+        description = "Too many responses queued, try again later",
+        content = @Content)
+    @PostMapping("/{id}/participants/{participantId}/responses")
+    ResponseEntity<Void> submitResponses(
+        @Parameter(description = "The identifier of the survey to respond", example = "1")
+        @PathVariable("id") Long id,
+        @Parameter(description = "The identifier of the participant responding", example = "1")
+        @PathVariable("participantId") Long participantId,
+        @RequestBody @Validated SubmitSurveyResponsesRequest request)
+    {
+        SubmitSurveyResponsesInput input = new SubmitSurveyResponsesInput(
+            id, participantId, request.getSongIds());
+        if (responsesQueue.isEnabled()) {
+            responsesQueue.submit(input);
+            return ResponseEntity.accepted().build();
+        }
+        surveyService.submitResponses(input);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Watches live the likes per song of the running {@code Survey} resource
+     * with the given ID.
+     *
+     * @param id the identifier of the survey to watch
+     * @return the emitter of the Server-Sent Events with the likes per song
+     */
+    @Operation(
+        summary = "Watches live the likes per song of a running survey by ID",
+        description = """
+            Streams, as Server-Sent Events, the likes per song of a running survey by its
+            identifier, until it ends.
+            
+            The identifier is a numeric value.
+            
+            A `snapshot` event with the likes of all the songs is sent first. Afterward, a
+            `likes` event with the current likes of the songs changed since the previous one
+            is sent periodically, only if any has changed. Both events hold a `SurveyLiveLikes`.
+            
+            Likes are tallied in memory from the submitted responses, so watchers issue no
+            queries. Queued responses count once they are persisted.""",
+        tags = { "survey" }
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successful operation")
+    @ApiResponse(
+        responseCode = "400",
+        description = "Request parameters are invalid",
+        content = @Content)
+    @ApiResponse(
+        responseCode = "404",
+        description = "Survey not found",
+        content = @Content)
+    @ApiResponse(
+        responseCode = "412",
+        description = "Survey cannot be watched because it is not running",
+        content = @Content)
+    @GetMapping(value = "/{id}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter watchLive(
+        @Parameter(description = "The identifier of the survey to watch", example = "1")
+        @PathVariable("id") Long id)
+    {
+        SurveyDTO survey = surveyService.findById(id);
+        if (!SurveyStatus.RUNNING.equals(survey.getStatus())
+            || LocalDateTime.now().isAfter(survey.getEndDate())) {
+            throw new UnableToWatchSurveyException(id, "Not running");
+        }
+        return liveBroadcaster.subscribe(survey);
+    }
 }
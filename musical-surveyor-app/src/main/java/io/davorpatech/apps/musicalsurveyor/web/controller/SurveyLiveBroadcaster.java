@@ -0,0 +1,284 @@
+package io.davorpatech.apps.musicalsurveyor.web.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyClosedEvent;
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyDTO;
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyLiveLikesDTO;
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyScheduleChangedEvent;
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyStatus;
+import io.davorpatech.apps.musicalsurveyor.services.surveys.SurveyLiveTally;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.env.Environment;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.Assert;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Broadcasts the likes per song of the running surveys, as tallied live by
+ * the {@link SurveyLiveTally}, to their watchers as Server-Sent Events.
+ *
+ * <p>Each watcher receives a {@value #SNAPSHOT_EVENT} event with the likes of
+ * all the songs when subscribing. Afterward, every {@code snapshot-interval},
+ * the tally of each watched survey is snapshotted once and a {@value #LIKES_EVENT}
+ * event with the likes of the songs changed since the previous snapshot, if
+ * any, is serialized once and sent to all its watchers. So, the cost of each
+ * snapshot does not depend on the number of watchers, and none of them issues
+ * any SQL.
+ *
+ * <p>The events are sent by dedicated sender threads, not by the scheduler
+ * ones, since each send blocks until written. The watchers of a survey are
+ * sent one event at a time: while they are still being sent the previous one,
+ * its snapshots are skipped, and the next event holds all the songs changed
+ * since the last one sent.
+ *
+ * <p>Watchers are completed when the survey ends, either at its end date, as
+ * rescheduled meanwhile, or when it is closed earlier.
+ *
+ * <p>It is configured through the {@value #PROPERTY_PREFIX}{@code *} properties.
+ */
+@Component
+class SurveyLiveBroadcaster implements InitializingBean, DisposableBean // NOSONAR
+{
+    /**
+     * The prefix of the properties configuring the broadcaster.
+     */
+    static final String PROPERTY_PREFIX = "app.survey.live.";
+
+    /**
+     * The name of the event holding the likes of all the songs.
+     */
+    static final String SNAPSHOT_EVENT = "snapshot";
+
+    /**
+     * The name of the event holding the likes of the changed songs.
+     */
+    static final String LIKES_EVENT = "likes";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SurveyLiveBroadcaster.class);
+
+    private final SurveyLiveTally liveTally;
+
+    private final TaskScheduler taskScheduler;
+
+    private final ObjectWriter objectWriter;
+
+    private final Duration snapshotInterval;
+
+    private final ExecutorService senderExecutor;
+
+    private final ConcurrentMap<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    private ScheduledFuture<?> broadcasting;
+
+    /**
+     * Constructs a new {@link SurveyLiveBroadcaster} with the given arguments.
+     *
+     * @param liveTally     the live tally of the watched surveys, never {@code null}
+     * @param taskScheduler the scheduler of the snapshots, never {@code null}
+     * @param objectMapper  the JSON object mapper, never {@code null}
+     * @param environment   the environment holding the configuration, never {@code null}
+     */
+    SurveyLiveBroadcaster(SurveyLiveTally liveTally,
+                          TaskScheduler taskScheduler,
+                          ObjectMapper objectMapper,
+                          Environment environment)
+    {
+        Assert.notNull(liveTally, "SurveyLiveTally must not be null!");
+        Assert.notNull(taskScheduler, "TaskScheduler must not be null!");
+        Assert.notNull(objectMapper, "ObjectMapper must not be null!");
+        Assert.notNull(environment, "Environment must not be null!");
+        this.liveTally = liveTally;
+        this.taskScheduler = taskScheduler;
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.snapshotInterval = environment.getProperty(
+            PROPERTY_PREFIX + "snapshot-interval", Duration.class, Duration.ofSeconds(1));
+        Assert.isTrue(!snapshotInterval.isNegative() && !snapshotInterval.isZero(),
+            "Snapshot interval must be positive!");
+        final int senderThreads = environment.getProperty(
+            PROPERTY_PREFIX + "sender-threads", Integer.class, 2);
+        Assert.isTrue(senderThreads > 0, "Sender threads must be positive!");
+        this.senderExecutor = Executors.newFixedThreadPool(
+            senderThreads, new CustomizableThreadFactory("survey-live-sender-"));
+    }
+
+    /**
+     * Subscribes a new watcher to the likes of the given running survey.
+     *
+     * @param survey the running survey to watch, never {@code null}
+     * @return the emitter of the events sent to the watcher, never {@code null}
+     */
+    SseEmitter subscribe(SurveyDTO survey) {
+        final Long surveyId = survey.getId();
+        // never timed out, since it is completed when the survey ends
+        final SseEmitter emitter = new SseEmitter(0L);
+        liveTally.watch(surveyId);
+        final Runnable unsubscriber = () -> unsubscribe(surveyId, emitter);
+        emitter.onCompletion(unsubscriber);
+        emitter.onTimeout(unsubscriber);
+        emitter.onError(ex -> unsubscriber.run());
+        channels.compute(surveyId, (key, current) -> {
+            final Channel channel = current == null
+                ? new Channel(survey.getEndDate(), liveTally.snapshot(surveyId)) : current;
+            channel.emitters.add(emitter);
+            return channel;
+        });
+        send(emitter, SNAPSHOT_EVENT, serialize(surveyId, liveTally.snapshot(surveyId)));
+        return emitter;
+    }
+
+    private void unsubscribe(Long surveyId, SseEmitter emitter) {
+        final boolean[] removed = { false };
+        channels.computeIfPresent(surveyId, (key, channel) -> {
+            removed[0] = channel.emitters.remove(emitter);
+            return channel.emitters.isEmpty() ? null : channel;
+        });
+        if (removed[0]) {
+            liveTally.unwatch(surveyId);
+        }
+    }
+
+    /**
+     * Keeps track of the end date of the watched survey whose schedule has
+     * changed, once the change is committed.
+     *
+     * @param event the survey schedule changed event, never {@code null}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSurveyScheduleChanged(SurveyScheduleChangedEvent event) {
+        final Channel channel = channels.get(event.getSurveyId());
+        if (channel == null) return;
+        channel.endDate = event.getEndDate();
+        if (!SurveyStatus.RUNNING.equals(event.getStatus())) {
+            channel.ended = true;
+        }
+    }
+
+    /**
+     * Ends the watched survey that has been closed, once it is committed.
+     *
+     * @param event the survey closed event, never {@code null}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSurveyClosed(SurveyClosedEvent event) {
+        final Channel channel = channels.get(event.getSurveyId());
+        if (channel != null) {
+            channel.ended = true;
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        broadcasting = taskScheduler.scheduleWithFixedDelay(this::broadcast, snapshotInterval);
+    }
+
+    @Override
+    public void destroy() {
+        if (broadcasting != null) {
+            broadcasting.cancel(false);
+        }
+        senderExecutor.shutdownNow();
+        channels.values().forEach(channel -> channel.emitters.forEach(SseEmitter::complete));
+    }
+
+    private void broadcast() {
+        final LocalDateTime now = LocalDateTime.now();
+        channels.forEach((surveyId, channel) -> {
+            try {
+                if (channel.ended || now.isAfter(channel.endDate)) {
+                    channel.emitters.forEach(emitter -> {
+                        emitter.complete();
+                        unsubscribe(surveyId, emitter);
+                    });
+                    return;
+                }
+                if (channel.sending.get()) return; // skipped, still sending the previous event
+                final Map<Long, Long> snapshot = liveTally.snapshot(surveyId);
+                final Map<Long, Long> changed = new HashMap<>();
+                snapshot.forEach((songId, likes) -> {
+                    if (!Objects.equals(likes, channel.lastSnapshot.get(songId))) {
+                        changed.put(songId, likes);
+                    }
+                });
+                channel.lastSnapshot = snapshot;
+                if (!changed.isEmpty()) {
+                    final String data = serialize(surveyId, changed);
+                    channel.sending.set(true);
+                    senderExecutor.execute(() -> {
+                        try {
+                            channel.emitters.forEach(emitter -> send(emitter, LIKES_EVENT, data));
+                        } finally {
+                            channel.sending.set(false);
+                        }
+                    });
+                }
+            } catch (RejectedExecutionException ex) {
+                // shutting down, so its watchers are completed
+                channel.sending.set(false);
+            } catch (RuntimeException ex) {
+                LOGGER.error("Unable to broadcast the live likes of survey identified by `{}`", surveyId, ex);
+            }
+        });
+    }
+
+    private String serialize(Long surveyId, Map<Long, Long> likes) {
+        try {
+            return objectWriter.writeValueAsString(new SurveyLiveLikesDTO(surveyId, likes));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize the live likes", e);
+        }
+    }
+
+    private static void send(SseEmitter emitter, String eventName, String data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException ex) {
+            // the watcher is gone, so it is unsubscribed on completion
+            emitter.completeWithError(ex);
+        }
+    }
+
+    private static final class Channel {
+        private volatile LocalDateTime endDate;
+
+        private volatile boolean ended;
+
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+        /** whether an event is still being sent to the emitters */
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        /** only accessed by the broadcasting thread, once created */
+        private Map<Long, Long> lastSnapshot;
+
+        private Channel(LocalDateTime endDate, Map<Long, Long> lastSnapshot) {
+            this.endDate = endDate;
+            this.lastSnapshot = lastSnapshot;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.davorpatech.apps.musicalsurveyor.web.controller;
+
+import io.davorpatech.apps.musicalsurveyor.domain.RaffleResolutionDTO;
+import io.davorpatech.apps.musicalsurveyor.domain.RaffleTicketIssuanceDTO;
+import io.davorpatech.apps.musicalsurveyor.services.raffles.RaffleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for managing the {@code Raffle} resource of a given
+ * {@code Survey}.
+ *
+ * <p>Controllers are the entry point to the presentation layer. They are
+ * responsible for handling the HTTP requests, and they delegate the
+ * business logic to the services.
+ */
+@Tag(
+    name = "raffle",
+    description = """
+        The Raffle API.
+
+        Provides REST operations to manage the raffle of a Survey resource."""
+)
+@RestController
+@RequestMapping("/api/surveys/{surveyId}/raffle")
+public class SurveyRaffleController // NOSONAR
+{
+    private final RaffleService raffleService;
+
+    /**
+     * Constructs a new {@link SurveyRaffleController} with the given arguments.
+     *
+     * @param raffleService the raffle service, never {@code null}
+     */
+    SurveyRaffleController(RaffleService raffleService) {
+        Assert.notNull(raffleService, "RaffleService must not be null!");
+        this.raffleService = raffleService;
+    }
+
+    /**
+     * Resolves the raffle of the {@code Survey} resource with the given ID.
+     *
+     * @param surveyId the identifier of the survey whose raffle to resolve
+     * @return the outcome of the draw
+     */
+    @Operation(
+        summary = "Resolves the raffle of a survey by ID",
+        description = """
+            Draws at random the winner tickets of all the prizes of the raffle of a survey by
+            its identifier, among the tickets of the participants that responded the survey.
+
+            The identifier is a numeric value.
+
+            Raffles are resolved once, after closing the survey. The seed of the draw is generated
+            by the server, returned, and kept with the raffle, so the draw can be audited and
+            replayed: the same seed among the same tickets draws the same winners.""",
+        tags = { "raffle" }
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successful operation")
+    @ApiResponse(
+        responseCode = "400",
+        description = "Request parameters are invalid",
+        content = @Content)
+    @ApiResponse(
+        responseCode = "404",
+        description = "Raffle not found",
+        content = @Content)
+    @ApiResponse(
+        responseCode = "412",
+        description = "Raffle cannot be resolved due to business rules",
+        content = @Content)
+    @PostMapping("/resolve")
+    ResponseEntity<RaffleResolutionDTO> resolve(
+        @Parameter(description = "The identifier of the survey whose raffle to resolve", example = "2")
+        @PathVariable("surveyId") Long surveyId)
+    {
+        RaffleResolutionDTO dto = raffleService.resolve(surveyId);
+        return ResponseEntity.ok(dto);
+    }
+
+    /**
+     * Issues the raffle tickets of the {@code Survey} resource with the given ID.
+     *
+     * @param surveyId the identifier of the survey to issue raffle tickets for
+     * @return the outcome of the issuance
+     */
+    @Operation(
+        summary = "Issues the raffle tickets of a survey by ID",
+        description = """
+            Issues a raffle ticket to every participant that responded a survey by its identifier,
+            and has no ticket yet.
+
+            The identifier is a numeric value.
+
+            Tickets are spread evenly among all the colors, and numbered sequentially per color.
+            Tickets can be issued once the survey has started, as many times as needed: each time
+            only the participants that responded meanwhile are ticketed.""",
+        tags = { "raffle" }
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successful operation")
+    @ApiResponse(
+        responseCode = "400",
+        description = "Request parameters are invalid",
+        content = @Content)
+    @ApiResponse(
+        responseCode = "404",
+        description = "Survey not found",
+        content = @Content)
+    @ApiResponse(
+        responseCode = "412",
+        description = "Raffle tickets cannot be issued due to business rules",
+        content = @Content)
+    @PostMapping("/tickets")
+    ResponseEntity<RaffleTicketIssuanceDTO> issueTickets(
+        @Parameter(description = "The identifier of the survey to issue raffle tickets for", example = "6")
+        @PathVariable("surveyId") Long surveyId)
+    {
+        RaffleTicketIssuanceDTO dto = raffleService.issueTickets(surveyId);
+        return ResponseEntity.ok(dto);
+    }
+}
@@ -0,0 +1,48 @@
+package io.davorpatech.apps.musicalsurveyor.web.model.reports;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Enumeration of the formats a report can be exported to.
+ *
+ * <p>Both formats are line oriented, so report rows can be written to the
+ * HTTP response one by one as they are read from the database.
+ */
+public enum ReportExportFormat {
+    /**
+     * Newline delimited JSON, thus is, one JSON object per line.
+     */
+    NDJSON(new MediaType("application", "x-ndjson"), "ndjson"),
+
+    /**
+     * Comma separated values, with a leading header line.
+     */
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+
+    private final String fileExtension;
+
+    ReportExportFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns the media type of the exported content.
+     *
+     * @return the media type of the exported content
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Returns the file extension used to name the exported content.
+     *
+     * @return the file extension, without the leading dot
+     */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
@@ -0,0 +1,74 @@
+package io.davorpatech.apps.musicalsurveyor.web.model.surveys;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.davorpatech.fwk.model.BaseValueObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the HTTP request body to submit the favorite songs of a
+ * participant as responses of a {@code Survey}.
+ *
+ * <p>Request DTOs are immutable objects. As a DTO, it is a simple
+ * POJO that holds data and has no behavior. It is used to transfer
+ * data between the client and the server. It is also used to validate
+ * the data sent to the server.
+ */
+@Schema(
+    name = "SubmitSurveyResponsesRequest",
+    description = "Represents the HTTP request body to submit the responses of a Survey participant."
+)
+public class SubmitSurveyResponsesRequest extends BaseValueObject // NOSONAR
+{
+    @Serial
+    private static final long serialVersionUID = -3315872730548014166L;
+
+    @Schema(
+        description = "The IDs of the favorite songs of the participant",
+        example = "[1, 5]")
+    @NotEmpty
+    private final List<@NotNull Long> songIds;
+
+    /**
+     * Constructs a new {@link SubmitSurveyResponsesRequest} with the given arguments.
+     *
+     * @param songIds the IDs of the favorite songs
+     */
+    @JsonCreator
+    public SubmitSurveyResponsesRequest(List<Long> songIds) {
+        super();
+        this.songIds = songIds;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SubmitSurveyResponsesRequest other = (SubmitSurveyResponsesRequest) o;
+        return Objects.equals(songIds, other.songIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(songIds);
+    }
+
+    @Override
+    protected String defineObjAttrs() {
+        return String.format("songIds=%s", songIds);
+    }
+
+    /**
+     * Returns the IDs of the favorite songs.
+     *
+     * @return the IDs of the favorite songs
+     */
+    public List<Long> getSongIds() {
+        return songIds;
+    }
+}
@@ -5,24 +5,40 @@
 
 DROP TABLE IF EXISTS `raffle_prize`;
 DROP TABLE IF EXISTS `raffle`;
+DROP TABLE IF EXISTS `song_popularity_rollup`;
 DROP TABLE IF EXISTS `survey_responsing`;
 DROP TABLE IF EXISTS `survey_participation`;
 DROP TABLE IF EXISTS `raffle_ticket`;
+DROP TABLE IF EXISTS `raffle_ticket_number_block`;
+DROP TABLE IF EXISTS `survey_transition_lease`;
 DROP TABLE IF EXISTS `survey`;
 DROP TABLE IF EXISTS `prize`;
 DROP TABLE IF EXISTS `radio_listener`;
 DROP TABLE IF EXISTS `song`;
 DROP TABLE IF EXISTS `artist`;
 DROP TABLE IF EXISTS `color`;
+DROP SEQUENCE IF EXISTS `SEQ_raffle_ticket_id`;
+DROP SEQUENCE IF EXISTS `SEQ_survey_id`;
+DROP SEQUENCE IF EXISTS `SEQ_prize_id`;
+DROP SEQUENCE IF EXISTS `SEQ_radio_listener_id`;
+DROP SEQUENCE IF EXISTS `SEQ_song_id`;
+DROP SEQUENCE IF EXISTS `SEQ_artist_id`;
+DROP SEQUENCE IF EXISTS `SEQ_color_id`;
 
 
 
 
 
 
+-- Entity IDs are drawn from sequences, allocated by the application in pooled-lo
+-- blocks of INCREMENT BY values (the PersistenceConstants.ID_ALLOCATION_SIZE), so their
+-- inserts can be batched. Plain SQL inserts take one block per row instead.
+CREATE SEQUENCE IF NOT EXISTS `SEQ_color_id`
+    START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS `color`(
     -- id columns
-    `id`                BIGINT          NOT NULL  AUTO_INCREMENT,
+    `id`                BIGINT          NOT NULL  DEFAULT NEXT VALUE FOR `SEQ_color_id`,
     -- data columns
     `code`              VARCHAR(25)     NOT NULL,
     -- audit columns
@@ -42,9 +58,12 @@ CREATE TABLE IF NOT EXISTS `color`(
 
 
 
+CREATE SEQUENCE IF NOT EXISTS `SEQ_artist_id`
+    START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS `artist`(
     -- id columns
-    `id`                BIGINT          NOT NULL  AUTO_INCREMENT,
+    `id`                BIGINT          NOT NULL  DEFAULT NEXT VALUE FOR `SEQ_artist_id`,
     -- data columns
     `name`              VARCHAR(255)    NOT NULL,
     `biography`         VARCHAR(2048)   NULL,
@@ -61,14 +80,18 @@ CREATE TABLE IF NOT EXISTS `artist`(
 
 
 
+CREATE SEQUENCE IF NOT EXISTS `SEQ_song_id`
+    START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS `song`(
     -- id columns
-    `id`                BIGINT          NOT NULL  AUTO_INCREMENT,
+    `id`                BIGINT          NOT NULL  DEFAULT NEXT VALUE FOR `SEQ_song_id`,
     -- data columns
     `title`             VARCHAR(255)    NOT NULL,
     `release_year`      INT             NULL,
     `duration`          INT             NULL,
     `genre`             VARCHAR(50)     NULL,
+    `likes`             BIGINT          NOT NULL DEFAULT 0,
     -- foreignal columns
     `artist_id`         BIGINT          NOT NULL,
     -- audit columns
@@ -84,16 +107,25 @@ CREATE TABLE IF NOT EXISTS `song`(
             CHECK (`release_year` IS NULL OR `release_year` >= 0),
     CONSTRAINT `CK_song_duration`
             CHECK (`duration` IS NULL OR `duration` >= 0),
+    CONSTRAINT `CK_song_likes_ge_zero`
+            CHECK (`likes` >= 0),
     CONSTRAINT `FK_song_artist_id`
             FOREIGN KEY (`artist_id`)
             REFERENCES `artist`(`id`)
 );
 
+-- popularity rankings walk this index instead of aggregating responses
+CREATE INDEX IF NOT EXISTS `IDX_song_likes`
+    ON `song`(`likes` DESC, `id` ASC);
 
 
+
+CREATE SEQUENCE IF NOT EXISTS `SEQ_radio_listener_id`
+    START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS `radio_listener`(
     -- id columns
-    `id`                BIGINT          NOT NULL  AUTO_INCREMENT,
+    `id`                BIGINT          NOT NULL  DEFAULT NEXT VALUE FOR `SEQ_radio_listener_id`,
     -- data columns
     `name`              VARCHAR(255)    NOT NULL,
     `phone`             VARCHAR(15)     NOT NULL,
@@ -116,9 +148,12 @@ CREATE TABLE IF NOT EXISTS `radio_listener`(
 
 
 
+CREATE SEQUENCE IF NOT EXISTS `SEQ_prize_id`
+    START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS `prize`(
     -- id columns
-    `id`                BIGINT          NOT NULL  AUTO_INCREMENT,
+    `id`                BIGINT          NOT NULL  DEFAULT NEXT VALUE FOR `SEQ_prize_id`,
     -- data columns
     `title`             VARCHAR(255)    NOT NULL,
     `description`       VARCHAR(2048)   NULL,
@@ -140,9 +175,12 @@ CREATE TABLE IF NOT EXISTS `prize`(
 
 
 
+CREATE SEQUENCE IF NOT EXISTS `SEQ_survey_id`
+    START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS `survey`(
     -- id columns
-    `id`                    BIGINT          NOT NULL  AUTO_INCREMENT,
+    `id`                    BIGINT          NOT NULL  DEFAULT NEXT VALUE FOR `SEQ_survey_id`,
     -- data columns
     `title`                 VARCHAR(255)    NOT NULL,
     `description`           VARCHAR(2048)   NULL,
@@ -172,9 +210,12 @@ CREATE TABLE IF NOT EXISTS `survey`(
 
 
 
+CREATE SEQUENCE IF NOT EXISTS `SEQ_raffle_ticket_id`
+    START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS `raffle_ticket`(
     -- id columns
-    `id`                BIGINT          NOT NULL  AUTO_INCREMENT,
+    `id`                BIGINT          NOT NULL  DEFAULT NEXT VALUE FOR `SEQ_raffle_ticket_id`,
     -- data columns
     `number`            VARCHAR(40)     NOT NULL,
     `color_id`          BIGINT          NOT NULL,
@@ -193,6 +234,25 @@ CREATE TABLE IF NOT EXISTS `raffle_ticket`(
 
 
 
+CREATE TABLE IF NOT EXISTS `raffle_ticket_number_block`(
+    -- id columns
+    `color_id`          BIGINT          NOT NULL,
+    -- data columns
+    `next_number`       BIGINT          NOT NULL,
+
+    -- named constraints
+    CONSTRAINT `PK_raffle_ticket_number_block_color_id`
+            PRIMARY KEY(`color_id`),
+    CONSTRAINT `CK_raffle_ticket_number_block_next_number`
+            CHECK (`next_number` > 0),
+    CONSTRAINT `FK_raffle_ticket_number_block_color_id`
+            FOREIGN KEY (`color_id`)
+            REFERENCES `color`(`id`)
+            ON DELETE CASCADE
+);
+
+
+
 CREATE TABLE IF NOT EXISTS `survey_participation`(
     -- id columns
     `survey_id`             BIGINT          NOT NULL,
@@ -244,12 +304,58 @@ CREATE TABLE IF NOT EXISTS `survey_responsing`(
 
 
 
+CREATE TABLE IF NOT EXISTS `song_popularity_rollup`(
+    -- id columns
+    `survey_id`         BIGINT      NOT NULL,
+    `song_id`           BIGINT      NOT NULL,
+    `responded_on`      DATE        NOT NULL,
+    -- data columns
+    `likes`             BIGINT      NOT NULL DEFAULT 0,
+
+    -- named constraints
+    CONSTRAINT `PK_song_popularity_rollup_id`
+            PRIMARY KEY(`survey_id`, `song_id`, `responded_on`),
+    CONSTRAINT `FK_song_popularity_rollup_survey_id`
+            FOREIGN KEY (`survey_id`)
+            REFERENCES `survey`(`id`),
+    CONSTRAINT `FK_song_popularity_rollup_song_id`
+            FOREIGN KEY (`song_id`)
+            REFERENCES `song`(`id`)
+);
+
+-- time-windowed rankings range scan this index
+CREATE INDEX IF NOT EXISTS `IDX_song_popularity_rollup_responded_on`
+    ON `song_popularity_rollup`(`responded_on`, `song_id`);
+
+
+
+-- the node holding the lease of a survey status transition is the only one executing it
+CREATE TABLE IF NOT EXISTS `survey_transition_lease`(
+    -- id columns
+    `survey_id`         BIGINT          NOT NULL,
+    `target_status`     VARCHAR(50)     NOT NULL,
+    -- data columns
+    `owner`             VARCHAR(255)    NOT NULL,
+    `leased_until`      TIMESTAMP(6)    NOT NULL,
+
+    -- named constraints
+    CONSTRAINT `PK_survey_transition_lease_id`
+            PRIMARY KEY(`survey_id`, `target_status`),
+    CONSTRAINT `FK_survey_transition_lease_survey_id`
+            FOREIGN KEY (`survey_id`)
+            REFERENCES `survey`(`id`)
+            ON DELETE CASCADE
+);
+
+
+
 CREATE TABLE IF NOT EXISTS `raffle`(
     -- id columns
     `id`                    BIGINT          NOT NULL,
     -- data columns
     `status`                VARCHAR(50)     NOT NULL,
     `resolution_date`       TIMESTAMP(6)    NULL,
+    `resolution_seed`       BIGINT          NULL,
     -- audit columns
     `created_on`            TIMESTAMP(6)    NOT NULL,
     `created_by`            VARCHAR(255)    NOT NULL,
@@ -0,0 +1,112 @@
+package io.davorpatech.apps.musicalsurveyor.services.colors;
+
+import io.davorpatech.apps.musicalsurveyor.domain.colors.ColorDTO;
+import io.davorpatech.apps.musicalsurveyor.domain.colors.CreateColorInput;
+import io.davorpatech.apps.musicalsurveyor.domain.colors.UpdateColorInput;
+import io.davorpatech.fwk.model.BulkItemResult;
+import io.davorpatech.fwk.model.BulkResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * The bulk operations commit each chunk on their own, so the colors they
+ * write are deleted after each test.
+ */
+@SpringBootTest(properties = {
+    "app.survey.auto-close.cron=-",
+    "app.survey.transitions.enabled=false",
+    "fwk.data.bulk.chunk-size=3"
+})
+class ColorServiceBulkTests {
+
+    @Autowired
+    private ColorService colorService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void deleteBulkColors() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            jdbcTemplate.update("DELETE FROM color WHERE code LIKE 'bulk%'"));
+    }
+
+    @Test
+    void createsEveryValidColorReportingTheOthers() {
+        BulkResult<ColorDTO> result = colorService.createAll(List.of(
+            new CreateColorInput("bulkred"),
+            new CreateColorInput("bulkblue"),
+            new CreateColorInput("bulkgreen"),
+            new CreateColorInput("salmon"),
+            new CreateColorInput("bulkred"),
+            new CreateColorInput("Bulk Red!")));
+
+        Assertions.assertEquals(List.of(true, true, true, false, false, false), outcomesOf(result));
+        Assertions.assertEquals(List.of(409, 409, 400), failedStatusesOf(result));
+        Assertions.assertEquals("bulkgreen", result.getItems().get(2).getData().getCode());
+        Assertions.assertEquals(3L, countBulkColors());
+    }
+
+    @Test
+    void updatesEveryFoundColorReportingTheOthers() {
+        List<ColorDTO> created = createColors("bulkred", "bulkblue");
+
+        BulkResult<ColorDTO> result = colorService.updateAll(List.of(
+            new UpdateColorInput(created.get(0).getId(), "bulkred"),
+            new UpdateColorInput(created.get(1).getId(), "bulkblue"),
+            new UpdateColorInput(-1L, "bulkgreen"),
+            new UpdateColorInput(created.get(0).getId(), "bulkpink")));
+
+        Assertions.assertEquals(List.of(true, true, false, false), outcomesOf(result));
+        Assertions.assertEquals(List.of(404, 412), failedStatusesOf(result));
+        Assertions.assertEquals(created.get(1), colorService.findById(created.get(1).getId()));
+    }
+
+    @Test
+    void deletesEveryUnusedColorReportingTheOthers() {
+        List<ColorDTO> created = createColors("bulkred", "bulkblue");
+        Long usedColorId = jdbcTemplate.queryForObject(
+            "SELECT MIN(color_id) FROM raffle_ticket", Long.class);
+
+        BulkResult<Long> result = colorService.deleteAllById(List.of(
+            created.get(0).getId(), created.get(1).getId(), -1L, usedColorId));
+
+        Assertions.assertEquals(List.of(true, true, false, false), outcomesOf(result));
+        Assertions.assertEquals(List.of(404, 409), failedStatusesOf(result));
+        Assertions.assertEquals(0L, countBulkColors());
+    }
+
+    private List<ColorDTO> createColors(String... codes) {
+        BulkResult<ColorDTO> result = colorService.createAll(
+            List.of(codes).stream().map(CreateColorInput::new).toList());
+        Assertions.assertEquals(codes.length, result.getNumSucceeded());
+        return result.getItems().stream().map(BulkItemResult::getData).toList();
+    }
+
+    private long countBulkColors() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM color WHERE code LIKE 'bulk%'", Long.class);
+    }
+
+    private static <T extends Serializable> List<Boolean> outcomesOf(BulkResult<T> result) {
+        return result.getItems().stream().map(BulkItemResult::isSucceeded).toList();
+    }
+
+    private static <T extends Serializable> List<Integer> failedStatusesOf(BulkResult<T> result) {
+        return result.getItems().stream()
+            .filter(item -> !item.isSucceeded())
+            .map(BulkItemResult::getStatus)
+            .toList();
+    }
+}
@@ -0,0 +1,124 @@
+package io.davorpatech.apps.musicalsurveyor.services.colors;
+
+import io.davorpatech.apps.musicalsurveyor.domain.colors.ColorDTO;
+import io.davorpatech.apps.musicalsurveyor.domain.colors.CreateColorInput;
+import io.davorpatech.apps.musicalsurveyor.domain.colors.FindColorsInput;
+import io.davorpatech.apps.musicalsurveyor.domain.colors.UpdateColorInput;
+import io.davorpatech.fwk.exception.NoSuchEntityException;
+import io.davorpatech.fwk.exception.PageOutOfRangeException;
+import io.davorpatech.fwk.exception.UnpagedResultTooLargeException;
+import io.davorpatech.fwk.model.PagedResult;
+import io.davorpatech.fwk.model.commands.CountMode;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Covers the data service behaviour shared by every domain through the colors,
+ * whose DTOs are cached.
+ */
+@SpringBootTest(properties = {
+    "app.survey.auto-close.cron=-",
+    "app.survey.transitions.enabled=false",
+    "fwk.data.unpaged.musicpoll.Color.max-rows=2"
+})
+@Transactional
+class ColorServiceDataTests {
+
+    @Autowired
+    private ColorService colorService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long anyColorId() {
+        return jdbcTemplate.queryForObject("SELECT MIN(id) FROM color", Long.class);
+    }
+
+    private void renameBehindTheService(Long id, String code) {
+        jdbcTemplate.update("UPDATE color SET code = ? WHERE id = ?", code, id);
+    }
+
+    @Test
+    void findsByIdFromTheCache() {
+        Long id = anyColorId();
+        ColorDTO cached = colorService.findById(id);
+
+        renameBehindTheService(id, "datacached");
+
+        Assertions.assertEquals(cached, colorService.findById(id), "Second lookup must hit the cache");
+    }
+
+    @Test
+    void evictsTheCachedDtoOnUpdate() {
+        Long id = anyColorId();
+        colorService.findById(id);
+        // codes are immutable, so the update can only touch a row renamed behind the service
+        renameBehindTheService(id, "dataupdated");
+        entityManager.clear();
+
+        colorService.update(new UpdateColorInput(id, "dataupdated"));
+
+        Assertions.assertEquals("dataupdated", colorService.findById(id).getCode());
+    }
+
+    @Test
+    void evictsTheCachedDtoOnDelete() {
+        Long id = colorService.create(new CreateColorInput("datadeleted")).getId();
+        colorService.findById(id);
+
+        colorService.deleteById(id);
+
+        Assertions.assertThrows(NoSuchEntityException.class, () -> colorService.findById(id));
+    }
+
+    @Test
+    void reportsNoTotalsWhenNotCounting() {
+        PagedResult<ColorDTO> page = colorService.findAll(
+            new FindColorsInput(0, 1, Sort.unsorted(), CountMode.NONE));
+
+        Assertions.assertEquals(1, page.getData().size());
+        Assertions.assertEquals(-1L, page.getTotalElements());
+        Assertions.assertTrue(page.hasNext());
+    }
+
+    @Test
+    void reusesTheEstimatedCountUntilAColorIsCreated() {
+        FindColorsInput query = new FindColorsInput(0, 1, Sort.unsorted(), CountMode.ESTIMATED);
+        long numColors = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM color", Long.class);
+        colorService.create(new CreateColorInput("dataevicting"));
+        Assertions.assertEquals(numColors + 1, colorService.findAll(query).getTotalElements());
+
+        jdbcTemplate.update("INSERT INTO color (code, created_on, created_by) VALUES ('datahidden', NOW(), 'TEST')");
+        Assertions.assertEquals(numColors + 1, colorService.findAll(query).getTotalElements(),
+            "Estimated count must be reused");
+
+        colorService.create(new CreateColorInput("dataevicted"));
+        Assertions.assertEquals(numColors + 3, colorService.findAll(query).getTotalElements(),
+            "Creating a color must evict the counts");
+    }
+
+    @Test
+    void rejectsUnpagedSearchBeyondMaxRows() {
+        FindColorsInput unpaged = new FindColorsInput(0, -1, Sort.unsorted(), null);
+
+        Assertions.assertThrows(UnpagedResultTooLargeException.class, () -> colorService.findAll(unpaged));
+    }
+
+    @Test
+    void rejectsPageBeyondTheGreatestOffset() {
+        FindColorsInput farAway = new FindColorsInput(Integer.MAX_VALUE, 10, Sort.unsorted(), null);
+        FindColorsInput farAwayUncounted = new FindColorsInput(Integer.MAX_VALUE, 10, Sort.unsorted(), CountMode.NONE);
+
+        Assertions.assertThrows(PageOutOfRangeException.class, () -> colorService.findAll(farAway));
+        Assertions.assertThrows(PageOutOfRangeException.class, () -> colorService.findAll(farAwayUncounted));
+    }
+}
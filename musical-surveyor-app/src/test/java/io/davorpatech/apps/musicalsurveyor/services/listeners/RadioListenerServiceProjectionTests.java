@@ -0,0 +1,144 @@
+package io.davorpatech.apps.musicalsurveyor.services.listeners;
+
+import io.davorpatech.apps.musicalsurveyor.domain.listeners.FindRadioListenersInput;
+import io.davorpatech.apps.musicalsurveyor.domain.listeners.RadioListenerDTO;
+import io.davorpatech.apps.musicalsurveyor.persistence.dao.RadioListenerRepository;
+import io.davorpatech.apps.musicalsurveyor.persistence.dao.SurveyParticipationRepository;
+import io.davorpatech.apps.musicalsurveyor.persistence.model.RadioListener;
+import io.davorpatech.fwk.model.CursorPagedResult;
+import io.davorpatech.fwk.model.PagedResult;
+import io.davorpatech.fwk.model.commands.CountMode;
+import io.davorpatech.fwk.service.data.jpa.DtoProjection;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the searches of a radio listener service fetching its DTOs through
+ * a projection with the ones of the actual service, loading full entities.
+ */
+@SpringBootTest(properties = {
+    "app.survey.auto-close.cron=-",
+    "app.survey.transitions.enabled=false"
+})
+@Transactional
+class RadioListenerServiceProjectionTests {
+
+    private static final Sort BY_NAME_DESC = Sort.by(Sort.Order.desc("name"));
+
+    @Autowired
+    private RadioListenerService radioListenerService;
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private RadioListenerService projectedService;
+
+    @BeforeEach
+    void createProjectedService() {
+        projectedService = beanFactory.createBean(ProjectedRadioListenerService.class);
+    }
+
+    @Test
+    void findsByIdThroughTheProjection() {
+        Long id = jdbcTemplate.queryForObject("SELECT MIN(id) FROM radio_listener", Long.class);
+
+        Assertions.assertEquals(radioListenerService.findById(id), projectedService.findById(id));
+    }
+
+    @Test
+    void findsPagesThroughTheProjection() {
+        for (CountMode countMode : CountMode.values()) {
+            FindRadioListenersInput query = new FindRadioListenersInput(1, 3, BY_NAME_DESC, countMode, false, null);
+
+            PagedResult<RadioListenerDTO> expected = radioListenerService.findAll(query);
+            PagedResult<RadioListenerDTO> actual = projectedService.findAll(query);
+
+            Assertions.assertEquals(List.copyOf(expected.getData()), List.copyOf(actual.getData()), countMode.name());
+            Assertions.assertEquals(expected.getTotalElements(), actual.getTotalElements(), countMode.name());
+        }
+    }
+
+    @Test
+    void seeksPagesThroughTheProjection() {
+        List<RadioListenerDTO> expected = new ArrayList<>();
+        radioListenerService.forEach(new FindRadioListenersInput(0, -1, BY_NAME_DESC), expected::add);
+
+        List<RadioListenerDTO> sought = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPagedResult<RadioListenerDTO> page = (CursorPagedResult<RadioListenerDTO>) projectedService.findAll(
+                new FindRadioListenersInput(0, 4, BY_NAME_DESC, null, true, cursor));
+            sought.addAll(page.getData());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        Assertions.assertTrue(expected.size() > 4, "Listeners must span several pages");
+        Assertions.assertEquals(expected, sought);
+    }
+
+    @Test
+    void streamsThroughTheProjection() {
+        List<RadioListenerDTO> expected = new ArrayList<>();
+        radioListenerService.forEach(new FindRadioListenersInput(0, -1, BY_NAME_DESC), expected::add);
+
+        List<RadioListenerDTO> streamed = new ArrayList<>();
+        projectedService.forEach(new FindRadioListenersInput(0, -1, BY_NAME_DESC), streamed::add);
+
+        Assertions.assertEquals(expected, streamed);
+    }
+
+    /**
+     * The radio listener service fetching only the columns of its DTOs, which
+     * never converts entities into DTOs.
+     */
+    static class ProjectedRadioListenerService extends RadioListenerServiceImpl {
+
+        ProjectedRadioListenerService(RadioListenerRepository radioListenerRepository,
+                                      SurveyParticipationRepository surveyParticipationRepository,
+                                      JdbcTemplate jdbcTemplate,
+                                      AuditorAware<String> auditorAware) {
+            super(radioListenerRepository, surveyParticipationRepository, jdbcTemplate, auditorAware);
+        }
+
+        @Override
+        protected DtoProjection<RadioListener, RadioListenerDTO> getDtoProjection() {
+            return new DtoProjection<>() {
+                @Override
+                public @NonNull List<Selection<?>> select(@NonNull CriteriaBuilder cb, @NonNull Root<RadioListener> root) {
+                    return List.of(root.get("id"), root.get("name"), root.get("phone"),
+                        root.get("address"), root.get("email"));
+                }
+
+                @Override
+                public @NonNull RadioListenerDTO map(@NonNull Tuple tuple) {
+                    return new RadioListenerDTO(tuple.get(0, Long.class), tuple.get(1, String.class),
+                        tuple.get(2, String.class), tuple.get(3, String.class), tuple.get(4, String.class));
+                }
+            };
+        }
+
+        @Override
+        protected @NonNull RadioListenerDTO convertEntityToDto(@NonNull RadioListener entity) {
+            throw new AssertionError("Entities must not be loaded when projecting");
+        }
+    }
+}
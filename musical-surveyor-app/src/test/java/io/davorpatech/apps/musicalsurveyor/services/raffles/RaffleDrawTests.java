@@ -0,0 +1,65 @@
+package io.davorpatech.apps.musicalsurveyor.services.raffles;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import java.util.stream.LongStream;
+
+class RaffleDrawTests {
+
+    private static final long SEED = 20231010L;
+
+    @Test
+    void drawsTheSameWinnersGivenTheSameSeed() {
+        long[] ticketIds = LongStream.rangeClosed(1L, 20L).toArray();
+
+        RaffleDraw.drawWinners(ticketIds, 3, seededRandom());
+
+        // pinned: a change here means already resolved raffles can no longer be audited
+        Assertions.assertArrayEquals(
+            new long[] { 17L, 14L, 4L, 3L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 2L, 15L, 16L, 1L, 18L, 19L, 20L },
+            ticketIds);
+    }
+
+    @Test
+    void onlyReordersTheTickets() {
+        long[] ticketIds = LongStream.rangeClosed(1L, 1_000L).toArray();
+
+        RaffleDraw.drawWinners(ticketIds, 10, seededRandom());
+
+        long[] sorted = ticketIds.clone();
+        Arrays.sort(sorted);
+        Assertions.assertArrayEquals(LongStream.rangeClosed(1L, 1_000L).toArray(), sorted);
+    }
+
+    @Test
+    void drawsNoneOrAllTheTickets() {
+        long[] none = { 1L, 2L, 3L };
+        RaffleDraw.drawWinners(none, 0, seededRandom());
+        Assertions.assertArrayEquals(new long[] { 1L, 2L, 3L }, none);
+
+        long[] all = { 1L, 2L, 3L };
+        RaffleDraw.drawWinners(all, 3, seededRandom());
+        long[] sorted = all.clone();
+        Arrays.sort(sorted);
+        Assertions.assertArrayEquals(new long[] { 1L, 2L, 3L }, sorted);
+    }
+
+    @Test
+    void rejectsMoreWinnersThanTickets() {
+        long[] ticketIds = { 1L, 2L };
+        RandomGenerator random = seededRandom();
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> RaffleDraw.drawWinners(ticketIds, 3, random));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> RaffleDraw.drawWinners(ticketIds, -1, random));
+    }
+
+    private static RandomGenerator seededRandom() {
+        return RandomGeneratorFactory.of(RaffleServiceImpl.DRAW_ALGORITHM).create(SEED);
+    }
+}
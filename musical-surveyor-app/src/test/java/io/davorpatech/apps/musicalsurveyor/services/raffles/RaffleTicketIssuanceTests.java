@@ -0,0 +1,139 @@
+package io.davorpatech.apps.musicalsurveyor.services.raffles;
+
+import io.davorpatech.apps.musicalsurveyor.domain.RaffleTicketConstants;
+import io.davorpatech.apps.musicalsurveyor.persistence.PersistenceConstants;
+import io.davorpatech.apps.musicalsurveyor.persistence.dao.ColorRepository;
+import io.davorpatech.apps.musicalsurveyor.persistence.dao.RaffleTicketRepository;
+import io.davorpatech.apps.musicalsurveyor.persistence.model.RaffleTicket;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@SpringBootTest(properties = {
+    "app.survey.auto-close.cron=-",
+    "app.survey.transitions.enabled=false"
+})
+@Transactional
+class RaffleTicketIssuanceTests {
+
+    @Autowired
+    private RaffleService raffleService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RaffleTicketRepository raffleTicketRepository;
+
+    @Autowired
+    private ColorRepository colorRepository;
+
+    private Long surveyId;
+
+    @BeforeEach
+    void setUpRespondedSurvey() {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("""
+            INSERT INTO survey (title, status, start_date, end_date, num_max_participants,
+                                num_survey_responses, created_on, created_by)
+            VALUES ('Ticket issuance survey', 'RUNNING', ?, ?, 5, 2, ?, 'TEST')
+            """, Timestamp.valueOf(now.minusDays(1)), Timestamp.valueOf(now.plusDays(1)), Timestamp.valueOf(now));
+        surveyId = jdbcTemplate.queryForObject(
+            "SELECT id FROM survey WHERE title = 'Ticket issuance survey'", Long.class);
+        for (Long participantId : jdbcTemplate.queryForList(
+                "SELECT id FROM radio_listener ORDER BY id LIMIT 3", Long.class)) {
+            jdbcTemplate.update("""
+                INSERT INTO survey_participation (survey_id, participant_id, participated_at, created_on, created_by)
+                VALUES (?, ?, ?, ?, 'TEST')
+                """, surveyId, participantId, Timestamp.valueOf(now), Timestamp.valueOf(now));
+        }
+    }
+
+    @Test
+    void linksEveryRespondedParticipantToANewTicket() {
+        Assertions.assertEquals(3, raffleService.issueTickets(surveyId).getNumIssuedTickets());
+
+        Assertions.assertEquals(3L, jdbcTemplate.queryForObject("""
+            SELECT COUNT(DISTINCT rt.id)
+            FROM survey_participation sp JOIN raffle_ticket rt ON rt.id = sp.raffle_ticket_id
+            WHERE sp.survey_id = ?
+            """, Long.class, surveyId));
+        Assertions.assertEquals(0, raffleService.issueTickets(surveyId).getNumIssuedTickets());
+    }
+
+    @Test
+    void reservesTheTicketIdsInBlocksOfTheSequenceIncrement() {
+        final int blockSize = PersistenceConstants.ID_ALLOCATION_SIZE;
+        long valueBefore = nextTicketIdSequenceValue();
+
+        raffleService.issueTickets(surveyId);
+
+        List<Long> ticketIds = jdbcTemplate.queryForList("""
+            SELECT sp.raffle_ticket_id FROM survey_participation sp
+            WHERE sp.survey_id = ? ORDER BY sp.raffle_ticket_id
+            """, Long.class, surveyId);
+        // a single value drawn, starting the block of every ticket ID
+        long blockStart = valueBefore + blockSize;
+        Assertions.assertEquals(blockStart + blockSize, nextTicketIdSequenceValue());
+        Assertions.assertEquals(List.of(blockStart, blockStart + 1, blockStart + 2), ticketIds);
+    }
+
+    @Test
+    void neverReservesTheTicketIdsAllocatedByHibernate() {
+        final int blockSize = PersistenceConstants.ID_ALLOCATION_SIZE;
+        Long colorId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM color", Long.class);
+        List<RaffleTicket> jpaTickets = new ArrayList<>();
+        jpaTickets.add(raffleTicketRepository.saveAndFlush(newTicket("jpa000", colorId)));
+
+        raffleService.issueTickets(surveyId);
+
+        // the rest of the block Hibernate allocated, and then some, inserted without collisions
+        List<RaffleTicket> moreTickets = new ArrayList<>();
+        for (int i = 1; i <= blockSize; i++) {
+            moreTickets.add(newTicket(String.format("jpa%03d", i), colorId));
+        }
+        jpaTickets.addAll(raffleTicketRepository.saveAllAndFlush(moreTickets));
+
+        Set<Long> jpaIds = new HashSet<>();
+        jpaTickets.forEach(ticket -> jpaIds.add(ticket.getId()));
+        List<Long> bulkIds = jdbcTemplate.queryForList(
+            "SELECT sp.raffle_ticket_id FROM survey_participation sp WHERE sp.survey_id = ?", Long.class, surveyId);
+        Assertions.assertEquals(blockSize + 1, jpaIds.size());
+        Assertions.assertEquals(3, bulkIds.size());
+        bulkIds.forEach(bulkId -> Assertions.assertFalse(jpaIds.contains(bulkId),
+            "Bulk ticket ID " + bulkId + " also allocated by Hibernate"));
+    }
+
+    @Test
+    void keepsTicketNumbersUniquePerColor() {
+        Long colorId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM color", Long.class);
+        raffleTicketRepository.saveAndFlush(newTicket("dup000", colorId));
+
+        Assertions.assertThrows(DataIntegrityViolationException.class,
+            () -> raffleTicketRepository.saveAndFlush(newTicket("dup000", colorId)));
+    }
+
+    private RaffleTicket newTicket(String number, Long colorId) {
+        RaffleTicket ticket = new RaffleTicket();
+        ticket.setNumber(number);
+        ticket.setColor(colorRepository.getReferenceById(colorId));
+        return ticket;
+    }
+
+    private long nextTicketIdSequenceValue() {
+        return jdbcTemplate.queryForObject(
+            "SELECT NEXT VALUE FOR " + RaffleTicketConstants.ID_SEQUENCE_NAME, Long.class);
+    }
+}
@@ -0,0 +1,83 @@
+package io.davorpatech.apps.musicalsurveyor.services.reports;
+
+import io.davorpatech.apps.musicalsurveyor.domain.FindSongsPopularityInput;
+import io.davorpatech.apps.musicalsurveyor.domain.SongWithPopularityInfo;
+import io.davorpatech.fwk.exception.UnpagedResultTooLargeException;
+import io.davorpatech.fwk.model.PagedResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@SpringBootTest(properties = {
+    "app.survey.auto-close.cron=-",
+    "app.survey.transitions.enabled=false",
+    "fwk.data.unpaged.musicpoll.Song.max-rows=3"
+})
+@Transactional
+class ReportingServiceRankingTests {
+
+    @Autowired
+    private ReportingService reportingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long surveyWithMostRespondedSongs() {
+        return jdbcTemplate.queryForObject("""
+            SELECT survey_id FROM survey_responsing
+            GROUP BY survey_id ORDER BY COUNT(DISTINCT song_id) DESC, survey_id LIMIT 1
+            """, Long.class);
+    }
+
+    @Test
+    void ranksSongsInSurveyAsItsResponsesDo() {
+        Long surveyId = surveyWithMostRespondedSongs();
+        List<Object[]> expected = jdbcTemplate.query("""
+            SELECT song_id, COUNT(*) FROM survey_responsing WHERE survey_id = ?
+            GROUP BY song_id ORDER BY COUNT(*) DESC, song_id ASC
+            """, (rs, rowNum) -> new Object[]{ rs.getLong(1), rs.getLong(2) }, surveyId);
+
+        PagedResult<SongWithPopularityInfo> page = reportingService.findMostPopularSongs(
+            new FindSongsPopularityInput(0, 2, surveyId, null, null, null, null));
+
+        List<SongWithPopularityInfo> ranking = List.copyOf(page.getData());
+        Assertions.assertEquals(expected.size(), page.getTotalElements());
+        Assertions.assertEquals(Math.min(2, expected.size()), ranking.size());
+        for (int i = 0; i < ranking.size(); i++) {
+            Assertions.assertEquals(expected.get(i)[0], ranking.get(i).getId());
+            Assertions.assertEquals(expected.get(i)[1], ranking.get(i).getLikes());
+        }
+    }
+
+    @Test
+    void rejectsUnpagedRankingBeyondMaxRows() {
+        Long surveyId = surveyWithMostRespondedSongs();
+        FindSongsPopularityInput unpaged = new FindSongsPopularityInput(0, -1, null, null, null, null, null);
+        FindSongsPopularityInput unpagedInSurvey = new FindSongsPopularityInput(0, -1, surveyId, null, null, null, null);
+
+        Assertions.assertThrows(UnpagedResultTooLargeException.class,
+            () -> reportingService.findMostPopularSongs(unpaged));
+        Assertions.assertThrows(UnpagedResultTooLargeException.class,
+            () -> reportingService.findMostPopularSongs(unpagedInSurvey));
+    }
+
+    @Test
+    void returnsUnpagedRankingWithinMaxRows() {
+        Long artistId = jdbcTemplate.queryForObject("""
+            SELECT artist_id FROM song GROUP BY artist_id HAVING COUNT(*) <= 3 ORDER BY artist_id LIMIT 1
+            """, Long.class);
+        Long numSongs = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM song WHERE artist_id = ?", Long.class, artistId);
+
+        PagedResult<SongWithPopularityInfo> page = reportingService.findMostPopularSongs(
+            new FindSongsPopularityInput(0, -1, null, artistId, null, null, null));
+
+        Assertions.assertEquals(numSongs, page.getTotalElements());
+        Assertions.assertEquals(numSongs.intValue(), page.getData().size());
+    }
+}
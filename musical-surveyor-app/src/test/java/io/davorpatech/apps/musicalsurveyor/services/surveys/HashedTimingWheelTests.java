@@ -0,0 +1,129 @@
+package io.davorpatech.apps.musicalsurveyor.services.surveys;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class HashedTimingWheelTests {
+
+    private static final Duration TICK = Duration.ofMillis(10);
+
+    private HashedTimingWheel timingWheel;
+
+    @AfterEach
+    void closeWheel() throws InterruptedException {
+        if (timingWheel != null) {
+            timingWheel.close();
+        }
+    }
+
+    @Test
+    void runsTaskOnceItsDeadlineIsDue() throws InterruptedException {
+        timingWheel = new HashedTimingWheel(TICK, 8, "test-wheel");
+        CountDownLatch ran = new CountDownLatch(1);
+        Instant deadline = Instant.now().plusMillis(100);
+        Instant[] ranAt = new Instant[1];
+
+        timingWheel.schedule(() -> {
+            ranAt[0] = Instant.now();
+            ran.countDown();
+        }, deadline);
+
+        Assertions.assertTrue(ran.await(5, TimeUnit.SECONDS), "Task must run");
+        Assertions.assertFalse(ranAt[0].isBefore(deadline.minus(TICK)), "Task must not run before its deadline");
+    }
+
+    @Test
+    void runsTaskDueBeyondOneRoundOfTheWheel() throws InterruptedException {
+        // 4 ticks per round, so the deadline is 5 rounds ahead
+        timingWheel = new HashedTimingWheel(TICK, 4, "test-wheel");
+        CountDownLatch ran = new CountDownLatch(1);
+        Instant deadline = Instant.now().plusMillis(200);
+        Instant[] ranAt = new Instant[1];
+
+        timingWheel.schedule(() -> {
+            ranAt[0] = Instant.now();
+            ran.countDown();
+        }, deadline);
+
+        Assertions.assertTrue(ran.await(5, TimeUnit.SECONDS), "Task must run");
+        Assertions.assertFalse(ranAt[0].isBefore(deadline.minus(TICK)), "Task must wait for its rounds");
+    }
+
+    @Test
+    void runsPastDeadlinesAtNextTick() throws InterruptedException {
+        timingWheel = new HashedTimingWheel(TICK, 8, "test-wheel");
+        CountDownLatch ran = new CountDownLatch(1);
+
+        timingWheel.schedule(ran::countDown, Instant.now().minus(Duration.ofDays(1)));
+
+        Assertions.assertTrue(ran.await(5, TimeUnit.SECONDS), "Past deadline must not be missed");
+    }
+
+    @Test
+    void runsTasksInDeadlineOrderAcrossTicks() throws InterruptedException {
+        timingWheel = new HashedTimingWheel(TICK, 8, "test-wheel");
+        List<Integer> runs = new CopyOnWriteArrayList<>();
+        CountDownLatch ran = new CountDownLatch(3);
+        Instant now = Instant.now();
+
+        timingWheel.schedule(() -> { runs.add(3); ran.countDown(); }, now.plusMillis(150));
+        timingWheel.schedule(() -> { runs.add(1); ran.countDown(); }, now.plusMillis(30));
+        timingWheel.schedule(() -> { runs.add(2); ran.countDown(); }, now.plusMillis(90));
+
+        Assertions.assertTrue(ran.await(5, TimeUnit.SECONDS), "Tasks must run");
+        Assertions.assertEquals(List.of(1, 2, 3), runs);
+    }
+
+    @Test
+    void doesNotRunCancelledTask() throws InterruptedException {
+        timingWheel = new HashedTimingWheel(TICK, 8, "test-wheel");
+        CountDownLatch cancelledRan = new CountDownLatch(1);
+        CountDownLatch laterRan = new CountDownLatch(1);
+        Instant now = Instant.now();
+
+        timingWheel.schedule(cancelledRan::countDown, now.plusMillis(50)).cancel();
+        timingWheel.schedule(laterRan::countDown, now.plusMillis(100));
+
+        Assertions.assertTrue(laterRan.await(5, TimeUnit.SECONDS), "Later task must run");
+        Assertions.assertEquals(1L, cancelledRan.getCount(), "Cancelled task must not run");
+    }
+
+    @Test
+    void keepsRunningTasksAfterOneFails() throws InterruptedException {
+        timingWheel = new HashedTimingWheel(TICK, 8, "test-wheel");
+        CountDownLatch ran = new CountDownLatch(1);
+        Instant now = Instant.now();
+
+        timingWheel.schedule(() -> { throw new IllegalStateException("failed on purpose"); }, now);
+        timingWheel.schedule(ran::countDown, now.plusMillis(50));
+
+        Assertions.assertTrue(ran.await(5, TimeUnit.SECONDS), "Worker must survive failing tasks");
+    }
+
+    @Test
+    void letsTasksScheduleNewOnes() throws InterruptedException {
+        timingWheel = new HashedTimingWheel(TICK, 8, "test-wheel");
+        CountDownLatch ran = new CountDownLatch(1);
+
+        timingWheel.schedule(() -> timingWheel.schedule(ran::countDown, Instant.now()), Instant.now());
+
+        Assertions.assertTrue(ran.await(5, TimeUnit.SECONDS), "Task scheduled by a task must run");
+    }
+
+    @Test
+    void rejectsSchedulingOnceClosed() throws InterruptedException {
+        HashedTimingWheel closed = new HashedTimingWheel(TICK, 8, "test-wheel");
+        closed.close();
+
+        Instant deadline = Instant.now();
+        Assertions.assertThrows(IllegalStateException.class, () -> closed.schedule(() -> {}, deadline));
+    }
+}
@@ -0,0 +1,64 @@
+package io.davorpatech.apps.musicalsurveyor.services.surveys;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+class ReservoirSamplerTests {
+
+    @Test
+    void samplesAllElementsOfShorterSequences() {
+        ReservoirSampler<Integer> sampler = new ReservoirSampler<>(10, new Random(42));
+
+        Assertions.assertEquals(List.of(1, 2, 3), sampler.sample(List.of(1, 2, 3).iterator()));
+        Assertions.assertEquals(List.of(), sampler.sample(List.<Integer>of().iterator()));
+    }
+
+    @Test
+    void samplesAsManyDistinctElementsAsTheSampleSize() {
+        ReservoirSampler<Integer> sampler = new ReservoirSampler<>(10, new Random(42));
+
+        List<Integer> sample = sampler.sample(IntStream.range(0, 10_000).iterator());
+
+        Assertions.assertEquals(10, sample.size());
+        Assertions.assertEquals(10, new HashSet<>(sample).size());
+        Assertions.assertTrue(sample.stream().allMatch(element -> element >= 0 && element < 10_000));
+    }
+
+    @Test
+    void samplesTheSameElementsGivenTheSameSeed() {
+        List<Integer> sample = new ReservoirSampler<Integer>(5, new Random(7))
+            .sample(IntStream.range(0, 1_000).iterator());
+
+        Assertions.assertEquals(sample, new ReservoirSampler<Integer>(5, new Random(7))
+            .sample(IntStream.range(0, 1_000).iterator()));
+    }
+
+    @Test
+    void samplesEveryElementUniformly() {
+        final int population = 100;
+        final int sampleSize = 5;
+        final int trials = 20_000;
+        ReservoirSampler<Integer> sampler = new ReservoirSampler<>(sampleSize, new Random(42));
+        int[] hits = new int[population];
+        for (int i = 0; i < trials; i++) {
+            sampler.sample(IntStream.range(0, population).iterator()).forEach(element -> hits[element]++);
+        }
+        // 1000 expected hits each, with a standard deviation of about 31
+        final double expected = (double) trials * sampleSize / population;
+        for (int element = 0; element < population; element++) {
+            Assertions.assertEquals(expected, hits[element], expected * 0.15, "Element " + element);
+        }
+    }
+
+    @Test
+    void rejectsEmptySamples() {
+        Random random = new Random(42);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ReservoirSampler<Integer>(0, random));
+    }
+}
@@ -0,0 +1,101 @@
+package io.davorpatech.apps.musicalsurveyor.services.surveys;
+
+import io.davorpatech.apps.musicalsurveyor.persistence.dao.SongPopularityRollupRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+class SurveyLiveTallyTests {
+
+    private static final Long SURVEY_ID = 1L;
+
+    private static final Long SONG_ID = 7L;
+
+    private final SongPopularityRollupRepository rollupRepository = Mockito.mock(SongPopularityRollupRepository.class);
+
+    private final SurveyLiveTally liveTally = new SurveyLiveTally(rollupRepository);
+
+    private void givenRollupLikes(long likes) {
+        Mockito.when(rollupRepository.sumLikesPerSongInSurvey(SURVEY_ID))
+            .thenReturn(List.<Object[]>of(new Object[]{ SONG_ID, likes }));
+    }
+
+    /**
+     * Adds one like to the song inside a transaction, running its commit
+     * synchronizations as a transaction manager would.
+     */
+    private void commitOneLike() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            liveTally.addLikes(SURVEY_ID, Map.of(SONG_ID, 1));
+            List<TransactionSynchronization> synchronizations =
+                TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void addsLikesCommittedOnceWatched() {
+        givenRollupLikes(3L);
+        liveTally.watch(SURVEY_ID);
+
+        commitOneLike();
+
+        Assertions.assertEquals(Map.of(SONG_ID, 4L), liveTally.snapshot(SURVEY_ID));
+    }
+
+    @Test
+    void readsLikesCommittedBeforeWatchedFromRollupOnly() {
+        commitOneLike();
+        givenRollupLikes(4L);
+
+        liveTally.watch(SURVEY_ID);
+
+        Assertions.assertEquals(Map.of(SONG_ID, 4L), liveTally.snapshot(SURVEY_ID));
+    }
+
+    @Test
+    void holdsCommitsWhileSeedingAndCountsThemOnce() throws Exception {
+        AtomicReference<CompletableFuture<Void>> commit = new AtomicReference<>();
+        Mockito.when(rollupRepository.sumLikesPerSongInSurvey(SURVEY_ID)).thenAnswer(invocation -> {
+            commit.set(CompletableFuture.runAsync(this::commitOneLike));
+            Assertions.assertThrows(TimeoutException.class,
+                () -> commit.get().get(200, TimeUnit.MILLISECONDS), "Commit must wait for the seed");
+            return List.<Object[]>of(new Object[]{ SONG_ID, 3L });
+        });
+
+        liveTally.watch(SURVEY_ID);
+        commit.get().get(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(Map.of(SONG_ID, 4L), liveTally.snapshot(SURVEY_ID));
+    }
+
+    @Test
+    void dropsTallyWithItsLastWatcher() {
+        givenRollupLikes(3L);
+        liveTally.watch(SURVEY_ID);
+        liveTally.watch(SURVEY_ID);
+
+        liveTally.unwatch(SURVEY_ID);
+        Assertions.assertEquals(Map.of(SONG_ID, 3L), liveTally.snapshot(SURVEY_ID));
+        liveTally.unwatch(SURVEY_ID);
+
+        Assertions.assertEquals(Map.of(), liveTally.snapshot(SURVEY_ID));
+        Assertions.assertEquals(Set.of(), liveTally.getWatchedSurveyIds());
+    }
+}
@@ -0,0 +1,150 @@
+package io.davorpatech.apps.musicalsurveyor.services.surveys;
+
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SubmitSurveyResponsesInput;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class SurveyResponsesWriteBehindQueueTests {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<List<SubmitSurveyResponsesInput>> flushes = Collections.synchronizedList(new ArrayList<>());
+
+    private SurveyResponsesWriteBehindQueue queue;
+
+    @AfterEach
+    void stopQueue() throws InterruptedException {
+        if (queue != null) {
+            queue.destroy();
+        }
+    }
+
+    @Test
+    void flushesQueuedResponsesInBulk() throws InterruptedException {
+        queue = startQueue(recordingSurveyService(null, new CountDownLatch(0)), "1s", 3);
+
+        submitResponses(1L, 2L, 3L);
+        waitForWritten(3);
+
+        Assertions.assertEquals(1, flushes.size());
+        Assertions.assertEquals(List.of(1L, 2L, 3L), participantIdsOf(flushes.get(0)));
+    }
+
+    @Test
+    void retriesFailedBulkOneByOneDiscardingOnlyTheFailingResponses() throws InterruptedException {
+        queue = startQueue(recordingSurveyService(2L, new CountDownLatch(0)), "1s", 3);
+
+        submitResponses(1L, 2L, 3L);
+        waitForWritten(2);
+
+        Assertions.assertEquals(4, flushes.size(), "A bulk flush, then one per response");
+        Assertions.assertEquals(List.of(1L, 2L, 3L), participantIdsOf(flushes.get(0)));
+        Assertions.assertEquals(List.of(1L), participantIdsOf(flushes.get(1)));
+        Assertions.assertEquals(List.of(2L), participantIdsOf(flushes.get(2)));
+        Assertions.assertEquals(List.of(3L), participantIdsOf(flushes.get(3)));
+        Assertions.assertEquals(1.0D, counter("discarded"));
+    }
+
+    @Test
+    void drainsEveryQueuedResponseOnShutdown() throws InterruptedException {
+        CountDownLatch released = new CountDownLatch(1);
+        queue = startQueue(recordingSurveyService(null, released), "50ms", 10);
+        for (long participantId = 1L; participantId <= 100L; participantId++) {
+            submitResponses(participantId);
+        }
+
+        Thread releaser = new Thread(() -> {
+            sleep(500L);
+            released.countDown();
+        });
+        releaser.start();
+        queue.destroy();
+
+        Assertions.assertEquals(100.0D, counter("written"));
+        Assertions.assertEquals(0, queue.getDepth());
+        Assertions.assertThrows(IllegalStateException.class, () -> submitResponses(101L));
+        releaser.join();
+    }
+
+    private SurveyResponsesWriteBehindQueue startQueue(SurveyService surveyService, String flushInterval, int flushSize) {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty(SurveyResponsesWriteBehindQueue.PROPERTY_PREFIX + "enabled", "true")
+            .withProperty(SurveyResponsesWriteBehindQueue.PROPERTY_PREFIX + "flush-interval", flushInterval)
+            .withProperty(SurveyResponsesWriteBehindQueue.PROPERTY_PREFIX + "flush-size", String.valueOf(flushSize));
+        environment.setConversionService(new ApplicationConversionService()); // as Spring Boot, for durations
+        SurveyResponsesWriteBehindQueue started =
+            new SurveyResponsesWriteBehindQueue(surveyService, environment, meterRegistry);
+        started.afterPropertiesSet();
+        return started;
+    }
+
+    private void submitResponses(Long... participantIds) {
+        for (Long participantId : participantIds) {
+            queue.submit(new SubmitSurveyResponsesInput(1L, participantId, List.of(1L, 2L)));
+        }
+    }
+
+    private void waitForWritten(double expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (counter("written") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10L);
+        }
+        Assertions.assertEquals(expected, counter("written"));
+        Thread.sleep(50L); // any further flush would be unexpected
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get("survey.responses.queue." + name).counter().count();
+    }
+
+    private static List<Long> participantIdsOf(List<SubmitSurveyResponsesInput> flush) {
+        return flush.stream().map(SubmitSurveyResponsesInput::getParticipantId).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Mocks a survey service recording the bulk submissions, after awaiting the
+     * given latch, and failing those including the given participant.
+     */
+    private SurveyService recordingSurveyService(Long failingParticipantId, CountDownLatch released) {
+        SurveyService surveyService = Mockito.mock(SurveyService.class);
+        Mockito.doAnswer(invocation -> {
+            List<SubmitSurveyResponsesInput> inputs = invocation.getArgument(0);
+            await(released); // as a slow database
+            flushes.add(List.copyOf(inputs));
+            if (inputs.stream().anyMatch(input -> input.getParticipantId().equals(failingParticipantId))) {
+                throw new DataIntegrityViolationException("FK_survey_responsing_song_id");
+            }
+            return inputs.size();
+        }).when(surveyService).submitResponsesInBulk(Mockito.anyList());
+        return surveyService;
+    }
+}
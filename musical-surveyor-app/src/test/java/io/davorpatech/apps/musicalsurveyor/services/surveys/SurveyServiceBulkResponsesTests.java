@@ -0,0 +1,108 @@
+package io.davorpatech.apps.musicalsurveyor.services.surveys;
+
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SubmitSurveyResponsesInput;
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyResponsesChangedEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@SpringBootTest(properties = {
+    "app.survey.auto-close.cron=-",
+    "app.survey.transitions.enabled=false"
+})
+@RecordApplicationEvents
+@Transactional
+class SurveyServiceBulkResponsesTests {
+
+    @Autowired
+    private SurveyService surveyService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private Long surveyId;
+
+    private List<Long> listenerIds;
+
+    private List<Long> songIds;
+
+    @BeforeEach
+    void setUpRunningSurvey() {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("""
+            INSERT INTO survey (title, status, start_date, end_date, num_max_participants,
+                                num_survey_responses, created_on, created_by)
+            VALUES ('Bulk responses survey', 'RUNNING', ?, ?, 5, 2, ?, 'TEST')
+            """, Timestamp.valueOf(now.minusDays(1)), Timestamp.valueOf(now.plusDays(1)), Timestamp.valueOf(now));
+        surveyId = jdbcTemplate.queryForObject(
+            "SELECT id FROM survey WHERE title = 'Bulk responses survey'", Long.class);
+        listenerIds = jdbcTemplate.queryForList("SELECT id FROM radio_listener ORDER BY id LIMIT 3", Long.class);
+        songIds = jdbcTemplate.queryForList("SELECT id FROM song ORDER BY id LIMIT 3", Long.class);
+        for (Long participantId : listenerIds.subList(0, 2)) {
+            jdbcTemplate.update("""
+                INSERT INTO survey_participation (survey_id, participant_id, created_on, created_by)
+                VALUES (?, ?, ?, 'TEST')
+                """, surveyId, participantId, Timestamp.valueOf(now));
+        }
+    }
+
+    @Test
+    void publishesOneResponsesChangedEventPerSurvey() {
+        int accepted = surveyService.submitResponsesInBulk(List.of(
+            new SubmitSurveyResponsesInput(surveyId, listenerIds.get(0), List.of(songIds.get(0), songIds.get(1))),
+            new SubmitSurveyResponsesInput(surveyId, listenerIds.get(1), List.of(songIds.get(0), songIds.get(2))),
+            // not a participant, so discarded
+            new SubmitSurveyResponsesInput(surveyId, listenerIds.get(2), List.of(songIds.get(1), songIds.get(2)))));
+
+        Assertions.assertEquals(2, accepted);
+        Assertions.assertEquals(List.of(new SurveyResponsesChangedEvent(surveyId, null, LocalDate.now(),
+                Map.of(songIds.get(0), 2, songIds.get(1), 1, songIds.get(2), 1))),
+            events.stream(SurveyResponsesChangedEvent.class).toList());
+    }
+
+    @Test
+    void countsLikesAsSubmittedOneByOne() {
+        long likesBefore = songLikes(songIds.get(0));
+
+        surveyService.submitResponsesInBulk(List.of(
+            new SubmitSurveyResponsesInput(surveyId, listenerIds.get(0), List.of(songIds.get(0), songIds.get(1))),
+            new SubmitSurveyResponsesInput(surveyId, listenerIds.get(1), List.of(songIds.get(0), songIds.get(2)))));
+
+        Assertions.assertEquals(likesBefore + 2, songLikes(songIds.get(0)));
+        Assertions.assertEquals(2L, jdbcTemplate.queryForObject("""
+            SELECT likes FROM song_popularity_rollup
+            WHERE survey_id = ? AND song_id = ? AND responded_on = ?
+            """, Long.class, surveyId, songIds.get(0), LocalDate.now()));
+        Assertions.assertEquals(4L, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM survey_responsing WHERE survey_id = ?", Long.class, surveyId));
+    }
+
+    @Test
+    void discardsAlreadyRespondedParticipants() {
+        SubmitSurveyResponsesInput input =
+            new SubmitSurveyResponsesInput(surveyId, listenerIds.get(0), List.of(songIds.get(0), songIds.get(1)));
+
+        Assertions.assertEquals(1, surveyService.submitResponsesInBulk(List.of(input)));
+        Assertions.assertEquals(0, surveyService.submitResponsesInBulk(List.of(input)));
+        Assertions.assertEquals(1L, events.stream(SurveyResponsesChangedEvent.class).count());
+    }
+
+    private long songLikes(Long songId) {
+        return jdbcTemplate.queryForObject("SELECT likes FROM song WHERE id = ?", Long.class, songId);
+    }
+}
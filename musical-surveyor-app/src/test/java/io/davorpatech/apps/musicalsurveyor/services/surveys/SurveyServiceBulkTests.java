@@ -0,0 +1,77 @@
+package io.davorpatech.apps.musicalsurveyor.services.surveys;
+
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.CreateSurveyInput;
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyDTO;
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyScheduleChangedEvent;
+import io.davorpatech.fwk.model.BulkItemResult;
+import io.davorpatech.fwk.model.BulkResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The bulk operations commit each chunk on their own, so the surveys they
+ * write are deleted after each test.
+ */
+@SpringBootTest(properties = {
+    "app.survey.auto-close.cron=-",
+    "app.survey.transitions.enabled=false",
+    "fwk.data.bulk.chunk-size=3"
+})
+@RecordApplicationEvents
+class SurveyServiceBulkTests {
+
+    @Autowired
+    private SurveyService surveyService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @AfterEach
+    void deleteBulkSurveys() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            jdbcTemplate.update("DELETE FROM survey WHERE title LIKE 'Bulk survey%'"));
+    }
+
+    private CreateSurveyInput surveyInput(String title, int numDays) {
+        LocalDateTime startDate = LocalDateTime.now().plusDays(1);
+        return new CreateSurveyInput(title, null, startDate, startDate.plusDays(numDays), null);
+    }
+
+    @Test
+    void publishesScheduleChangesOfCommittedSurveysOnly() {
+        BulkResult<SurveyDTO> result = surveyService.createAll(List.of(
+            surveyInput("Bulk survey 1", 7),
+            surveyInput("Bulk survey 2", 7),
+            // rejected by the database on flush, rolling back the whole chunk
+            surveyInput("Bulk survey 3", 0)));
+
+        Assertions.assertEquals(List.of(true, true, false),
+            result.getItems().stream().map(BulkItemResult::isSucceeded).toList());
+        Assertions.assertEquals(
+            result.getItems().stream()
+                .filter(BulkItemResult::isSucceeded)
+                .map(item -> item.getData().getId())
+                .toList(),
+            events.stream(SurveyScheduleChangedEvent.class)
+                .map(SurveyScheduleChangedEvent::getSurveyId)
+                .toList(),
+            "Surveys of the rolled back chunk must not be published");
+    }
+}
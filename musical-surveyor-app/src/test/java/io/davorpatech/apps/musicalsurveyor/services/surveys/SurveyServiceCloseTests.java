@@ -0,0 +1,87 @@
+package io.davorpatech.apps.musicalsurveyor.services.surveys;
+
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyClosedEvent;
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyDTO;
+import io.davorpatech.apps.musicalsurveyor.domain.surveys.SurveyStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@SpringBootTest(properties = {
+    "app.survey.auto-close.cron=-",
+    "app.survey.transitions.enabled=false",
+    "spring.jpa.properties.hibernate.jdbc.batch_size=3"
+})
+@RecordApplicationEvents
+@Transactional
+class SurveyServiceCloseTests {
+
+    @Autowired
+    private SurveyService surveyService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private Long insertEndedSurveyWithResponses(String title) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("""
+            INSERT INTO survey (title, status, start_date, end_date, num_max_participants,
+                                num_survey_responses, created_on, created_by)
+            VALUES (?, 'RUNNING', ?, ?, 5, 2, ?, 'TEST')
+            """, title, Timestamp.valueOf(now.minusDays(2)), Timestamp.valueOf(now.minusDays(1)),
+            Timestamp.valueOf(now));
+        Long surveyId = jdbcTemplate.queryForObject("SELECT id FROM survey WHERE title = ?", Long.class, title);
+        Long participantId = jdbcTemplate.queryForObject(
+            "SELECT id FROM radio_listener ORDER BY id LIMIT 1", Long.class);
+        jdbcTemplate.update("""
+            INSERT INTO survey_participation (survey_id, participant_id, participated_at, created_on, created_by)
+            VALUES (?, ?, ?, ?, 'TEST')
+            """, surveyId, participantId, Timestamp.valueOf(now), Timestamp.valueOf(now));
+        return surveyId;
+    }
+
+    @Test
+    void closeReturnsUpdatedSurveyInsteadOfCachedOne() {
+        Long surveyId = insertEndedSurveyWithResponses("Closed survey");
+        Assertions.assertEquals(SurveyStatus.RUNNING, surveyService.findById(surveyId).getStatus());
+
+        SurveyDTO closed = surveyService.close(surveyId);
+
+        Assertions.assertEquals(SurveyStatus.CLOSED, closed.getStatus());
+        Assertions.assertEquals(SurveyStatus.CLOSED, surveyService.findById(surveyId).getStatus());
+        Assertions.assertEquals(closed, surveyService.close(surveyId), "Closing again returns it as is");
+        Assertions.assertEquals(1L, events.stream(SurveyClosedEvent.class).count());
+    }
+
+    @Test
+    void closeEndedClosesOneBatchAtATime() {
+        List<Long> surveyIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            surveyIds.add(insertEndedSurveyWithResponses("Ended survey " + i));
+        }
+
+        List<Long> closedIds = new ArrayList<>();
+        List<Long> batch;
+        while (!(batch = surveyService.closeEnded()).isEmpty()) {
+            Assertions.assertTrue(batch.size() <= 3, "Each call closes up to the JDBC batch size");
+            closedIds.addAll(batch);
+        }
+
+        Assertions.assertTrue(closedIds.containsAll(surveyIds));
+        Assertions.assertEquals(0L, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM survey WHERE title LIKE 'Ended survey %' AND status <> 'CLOSED'", Long.class));
+    }
+}
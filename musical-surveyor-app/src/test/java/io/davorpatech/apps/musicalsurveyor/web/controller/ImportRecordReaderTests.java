@@ -0,0 +1,47 @@
+package io.davorpatech.apps.musicalsurveyor.web.controller;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+class ImportRecordReaderTests {
+
+    private static ImportRecordReader<String> csvReader(String text) {
+        return ImportRecordReader.ofCsv(new BufferedReader(new StringReader(text)),
+            List.of("title"), fields -> fields.text("title") + "|" + fields.text("artist"));
+    }
+
+    private static List<String> readAll(ImportRecordReader<String> reader) {
+        List<String> records = new ArrayList<>();
+        reader.forEachRemaining(records::add);
+        return records;
+    }
+
+    @Test
+    void readsQuotedValuesAndSkipsBlankLines() {
+        ImportRecordReader<String> reader = csvReader(
+            "title,artist\n\"Hello, \"\"World\"\"\",Adele\n\nSkyfall,\n");
+        Assertions.assertEquals(List.of("Hello, \"World\"|Adele", "Skyfall|null"), readAll(reader));
+    }
+
+    @Test
+    void readsQuotedValuesSpanningLines() {
+        ImportRecordReader<String> reader = csvReader(
+            "title,artist\n\"Someone\nLike You\",Adele\nSkyfall,Adele\n");
+        Assertions.assertEquals(List.of("Someone\nLike You|Adele", "Skyfall|Adele"), readAll(reader));
+    }
+
+    @Test
+    void rejectsUnterminatedQuotedValueAtItsFirstLine() {
+        ImportRecordReader<String> reader = csvReader(
+            "title,artist\nSkyfall,Adele\n\"Hello,Adele\nRolling,Adele\n");
+        Assertions.assertEquals("Skyfall|Adele", reader.next());
+        IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class, reader::next);
+        Assertions.assertEquals("Line 3: unterminated quoted value", ex.getMessage());
+        Assertions.assertFalse(reader.hasNext(), "Unterminated record must consume the rest of the input");
+    }
+}
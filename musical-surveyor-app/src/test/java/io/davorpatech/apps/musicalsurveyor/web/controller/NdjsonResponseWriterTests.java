@@ -0,0 +1,60 @@
+package io.davorpatech.apps.musicalsurveyor.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+
+class NdjsonResponseWriterTests {
+
+    private final NdjsonResponseWriter ndjsonWriter = new NdjsonResponseWriter(new ObjectMapper());
+
+    @Test
+    void writesOneDocumentPerLineEndedByNewline() throws IOException {
+        StringWriter target = new StringWriter();
+        ndjsonWriter.<Map<String, Integer>>write(target, consumer -> {
+            consumer.accept(Map.of("likes", 3));
+            consumer.accept(Map.of("likes", 2));
+        });
+        Assertions.assertEquals("{\"likes\":3}\n{\"likes\":2}\n", target.toString());
+    }
+
+    @Test
+    void leavesTargetOpen() throws IOException {
+        ClosingAwareWriter target = new ClosingAwareWriter();
+        ndjsonWriter.<String>write(target, consumer -> List.of("a", "b").forEach(consumer));
+        Assertions.assertFalse(target.closed, "Target writer must be left open");
+        Assertions.assertEquals("\"a\"\n\"b\"\n", target.toString());
+    }
+
+    private static final class ClosingAwareWriter extends Writer {
+        private final StringBuilder buffer = new StringBuilder();
+        private boolean closed;
+
+        @Override
+        public void write(char[] chars, int off, int len) throws IOException {
+            if (closed) throw new IOException("Writer closed");
+            buffer.append(chars, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (closed) throw new IOException("Writer closed");
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+}